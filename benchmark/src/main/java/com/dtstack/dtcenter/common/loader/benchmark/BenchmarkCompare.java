@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.benchmark;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 对比两次基准测试的结果，输入为 JMH 使用 -rf json 输出的结果文件。
+ * 变化比例为 (当前 - 基线) / 基线，AverageTime 等时间类模式下负数表示变快，吞吐量模式下正数表示变快
+ *
+ * 使用：java -cp target/benchmarks.jar com.dtstack.dtcenter.common.loader.benchmark.BenchmarkCompare base.json current.json
+ *
+ * @author ：wangchuan
+ * date：Created in 下午9:00 2026/10/18
+ * company: www.dtstack.com
+ */
+public class BenchmarkCompare {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkCompare <base.json> <current.json>");
+            System.exit(1);
+        }
+        Map<String, JSONObject> base = readResult(args[0]);
+        Map<String, JSONObject> current = readResult(args[1]);
+        System.out.println(String.format("%-90s %15s %15s %10s %10s", "Benchmark", "Base", "Current", "Unit", "Change"));
+        for (Map.Entry<String, JSONObject> entry : current.entrySet()) {
+            JSONObject currentMetric = entry.getValue();
+            JSONObject baseMetric = base.get(entry.getKey());
+            double currentScore = currentMetric.getDoubleValue("score");
+            String unit = currentMetric.getString("scoreUnit");
+            if (baseMetric == null) {
+                System.out.println(String.format("%-90s %15s %15.3f %10s %10s", entry.getKey(), "-", currentScore, unit, "new"));
+                continue;
+            }
+            double baseScore = baseMetric.getDoubleValue("score");
+            String change = baseScore == 0 ? "-" : String.format("%+.1f%%", (currentScore - baseScore) * 100 / baseScore);
+            System.out.println(String.format("%-90s %15.3f %15.3f %10s %10s", entry.getKey(), baseScore, currentScore, unit, change));
+        }
+        for (String key : base.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.println(String.format("%-90s %15.3f %15s %10s %10s", key, base.get(key).getDoubleValue("score"), "-",
+                        base.get(key).getString("scoreUnit"), "removed"));
+            }
+        }
+    }
+
+    /**
+     * 读取结果文件，key 为 benchmark 名称加参数和模式，value 为 primaryMetric
+     *
+     * @param file 结果文件
+     * @return 结果
+     */
+    private static Map<String, JSONObject> readResult(String file) throws IOException {
+        JSONArray results = JSON.parseArray(new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8));
+        Map<String, JSONObject> metrics = new LinkedHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            JSONObject result = results.getJSONObject(i);
+            StringBuilder key = new StringBuilder(result.getString("benchmark"));
+            JSONObject params = result.getJSONObject("params");
+            if (params != null) {
+                // 参数按名称排序，保证两次结果的 key 一致
+                for (Map.Entry<String, Object> param : new TreeMap<>(params).entrySet()) {
+                    key.append(':').append(param.getKey()).append('=').append(param.getValue());
+                }
+            }
+            key.append(" (").append(result.getString("mode")).append(')');
+            metrics.put(key.toString(), result.getJSONObject("primaryMetric"));
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.benchmark;
+
+import com.dtstack.dtcenter.common.loader.common.utils.TextRowDecoder;
+import com.dtstack.dtcenter.loader.ClassLoaderCallBackMethod;
+import com.dtstack.dtcenter.loader.DtClassLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 插件类加载的基准测试：DtClassLoader 的类查找和委派，以及 *Proxy 中 callbackAndReset 对每次调用的包装开销。
+ * 插件 jar 使用基准测试自身所在的 jar，和插件一样包含 hadoop 等大量依赖
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:20 2026/10/18
+ * company: www.dtstack.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassLoaderBenchmark {
+
+    /**
+     * 插件 jar 中存在的类
+     */
+    private static final String PLUGIN_CLASS = TextRowDecoder.class.getName();
+
+    /**
+     * 需要委派给父加载器的类
+     */
+    private static final String PARENT_CLASS = "java.util.ArrayList";
+
+    /**
+     * 插件 jar 和父加载器中都不存在的类
+     */
+    private static final String MISSING_CLASS = "com.dtstack.dtcenter.common.loader.benchmark.NotExists";
+
+    private DtClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void setup() throws ClassNotFoundException {
+        URL pluginJar = ClassLoaderBenchmark.class.getProtectionDomain().getCodeSource().getLocation();
+        classLoader = new DtClassLoader(new URL[]{pluginJar}, ClassLoaderBenchmark.class.getClassLoader());
+        // 先加载一次，衡量的是插件运行过程中的重复查找
+        classLoader.loadClass(PLUGIN_CLASS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+    }
+
+    @Benchmark
+    public Class<?> loadPluginClass() throws ClassNotFoundException {
+        return classLoader.loadClass(PLUGIN_CLASS);
+    }
+
+    @Benchmark
+    public Class<?> loadParentClass() throws ClassNotFoundException {
+        return classLoader.loadClass(PARENT_CLASS);
+    }
+
+    @Benchmark
+    public void loadMissingClass(Blackhole blackhole) {
+        try {
+            blackhole.consume(classLoader.loadClass(MISSING_CLASS));
+        } catch (ClassNotFoundException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public URL getMissingResource() {
+        return classLoader.getResource("META-INF/not-exists.properties");
+    }
+
+    /**
+     * 不切换类加载器直接调用，作为 callbackAndReset 的对照
+     */
+    @Benchmark
+    public int directCall() {
+        return PLUGIN_CLASS.length();
+    }
+
+    @Benchmark
+    public int callbackAndReset() {
+        return ClassLoaderCallBackMethod.callbackAndReset(PLUGIN_CLASS::length, classLoader);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.benchmark;
+
+import com.dtstack.dtcenter.common.loader.common.utils.DBUtil;
+import com.dtstack.dtcenter.loader.dto.ColumnarResultDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DBUtil 查询结果物化的基准测试，使用 H2 内存数据库代替真实数据源，
+ * 只衡量 ResultSet 读取和结果集合构建的开销
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:10 2026/10/18
+ * company: www.dtstack.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DBUtilBenchmark {
+
+    private static final String QUERY_SQL = "select * from bench_table";
+
+    @Param({"1000", "20000"})
+    private int rows;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:dbutil_bench_" + rows + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_table");
+            statement.execute("create table bench_table (id int, user_id bigint, name varchar(64), amount decimal(18, 4), " +
+                    "score double, enabled boolean, birthday date, create_time timestamp)");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("insert into bench_table values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                statement.setInt(1, i);
+                statement.setLong(2, i * 31L);
+                statement.setString(3, "name_" + i);
+                statement.setBigDecimal(4, BigDecimal.valueOf(i, 2));
+                statement.setDouble(5, i / 3.0);
+                statement.setBoolean(6, i % 2 == 0);
+                statement.setDate(7, new Date(i * 86400000L));
+                statement.setTimestamp(8, new Timestamp(i * 1000L));
+                statement.addBatch();
+                if (i % 1000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DBUtil.closeDBResources(null, null, connection);
+    }
+
+    /**
+     * 按行返回 List<Map>，每行一个 Map
+     */
+    @Benchmark
+    public List<Map<String, Object>> executeQuery() {
+        return DBUtil.executeQuery(connection, QUERY_SQL, rows, null, null, null);
+    }
+
+    /**
+     * 按列返回结果
+     */
+    @Benchmark
+    public ColumnarResultDTO executeColumnarQuery() {
+        return DBUtil.executeColumnarQuery(connection, QUERY_SQL, rows, null, null, null, null);
+    }
+}
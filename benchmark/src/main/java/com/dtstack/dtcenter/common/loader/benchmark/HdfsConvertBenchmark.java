@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.benchmark;
+
+import com.dtstack.dtcenter.common.loader.hdfs.hdfswriter.HdfsColumnConverter;
+import com.dtstack.dtcenter.common.loader.hdfs.hdfswriter.HdfsWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hdfs 导入字段类型转换的基准测试，每次调用转换 {@link #ROW_COUNT} 行，
+ * 对比每个值都匹配类型名称的 HdfsWriter.convertToTargetType 和预先解析类型的 HdfsColumnConverter
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:40 2026/10/18
+ * company: www.dtstack.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HdfsConvertBenchmark {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static final String[] COLUMN_TYPES = {"int", "bigint", "varchar(255)", "double", "decimal(18,4)",
+            "timestamp", "date", "boolean", "string", "smallint"};
+
+    private String[][] rows;
+
+    private HdfsColumnConverter[] converters;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        rows = new String[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows[i] = new String[]{String.valueOf(i), String.valueOf(i * 31L), "name_" + i, String.valueOf(i / 3.0),
+                    i + ".1234", "2026-10-18 12:00:00", "2026-10-18", String.valueOf(i % 2 == 0),
+                    // 空值转换为默认值
+                    i % 10 == 0 ? "" : "value_" + i, String.valueOf(i % 100)};
+        }
+        converters = new HdfsColumnConverter[COLUMN_TYPES.length];
+        for (int i = 0; i < COLUMN_TYPES.length; i++) {
+            converters[i] = new HdfsColumnConverter(HdfsColumnConverter.ColumnType.of(COLUMN_TYPES[i]), null, true);
+        }
+    }
+
+    @Benchmark
+    public void convertToTargetType(Blackhole blackhole) throws ParseException {
+        for (String[] row : rows) {
+            for (int i = 0; i < COLUMN_TYPES.length; i++) {
+                blackhole.consume(HdfsWriter.convertToTargetType(COLUMN_TYPES[i], row[i], null, true));
+            }
+        }
+    }
+
+    @Benchmark
+    public void columnConverter(Blackhole blackhole) throws ParseException {
+        for (String[] row : rows) {
+            for (int i = 0; i < converters.length; i++) {
+                blackhole.consume(converters[i].convert(row[i]));
+            }
+        }
+    }
+}
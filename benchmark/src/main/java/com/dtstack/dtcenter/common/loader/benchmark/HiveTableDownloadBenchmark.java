@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.benchmark;
+
+import com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload.HiveORCDownload;
+import com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload.HiveParquetDownload;
+import com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload.HiveTextDownload;
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.io.orc.OrcFile;
+import org.apache.hadoop.hive.ql.io.orc.Writer;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorFactory;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.GroupWriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hive 表下载的基准测试，在本地文件系统上生成 text、ORC、Parquet 格式的表文件，
+ * 通过 hdfs 插件的表下载器完整读取一遍，包括文件列举、解码和类型转换
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:50 2026/10/18
+ * company: www.dtstack.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HiveTableDownloadBenchmark {
+
+    private static final int FILE_COUNT = 4;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String FIELD_DELIMITER = "\u0001";
+
+    private static final List<String> COLUMN_NAMES = Arrays.asList("id", "user_id", "name", "score", "city");
+
+    private static final List<String> COLUMN_TYPES = Arrays.asList("int", "bigint", "string", "double", "string");
+
+    @Param({"text", "orc", "parquet"})
+    private String format;
+
+    /**
+     * all：读取所有字段，one：只读取第一个字段
+     */
+    @Param({"all", "one"})
+    private String projection;
+
+    @Param({"200000"})
+    private int rows;
+
+    private java.nio.file.Path tableDir;
+
+    private Configuration conf;
+
+    private List<ColumnMetaDTO> columns;
+
+    private List<Integer> needIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        tableDir = Files.createTempDirectory("loader_bench_" + format);
+        conf = new Configuration();
+        conf.set("fs.defaultFS", "file:///");
+        columns = new ArrayList<>();
+        for (int i = 0; i < COLUMN_NAMES.size(); i++) {
+            ColumnMetaDTO column = new ColumnMetaDTO();
+            column.setKey(COLUMN_NAMES.get(i));
+            column.setType(COLUMN_TYPES.get(i));
+            columns.add(column);
+        }
+        needIndex = "one".equals(projection) ? Collections.singletonList(0) : Collections.emptyList();
+        FileSystem fs = FileSystem.getLocal(conf);
+        int rowsPerFile = rows / FILE_COUNT;
+        for (int fileIndex = 0; fileIndex < FILE_COUNT; fileIndex++) {
+            Path file = new Path(tableDir.toUri().toString(), String.format("part-%05d", fileIndex));
+            int start = fileIndex * rowsPerFile;
+            switch (format) {
+                case "text":
+                    writeText(fs, file, start, rowsPerFile);
+                    break;
+                case "orc":
+                    writeOrc(file, start, rowsPerFile);
+                    break;
+                default:
+                    writeParquet(file, start, rowsPerFile);
+                    break;
+            }
+        }
+    }
+
+    private static Object[] row(int id) {
+        return new Object[]{id, id * 31L, "name_" + id, id / 3.0, "城市" + (id % 100)};
+    }
+
+    private void writeText(FileSystem fs, Path file, int start, int count) throws IOException {
+        try (FSDataOutputStream out = fs.create(file, true)) {
+            StringBuilder line = new StringBuilder();
+            for (int i = start; i < start + count; i++) {
+                line.setLength(0);
+                Object[] values = row(i);
+                for (int j = 0; j < values.length; j++) {
+                    if (j > 0) {
+                        line.append(FIELD_DELIMITER);
+                    }
+                    line.append(values[j]);
+                }
+                line.append('\n');
+                out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private void writeOrc(Path file, int start, int count) throws IOException {
+        List<ObjectInspector> inspectors = Arrays.asList(
+                PrimitiveObjectInspectorFactory.javaIntObjectInspector,
+                PrimitiveObjectInspectorFactory.javaLongObjectInspector,
+                PrimitiveObjectInspectorFactory.javaStringObjectInspector,
+                PrimitiveObjectInspectorFactory.javaDoubleObjectInspector,
+                PrimitiveObjectInspectorFactory.javaStringObjectInspector);
+        ObjectInspector inspector = ObjectInspectorFactory.getStandardStructObjectInspector(COLUMN_NAMES, inspectors);
+        Writer writer = OrcFile.createWriter(file, OrcFile.writerOptions(conf).inspector(inspector));
+        try {
+            for (int i = start; i < start + count; i++) {
+                writer.addRow(Arrays.asList(row(i)));
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void writeParquet(Path file, int start, int count) throws IOException {
+        MessageType schema = MessageTypeParser.parseMessageType("message hive_schema { optional int32 id; optional int64 user_id; " +
+                "optional binary name (UTF8); optional double score; optional binary city (UTF8); }");
+        Configuration writeConf = new Configuration(conf);
+        GroupWriteSupport.setSchema(schema, writeConf);
+        SimpleGroupFactory groupFactory = new SimpleGroupFactory(schema);
+        try (ParquetWriter<Group> writer = new ParquetWriter<>(file, new GroupWriteSupport(), CompressionCodecName.UNCOMPRESSED,
+                ParquetWriter.DEFAULT_BLOCK_SIZE, ParquetWriter.DEFAULT_PAGE_SIZE, ParquetWriter.DEFAULT_PAGE_SIZE,
+                ParquetWriter.DEFAULT_IS_DICTIONARY_ENABLED, ParquetWriter.DEFAULT_IS_VALIDATING_ENABLED,
+                ParquetProperties.WriterVersion.PARQUET_1_0, writeConf)) {
+            for (int i = start; i < start + count; i++) {
+                Object[] values = row(i);
+                writer.write(groupFactory.newGroup()
+                        .append("id", (Integer) values[0])
+                        .append("user_id", (Long) values[1])
+                        .append("name", (String) values[2])
+                        .append("score", (Double) values[3])
+                        .append("city", (String) values[4]));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystem.getLocal(conf).delete(new Path(tableDir.toUri().toString()), true);
+    }
+
+    private IDownloader createDownloader() throws Exception {
+        String location = tableDir.toUri().toString();
+        IDownloader downloader;
+        switch (format) {
+            case "text":
+                downloader = new HiveTextDownload(conf, location, COLUMN_NAMES, FIELD_DELIMITER, Collections.emptyList(),
+                        null, needIndex, null, null);
+                break;
+            case "orc":
+                downloader = new HiveORCDownload(conf, location, COLUMN_NAMES, Collections.emptyList(), needIndex, null, null);
+                break;
+            default:
+                downloader = new HiveParquetDownload(conf, location, columns, Collections.emptyList(), needIndex, null, null, null);
+                break;
+        }
+        downloader.configure();
+        return downloader;
+    }
+
+    /**
+     * 读取整张表，返回读取的行数
+     */
+    @Benchmark
+    public long downloadTable() throws Exception {
+        IDownloader downloader = createDownloader();
+        long count = 0;
+        try {
+            List<Object> batch;
+            while (!(batch = downloader.readNextBatch(BATCH_SIZE)).isEmpty()) {
+                count += batch.size();
+            }
+        } finally {
+            downloader.close();
+        }
+        return count;
+    }
+}
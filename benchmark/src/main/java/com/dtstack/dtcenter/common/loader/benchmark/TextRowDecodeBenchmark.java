@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.benchmark;
+
+import com.dtstack.dtcenter.common.loader.common.utils.TextRowDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hive text 表行解析的基准测试，对比 String.split 和 TextRowDecoder，
+ * 每次调用解析 {@link #LINE_COUNT} 行
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:30 2026/10/18
+ * company: www.dtstack.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextRowDecodeBenchmark {
+
+    private static final int LINE_COUNT = 1000;
+
+    /**
+     * SOH：hive 默认分隔符 \001，COMMA：单字符分隔符，MULTI：多字符分隔符
+     */
+    @Param({"SOH", "COMMA", "MULTI"})
+    private String delimiter;
+
+    @Param({"20"})
+    private int columnCount;
+
+    private String fieldDelimiter;
+
+    private byte[][] lines;
+
+    /**
+     * 只查询部分字段时的字段索引
+     */
+    private List<Integer> needIndex;
+
+    private TextRowDecoder allColumnDecoder;
+
+    private TextRowDecoder projectDecoder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (delimiter) {
+            case "SOH":
+                fieldDelimiter = "\u0001";
+                break;
+            case "COMMA":
+                fieldDelimiter = ",";
+                break;
+            default:
+                fieldDelimiter = "@@";
+                break;
+        }
+        lines = new byte[LINE_COUNT][];
+        for (int i = 0; i < LINE_COUNT; i++) {
+            StringBuilder line = new StringBuilder();
+            for (int j = 0; j < columnCount; j++) {
+                if (j > 0) {
+                    line.append(fieldDelimiter);
+                }
+                // 混合数字、英文和中文字段
+                if (j % 3 == 0) {
+                    line.append(i * 1000L + j);
+                } else if (j % 3 == 1) {
+                    line.append("value_").append(i).append('_').append(j);
+                } else {
+                    line.append("数据源").append(j);
+                }
+            }
+            lines[i] = line.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        needIndex = Arrays.asList(0, 3, columnCount - 1);
+        allColumnDecoder = new TextRowDecoder(fieldDelimiter);
+        projectDecoder = new TextRowDecoder(fieldDelimiter, needIndex);
+    }
+
+    /**
+     * 原有逻辑：整行解码为 String 后 split
+     */
+    @Benchmark
+    public void stringSplit(Blackhole blackhole) {
+        for (byte[] line : lines) {
+            String[] fields = new String(line, StandardCharsets.UTF_8).split(fieldDelimiter, -1);
+            blackhole.consume(Arrays.asList(fields));
+        }
+    }
+
+    @Benchmark
+    public void stringSplitProject(Blackhole blackhole) {
+        for (byte[] line : lines) {
+            String[] fields = new String(line, StandardCharsets.UTF_8).split(fieldDelimiter, -1);
+            List<String> row = new ArrayList<>(needIndex.size());
+            for (Integer index : needIndex) {
+                row.add(index < fields.length ? fields[index] : null);
+            }
+            blackhole.consume(row);
+        }
+    }
+
+    @Benchmark
+    public void decoder(Blackhole blackhole) {
+        for (byte[] line : lines) {
+            blackhole.consume(allColumnDecoder.decode(line, line.length, null));
+        }
+    }
+
+    @Benchmark
+    public void decoderProject(Blackhole blackhole) {
+        for (byte[] line : lines) {
+            blackhole.consume(projectDecoder.decode(line, line.length, null));
+        }
+    }
+}
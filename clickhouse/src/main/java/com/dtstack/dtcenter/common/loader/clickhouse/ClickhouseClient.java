@@ -188,6 +188,9 @@ public class ClickhouseClient extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         ClickHouseSourceDTO clickHouseSourceDTO = (ClickHouseSourceDTO) source;
         ClickHouseDownloader clickHouseDownloader = new ClickHouseDownloader(getCon(clickHouseSourceDTO), queryDTO.getSql(), clickHouseSourceDTO.getSchema());
         clickHouseDownloader.configure();
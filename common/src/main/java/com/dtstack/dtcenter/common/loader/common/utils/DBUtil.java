@@ -19,6 +19,7 @@
 package com.dtstack.dtcenter.common.loader.common.utils;
 
 import com.dtstack.dtcenter.common.loader.common.base.CallBack;
+import com.dtstack.dtcenter.loader.dto.ColumnarResultDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.RdbmsSourceDTO;
 import com.dtstack.dtcenter.loader.enums.ConnectionClearStatus;
@@ -35,8 +36,10 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -57,6 +60,9 @@ public class DBUtil {
     // 字段重复时的重命名规则
     private static final String REPEAT_SIGN = "%s(%s)";
 
+    // 按列查询时的默认初始行容量
+    private static final Integer COLUMNAR_INITIAL_CAPACITY = 1024;
+
     /**
      * 根据 SQL 查询
      *
@@ -97,26 +103,7 @@ public class DBUtil {
 
             if (statement.execute(sql)) {
                 res = statement.getResultSet();
-                int columns = res.getMetaData().getColumnCount();
-                List<String> columnName = Lists.newArrayList();
-                for (int i = 0; i < columns; i++) {
-                    columnName.add(res.getMetaData().getColumnLabel(i + 1));
-                }
-
-                while (res.next()) {
-                    Map<String, Object> row = Maps.newLinkedHashMap();
-                    Map<String, Integer> columnRepeatSign = Maps.newHashMap();
-                    for (int i = 0; i < columns; i++) {
-                        String column = dealRepeatColumn(row, columnName.get(i), columnRepeatSign);
-                        Object value = res.getObject(i + 1);
-                        // 增加字段处理
-                        if (Objects.nonNull(fieldProcess)) {
-                            value = fieldProcess.execute(value);
-                        }
-                        row.put(column, value);
-                    }
-                    result.add(row);
-                }
+                readRows(res, fieldProcess, result);
             }
 
         } catch (Exception e) {
@@ -163,34 +150,187 @@ public class DBUtil {
                 }
             }
             res = statement.executeQuery();
-            int columns = res.getMetaData().getColumnCount();
-            List<String> columnName = Lists.newArrayList();
-            for (int i = 0; i < columns; i++) {
-                columnName.add(res.getMetaData().getColumnLabel(i + 1));
-            }
+            readRows(res, fieldProcess, result);
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("SQL executed exception, %s", e.getMessage()), e);
+        } finally {
+            DBUtil.closeDBResources(res, statement, null);
+        }
+        return result;
+    }
 
-            while (res.next()) {
-                Map<String, Object> row = Maps.newLinkedHashMap();
-                Map<String, Integer> columnRepeatSign = Maps.newHashMap();
-                for (int i = 0; i < columns; i++) {
-                    String column = dealRepeatColumn(row, columnName.get(i), columnRepeatSign);
-                    Object value = res.getObject(i + 1);
-                    // 增加字段处理
-                    if (Objects.nonNull(fieldProcess)) {
-                        value = fieldProcess.execute(value);
-                    }
-                    row.put(column, value);
+    /**
+     * 根据 SQL 查询，返回按列存储的结果
+     *
+     * @param conn         数据库连接
+     * @param sql          查询 sql
+     * @param limit        最大返回条数
+     * @param preFields    预编译字段，为空时不使用预编译
+     * @param queryTimeout 查询超时时间，单位：秒
+     * @param setMaxRow    是否设置最大返回条数
+     * @param fieldProcess Object 类型字段处理
+     * @return 按列存储的查询结果
+     */
+    public static ColumnarResultDTO executeColumnarQuery(Connection conn, String sql, Integer limit, List<Object> preFields, Integer queryTimeout, Boolean setMaxRow, CallBack<Object, Object> fieldProcess) {
+        ResultSet res = null;
+        Statement statement = null;
+        try {
+            if (preFields != null && !preFields.isEmpty()) {
+                PreparedStatement preparedStatement = conn.prepareStatement(sql);
+                statement = preparedStatement;
+                dealStatement(statement, limit, queryTimeout, setMaxRow);
+                for (int i = 0; i < preFields.size(); i++) {
+                    preparedStatement.setObject(i + 1, preFields.get(i));
+                }
+                res = preparedStatement.executeQuery();
+            } else {
+                statement = conn.createStatement();
+                dealStatement(statement, limit, queryTimeout, setMaxRow);
+                if (statement.execute(sql)) {
+                    res = statement.getResultSet();
                 }
-                result.add(row);
             }
+            if (Objects.isNull(res)) {
+                return new ColumnarResultDTO(Lists.newArrayList(), new int[0], new ColumnarResultDTO.ColumnKind[0]);
+            }
+            int capacity = Objects.nonNull(limit) && limit > 0 ? Math.min(limit, MAX_QUERY_ROW) : MAX_QUERY_ROW;
+            return readColumnar(res, fieldProcess, Math.min(capacity, COLUMNAR_INITIAL_CAPACITY));
         } catch (Exception e) {
-            throw new DtLoaderException(String.format("SQL executed exception, %s", e.getMessage()), e);
+            throw new DtLoaderException(String.format("SQL execute exception：%s", e.getMessage()), e);
         } finally {
             DBUtil.closeDBResources(res, statement, null);
         }
+    }
+
+    /**
+     * 设置 statement 查询超时时间及最大返回条数
+     */
+    private static void dealStatement(Statement statement, Integer limit, Integer queryTimeout, Boolean setMaxRow) throws SQLException {
+        if (queryTimeout != null) {
+            try {
+                statement.setQueryTimeout(queryTimeout);
+            } catch (Exception e) {
+                log.debug(String.format("statement set QueryTimeout exception,%s", e.getMessage()), e);
+            }
+        }
+        if (Objects.isNull(setMaxRow) || BooleanUtils.isTrue(setMaxRow)) {
+            // 设置返回最大条数
+            statement.setMaxRows(Objects.isNull(limit) ? MAX_QUERY_ROW : limit);
+        }
+    }
+
+    /**
+     * 按行读取结果集，字段头及重复字段名只处理一次
+     *
+     * @param res          结果集
+     * @param fieldProcess 字段处理
+     * @param result       结果
+     */
+    private static void readRows(ResultSet res, CallBack<Object, Object> fieldProcess, List<Map<String, Object>> result) throws SQLException {
+        List<String> columnName = getColumnNames(res.getMetaData());
+        int columns = columnName.size();
+        while (res.next()) {
+            Map<String, Object> row = Maps.newLinkedHashMap();
+            for (int i = 0; i < columns; i++) {
+                Object value = res.getObject(i + 1);
+                // 增加字段处理
+                if (Objects.nonNull(fieldProcess)) {
+                    value = fieldProcess.execute(value);
+                }
+                row.put(columnName.get(i), value);
+            }
+            result.add(row);
+        }
+    }
+
+    /**
+     * 按列读取结果集，整型及浮点型字段不进行装箱
+     *
+     * @param res             结果集
+     * @param fieldProcess    Object 类型字段处理
+     * @param initialCapacity 初始行容量
+     * @return 按列存储的结果
+     */
+    public static ColumnarResultDTO readColumnar(ResultSet res, CallBack<Object, Object> fieldProcess, int initialCapacity) throws SQLException {
+        ResultSetMetaData metaData = res.getMetaData();
+        List<String> columnNames = getColumnNames(metaData);
+        int columns = columnNames.size();
+        int[] columnTypes = new int[columns];
+        ColumnarResultDTO.ColumnKind[] columnKinds = new ColumnarResultDTO.ColumnKind[columns];
+        for (int i = 0; i < columns; i++) {
+            columnTypes[i] = metaData.getColumnType(i + 1);
+            columnKinds[i] = getColumnKind(metaData, i + 1);
+        }
+        ColumnarResultDTO result = new ColumnarResultDTO(columnNames, columnTypes, columnKinds, initialCapacity);
+        while (res.next()) {
+            int row = result.addRow();
+            for (int i = 0; i < columns; i++) {
+                switch (columnKinds[i]) {
+                    case LONG:
+                        long longValue = res.getLong(i + 1);
+                        if (res.wasNull()) {
+                            result.setNull(row, i);
+                        } else {
+                            result.setLong(row, i, longValue);
+                        }
+                        break;
+                    case DOUBLE:
+                        double doubleValue = res.getDouble(i + 1);
+                        if (res.wasNull()) {
+                            result.setNull(row, i);
+                        } else {
+                            result.setDouble(row, i, doubleValue);
+                        }
+                        break;
+                    default:
+                        Object value = res.getObject(i + 1);
+                        if (Objects.nonNull(fieldProcess)) {
+                            value = fieldProcess.execute(value);
+                        }
+                        result.setObject(row, i, value);
+                }
+            }
+        }
         return result;
     }
 
+    /**
+     * 根据字段 jdbc 类型获取列存储类型，无符号 bigint 可能超出 long 范围，使用 Object 存储
+     */
+    private static ColumnarResultDTO.ColumnKind getColumnKind(ResultSetMetaData metaData, int column) throws SQLException {
+        switch (metaData.getColumnType(column)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return ColumnarResultDTO.ColumnKind.LONG;
+            case Types.BIGINT:
+                return metaData.isSigned(column) ? ColumnarResultDTO.ColumnKind.LONG : ColumnarResultDTO.ColumnKind.OBJECT;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return ColumnarResultDTO.ColumnKind.DOUBLE;
+            default:
+                return ColumnarResultDTO.ColumnKind.OBJECT;
+        }
+    }
+
+    /**
+     * 获取结果集字段名，重复字段在字段名后增加 (1),(2)... 区分
+     *
+     * @param metaData 结果集元数据
+     * @return 字段名
+     */
+    public static List<String> getColumnNames(ResultSetMetaData metaData) throws SQLException {
+        int columns = metaData.getColumnCount();
+        Map<String, Object> header = Maps.newLinkedHashMap();
+        Map<String, Integer> columnRepeatSign = Maps.newHashMap();
+        for (int i = 0; i < columns; i++) {
+            String column = dealRepeatColumn(header, metaData.getColumnLabel(i + 1), columnRepeatSign);
+            header.put(column, null);
+        }
+        return Lists.newArrayList(header.keySet());
+    }
+
     /**
      * 处理 executeQuery 查询结果字段重复字段
      *
@@ -38,6 +38,30 @@ public class EnvUtil {
     // 测试连通性超时时间。单位：秒
     private final static int TEST_CONN_TIMEOUT = 30;
 
+    /**
+     * 连接池总连接数上限对应环境变量
+     */
+    private final static String POOL_MAX_TOTAL_CONNECTIONS_KEY = "LOADER_POOL_MAX_TOTAL_CONNECTIONS";
+
+    // 单个插件内所有连接池 maximumPoolSize 之和的上限
+    private final static int POOL_MAX_TOTAL_CONNECTIONS = 500;
+
+    /**
+     * 连接池最大个数对应环境变量
+     */
+    private final static String POOL_MAX_NUM_KEY = "LOADER_POOL_MAX_NUM";
+
+    // 单个插件内缓存的连接池最大个数
+    private final static int POOL_MAX_NUM = 100;
+
+    /**
+     * 连接池空闲淘汰时间对应环境变量
+     */
+    private final static String POOL_IDLE_EVICT_TIMEOUT_KEY = "LOADER_POOL_IDLE_EVICT_TIMEOUT";
+
+    // 连接池超过该时间未被使用则关闭。单位：秒
+    private final static int POOL_IDLE_EVICT_TIMEOUT = 30 * 60;
+
     /**
      * 获取测试连通性超时时间
      *
@@ -60,4 +84,47 @@ public class EnvUtil {
         }
         return def;
     }
+
+    /**
+     * 获取单个插件内所有连接池的总连接数上限
+     *
+     * @return 总连接数上限
+     */
+    public static int getPoolMaxTotalConnections() {
+        return getIntEnv(POOL_MAX_TOTAL_CONNECTIONS_KEY, POOL_MAX_TOTAL_CONNECTIONS);
+    }
+
+    /**
+     * 获取单个插件内缓存的连接池最大个数
+     *
+     * @return 连接池最大个数
+     */
+    public static int getPoolMaxNum() {
+        return getIntEnv(POOL_MAX_NUM_KEY, POOL_MAX_NUM);
+    }
+
+    /**
+     * 获取连接池空闲淘汰时间
+     *
+     * @return 空闲淘汰时间，单位：秒
+     */
+    public static int getPoolIdleEvictTimeout() {
+        return getIntEnv(POOL_IDLE_EVICT_TIMEOUT_KEY, POOL_IDLE_EVICT_TIMEOUT);
+    }
+
+    /**
+     * 获取正整数类型的环境变量，未配置或非法时返回默认值
+     *
+     * @param key 环境变量
+     * @param def 默认值
+     * @return 环境变量值
+     */
+    private static int getIntEnv(String key, int def) {
+        String value = System.getenv(key);
+        if (StringUtils.isNotBlank(value) && NumberUtils.isNumber(value)) {
+            int intValue = NumberUtils.toInt(value, def);
+            return intValue > 0 ? intValue : def;
+        }
+        return def;
+    }
 }
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.common.utils;
+
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 文本行解析器，直接在 UTF-8 字节上查找分隔符，只解码需要的字段。
+ * 分隔符可以转换为普通字符串时按字节匹配，否则使用预编译的正则，结果和 String.split 保持一致。
+ * 解析器会复用内部的字段位置数组，非线程安全，每个下载器使用单独的实例
+ *
+ * @author ：wangchuan
+ * date：Created in 下午6:10 2026/10/18
+ * company: www.dtstack.com
+ */
+public class TextRowDecoder {
+
+    /**
+     * String.split 中需要转义的正则字符
+     */
+    private static final String REGEX_META_CHARS = ".$|()[{^?*+\\";
+
+    /**
+     * 分隔符对应的 UTF-8 字节，使用正则时为 null
+     */
+    private final byte[] delimiter;
+
+    /**
+     * 无法转换为普通字符串的分隔符使用预编译的正则
+     */
+    private final Pattern pattern;
+
+    /**
+     * 需要查询字段的索引，为空时返回所有字段
+     */
+    private final int[] needIndex;
+
+    /**
+     * 需要扫描的最大字段数，-1 表示扫描整行
+     */
+    private final int scanLimit;
+
+    private int[] starts = new int[16];
+
+    private int[] ends = new int[16];
+
+    private byte[] bytes;
+
+    private String[] regexFields;
+
+    public TextRowDecoder(String fieldDelimiter) {
+        this(fieldDelimiter, null);
+    }
+
+    /**
+     * @param fieldDelimiter 字段分隔符，和 String.split 的入参一致
+     * @param needIndex      需要查询字段的索引，字段后面依次为分区字段，超出范围的索引返回 null
+     */
+    public TextRowDecoder(String fieldDelimiter, List<Integer> needIndex) {
+        if (StringUtils.isEmpty(fieldDelimiter)) {
+            throw new DtLoaderException("field delimiter cannot be empty");
+        }
+        String literal = toLiteral(fieldDelimiter);
+        if (literal != null) {
+            this.delimiter = literal.getBytes(StandardCharsets.UTF_8);
+            this.pattern = null;
+        } else {
+            this.delimiter = null;
+            this.pattern = Pattern.compile(fieldDelimiter);
+        }
+        if (needIndex == null || needIndex.isEmpty()) {
+            this.needIndex = null;
+            this.scanLimit = -1;
+        } else {
+            this.needIndex = needIndex.stream().mapToInt(Integer::intValue).toArray();
+            int max = Arrays.stream(this.needIndex).max().getAsInt();
+            // 只查询前面的字段时，扫描到最大索引即可停止
+            this.scanLimit = max == Integer.MAX_VALUE ? -1 : max + 1;
+        }
+    }
+
+    /**
+     * 解析一行数据，等同于 split(fieldDelimiter, -1) 后拼接分区字段的值，再按照 needIndex 取值
+     *
+     * @param bytes           UTF-8 字节
+     * @param length          有效长度
+     * @param partitionValues 分区字段的值，可以为 null
+     * @return 行数据
+     */
+    public List<String> decode(byte[] bytes, int length, List<String> partitionValues) {
+        List<String> partitions = partitionValues == null ? Collections.emptyList() : partitionValues;
+        int fieldCount = scan(bytes, length, scanLimit);
+        if (needIndex == null) {
+            List<String> row = new ArrayList<>(fieldCount + partitions.size());
+            for (int i = 0; i < fieldCount; i++) {
+                row.add(field(i));
+            }
+            row.addAll(partitions);
+            return row;
+        }
+        List<String> row = new ArrayList<>(needIndex.length);
+        for (int index : needIndex) {
+            if (index < fieldCount) {
+                row.add(field(index));
+            } else if (index - fieldCount < partitions.size()) {
+                row.add(partitions.get(index - fieldCount));
+            } else {
+                row.add(null);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * 按照固定的字段数解析一行数据，缺少的字段使用空字符串补齐，多余的字段忽略，最后拼接分区字段的值
+     *
+     * @param bytes           UTF-8 字节
+     * @param length          有效长度
+     * @param columnCount     字段数
+     * @param partitionValues 分区字段的值，可以为 null
+     * @return 行数据
+     */
+    public List<String> decodeColumns(byte[] bytes, int length, int columnCount, List<String> partitionValues) {
+        List<String> partitions = partitionValues == null ? Collections.emptyList() : partitionValues;
+        int fieldCount = scan(bytes, length, columnCount);
+        List<String> row = new ArrayList<>(columnCount + partitions.size());
+        for (int i = 0; i < columnCount; i++) {
+            row.add(i < fieldCount ? field(i) : "");
+        }
+        row.addAll(partitions);
+        return row;
+    }
+
+    /**
+     * 查找字段位置
+     *
+     * @param limit 最多查找的字段数，-1 表示查找整行
+     * @return 字段数
+     */
+    private int scan(byte[] bytes, int length, int limit) {
+        if (pattern != null) {
+            regexFields = pattern.split(new String(bytes, 0, length, StandardCharsets.UTF_8), -1);
+            return regexFields.length;
+        }
+        this.bytes = bytes;
+        int count = 0;
+        int start = 0;
+        int delimiterLength = delimiter.length;
+        if (delimiterLength == 1) {
+            byte d = delimiter[0];
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] == d) {
+                    addField(count++, start, i);
+                    if (count == limit) {
+                        return count;
+                    }
+                    start = i + 1;
+                }
+            }
+        } else {
+            int i = 0;
+            while (i <= length - delimiterLength) {
+                if (matchDelimiter(bytes, i)) {
+                    addField(count++, start, i);
+                    if (count == limit) {
+                        return count;
+                    }
+                    i += delimiterLength;
+                    start = i;
+                } else {
+                    i++;
+                }
+            }
+        }
+        addField(count++, start, length);
+        return count;
+    }
+
+    private boolean matchDelimiter(byte[] bytes, int offset) {
+        for (int j = 0; j < delimiter.length; j++) {
+            if (bytes[offset + j] != delimiter[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addField(int index, int start, int end) {
+        if (index == starts.length) {
+            starts = Arrays.copyOf(starts, index * 2);
+            ends = Arrays.copyOf(ends, index * 2);
+        }
+        starts[index] = start;
+        ends[index] = end;
+    }
+
+    private String field(int index) {
+        if (pattern != null) {
+            return regexFields[index];
+        }
+        return new String(bytes, starts[index], ends[index] - starts[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 将分隔符转换为普通字符串，规则和 String.split 的快速路径一致，无法转换时返回 null
+     *
+     * @param fieldDelimiter 分隔符
+     * @return 普通字符串
+     */
+    private static String toLiteral(String fieldDelimiter) {
+        if (fieldDelimiter.length() == 1) {
+            return REGEX_META_CHARS.indexOf(fieldDelimiter.charAt(0)) == -1 ? fieldDelimiter : null;
+        }
+        if (fieldDelimiter.length() == 2 && fieldDelimiter.charAt(0) == '\\') {
+            char ch = fieldDelimiter.charAt(1);
+            if (!Character.isLetterOrDigit(ch) && ch < Character.MIN_HIGH_SURROGATE) {
+                return String.valueOf(ch);
+            }
+            switch (ch) {
+                case 't':
+                    return "\t";
+                case 'n':
+                    return "\n";
+                case 'r':
+                    return "\r";
+                case 'f':
+                    return "\f";
+                default:
+                    return null;
+            }
+        }
+        for (int i = 0; i < fieldDelimiter.length(); i++) {
+            if (REGEX_META_CHARS.indexOf(fieldDelimiter.charAt(i)) != -1) {
+                return null;
+            }
+        }
+        return fieldDelimiter;
+    }
+}
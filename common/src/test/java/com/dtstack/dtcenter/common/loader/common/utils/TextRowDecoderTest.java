@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.common.loader.common.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 文本行解析器测试，结果需要和 String.split 保持一致
+ *
+ * @author ：wangchuan
+ * date：Created in 下午3:20 2026/10/18
+ * company: www.dtstack.com
+ */
+public class TextRowDecoderTest {
+
+    private static final List<String> DELIMITERS = Arrays.asList(",", "\u0001", "\t", "\\t", "|", "\\|", "\\u0001",
+            "||", "@#@", "\\001", "[,;]", "中");
+
+    @Test
+    public void trailingEmptyFields() {
+        TextRowDecoder decoder = new TextRowDecoder(",");
+        Assert.assertEquals(Arrays.asList("a", "", ""), decode(decoder, "a,,", null));
+        Assert.assertEquals(Arrays.asList("", "", ""), decode(decoder, ",,", null));
+        Assert.assertEquals(Collections.singletonList(""), decode(decoder, "", null));
+        Assert.assertEquals(Arrays.asList("a", "b", "", "p1"), decode(decoder, "a,b,", Collections.singletonList("p1")));
+    }
+
+    @Test
+    public void multiCharDelimiter() {
+        TextRowDecoder decoder = new TextRowDecoder("@#@");
+        Assert.assertEquals(Arrays.asList("a", "b", "#@c", ""), decode(decoder, "a@#@b@#@#@c@#@", null));
+        Assert.assertEquals(Arrays.asList("a@", "b"), decode(decoder, "a@@#@b", null));
+        Assert.assertEquals(Collections.singletonList("a@#"), decode(decoder, "a@#", null));
+    }
+
+    @Test
+    public void escapedValues() {
+        // 分隔符为转义字符时按普通字符匹配
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), decode(new TextRowDecoder("\\|"), "a|b|c", null));
+        Assert.assertEquals(Arrays.asList("a", "b"), decode(new TextRowDecoder("\\t"), "a\tb", null));
+        // 字段中被转义的分隔符和 String.split 一样会被拆分
+        Assert.assertEquals(Arrays.asList("a\\", "b", "c"), decode(new TextRowDecoder(","), "a\\,b,c", null));
+        // 正则分隔符
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), decode(new TextRowDecoder("[,;]"), "a,b;c", null));
+    }
+
+    @Test
+    public void nullValues() {
+        TextRowDecoder decoder = new TextRowDecoder("\u0001");
+        Assert.assertEquals(Arrays.asList("\\N", "b", "\\N"), decode(decoder, "\\N\u0001b\u0001\\N", null));
+    }
+
+    @Test
+    public void needIndex() {
+        TextRowDecoder decoder = new TextRowDecoder(",", Arrays.asList(2, 0, 4, 3, Integer.MAX_VALUE));
+        // 索引 3 为分区字段，4 超出范围
+        Assert.assertEquals(Arrays.asList("c", "a", null, "p1", null), decode(decoder, "a,b,c", Collections.singletonList("p1")));
+
+        TextRowDecoder prefix = new TextRowDecoder(",", Collections.singletonList(1));
+        Assert.assertEquals(Collections.singletonList("b"), decode(prefix, "a,b,c,d", null));
+    }
+
+    @Test
+    public void decodeColumns() {
+        TextRowDecoder decoder = new TextRowDecoder(",");
+        byte[] bytes = "a,b".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(Arrays.asList("a", "b", "", "p1"), decoder.decodeColumns(bytes, bytes.length, 3, Collections.singletonList("p1")));
+        bytes = "a,b,c,d".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(Arrays.asList("a", "b"), decoder.decodeColumns(bytes, bytes.length, 2, null));
+    }
+
+    @Test
+    public void sameAsSplit() {
+        Random random = new Random(20261018L);
+        String alphabet = "ab中,|\t\u0001@#;\\N ";
+        for (String delimiter : DELIMITERS) {
+            TextRowDecoder decoder = new TextRowDecoder(delimiter);
+            for (int i = 0; i < 2000; i++) {
+                StringBuilder line = new StringBuilder();
+                int length = random.nextInt(20);
+                for (int j = 0; j < length; j++) {
+                    line.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                List<String> partitions = random.nextBoolean() ? Collections.singletonList("p") : null;
+                Assert.assertEquals("delimiter: " + delimiter + ", line: " + line,
+                        split(line.toString(), delimiter, partitions), decode(decoder, line.toString(), partitions));
+            }
+        }
+    }
+
+    @Test
+    public void reuseBuffer() {
+        // 下载器会复用同一个字节数组，有效长度之后的内容不能被解析
+        TextRowDecoder decoder = new TextRowDecoder(",");
+        byte[] bytes = "a,b,c,d".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(Arrays.asList("a", "b"), decoder.decode(bytes, 3, null));
+    }
+
+    /**
+     * 原来的解析逻辑
+     */
+    private List<String> split(String line, String delimiter, List<String> partitions) {
+        List<String> row = new ArrayList<>(Arrays.asList(line.split(delimiter, -1)));
+        if (partitions != null) {
+            row.addAll(partitions);
+        }
+        return row;
+    }
+
+    private List<String> decode(TextRowDecoder decoder, String line, List<String> partitions) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        return decoder.decode(bytes, bytes.length, partitions);
+    }
+}
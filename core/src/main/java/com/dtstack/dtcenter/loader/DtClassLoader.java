@@ -20,6 +20,7 @@ package com.dtstack.dtcenter.loader;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -27,6 +28,13 @@ import java.net.URLStreamHandlerFactory;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
 /**
  * @company: www.dtstack.com
@@ -45,13 +53,21 @@ public class DtClassLoader extends URLClassLoader {
 
     private boolean hasExternalRepositories = false;
 
+    /**
+     * 插件 jar 包中所有 entry 的名称，查找类和资源前先判断索引，不存在时不再逐个遍历 jar 包
+     * 为 null 时表示无法建立完整索引（非本地 jar 包或者 manifest 中存在 Class-Path），按原有逻辑查找
+     */
+    private volatile Set<String> entryIndex;
+
     public DtClassLoader(URL[] urls, ClassLoader parent) {
         super(urls, parent);
         this.parent = parent;
+        this.entryIndex = buildEntryIndex(urls);
     }
 
     public DtClassLoader(URL[] urls) {
         super(urls);
+        this.entryIndex = buildEntryIndex(urls);
     }
 
     /**
@@ -73,6 +89,7 @@ public class DtClassLoader extends URLClassLoader {
      */
     public DtClassLoader(URL[] urls, ClassLoader parent, URLStreamHandlerFactory factory) {
         super(urls, parent, factory);
+        this.entryIndex = buildEntryIndex(urls);
     }
 
     @Override
@@ -105,7 +122,7 @@ public class DtClassLoader extends URLClassLoader {
                 log.debug("  Searching local repositories");
             }
             try {
-                clazz = findClass(name);
+                clazz = mayContain(name.replace('.', '/') + CLASS_FILE_SUFFIX) ? findClass(name) : null;
                 if (clazz != null) {
                     if (log.isDebugEnabled()) {
                         log.debug("  Loading class from local repository");
@@ -153,7 +170,7 @@ public class DtClassLoader extends URLClassLoader {
         URL url = null;
 
         // (2) Search local repositories
-        url = findResource(name);
+        url = mayContain(name) ? findResource(name) : null;
         if (url != null) {
             if (log.isDebugEnabled()) {
                 log.debug("  --> Returning '" + url.toString() + "'");
@@ -179,6 +196,11 @@ public class DtClassLoader extends URLClassLoader {
 
     @Override
     public void addURL(URL url) {
+        // 先更新索引再添加 jar 包，避免并发查找时索引中不存在而跳过
+        Set<String> index = entryIndex;
+        if (Objects.nonNull(index) && !indexJar(url, index)) {
+            entryIndex = null;
+        }
         super.addURL(url);
         hasExternalRepositories = true;
     }
@@ -209,6 +231,10 @@ public class DtClassLoader extends URLClassLoader {
             log.debug("findResources(" + name + ")");
         }
 
+        if (!mayContain(name)) {
+            return Collections.emptyEnumeration();
+        }
+
         LinkedHashSet<URL> result = new LinkedHashSet<>();
 
         Enumeration<URL> superResource = super.findResources(name);
@@ -227,4 +253,62 @@ public class DtClassLoader extends URLClassLoader {
 
         return Collections.enumeration(result);
     }
+
+    /**
+     * 判断插件 jar 包中是否可能存在该 entry，没有索引时返回 true
+     *
+     * @param entryName entry 名称
+     * @return 是否可能存在
+     */
+    private boolean mayContain(String entryName) {
+        Set<String> index = entryIndex;
+        return Objects.isNull(index) || index.contains(entryName);
+    }
+
+    /**
+     * 建立 jar 包 entry 索引
+     *
+     * @param urls jar 包路径
+     * @return entry 名称集合，无法建立完整索引时返回 null
+     */
+    private static Set<String> buildEntryIndex(URL[] urls) {
+        Set<String> index = ConcurrentHashMap.newKeySet();
+        for (URL url : urls) {
+            if (!indexJar(url, index)) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 将 jar 包中的 entry 名称加入索引，目录同时加入不带 / 的名称，和 JarFile#getEntry 的查找逻辑保持一致
+     *
+     * @param url   jar 包路径
+     * @param index 索引
+     * @return 是否成功，非本地 jar 包或者 manifest 中存在 Class-Path 时返回 false
+     */
+    private static boolean indexJar(URL url, Set<String> index) {
+        if (!"file".equals(url.getProtocol()) || !url.getPath().endsWith(".jar")) {
+            return false;
+        }
+        try (JarFile jarFile = new JarFile(new File(url.toURI()))) {
+            Manifest manifest = jarFile.getManifest();
+            if (Objects.nonNull(manifest) && Objects.nonNull(manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH))) {
+                return false;
+            }
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                index.add(entryName);
+                if (entryName.endsWith("/")) {
+                    index.add(entryName.substring(0, entryName.length() - 1));
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("build jar entry index failed, url: {}, {}", url, e.getMessage());
+            return false;
+        }
+    }
 }
@@ -18,6 +18,7 @@
 
 package com.dtstack.dtcenter.loader;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -60,6 +61,21 @@ public interface IDownloader {
      */
     boolean reachedEnd();
 
+    /**
+     * 批量读取，最多返回 batchSize 行，返回空集合表示已经读取完。
+     * 默认逐行调用 reachedEnd 和 readNext，需要 kerberos doAs 等额外开销的下载器可以重写该方法，一批数据只做一次处理
+     *
+     * @param batchSize 每批最多读取的行数
+     * @return 数据集合
+     */
+    default List<Object> readNextBatch(int batchSize) {
+        List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+        while (rows.size() < batchSize && !reachedEnd()) {
+            rows.add(readNext());
+        }
+        return rows;
+    }
+
     /**
      * 是否关闭
      *
@@ -0,0 +1,393 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.cache.metadata;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.PropertyFilter;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.dtstack.dtcenter.loader.factory.DtThreadFactory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 元数据缓存，开启后 IClient、ITable 的元数据查询方法（表列表、字段信息、表信息、分区等）优先从缓存中获取。
+ * <p>
+ * 1. 使用 {@link #start(MetadataCacheConfig)} 开启缓存，默认不开启，不开启时直接查询数据源
+ * 2. 缓存 key 为数据源信息（不包含 connection）、方法名、表名和查询条件的摘要，不持有调用方的数据源和查询条件对象
+ * 3. 超过 refreshAfterWrite 后访问会使用本次调用的加载逻辑异步刷新，刷新完成前返回旧值；超过 expireAfterWrite 后同步加载
+ * 4. 数据源中带有 connection 时不使用缓存，避免异步刷新时使用调用方已经关闭的连接
+ * 5. 通过 ITable 删除、重命名、修改表时会失效该数据源的缓存，其他方式修改元数据后需要调用 invalidate 主动失效
+ * 6. 缓存的结果会被多次返回，列表会复制后返回，列表中的对象不要修改
+ *
+ * @author ：wangchuan
+ * date：Created in 上午12:20 2026/10/19
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class MetadataCache {
+
+    /**
+     * 加载结果为 null 时缓存的值
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    /**
+     * 生成数据源 key 时排除 connection
+     */
+    private static final PropertyFilter SOURCE_FILTER = (object, name, value) -> !(value instanceof Connection);
+
+    private static volatile Holder holder;
+
+    /**
+     * 缓存和刷新线程池
+     */
+    private static class Holder {
+
+        private final Cache<CacheKey, Entry> cache;
+
+        private final ThreadPoolExecutor refreshExecutor;
+
+        private final long refreshAfterWrite;
+
+        /**
+         * 异步刷新成功次数，guava 只统计同步加载
+         */
+        private final AtomicLong refreshSuccessCount = new AtomicLong();
+
+        /**
+         * 异步刷新失败次数
+         */
+        private final AtomicLong refreshExceptionCount = new AtomicLong();
+
+        private Holder(Cache<CacheKey, Entry> cache, ThreadPoolExecutor refreshExecutor, long refreshAfterWrite) {
+            this.cache = cache;
+            this.refreshExecutor = refreshExecutor;
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+    }
+
+    /**
+     * 缓存的值和加载时间
+     */
+    private static class Entry {
+
+        private final Object value;
+
+        private final long loadTime = System.currentTimeMillis();
+
+        /**
+         * 是否正在刷新，同一个值只提交一次刷新
+         */
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * 缓存 key，只包含摘要，不持有数据源和查询条件对象
+     */
+    private static class CacheKey {
+
+        private final String sourceKey;
+
+        private final String method;
+
+        private final String tableName;
+
+        private final String argsKey;
+
+        private CacheKey(String sourceKey, String method, String tableName, String argsKey) {
+            this.sourceKey = sourceKey;
+            this.method = method;
+            this.tableName = tableName;
+            this.argsKey = argsKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return Objects.equals(sourceKey, cacheKey.sourceKey) && Objects.equals(method, cacheKey.method)
+                    && Objects.equals(tableName, cacheKey.tableName) && Objects.equals(argsKey, cacheKey.argsKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceKey, method, tableName, argsKey);
+        }
+    }
+
+    private MetadataCache() {
+    }
+
+    /**
+     * 开启元数据缓存，已经开启时使用新的配置重新创建，之前的缓存会被清空
+     *
+     * @param config 缓存配置
+     */
+    public static synchronized void start(MetadataCacheConfig config) {
+        MetadataCacheConfig cacheConfig = config == null ? MetadataCacheConfig.builder().build() : config;
+        if (cacheConfig.getRefreshAfterWrite() >= cacheConfig.getExpireAfterWrite()) {
+            throw new DtLoaderException("metadata cache refreshAfterWrite must be less than expireAfterWrite");
+        }
+        stop();
+        // 刷新线程使用守护线程，队列满时拒绝刷新，由 guava 保留旧值
+        ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(cacheConfig.getRefreshThreads(), cacheConfig.getRefreshThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(cacheConfig.getRefreshQueueSize()), r -> {
+            Thread thread = new DtThreadFactory("metadataCacheRefresh").newThread(r);
+            thread.setDaemon(true);
+            return thread;
+        });
+        Cache<CacheKey, Entry> cache = CacheBuilder.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        holder = new Holder(cache, refreshExecutor, cacheConfig.getRefreshAfterWrite());
+        log.info("metadata cache started, config : {}", cacheConfig);
+    }
+
+    /**
+     * 关闭元数据缓存并清空
+     */
+    public static synchronized void stop() {
+        Holder current = holder;
+        holder = null;
+        if (current != null) {
+            current.cache.invalidateAll();
+            current.refreshExecutor.shutdownNow();
+            log.info("metadata cache stopped");
+        }
+    }
+
+    /**
+     * 是否开启了元数据缓存
+     *
+     * @return 是否开启
+     */
+    public static boolean isEnabled() {
+        return holder != null;
+    }
+
+    /**
+     * 从缓存中获取元数据，未开启缓存、数据源带有 connection 或者无法生成 key 时直接加载。
+     * loader 只在本次调用中使用，缓存不会持有 loader 以及其中引用的数据源和查询条件
+     *
+     * @param source    数据源信息
+     * @param method    方法名
+     * @param tableName 表名，没有时为 null
+     * @param args      其他查询条件
+     * @param loader    加载逻辑
+     * @param <T>       返回值类型
+     * @return 元数据
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(ISourceDTO source, String method, String tableName, Object args, Supplier<T> loader) {
+        Holder current = holder;
+        if (current == null || (source != null && source.getConnection() != null)) {
+            return loader.get();
+        }
+        String sourceKey = getSourceKey(source);
+        String argsKey = toKey(args, null);
+        if (sourceKey == null || argsKey == null) {
+            return loader.get();
+        }
+        CacheKey key = new CacheKey(sourceKey, method, tableName, argsKey);
+        Entry entry;
+        try {
+            entry = current.cache.get(key, () -> new Entry(load(loader)));
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DtLoaderException(cause.getMessage(), cause);
+        }
+        if (System.currentTimeMillis() - entry.loadTime >= current.refreshAfterWrite) {
+            refresh(current, key, entry, loader);
+        }
+        Object value = entry.value;
+        if (value == NULL_VALUE) {
+            return null;
+        }
+        // 列表复制后返回，避免调用方修改缓存
+        if (value instanceof List) {
+            return (T) new ArrayList<>((List<?>) value);
+        }
+        return (T) value;
+    }
+
+    private static Object load(Supplier<?> loader) {
+        Object value = loader.get();
+        return value == null ? NULL_VALUE : value;
+    }
+
+    /**
+     * 使用本次调用的加载逻辑异步刷新，刷新完成前返回旧值，刷新失败或者队列已满时保留旧值
+     */
+    private static void refresh(Holder current, CacheKey key, Entry entry, Supplier<?> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.refreshExecutor.execute(() -> {
+                try {
+                    Entry refreshed = new Entry(load(loader));
+                    // 刷新期间被失效或者被淘汰时不再写入
+                    if (current.cache.asMap().replace(key, entry, refreshed)) {
+                        current.refreshSuccessCount.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    current.refreshExceptionCount.incrementAndGet();
+                    entry.refreshing.set(false);
+                    log.warn("refresh metadata cache of {} failed, keep the old value : {}", key.method, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    /**
+     * 失效数据源的所有缓存
+     *
+     * @param source 数据源信息
+     */
+    public static void invalidate(ISourceDTO source) {
+        invalidate(source, null);
+    }
+
+    /**
+     * 失效数据源指定表的缓存，同时失效该数据源下不针对单表的缓存（表列表、库列表等）
+     *
+     * @param source    数据源信息
+     * @param tableName 表名，为空时失效数据源的所有缓存
+     */
+    public static void invalidate(ISourceDTO source, String tableName) {
+        Holder current = holder;
+        if (current == null) {
+            return;
+        }
+        String sourceKey = getSourceKey(source);
+        if (sourceKey == null) {
+            return;
+        }
+        current.cache.asMap().keySet().removeIf(key -> sourceKey.equals(key.sourceKey)
+                && (StringUtils.isBlank(tableName) || key.tableName == null || isSameTable(key.tableName, tableName)));
+    }
+
+    /**
+     * 失效所有缓存
+     */
+    public static void invalidateAll() {
+        Holder current = holder;
+        if (current != null) {
+            current.cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 获取缓存统计信息，未开启时返回 null
+     *
+     * @return 统计信息
+     */
+    public static MetadataCacheStats stats() {
+        Holder current = holder;
+        if (current == null) {
+            return null;
+        }
+        CacheStats stats = current.cache.stats();
+        return MetadataCacheStats.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadSuccessCount(stats.loadSuccessCount() + current.refreshSuccessCount.get())
+                .loadExceptionCount(stats.loadExceptionCount() + current.refreshExceptionCount.get())
+                .evictionCount(stats.evictionCount())
+                .size(current.cache.size())
+                .build();
+    }
+
+    /**
+     * 表名比较，忽略大小写，兼容带库名和不带库名的情况
+     */
+    private static boolean isSameTable(String cachedTableName, String tableName) {
+        String cached = cachedTableName.toLowerCase();
+        String target = tableName.toLowerCase();
+        return cached.equals(target) || cached.endsWith("." + target) || target.endsWith("." + cached);
+    }
+
+    private static String getSourceKey(ISourceDTO source) {
+        if (source == null) {
+            return null;
+        }
+        String key = toKey(source, SOURCE_FILTER);
+        return key == null ? null : source.getClass().getName() + ":" + key;
+    }
+
+    /**
+     * 将对象序列化后计算摘要作为 key，序列化失败时返回 null，不使用缓存
+     */
+    private static String toKey(Object object, PropertyFilter filter) {
+        if (object == null) {
+            return "";
+        }
+        try {
+            String json = filter == null ?
+                    JSON.toJSONString(object, SerializerFeature.MapSortField, SerializerFeature.SortField) :
+                    JSON.toJSONString(object, filter, SerializerFeature.MapSortField, SerializerFeature.SortField);
+            return Hashing.sha256().hashString(json, StandardCharsets.UTF_8).toString();
+        } catch (Exception e) {
+            log.warn("generate metadata cache key of {} failed, skip cache : {}", object.getClass().getName(), e.getMessage());
+            return null;
+        }
+    }
+}
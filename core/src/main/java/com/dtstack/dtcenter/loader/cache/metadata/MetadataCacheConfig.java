@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.cache.metadata;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * 元数据缓存配置
+ *
+ * @author ：wangchuan
+ * date：Created in 上午12:20 2026/10/19
+ * company: www.dtstack.com
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MetadataCacheConfig implements Serializable {
+
+    /**
+     * 缓存写入后的过期时间（毫秒），过期后下次访问同步加载
+     */
+    @Builder.Default
+    private Long expireAfterWrite = MINUTES.toMillis(30);
+
+    /**
+     * 缓存写入后的刷新时间（毫秒），超过后下次访问触发异步刷新，刷新完成前返回旧值，需要小于 expireAfterWrite
+     */
+    @Builder.Default
+    private Long refreshAfterWrite = MINUTES.toMillis(5);
+
+    /**
+     * 最多缓存的条目数，超过后按照最近最少使用淘汰
+     */
+    @Builder.Default
+    private Long maximumSize = 10000L;
+
+    /**
+     * 异步刷新的线程数
+     */
+    @Builder.Default
+    private Integer refreshThreads = 4;
+
+    /**
+     * 异步刷新等待队列的长度，队列满时本次不刷新，继续返回旧值
+     */
+    @Builder.Default
+    private Integer refreshQueueSize = 1000;
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.cache.metadata;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 元数据缓存统计信息
+ *
+ * @author ：wangchuan
+ * date：Created in 上午12:20 2026/10/19
+ * company: www.dtstack.com
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MetadataCacheStats implements Serializable {
+
+    /**
+     * 命中次数
+     */
+    private long hitCount;
+
+    /**
+     * 未命中次数
+     */
+    private long missCount;
+
+    /**
+     * 命中率
+     */
+    private double hitRate;
+
+    /**
+     * 加载成功次数，包含异步刷新
+     */
+    private long loadSuccessCount;
+
+    /**
+     * 加载失败次数，包含异步刷新
+     */
+    private long loadExceptionCount;
+
+    /**
+     * 淘汰次数，不包含主动失效
+     */
+    private long evictionCount;
+
+    /**
+     * 当前缓存的条目数
+     */
+    private long size;
+}
@@ -25,6 +25,7 @@ import com.dtstack.dtcenter.loader.client.kerberos.KerberosClientFactory;
 import com.dtstack.dtcenter.loader.client.mq.KafkaClientFactory;
 import com.dtstack.dtcenter.loader.client.neo4j.Neo4jClientFactory;
 import com.dtstack.dtcenter.loader.client.neo4j40.Neo4j40ClientFactory;
+import com.dtstack.dtcenter.loader.client.odps.OdpsClientFactory;
 import com.dtstack.dtcenter.loader.client.redis.RedisClientFactory;
 import com.dtstack.dtcenter.loader.client.restful.RestfulClientFactory;
 import com.dtstack.dtcenter.loader.client.sql.DataSourceClientFactory;
@@ -104,6 +105,11 @@ public class ClientCache {
      */
     private static final Map<String,INeo4j40> NEO4J40_CLIENT = Maps.newConcurrentMap();
 
+    /**
+     * odps 客户端缓存
+     */
+    private static final Map<String, IOdps> ODPS_CLIENT = Maps.newConcurrentMap();
+
     protected static String userDir = String.format("%s/pluginLibs/", System.getProperty("user.dir"));
 
     /**
@@ -514,4 +520,33 @@ public class ClientCache {
             throw new ClientAccessException(e);
         }
     }
+
+    /**
+     * 获取 odps Client 客户端
+     *
+     * @param sourceType 数据源类型
+     * @return odps Client 客户端
+     */
+    public static IOdps getOdps(Integer sourceType) {
+        String pluginName = DataSourceType.getSourceType(sourceType).getPluginName();
+        return getOdps(pluginName);
+    }
+
+    private static IOdps getOdps(String pluginName) {
+        try {
+            IOdps odps = ODPS_CLIENT.get(pluginName);
+            if (odps == null) {
+                synchronized (ODPS_CLIENT) {
+                    odps = ODPS_CLIENT.get(pluginName);
+                    if (odps == null) {
+                        odps = OdpsClientFactory.createPluginClass(pluginName);
+                        ODPS_CLIENT.put(pluginName, odps);
+                    }
+                }
+            }
+            return odps;
+        } catch (Throwable e) {
+            throw new ClientAccessException(e);
+        }
+    }
 }
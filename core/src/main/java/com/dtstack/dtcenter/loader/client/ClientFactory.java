@@ -22,18 +22,31 @@ import com.alibaba.fastjson.serializer.DateCodec;
 import com.alibaba.fastjson.serializer.SerializeConfig;
 import com.dtstack.dtcenter.loader.DtClassLoader;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.dtstack.dtcenter.loader.factory.DtThreadFactory;
 import com.dtstack.dtcenter.loader.source.DataSourceType;
 import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 /**
  * @company: www.dtstack.com
@@ -48,6 +61,20 @@ public class ClientFactory {
      */
     private static final Map<String, ClassLoader> PLUGIN_CLASSLOADER = Maps.newConcurrentMap();
 
+    /**
+     * 插件级别的锁，不同插件的 ClassLoader 可以并行创建
+     */
+    private static final Map<String, Object> PLUGIN_LOCKS = Maps.newConcurrentMap();
+
+    /**
+     * 预热时需要提前加载的 SPI 文件前缀
+     */
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+
+    private static final String CLIENT_SERVICE_PREFIX = SERVICES_PREFIX + "com.dtstack.dtcenter.loader.client.";
+
+    private static final String DRIVER_SERVICE = SERVICES_PREFIX + "java.sql.Driver";
+
     /**
      * 获取类加载器
      *
@@ -61,18 +88,125 @@ public class ClientFactory {
             return classLoader;
         }
 
-        synchronized (ClientFactory.class) {
+        synchronized (PLUGIN_LOCKS.computeIfAbsent(pluginName, k -> new Object())) {
             classLoader = PLUGIN_CLASSLOADER.get(pluginName);
             if (classLoader == null) {
                 classLoader = getClassLoad(pluginName, getFileByPluginName(pluginName));
+                // 只在创建 ClassLoader 时处理一次
+                dealFastJSON(pluginName, classLoader);
                 PLUGIN_CLASSLOADER.put(pluginName, classLoader);
             }
         }
-
-        dealFastJSON(pluginName, classLoader);
         return classLoader;
     }
 
+    /**
+     * 并行预热插件：创建插件 ClassLoader，并提前加载插件 SPI 文件中声明的客户端实现类和 jdbc 驱动类
+     *
+     * @param pluginNames 插件名称
+     * @param parallelism 并行度
+     * @return 预热失败的插件及失败原因，全部成功时返回空 map
+     */
+    public static Map<String, String> warmUp(Collection<String> pluginNames, int parallelism) {
+        Map<String, String> failed = Maps.newConcurrentMap();
+        if (Objects.isNull(pluginNames) || pluginNames.isEmpty()) {
+            return failed;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, pluginNames.size())),
+                new DtThreadFactory("pluginWarmUp"));
+        try {
+            Map<String, Future<?>> futures = Maps.newLinkedHashMap();
+            for (String pluginName : pluginNames) {
+                futures.put(pluginName, executor.submit(() -> {
+                    warmUpPlugin(pluginName);
+                    return null;
+                }));
+            }
+            for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failed.put(entry.getKey(), "warm up interrupted");
+                } catch (Exception e) {
+                    Throwable cause = Objects.nonNull(e.getCause()) ? e.getCause() : e;
+                    log.warn("warm up plugin {} failed: {}", entry.getKey(), cause.getMessage());
+                    failed.put(entry.getKey(), String.valueOf(cause.getMessage()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return failed;
+    }
+
+    /**
+     * 并行预热插件目录下的所有插件
+     *
+     * @param parallelism 并行度
+     * @return 预热失败的插件及失败原因
+     */
+    public static Map<String, String> warmUpAll(int parallelism) {
+        File pluginDir = new File(ClientCache.getUserDir());
+        File[] files = pluginDir.listFiles(File::isDirectory);
+        if (Objects.isNull(files)) {
+            throw new DtLoaderException(String.format("%s directory not found", ClientCache.getUserDir()));
+        }
+        List<String> pluginNames = new ArrayList<>();
+        for (File file : files) {
+            pluginNames.add(file.getName());
+        }
+        return warmUp(pluginNames, parallelism);
+    }
+
+    /**
+     * 预热单个插件
+     *
+     * @param pluginName 插件名称
+     * @throws Exception 异常
+     */
+    private static void warmUpPlugin(String pluginName) throws Exception {
+        long start = System.currentTimeMillis();
+        ClassLoader classLoader = getClassLoader(pluginName);
+        File[] files = getFileByPluginName(pluginName).listFiles();
+        if (Objects.isNull(files)) {
+            return;
+        }
+        int loaded = 0;
+        for (File file : files) {
+            if (!file.isFile() || !file.getName().endsWith(".jar")) {
+                continue;
+            }
+            try (JarFile jarFile = new JarFile(file)) {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry jarEntry = entries.nextElement();
+                    String entryName = jarEntry.getName();
+                    if (!entryName.startsWith(CLIENT_SERVICE_PREFIX) && !DRIVER_SERVICE.equals(entryName)) {
+                        continue;
+                    }
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(jarFile.getInputStream(jarEntry), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            String className = StringUtils.substringBefore(line, "#").trim();
+                            if (StringUtils.isEmpty(className)) {
+                                continue;
+                            }
+                            try {
+                                // 只加载不初始化，避免提前执行驱动等类的静态代码块
+                                Class.forName(className, false, classLoader);
+                                loaded++;
+                            } catch (ClassNotFoundException | LinkageError e) {
+                                log.warn("warm up plugin {} load class {} failed: {}", pluginName, className, e.getMessage());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        log.info("warm up plugin {} finished, load {} classes, cost {} ms", pluginName, loaded, System.currentTimeMillis() - start);
+    }
+
     /**
      * 校验是否存在
      *
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.client;
+
+import com.dtstack.dtcenter.loader.dto.ConnectionTestResultDTO;
+import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.dtstack.dtcenter.loader.factory.DtThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 批量测试数据源连通性
+ * <p>
+ * 1. 测试在独立的线程池中并发执行，线程按需创建，空闲一分钟后回收，最多 {@link #MAX_THREADS} 个，线程用满时任务在队列中等待
+ * 2. 每个数据源的截止时间在批量测试开始时确定，排队时间也计入超时，到期后返回超时结果：
+ * 仍在排队的任务出队时直接跳过，正在执行的任务中断测试线程，不修改 DriverManager 等全局配置
+ * 3. 通过 {@link ClientCache#getClient(Integer)} 调用各插件的 testCon，开启连接池的数据源会复用连接池中的连接
+ *
+ * @author ：wangchuan
+ * date：Created in 上午1:30 2026/10/19
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class ConnectionTester {
+
+    /**
+     * 默认超时时间，单位：毫秒
+     */
+    public static final long DEFAULT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * 同时测试的最大数据源数量，即线程池最大线程数
+     */
+    public static final int MAX_THREADS = 256;
+
+    private static final ThreadFactory THREAD_FACTORY = daemonThreadFactory("connectionTester");
+
+    /**
+     * 测试线程池，核心线程数等于最大线程数并允许回收，线程用满时任务进入无界队列，不会拒绝
+     */
+    private static final ThreadPoolExecutor EXECUTOR;
+
+    /**
+     * 超时检查线程
+     */
+    private static final ScheduledExecutorService TIMEOUT_CHECKER;
+
+    static {
+        EXECUTOR = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), THREAD_FACTORY);
+        EXECUTOR.allowCoreThreadTimeOut(true);
+        ScheduledThreadPoolExecutor timeoutChecker = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("connectionTesterTimeout"));
+        timeoutChecker.setRemoveOnCancelPolicy(true);
+        TIMEOUT_CHECKER = timeoutChecker;
+    }
+
+    private ConnectionTester() {
+    }
+
+    /**
+     * 批量测试连通性，每个数据源使用默认超时时间
+     *
+     * @param sources 数据源集合
+     * @return 测试结果，顺序和入参一致
+     */
+    public static List<ConnectionTestResultDTO> testConnections(List<ISourceDTO> sources) {
+        return testConnections(sources, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * 批量测试连通性，所有数据源使用相同的超时时间
+     *
+     * @param sources 数据源集合
+     * @param timeout 超时时间，单位：毫秒
+     * @return 测试结果，顺序和入参一致
+     */
+    public static List<ConnectionTestResultDTO> testConnections(List<ISourceDTO> sources, long timeout) {
+        return testConnections(sources, source -> timeout);
+    }
+
+    /**
+     * 批量测试连通性，每个数据源单独指定超时时间
+     *
+     * @param sources         数据源集合
+     * @param timeoutFunction 获取数据源的超时时间，单位：毫秒，返回 null 或者小于等于 0 时使用默认超时时间
+     * @return 测试结果，顺序和入参一致
+     */
+    public static List<ConnectionTestResultDTO> testConnections(List<ISourceDTO> sources, Function<ISourceDTO, Long> timeoutFunction) {
+        if (CollectionUtils.isEmpty(sources)) {
+            return Collections.emptyList();
+        }
+        // 所有数据源的超时都从批量测试开始时计时，提交任务不会阻塞
+        long batchStart = System.nanoTime();
+        List<CompletableFuture<ConnectionTestResultDTO>> futures = new ArrayList<>(sources.size());
+        for (ISourceDTO source : sources) {
+            futures.add(submit(source, batchStart, getTimeout(source, timeoutFunction)));
+        }
+        List<ConnectionTestResultDTO> results = new ArrayList<>(sources.size());
+        for (CompletableFuture<ConnectionTestResultDTO> future : futures) {
+            // 超时检查线程保证每个结果都会在超时后完成
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private static long getTimeout(ISourceDTO source, Function<ISourceDTO, Long> timeoutFunction) {
+        Long timeout = timeoutFunction == null || source == null ? null : timeoutFunction.apply(source);
+        return timeout == null || timeout <= 0 ? DEFAULT_TIMEOUT : timeout;
+    }
+
+    /**
+     * 提交单个数据源的测试，提交时开始计算超时，排队等待空闲线程的时间也计入超时
+     *
+     * @param source     数据源信息
+     * @param batchStart 批量测试开始时间，System.nanoTime()
+     * @param timeout    超时时间，单位：毫秒
+     * @return 测试结果
+     */
+    private static CompletableFuture<ConnectionTestResultDTO> submit(ISourceDTO source, long batchStart, long timeout) {
+        CompletableFuture<ConnectionTestResultDTO> result = new CompletableFuture<>();
+        if (Objects.isNull(source)) {
+            result.complete(failed(null, false, 0L, "source is null"));
+            return result;
+        }
+        TestTask task = new TestTask(source, batchStart, result);
+        long remaining = timeout - elapsed(batchStart);
+        task.timeoutFuture = TIMEOUT_CHECKER.schedule(task::timeout, Math.max(remaining, 0L), TimeUnit.MILLISECONDS);
+        try {
+            EXECUTOR.execute(task);
+        } catch (Exception e) {
+            task.timeoutFuture.cancel(false);
+            result.complete(failed(source, false, 0L, e.getMessage()));
+        }
+        return result;
+    }
+
+    private static ConnectionTestResultDTO failed(ISourceDTO source, boolean timeout, long latency, String errorMsg) {
+        return ConnectionTestResultDTO.builder()
+                .sourceDTO(source)
+                .success(false)
+                .timeout(timeout)
+                .latency(latency)
+                .errorMsg(errorMsg)
+                .build();
+    }
+
+    private static long elapsed(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        ThreadFactory threadFactory = new DtThreadFactory(name);
+        return r -> {
+            Thread thread = threadFactory.newThread(r);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 单个数据源的测试任务
+     */
+    private static class TestTask implements Runnable {
+
+        private final ISourceDTO source;
+
+        private final long batchStart;
+
+        private final CompletableFuture<ConnectionTestResultDTO> result;
+
+        private volatile ScheduledFuture<?> timeoutFuture;
+
+        /**
+         * 执行测试的线程，排队中为 null
+         */
+        private Thread worker;
+
+        /**
+         * 测试是否已经结束，和超时中断互斥，保证不会中断线程执行的下一个任务
+         */
+        private boolean finished = false;
+
+        private TestTask(ISourceDTO source, long batchStart, CompletableFuture<ConnectionTestResultDTO> result) {
+            this.source = source;
+            this.batchStart = batchStart;
+            this.result = result;
+        }
+
+        /**
+         * 到达截止时间，返回超时结果，正在执行时中断测试线程
+         */
+        private synchronized void timeout() {
+            if (finished) {
+                return;
+            }
+            String errorMsg = worker == null ? "Test connect timeout, no idle test thread" : "Test connect timeout";
+            if (result.complete(failed(source, true, elapsed(batchStart), errorMsg)) && worker != null) {
+                worker.interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                // 排队期间已经超时，出队后直接跳过
+                if (result.isDone()) {
+                    finished = true;
+                    return;
+                }
+                worker = Thread.currentThread();
+            }
+            long start = System.nanoTime();
+            try {
+                Boolean success = ClientCache.getClient(source.getSourceType()).testCon(source);
+                result.complete(ConnectionTestResultDTO.builder()
+                        .sourceDTO(source)
+                        .success(Boolean.TRUE.equals(success))
+                        .timeout(false)
+                        .latency(elapsed(start))
+                        .build());
+            } catch (Throwable e) {
+                log.warn("test connection failed, sourceType : {}, error : {}", source.getSourceType(), e.getMessage());
+                result.complete(failed(source, false, elapsed(start), e.getMessage()));
+            } finally {
+                synchronized (this) {
+                    finished = true;
+                }
+                timeoutFuture.cancel(false);
+                // 清除超时时设置的中断标识
+                Thread.interrupted();
+            }
+        }
+    }
+}
@@ -20,7 +20,9 @@ package com.dtstack.dtcenter.loader.client;
 
 import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
+import com.dtstack.dtcenter.loader.dto.ColumnarResultDTO;
 import com.dtstack.dtcenter.loader.dto.Database;
+import com.dtstack.dtcenter.loader.dto.PoolStatusDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.Table;
 import com.dtstack.dtcenter.loader.dto.TableInfo;
@@ -76,6 +78,15 @@ public interface IClient<T> {
      */
     List<Map<String, Object>> executeQuery(ISourceDTO source, SqlQueryDTO queryDTO);
 
+    /**
+     * 执行查询，返回按列存储的结果，字段头只计算一次，数值类型字段使用基本类型数组存储
+     *
+     * @param source   数据源信息
+     * @param queryDTO 必填项 sql
+     * @return 按列存储的查询结果
+     */
+    ColumnarResultDTO executeColumnarQuery(ISourceDTO source, SqlQueryDTO queryDTO);
+
     /**
      * 执行查询，无需结果集
      *
@@ -329,4 +340,11 @@ public interface IClient<T> {
      * @return table 信息
      */
     TableInfo getTableInfo(ISourceDTO sourceDTO, String tableName);
+
+    /**
+     * 获取当前插件中所有连接池的运行状态，连接池按插件隔离，只返回该数据源类型对应插件中的连接池
+     *
+     * @return 连接池状态
+     */
+    List<PoolStatusDTO> getPoolStatus();
 }
@@ -18,6 +18,9 @@
 
 package com.dtstack.dtcenter.loader.client;
 
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.dto.HbaseBatchConfigDTO;
+import com.dtstack.dtcenter.loader.dto.HbaseCellDTO;
 import com.dtstack.dtcenter.loader.dto.HbaseQueryDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.filter.Filter;
@@ -167,4 +170,50 @@ public interface IHbase {
      * @return 查询结果
      */
     List<Map<String, Object>> executeQuery(ISourceDTO source, HbaseQueryDTO hbaseQueryDTO, TimestampFilter timestampFilter);
+
+    /**
+     * hbase 批量写入数据，使用 BufferedMutator 按缓冲区大小批量提交
+     *
+     * @param source      数据源信息
+     * @param tableName   表名
+     * @param cells       写入的单元格，rowKey、列族、列名必填
+     * @param batchConfig 批量配置，可以为 null
+     * @return 写入结果
+     */
+    Boolean batchPut(ISourceDTO source, String tableName, List<HbaseCellDTO> cells, HbaseBatchConfigDTO batchConfig);
+
+    /**
+     * hbase 批量删除数据，使用 BufferedMutator 按缓冲区大小批量提交
+     *
+     * @param source      数据源信息
+     * @param tableName   表名
+     * @param cells       删除的单元格，列族为空删除整行，列名为空删除整个列族
+     * @param batchConfig 批量配置，可以为 null
+     * @return 删除结果
+     */
+    Boolean batchDelete(ISourceDTO source, String tableName, List<HbaseCellDTO> cells, HbaseBatchConfigDTO batchConfig);
+
+    /**
+     * hbase 根据 rowKey 批量查询数据，使用 Table.get(List) 按 batchSize 分批查询
+     *
+     * @param source      数据源信息
+     * @param tableName   表名
+     * @param rowKeys     rowKey 集合
+     * @param columns     查询的列，格式为 列族:列名 或 列族，为空查询所有列
+     * @param batchConfig 批量配置，可以为 null
+     * @return 查询结果，格式同 executeQuery，不存在的 rowKey 不返回
+     */
+    List<Map<String, Object>> batchGet(ISourceDTO source, String tableName, List<String> rowKeys, List<String> columns, HbaseBatchConfigDTO batchConfig);
+
+    /**
+     * hbase 流式扫描，下载器持有 scanner，每次 readNext 读取并转化一行数据，不会将结果全部加载到内存，使用完需要调用 close
+     * <p>
+     * 使用 hbaseQueryDTO 中的 columns、filter、startRowKey、endRowKey、limit（行数）、columnTypes、caching、batch
+     *
+     * @param source          数据源信息
+     * @param hbaseQueryDTO   hbase 查询条件
+     * @param timestampFilter 时间戳过滤
+     * @return 下载器，readNext 返回 Map<String, Object>，格式同 executeQuery
+     */
+    IDownloader getScanDownloader(ISourceDTO source, HbaseQueryDTO hbaseQueryDTO, TimestampFilter timestampFilter);
 }
@@ -22,6 +22,7 @@ import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.FileStatus;
 import com.dtstack.dtcenter.loader.dto.HDFSContentSummary;
+import com.dtstack.dtcenter.loader.dto.HdfsBatchResultDTO;
 import com.dtstack.dtcenter.loader.dto.HdfsWriterDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -362,5 +363,24 @@ public interface IHdfsFile {
      */
     HDFSContentSummary getContentSummary (ISourceDTO source, String hdfsDirPath);
 
+    /**
+     * 并发批量统计文件夹内容摘要，单个路径失败时记录异常信息，不影响其他路径
+     *
+     * @param source       数据源信息
+     * @param hdfsDirPaths hdfs上文件路径集合
+     * @return 各路径的文件摘要信息及异常信息
+     */
+    HdfsBatchResultDTO<HDFSContentSummary> getContentSummaryBatch(ISourceDTO source, List<String> hdfsDirPaths);
+
+    /**
+     * 并发批量列出路径下的文件，单个路径失败时记录异常信息，不影响其他路径
+     *
+     * @param source      数据源信息
+     * @param remotePaths hdfs上文件路径集合
+     * @param isIterate   是否递归
+     * @return 各路径下的文件信息及异常信息
+     */
+    HdfsBatchResultDTO<List<FileStatus>> listFilesBatch(ISourceDTO source, List<String> remotePaths, boolean isIterate);
+
 
 }
@@ -19,6 +19,7 @@
 package com.dtstack.dtcenter.loader.client;
 
 import com.dtstack.dtcenter.loader.dto.KafkaConsumerDTO;
+import com.dtstack.dtcenter.loader.dto.KafkaLagQueryDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaOffsetDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaPartitionDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaTopicDTO;
@@ -180,4 +181,13 @@ public interface IKafka<T> {
      * @return 消费者组详细信息
      */
     List<KafkaConsumerDTO> getGroupInfoByGroupIdAndTopic(ISourceDTO source, String groupId, String topic);
+
+    /**
+     * 批量获取消费者组 lag，所有分区的最大偏移量通过一次 endOffsets 请求获取
+     *
+     * @param source      数据源信息
+     * @param lagQueryDTO 查询条件，消费者组和主题为空时查询全部
+     * @return 每个消费者组每个分区的消费详情
+     */
+    List<KafkaConsumerDTO> getConsumerLag(ISourceDTO source, KafkaLagQueryDTO lagQueryDTO);
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.client;
+
+import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
+import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
+
+import java.util.List;
+
+/**
+ * <p>提供 MaxCompute(ODPS) tunnel 相关操作方法</p>
+ *
+ * @author ：wangchuan
+ * date：Created in 下午11:20 2026/10/18
+ * company: www.dtstack.com
+ */
+public interface IOdps {
+
+    /**
+     * 通过 Table Tunnel 批量写入数据，数据按 block 拆分后并发上传，全部上传成功后统一提交
+     *
+     * @param source   数据源信息
+     * @param queryDTO 写入信息，tableName 为表名，partitionColumns 为写入的分区（不存在时创建），
+     *                 columns 为每行数据对应的字段，为空时按照表的字段顺序
+     * @param rows     写入的数据
+     * @return 写入的行数
+     */
+    Long uploadRecords(ISourceDTO source, SqlQueryDTO queryDTO, List<List<Object>> rows);
+}
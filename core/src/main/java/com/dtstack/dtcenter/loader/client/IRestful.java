@@ -23,6 +23,7 @@ import com.dtstack.dtcenter.loader.dto.source.RestfulSourceDTO;
 
 import java.io.File;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p>提供 Restful 相关操作方法</p>
@@ -89,4 +90,61 @@ public interface IRestful {
      */
     Response postMultipart(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers, Map<String, File> files);
 
+    /**
+     * 异步 get 请求，同一数据源复用缓存的 http client，不阻塞调用线程
+     * 请求失败时返回 statusCode 为 -1 的 Response，不会异常结束；后续处理在 IO 线程中执行，耗时操作需要指定线程池
+     *
+     * @param sourceDTO 数据源信息
+     * @param params    请求参数
+     * @param cookies   cookie 信息
+     * @param headers   header 信息
+     * @return 相应
+     */
+    CompletableFuture<Response> getAsync(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers);
+
+    /**
+     * 异步 post 请求
+     *
+     * @param sourceDTO 数据源信息
+     * @param bodyData  请求参数
+     * @param cookies   cookie 信息
+     * @param headers   header 信息
+     * @return 相应
+     */
+    CompletableFuture<Response> postAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers);
+
+    /**
+     * 异步 delete 请求
+     *
+     * @param sourceDTO 数据源信息
+     * @param bodyData  请求参数
+     * @param cookies   cookie 信息
+     * @param headers   header 信息
+     * @return 相应
+     */
+    CompletableFuture<Response> deleteAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers);
+
+    /**
+     * 异步 put 请求
+     *
+     * @param sourceDTO 数据源信息
+     * @param bodyData  body 信息
+     * @param cookies   cookie 信息
+     * @param headers   header 信息
+     * @return 相应
+     */
+    CompletableFuture<Response> putAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers);
+
+    /**
+     * 异步 post Multipart
+     *
+     * @param sourceDTO 数据源信息
+     * @param params    请求参数
+     * @param cookies   cookie 信息
+     * @param headers   header 信息
+     * @param files     文件信息
+     * @return 相应
+     */
+    CompletableFuture<Response> postMultipartAsync(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers, Map<String, File> files);
+
 }
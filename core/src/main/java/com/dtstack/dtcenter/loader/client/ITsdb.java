@@ -27,6 +27,7 @@ import com.dtstack.dtcenter.loader.dto.tsdb.TsdbQuery;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p>提供 OpenTSDB 相关操作方法</p>
@@ -46,6 +47,15 @@ public interface ITsdb {
      */
     Boolean putSync(ISourceDTO source, Collection<TsdbPoint> points);
 
+    /**
+     * 异步插入多个点位，点位按批次拆分后并发写入，正在写入的批次数达到上限时调用会阻塞
+     *
+     * @param source 数据源信息
+     * @param points 插入点位
+     * @return 所有批次写入成功后返回 true，任一批次失败时异常结束
+     */
+    CompletableFuture<Boolean> putAsync(ISourceDTO source, Collection<TsdbPoint> points);
+
     /**
      * 查询
      *
@@ -19,7 +19,11 @@
 package com.dtstack.dtcenter.loader.client.hbase;
 
 import com.dtstack.dtcenter.loader.ClassLoaderCallBackMethod;
+import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.client.IHbase;
+import com.dtstack.dtcenter.loader.downloader.DownloaderProxy;
+import com.dtstack.dtcenter.loader.dto.HbaseBatchConfigDTO;
+import com.dtstack.dtcenter.loader.dto.HbaseCellDTO;
 import com.dtstack.dtcenter.loader.dto.HbaseQueryDTO;
 import com.dtstack.dtcenter.loader.dto.filter.TimestampFilter;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -118,4 +122,28 @@ public class HbaseProxy implements IHbase {
         return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.executeQuery(source, hbaseQueryDTO, timestampFilter),
                 targetClient.getClass().getClassLoader());
     }
+
+    @Override
+    public Boolean batchPut(ISourceDTO source, String tableName, List<HbaseCellDTO> cells, HbaseBatchConfigDTO batchConfig) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.batchPut(source, tableName, cells, batchConfig),
+                targetClient.getClass().getClassLoader());
+    }
+
+    @Override
+    public Boolean batchDelete(ISourceDTO source, String tableName, List<HbaseCellDTO> cells, HbaseBatchConfigDTO batchConfig) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.batchDelete(source, tableName, cells, batchConfig),
+                targetClient.getClass().getClassLoader());
+    }
+
+    @Override
+    public List<Map<String, Object>> batchGet(ISourceDTO source, String tableName, List<String> rowKeys, List<String> columns, HbaseBatchConfigDTO batchConfig) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.batchGet(source, tableName, rowKeys, columns, batchConfig),
+                targetClient.getClass().getClassLoader());
+    }
+
+    @Override
+    public IDownloader getScanDownloader(ISourceDTO source, HbaseQueryDTO hbaseQueryDTO, TimestampFilter timestampFilter) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> new DownloaderProxy(targetClient.getScanDownloader(source, hbaseQueryDTO, timestampFilter)),
+                targetClient.getClass().getClassLoader());
+    }
 }
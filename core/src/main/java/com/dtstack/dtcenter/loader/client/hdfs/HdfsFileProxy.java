@@ -25,6 +25,7 @@ import com.dtstack.dtcenter.loader.downloader.DownloaderProxy;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.FileStatus;
 import com.dtstack.dtcenter.loader.dto.HDFSContentSummary;
+import com.dtstack.dtcenter.loader.dto.HdfsBatchResultDTO;
 import com.dtstack.dtcenter.loader.dto.HdfsWriterDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -351,4 +352,24 @@ public class HdfsFileProxy implements IHdfsFile {
             throw new DtLoaderException(e.getMessage(), e);
         }
     }
+
+    @Override
+    public HdfsBatchResultDTO<HDFSContentSummary> getContentSummaryBatch(ISourceDTO source, List<String> hdfsDirPaths) {
+        try {
+            return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getContentSummaryBatch(source, hdfsDirPaths),
+                    targetClient.getClass().getClassLoader());
+        } catch (Exception e) {
+            throw new DtLoaderException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public HdfsBatchResultDTO<List<FileStatus>> listFilesBatch(ISourceDTO source, List<String> remotePaths, boolean isIterate) {
+        try {
+            return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.listFilesBatch(source, remotePaths, isIterate),
+                    targetClient.getClass().getClassLoader());
+        } catch (Exception e) {
+            throw new DtLoaderException(e.getMessage(), e);
+        }
+    }
 }
@@ -21,6 +21,7 @@ package com.dtstack.dtcenter.loader.client.mq;
 import com.dtstack.dtcenter.loader.ClassLoaderCallBackMethod;
 import com.dtstack.dtcenter.loader.client.IKafka;
 import com.dtstack.dtcenter.loader.dto.KafkaConsumerDTO;
+import com.dtstack.dtcenter.loader.dto.KafkaLagQueryDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaOffsetDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaPartitionDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaTopicDTO;
@@ -134,4 +135,10 @@ public class KafkaClientProxy<T> implements IKafka<T> {
         return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getGroupInfoByGroupIdAndTopic(source, groupId, topic),
                 targetClient.getClass().getClassLoader());
     }
+
+    @Override
+    public List<KafkaConsumerDTO> getConsumerLag(ISourceDTO source, KafkaLagQueryDTO lagQueryDTO) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getConsumerLag(source, lagQueryDTO),
+                targetClient.getClass().getClassLoader());
+    }
 }
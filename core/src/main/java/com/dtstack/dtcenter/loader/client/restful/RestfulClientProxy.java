@@ -25,6 +25,7 @@ import com.dtstack.dtcenter.loader.dto.source.RestfulSourceDTO;
 
 import java.io.File;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p> restful 代理类</p>
@@ -70,4 +71,34 @@ public class RestfulClientProxy implements IRestful {
         return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.postMultipart(sourceDTO, params, cookies, headers, files),
                 targetClient.getClass().getClassLoader());
     }
+
+    @Override
+    public CompletableFuture<Response> getAsync(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getAsync(sourceDTO, params, cookies, headers),
+                targetClient.getClass().getClassLoader());
+    }
+
+    @Override
+    public CompletableFuture<Response> postAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.postAsync(sourceDTO, bodyData, cookies, headers),
+                targetClient.getClass().getClassLoader());
+    }
+
+    @Override
+    public CompletableFuture<Response> deleteAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.deleteAsync(sourceDTO, bodyData, cookies, headers),
+                targetClient.getClass().getClassLoader());
+    }
+
+    @Override
+    public CompletableFuture<Response> putAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.putAsync(sourceDTO, bodyData, cookies, headers),
+                targetClient.getClass().getClassLoader());
+    }
+
+    @Override
+    public CompletableFuture<Response> postMultipartAsync(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers, Map<String, File> files) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.postMultipartAsync(sourceDTO, params, cookies, headers, files),
+                targetClient.getClass().getClassLoader());
+    }
 }
@@ -20,10 +20,13 @@ package com.dtstack.dtcenter.loader.client.sql;
 
 import com.dtstack.dtcenter.loader.ClassLoaderCallBackMethod;
 import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.cache.metadata.MetadataCache;
 import com.dtstack.dtcenter.loader.client.IClient;
 import com.dtstack.dtcenter.loader.downloader.DownloaderProxy;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
+import com.dtstack.dtcenter.loader.dto.ColumnarResultDTO;
 import com.dtstack.dtcenter.loader.dto.Database;
+import com.dtstack.dtcenter.loader.dto.PoolStatusDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.Table;
 import com.dtstack.dtcenter.loader.dto.TableInfo;
@@ -72,6 +75,12 @@ public class DataSourceClientProxy<T> implements IClient<T> {
                 targetClient.getClass().getClassLoader());
     }
 
+    @Override
+    public ColumnarResultDTO executeColumnarQuery(ISourceDTO source, SqlQueryDTO queryDTO) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.executeColumnarQuery(source, queryDTO),
+                targetClient.getClass().getClassLoader());
+    }
+
     @Override
     public Boolean executeSqlWithoutResultSet(ISourceDTO source, SqlQueryDTO queryDTO) {
         return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.executeSqlWithoutResultSet(source,
@@ -80,14 +89,16 @@ public class DataSourceClientProxy<T> implements IClient<T> {
 
     @Override
     public List<String> getTableList(ISourceDTO source, SqlQueryDTO queryDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTableList(source, queryDTO),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "getTableList", null, queryDTO,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTableList(source, queryDTO),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
     public List<String> getTableListBySchema(ISourceDTO source, SqlQueryDTO queryDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTableListBySchema(source, queryDTO),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "getTableListBySchema", null, queryDTO,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTableListBySchema(source, queryDTO),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
@@ -98,8 +109,9 @@ public class DataSourceClientProxy<T> implements IClient<T> {
 
     @Override
     public List<ColumnMetaDTO> getColumnMetaData(ISourceDTO source, SqlQueryDTO queryDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getColumnMetaData(source, queryDTO),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "getColumnMetaData", queryDTO == null ? null : queryDTO.getTableName(), queryDTO,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getColumnMetaData(source, queryDTO),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
@@ -116,8 +128,9 @@ public class DataSourceClientProxy<T> implements IClient<T> {
 
     @Override
     public String getTableMetaComment(ISourceDTO source, SqlQueryDTO queryDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTableMetaComment(source, queryDTO),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "getTableMetaComment", queryDTO == null ? null : queryDTO.getTableName(), queryDTO,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTableMetaComment(source, queryDTO),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
@@ -140,8 +153,9 @@ public class DataSourceClientProxy<T> implements IClient<T> {
 
     @Override
     public List<String> getAllDatabases(ISourceDTO source, SqlQueryDTO queryDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getAllDatabases(source, queryDTO),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "getAllDatabases", null, queryDTO,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getAllDatabases(source, queryDTO),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
@@ -158,14 +172,16 @@ public class DataSourceClientProxy<T> implements IClient<T> {
 
     @Override
     public List<ColumnMetaDTO> getPartitionColumn(ISourceDTO source, SqlQueryDTO queryDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getPartitionColumn(source, queryDTO),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "getPartitionColumn", queryDTO == null ? null : queryDTO.getTableName(), queryDTO,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getPartitionColumn(source, queryDTO),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
     public Table getTable(ISourceDTO source, SqlQueryDTO queryDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTable(source, queryDTO),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "getTable", queryDTO == null ? null : queryDTO.getTableName(), queryDTO,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTable(source, queryDTO),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
@@ -176,8 +192,10 @@ public class DataSourceClientProxy<T> implements IClient<T> {
 
     @Override
     public Boolean createDatabase(ISourceDTO source, String dbName, String comment) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.createDatabase(source, dbName, comment),
+        Boolean result = ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.createDatabase(source, dbName, comment),
                 targetClient.getClass().getClassLoader());
+        MetadataCache.invalidate(source);
+        return result;
     }
 
     @Override
@@ -221,4 +239,10 @@ public class DataSourceClientProxy<T> implements IClient<T> {
         return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getTableInfo(sourceDTO, tableName),
                 targetClient.getClass().getClassLoader());
     }
+
+    @Override
+    public List<PoolStatusDTO> getPoolStatus() {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.getPoolStatus(),
+                targetClient.getClass().getClassLoader());
+    }
 }
@@ -19,6 +19,7 @@
 package com.dtstack.dtcenter.loader.client.table;
 
 import com.dtstack.dtcenter.loader.ClassLoaderCallBackMethod;
+import com.dtstack.dtcenter.loader.cache.metadata.MetadataCache;
 import com.dtstack.dtcenter.loader.client.ITable;
 import com.dtstack.dtcenter.loader.dto.UpsertColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -62,26 +63,37 @@ public class TableClientProxy implements ITable {
 
     @Override
     public List<String> showPartitions(ISourceDTO source, String tableName) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.showPartitions(source, tableName),
-                targetClient.getClass().getClassLoader());
+        return MetadataCache.get(source, "showPartitions", tableName, null,
+                () -> ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.showPartitions(source, tableName),
+                        targetClient.getClass().getClassLoader()));
     }
 
     @Override
     public Boolean dropTable(ISourceDTO source, String tableName) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.dropTable(source, tableName),
+        Boolean result = ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.dropTable(source, tableName),
                 targetClient.getClass().getClassLoader());
+        // 表结构变更后失效元数据缓存
+        MetadataCache.invalidate(source, tableName);
+        return result;
     }
 
     @Override
     public Boolean renameTable(ISourceDTO source, String oldTableName, String newTableName) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.renameTable(source, oldTableName, newTableName),
+        Boolean result = ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.renameTable(source, oldTableName, newTableName),
                 targetClient.getClass().getClassLoader());
+        // 表结构变更后失效元数据缓存
+        MetadataCache.invalidate(source, oldTableName);
+        MetadataCache.invalidate(source, newTableName);
+        return result;
     }
 
     @Override
     public Boolean alterTableParams(ISourceDTO source, String tableName, Map<String, String> params) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.alterTableParams(source, tableName, params),
+        Boolean result = ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.alterTableParams(source, tableName, params),
                 targetClient.getClass().getClassLoader());
+        // 表结构变更后失效元数据缓存
+        MetadataCache.invalidate(source, tableName);
+        return result;
     }
 
     @Override
@@ -98,7 +110,10 @@ public class TableClientProxy implements ITable {
 
     @Override
     public Boolean upsertTableColumn(ISourceDTO source, UpsertColumnMetaDTO columnMetaDTO) {
-        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.upsertTableColumn(source, columnMetaDTO),
+        Boolean result = ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.upsertTableColumn(source, columnMetaDTO),
                 targetClient.getClass().getClassLoader());
+        // 表结构变更后失效元数据缓存
+        MetadataCache.invalidate(source, columnMetaDTO == null ? null : columnMetaDTO.getTableName());
+        return result;
     }
 }
@@ -29,6 +29,7 @@ import com.dtstack.dtcenter.loader.dto.tsdb.TsdbQuery;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p> OpenTSDB 代理类</p>
@@ -51,6 +52,12 @@ public class TsdbClientProxy implements ITsdb {
                 targetClient.getClass().getClassLoader());
     }
 
+    @Override
+    public CompletableFuture<Boolean> putAsync(ISourceDTO source, Collection<TsdbPoint> points) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.putAsync(source, points),
+                targetClient.getClass().getClassLoader());
+    }
+
     @Override
     public List<QueryResult> query(ISourceDTO source, TsdbQuery query) {
         return ClassLoaderCallBackMethod.callbackAndReset(() -> targetClient.query(source, query),
@@ -64,6 +64,12 @@ public class DownloaderProxy implements IDownloader {
                 targetDownloader.getClass().getClassLoader());
     }
 
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        return ClassLoaderCallBackMethod.callbackAndReset(() -> targetDownloader.readNextBatch(batchSize),
+                targetDownloader.getClass().getClassLoader());
+    }
+
     @Override
     public boolean close() throws Exception {
         return ClassLoaderCallBackMethod.callbackAndReset(() -> targetDownloader.close(),
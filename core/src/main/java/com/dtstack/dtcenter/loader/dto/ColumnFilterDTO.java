@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 字段过滤条件，用于 hive ORC/Parquet 表、kudu 表下载时的谓词下推
+ *
+ * @author ：wangchuan
+ * date：Created in 下午7:10 2026/10/18
+ * company: www.dtstack.com
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnFilterDTO implements Serializable {
+
+    /**
+     * 字段名称，支持分区字段
+     */
+    private String column;
+
+    /**
+     * 比较类型
+     */
+    private Operator operator;
+
+    /**
+     * 比较的值，使用字符串表示，按照字段类型进行转换
+     */
+    private String value;
+
+    /**
+     * IN 比较的值集合
+     */
+    private List<String> values;
+
+    public enum Operator {
+        /**
+         * 等于
+         */
+        EQ,
+
+        /**
+         * 不等于
+         */
+        NOT_EQ,
+
+        /**
+         * 小于
+         */
+        LT,
+
+        /**
+         * 小于等于
+         */
+        LE,
+
+        /**
+         * 大于
+         */
+        GT,
+
+        /**
+         * 大于等于
+         */
+        GE,
+
+        /**
+         * 在集合中
+         */
+        IN,
+
+        /**
+         * 为空
+         */
+        IS_NULL,
+
+        /**
+         * 不为空
+         */
+        IS_NOT_NULL
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.dto;
+
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 按列存储的查询结果，字段头只保存一份，整型和浮点型字段使用基本类型数组存储，
+ * 其余字段使用 Object 数组存储，空值使用 BitSet 标记
+ *
+ * @author ：wangchuan
+ * date：Created in 上午10:05 2026/10/18
+ * company: www.dtstack.com
+ */
+public class ColumnarResultDTO implements Serializable {
+
+    /**
+     * 默认初始行容量
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * 列存储类型
+     */
+    public enum ColumnKind {
+        /**
+         * 使用 long[] 存储
+         */
+        LONG,
+
+        /**
+         * 使用 double[] 存储
+         */
+        DOUBLE,
+
+        /**
+         * 使用 Object[] 存储
+         */
+        OBJECT
+    }
+
+    /**
+     * 字段名称，重复字段已经处理为 name(1)、name(2)...
+     */
+    private final List<String> columnNames;
+
+    /**
+     * 字段 jdbc 类型 {@link java.sql.Types}
+     */
+    private final int[] columnTypes;
+
+    /**
+     * 字段存储类型
+     */
+    private final ColumnKind[] columnKinds;
+
+    private final long[][] longValues;
+
+    private final double[][] doubleValues;
+
+    private final Object[][] objectValues;
+
+    /**
+     * 每列的空值标记
+     */
+    private final BitSet[] nullMarks;
+
+    private int rowCount;
+
+    private int capacity;
+
+    public ColumnarResultDTO(List<String> columnNames, int[] columnTypes, ColumnKind[] columnKinds) {
+        this(columnNames, columnTypes, columnKinds, DEFAULT_CAPACITY);
+    }
+
+    public ColumnarResultDTO(List<String> columnNames, int[] columnTypes, ColumnKind[] columnKinds, int initialCapacity) {
+        if (columnNames.size() != columnTypes.length || columnNames.size() != columnKinds.length) {
+            throw new DtLoaderException("column names, types and kinds must have the same size");
+        }
+        int columnCount = columnNames.size();
+        this.columnNames = Collections.unmodifiableList(columnNames);
+        this.columnTypes = columnTypes;
+        this.columnKinds = columnKinds;
+        this.capacity = Math.max(initialCapacity, 1);
+        this.longValues = new long[columnCount][];
+        this.doubleValues = new double[columnCount][];
+        this.objectValues = new Object[columnCount][];
+        this.nullMarks = new BitSet[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            switch (columnKinds[i]) {
+                case LONG:
+                    longValues[i] = new long[capacity];
+                    break;
+                case DOUBLE:
+                    doubleValues[i] = new double[capacity];
+                    break;
+                default:
+                    objectValues[i] = new Object[capacity];
+            }
+            nullMarks[i] = new BitSet();
+        }
+    }
+
+    /**
+     * 新增一行，返回新增行的下标
+     *
+     * @return 行下标
+     */
+    public int addRow() {
+        if (rowCount == capacity) {
+            grow();
+        }
+        return rowCount++;
+    }
+
+    public void setLong(int row, int column, long value) {
+        longValues[column][row] = value;
+    }
+
+    public void setDouble(int row, int column, double value) {
+        doubleValues[column][row] = value;
+    }
+
+    public void setObject(int row, int column, Object value) {
+        if (value == null) {
+            setNull(row, column);
+            return;
+        }
+        objectValues[column][row] = value;
+    }
+
+    public void setNull(int row, int column) {
+        nullMarks[column].set(row);
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnType(int column) {
+        return columnTypes[column];
+    }
+
+    public ColumnKind getColumnKind(int column) {
+        return columnKinds[column];
+    }
+
+    public boolean isNull(int row, int column) {
+        checkRow(row);
+        return nullMarks[column].get(row);
+    }
+
+    /**
+     * 获取 long 值，只支持 {@link ColumnKind#LONG} 类型的列，空值返回 0
+     */
+    public long getLong(int row, int column) {
+        checkRow(row);
+        checkKind(column, ColumnKind.LONG);
+        return longValues[column][row];
+    }
+
+    /**
+     * 获取 double 值，只支持 {@link ColumnKind#DOUBLE} 类型的列，空值返回 0
+     */
+    public double getDouble(int row, int column) {
+        checkRow(row);
+        checkKind(column, ColumnKind.DOUBLE);
+        return doubleValues[column][row];
+    }
+
+    /**
+     * 获取对象值，基本类型的列会进行装箱
+     */
+    public Object getObject(int row, int column) {
+        if (isNull(row, column)) {
+            return null;
+        }
+        switch (columnKinds[column]) {
+            case LONG:
+                return longValues[column][row];
+            case DOUBLE:
+                return doubleValues[column][row];
+            default:
+                return objectValues[column][row];
+        }
+    }
+
+    /**
+     * 获取整列 long 数组，数组长度可能大于行数，只有 [0, rowCount) 有效
+     */
+    public long[] getLongColumn(int column) {
+        checkKind(column, ColumnKind.LONG);
+        return longValues[column];
+    }
+
+    /**
+     * 获取整列 double 数组，数组长度可能大于行数，只有 [0, rowCount) 有效
+     */
+    public double[] getDoubleColumn(int column) {
+        checkKind(column, ColumnKind.DOUBLE);
+        return doubleValues[column];
+    }
+
+    /**
+     * 获取整列 Object 数组，数组长度可能大于行数，只有 [0, rowCount) 有效
+     */
+    public Object[] getObjectColumn(int column) {
+        checkKind(column, ColumnKind.OBJECT);
+        return objectValues[column];
+    }
+
+    /**
+     * 获取整列空值标记
+     */
+    public BitSet getNullMarks(int column) {
+        return nullMarks[column];
+    }
+
+    private void grow() {
+        capacity = capacity + (capacity >> 1) + 1;
+        for (int i = 0; i < columnKinds.length; i++) {
+            switch (columnKinds[i]) {
+                case LONG:
+                    longValues[i] = Arrays.copyOf(longValues[i], capacity);
+                    break;
+                case DOUBLE:
+                    doubleValues[i] = Arrays.copyOf(doubleValues[i], capacity);
+                    break;
+                default:
+                    objectValues[i] = Arrays.copyOf(objectValues[i], capacity);
+            }
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new DtLoaderException(String.format("row index [%s] out of range, row count is %s", row, rowCount));
+        }
+    }
+
+    private void checkKind(int column, ColumnKind kind) {
+        if (columnKinds[column] != kind) {
+            throw new DtLoaderException(String.format("column [%s] is %s, not %s", columnNames.get(column), columnKinds[column], kind));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.dto;
+
+import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 批量测试连通性时单个数据源的测试结果
+ *
+ * @author ：wangchuan
+ * date：Created in 上午1:30 2026/10/19
+ * company: www.dtstack.com
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionTestResultDTO implements Serializable {
+
+    /**
+     * 测试的数据源
+     */
+    private ISourceDTO sourceDTO;
+
+    /**
+     * 是否连通
+     */
+    private Boolean success;
+
+    /**
+     * 是否因为超时失败
+     */
+    private Boolean timeout;
+
+    /**
+     * 测试耗时，超时时为超时时间。单位：毫秒
+     */
+    private Long latency;
+
+    /**
+     * 失败原因
+     */
+    private String errorMsg;
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.loader.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Elasticsearch 流式下载配置，配合 {@link SqlQueryDTO#getSql()} 中的 DSL 及 {@link SqlQueryDTO#getLimit()} 使用
+ *
+ * @author ：wangchuan
+ * date：Created in 下午10:20 2026/10/18
+ * company: www.dtstack.com
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EsQueryDTO {
+
+    /**
+     * 每批读取的文档数，默认 1000
+     */
+    private Integer batchSize;
+
+    /**
+     * slice 并行度，大于 1 时按 slice 拆分后并行读取，默认 1
+     */
+    private Integer sliceNum;
+
+    /**
+     * _source 需要返回的字段，为空时返回全部字段
+     */
+    private List<String> sourceIncludes;
+
+    /**
+     * _source 需要排除的字段
+     */
+    private List<String> sourceExcludes;
+
+    /**
+     * scroll 或 point in time 的保持时间，默认 1m
+     */
+    private String keepAlive;
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * hbase 批量写入、删除、查询配置，不传使用默认值
+ *
+ * @author ：wangchuan
+ * date：Created in 下午5:26 2026/10/18
+ * company: www.dtstack.com
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HbaseBatchConfigDTO {
+
+    /**
+     * BufferedMutator 写缓冲区大小，单位：字节，缓冲区满后自动提交，默认使用 hbase.client.write.buffer 配置
+     */
+    private Long writeBufferSize;
+
+    /**
+     * 每写入多少条数据主动 flush 一次，为空则只在缓冲区满及结束时提交
+     */
+    private Integer flushSize;
+
+    /**
+     * 批量查询时每次 Table.get(List) 请求的 rowKey 个数，默认 1000
+     */
+    private Integer batchSize;
+
+    /**
+     * 并行请求的线程数，同一批次按 region server 拆分后并行发送，默认使用 hbase 客户端的线程池
+     */
+    private Integer parallelism;
+}
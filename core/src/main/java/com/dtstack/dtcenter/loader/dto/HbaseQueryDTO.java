@@ -54,6 +54,16 @@ public class HbaseQueryDTO {
 
     private Map<String, ColumnType> columnTypes;
 
+    /**
+     * 流式扫描时每次 RPC 拉取的行数 {@code Scan#setCaching}，为空时取 limit 和默认值中较小的值
+     */
+    private Integer caching;
+
+    /**
+     * 流式扫描时每个 Result 最多包含的 cell 个数 {@code Scan#setBatch}，用于宽行，设置后一行可能被拆成多条返回
+     */
+    private Integer batch;
+
     public enum ColumnType {
         INT(),
 
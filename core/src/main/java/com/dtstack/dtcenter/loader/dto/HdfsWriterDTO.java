@@ -58,4 +58,14 @@ public class HdfsWriterDTO {
      */
     private Boolean setDefault;
 
+    /**
+     * 并行转换、写入的线程数，为空时根据 cpu 核数确定
+     */
+    private Integer writeParallelism;
+
+    /**
+     * 单个写入文件的最大字节数，超过后滚动生成新文件，为空时默认 256M
+     */
+    private Long maxFileSize;
+
 }
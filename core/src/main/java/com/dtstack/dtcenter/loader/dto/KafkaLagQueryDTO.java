@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * kafka 消费者组 lag 批量查询条件
+ *
+ * @author ：wangchuan
+ * date：Created in 下午7:20 2026/10/18
+ * company: www.dtstack.com
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KafkaLagQueryDTO {
+
+    // 消费者组，为空时查询所有消费者组
+    private List<String> groupIds;
+
+    // 主题，为空时返回消费者组消费的所有主题
+    private List<String> topics;
+
+    // 结果缓存时间，单位毫秒，为空或者小于等于 0 时不缓存
+    private Long cacheTime;
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.loader.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * @company: www.dtstack.com
+ * @Author ：wangchuan
+ * @Date ：Created in 下午3:40 2026/10/18
+ * @Description：连接池运行状态，不包含密码等敏感信息
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoolStatusDTO implements Serializable {
+
+    /**
+     * 连接池名称
+     */
+    private String poolName;
+
+    /**
+     * jdbc url
+     */
+    private String jdbcUrl;
+
+    /**
+     * 用户名
+     */
+    private String username;
+
+    /**
+     * 正在使用的连接数
+     */
+    private Integer activeConnections;
+
+    /**
+     * 空闲连接数
+     */
+    private Integer idleConnections;
+
+    /**
+     * 等待获取连接的线程数
+     */
+    private Integer threadsAwaitingConnection;
+
+    /**
+     * 连接总数
+     */
+    private Integer totalConnections;
+
+    /**
+     * 连接池允许的最大连接数，可能因总连接数上限被调小
+     */
+    private Integer maximumPoolSize;
+
+    /**
+     * 最近一次获取连接的时间戳
+     */
+    private Long lastAccessTime;
+}
@@ -55,4 +55,14 @@ public class RedisQueryDTO {
      */
     private String keyPattern;
 
+    /**
+     * 模糊查询时每次 SCAN 的 COUNT 参数，为空时使用 redis 默认值 10
+     */
+    private Integer scanCount;
+
+    /**
+     * 模糊查询返回 key 的总数上限，多个匹配规则时合计，为空时只按 keyLimit 限制单个匹配规则
+     */
+    private Integer totalKeyLimit;
+
 }
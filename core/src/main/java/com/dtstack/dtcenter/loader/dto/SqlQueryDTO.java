@@ -132,12 +132,28 @@ public class SqlQueryDTO {
      */
     private Integer fetchSize;
 
+    /**
+     * rdbms getDownloader 是否使用游标流式下载，默认 false 使用分页下载
+     * 开启后只执行一次查询 sql，不再执行 count 及分页 sql，游标每次读取条数使用 fetchSize
+     */
+    private Boolean streamDownload;
 
     /**
      * solr 自定义查询
      */
     private SolrQueryDTO solrQueryDTO;
 
+    /**
+     * Elasticsearch 流式下载配置，getDownloader 时使用
+     */
+    private EsQueryDTO esQueryDTO;
+
+    /**
+     * hive ORC/Parquet 表下载的过滤条件，多个条件之间为 AND 关系，
+     * 条件会下推到文件读取器跳过不满足条件的 stripe/row group，分区字段的条件用于跳过整个分区
+     */
+    private List<ColumnFilterDTO> columnFilters;
+
     /**
      * Elasticsearch 命令, 定义es操作类型
      * <b><b/>
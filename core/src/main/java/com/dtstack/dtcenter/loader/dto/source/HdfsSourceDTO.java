@@ -53,6 +53,17 @@ public class HdfsSourceDTO extends RdbmsSourceDTO {
      */
     private String config;
 
+    /**
+     * hive 表下载时并发读取的文件数，为空或小于等于 1 时顺序读取
+     */
+    private Integer downloadParallelism;
+
+    /**
+     * 并发读取时是否保持文件顺序，不需要保持顺序时大文件不会阻塞其他文件的读取
+     */
+    @Builder.Default
+    private Boolean downloadKeepOrder = true;
+
     /************************************临时处理 yarn 日志下载*********************************************/
     /**
      * appid 字符串
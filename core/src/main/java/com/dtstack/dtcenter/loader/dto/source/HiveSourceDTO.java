@@ -54,6 +54,17 @@ public class HiveSourceDTO extends RdbmsSourceDTO {
      */
     private HiveSslConfig hiveSslConfig;
 
+    /**
+     * hive 表下载时并发读取的文件数，为空或小于等于 1 时顺序读取
+     */
+    private Integer downloadParallelism;
+
+    /**
+     * 并发读取时是否保持文件顺序，不需要保持顺序时大文件不会阻塞其他文件的读取
+     */
+    @Builder.Default
+    private Boolean downloadKeepOrder = true;
+
     @Override
     public Integer getSourceType() {
         return DataSourceType.HIVE.getVal();
@@ -34,6 +34,11 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class KuduSourceDTO extends RdbmsSourceDTO {
 
+    /**
+     * kudu 表下载时并发扫描的 scan token 数，为空或小于等于 0 时使用默认并发数
+     */
+    private Integer downloadParallelism;
+
     @Override
     public Integer getSourceType() {
         return DataSourceType.Kudu.getVal();
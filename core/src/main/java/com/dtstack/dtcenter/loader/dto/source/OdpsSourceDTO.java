@@ -43,6 +43,10 @@ public class OdpsSourceDTO extends RdbmsSourceDTO{
      */
     private String config;
 
+    /**
+     * tunnel 下载、上传时并发读写的数量，为空或小于等于 0 时使用默认并发数
+     */
+    private Integer tunnelParallelism;
 
     @Override
     public Integer getSourceType() {
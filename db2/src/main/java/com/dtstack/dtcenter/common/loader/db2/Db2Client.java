@@ -115,6 +115,9 @@ public class Db2Client extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         Db2SourceDTO db2SourceDTO = (Db2SourceDTO) source;
         Connection connection = getCon(source);
         String sql = queryDTO.getSql();
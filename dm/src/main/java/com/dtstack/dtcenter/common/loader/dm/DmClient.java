@@ -92,6 +92,9 @@ public class DmClient extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         DmSourceDTO dmSourceDTO = (DmSourceDTO) source;
         DmDownloader dmDownloader = new DmDownloader(getCon(dmSourceDTO), queryDTO.getSql(), dmSourceDTO.getSchema());
         dmDownloader.configure();
@@ -7,8 +7,10 @@ import com.dtstack.dtcenter.common.loader.common.nosql.AbsNoSqlClient;
 import com.dtstack.dtcenter.common.loader.common.utils.SearchUtil;
 import com.dtstack.dtcenter.common.loader.es5.consistent.ESEndPoint;
 import com.dtstack.dtcenter.common.loader.es5.consistent.RequestType;
+import com.dtstack.dtcenter.common.loader.es5.downloader.EsStreamDownloader;
 import com.dtstack.dtcenter.common.loader.es5.pool.ElasticSearchManager;
 import com.dtstack.dtcenter.common.loader.es5.pool.ElasticSearchPool;
+import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ESSourceDTO;
@@ -308,6 +310,53 @@ public class EsClient<T> extends AbsNoSqlClient<T> {
         return list;
     }
 
+    /**
+     * 流式下载索引数据，使用 scroll 分批读取
+     *
+     * @param iSource  数据源信息
+     * @param queryDTO 查询条件，sql 为查询 DSL，limit 为最多下载的文档数，esQueryDTO 为批次大小、slice 并行度等配置
+     * @return 下载器
+     */
+    @Override
+    public IDownloader getDownloader(ISourceDTO iSource, SqlQueryDTO queryDTO) {
+        ESSourceDTO esSourceDTO = (ESSourceDTO) iSource;
+        String index = StringUtils.isNotBlank(queryDTO.getSchema()) ? queryDTO.getSchema() : queryDTO.getTableName();
+        if (StringUtils.isBlank(index)) {
+            throw new DtLoaderException("The index of es is not specified, please specify tableName as the index in sqlQueryDTO");
+        }
+        RestClient client = getClient(esSourceDTO);
+        // 下载器跨调用使用客户端，关闭下载器时再释放
+        boolean openPool = BooleanUtils.isTrue(IS_OPEN_POOL.get());
+        IS_OPEN_POOL.remove();
+        EsStreamDownloader downloader = new EsStreamDownloader(client, c -> releaseClient(c, esSourceDTO, openPool), index, queryDTO);
+        try {
+            downloader.configure();
+        } catch (Exception e) {
+            try {
+                downloader.close();
+            } catch (Exception closeException) {
+                log.error(closeException.getMessage(), closeException);
+            }
+            throw new DtLoaderException(String.format("es downloader configure failed: %s", e.getMessage()), e);
+        }
+        return downloader;
+    }
+
+    private static void releaseClient(RestClient client, ESSourceDTO esSourceDTO, boolean openPool) {
+        try {
+            if (openPool) {
+                ElasticSearchPool elasticSearchPool = ELASTIC_SEARCH_MANAGER.getConnection(esSourceDTO);
+                if (Objects.nonNull(elasticSearchPool)) {
+                    elasticSearchPool.returnResource(client);
+                    return;
+                }
+            }
+            client.close();
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
     private static RestClient getClient(ESSourceDTO esSourceDTO) {
         boolean check = esSourceDTO.getPoolConfig() != null;
         IS_OPEN_POOL.set(check);
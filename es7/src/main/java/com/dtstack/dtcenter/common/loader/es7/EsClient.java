@@ -26,8 +26,10 @@ import com.dtstack.dtcenter.common.loader.common.nosql.AbsNoSqlClient;
 import com.dtstack.dtcenter.common.loader.common.service.ErrorAdapterImpl;
 import com.dtstack.dtcenter.common.loader.common.service.IErrorAdapter;
 import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
+import com.dtstack.dtcenter.common.loader.es7.downloader.EsStreamDownloader;
 import com.dtstack.dtcenter.common.loader.es7.pool.ElasticSearchManager;
 import com.dtstack.dtcenter.common.loader.es7.pool.ElasticSearchPool;
+import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ESSourceDTO;
@@ -345,6 +347,53 @@ public class EsClient<T> extends AbsNoSqlClient<T> {
         return list;
     }
 
+    /**
+     * 流式下载索引数据，服务端支持时使用 point in time + search_after，否则使用 scroll
+     *
+     * @param iSource  数据源信息
+     * @param queryDTO 查询条件，sql 为查询 DSL，limit 为最多下载的文档数，esQueryDTO 为批次大小、slice 并行度等配置
+     * @return 下载器
+     */
+    @Override
+    public IDownloader getDownloader(ISourceDTO iSource, SqlQueryDTO queryDTO) {
+        ESSourceDTO esSourceDTO = (ESSourceDTO) iSource;
+        String index = StringUtils.isNotBlank(queryDTO.getSchema()) ? queryDTO.getSchema() : queryDTO.getTableName();
+        if (StringUtils.isBlank(index)) {
+            throw new DtLoaderException("The index of es is not specified, please specify tableName as the index in sqlQueryDTO");
+        }
+        RestHighLevelClient client = getClient(esSourceDTO);
+        // 下载器跨调用使用客户端，关闭下载器时再释放
+        boolean openPool = BooleanUtils.isTrue(IS_OPEN_POOL.get());
+        IS_OPEN_POOL.remove();
+        EsStreamDownloader downloader = new EsStreamDownloader(client, c -> releaseClient(c, esSourceDTO, openPool), index, queryDTO);
+        try {
+            downloader.configure();
+        } catch (Exception e) {
+            try {
+                downloader.close();
+            } catch (Exception closeException) {
+                log.error(closeException.getMessage(), closeException);
+            }
+            throw new DtLoaderException(String.format("es downloader configure failed: %s", e.getMessage()), e);
+        }
+        return downloader;
+    }
+
+    private static void releaseClient(RestHighLevelClient client, ESSourceDTO esSourceDTO, boolean openPool) {
+        try {
+            if (openPool) {
+                ElasticSearchPool elasticSearchPool = elasticSearchManager.getConnection(esSourceDTO);
+                if (Objects.nonNull(elasticSearchPool)) {
+                    elasticSearchPool.returnResource(client);
+                    return;
+                }
+            }
+            client.close();
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
     private static RestHighLevelClient getClient(ESSourceDTO esSourceDTO) {
         String keyPath = ReflectUtil.fieldExists(ESSourceDTO.class, "keyPath") ? esSourceDTO.getKeyPath() : null;
         //开启 ssl 不开连接池
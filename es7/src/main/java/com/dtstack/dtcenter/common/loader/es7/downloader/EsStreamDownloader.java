@@ -0,0 +1,650 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.common.loader.es7.downloader;
+
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.parser.Feature;
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.dto.EsQueryDTO;
+import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.math3.util.Pair;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestHighLevelClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ES 流式下载器
+ *
+ * <ul>
+ *     <li>服务端 7.12 及以上版本使用 point in time + search_after 分批读取，低版本使用 scroll</li>
+ *     <li>slice 并行度大于 1 时每个 slice 使用单独的线程读取，读取结果放入有界队列</li>
+ *     <li>响应使用 jackson 流式解析，只保留 _source 和 sort，不构建完整的 json 对象</li>
+ * </ul>
+ * 每行数据和数据预览一致，为 _source 中字段名和字段值组成的 Pair 集合
+ *
+ * @author ：wangchuan
+ * date：Created in 下午10:30 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class EsStreamDownloader implements IDownloader {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final int MAX_SLICE_NUM = 32;
+
+    private static final String DEFAULT_KEEP_ALIVE = "1m";
+
+    /**
+     * 支持 _shard_doc 排序的最低版本，低于该版本使用 scroll
+     */
+    private static final int PIT_MIN_MAJOR_VERSION = 7;
+
+    private static final int PIT_MIN_MINOR_VERSION = 12;
+
+    /**
+     * 等待队列的超时时间，单位：毫秒，超时后检查下载器是否已经关闭
+     */
+    private static final long QUEUE_POLL_TIMEOUT = 500;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final RestHighLevelClient client;
+
+    /**
+     * 释放 es 客户端，开启连接池时归还到连接池，否则关闭
+     */
+    private final Consumer<RestHighLevelClient> clientReleaser;
+
+    private final String index;
+
+    private final String dsl;
+
+    private final int batchSize;
+
+    private final int sliceNum;
+
+    private final String keepAlive;
+
+    private final List<String> sourceIncludes;
+
+    private final List<String> sourceExcludes;
+
+    /**
+     * 最多读取的文档数，小于等于 0 表示不限制
+     */
+    private final long limit;
+
+    private final List<SliceCursor> cursors = new ArrayList<>();
+
+    private List<String> metaInfo;
+
+    private String pitId;
+
+    private ExecutorService executor;
+
+    private BlockingQueue<SliceBatch> queue;
+
+    private int runningSlices;
+
+    private Iterator<List<Pair<String, Object>>> currentBatch = Collections.emptyIterator();
+
+    private List<Pair<String, Object>> nextRow;
+
+    private long readCount = 0;
+
+    private volatile boolean closed = false;
+
+    public EsStreamDownloader(RestHighLevelClient client, Consumer<RestHighLevelClient> clientReleaser, String index, SqlQueryDTO queryDTO) {
+        this.client = client;
+        this.clientReleaser = clientReleaser;
+        this.index = index;
+        this.dsl = queryDTO.getSql();
+        this.limit = Objects.nonNull(queryDTO.getLimit()) && queryDTO.getLimit() > 0 ? queryDTO.getLimit() : 0;
+        EsQueryDTO esQueryDTO = ReflectUtil.fieldExists(SqlQueryDTO.class, "esQueryDTO") ? queryDTO.getEsQueryDTO() : null;
+        if (Objects.isNull(esQueryDTO)) {
+            esQueryDTO = new EsQueryDTO();
+        }
+        int size = Objects.nonNull(esQueryDTO.getBatchSize()) && esQueryDTO.getBatchSize() > 0 ? esQueryDTO.getBatchSize() : DEFAULT_BATCH_SIZE;
+        this.batchSize = limit > 0 ? (int) Math.min(size, limit) : size;
+        int slices = Objects.nonNull(esQueryDTO.getSliceNum()) ? esQueryDTO.getSliceNum() : 1;
+        this.sliceNum = Math.max(1, Math.min(slices, MAX_SLICE_NUM));
+        this.keepAlive = StringUtils.isNotBlank(esQueryDTO.getKeepAlive()) ? esQueryDTO.getKeepAlive() : DEFAULT_KEEP_ALIVE;
+        this.sourceIncludes = esQueryDTO.getSourceIncludes();
+        this.sourceExcludes = esQueryDTO.getSourceExcludes();
+    }
+
+    @Override
+    public boolean configure() throws Exception {
+        if (supportPointInTime()) {
+            pitId = openPointInTime();
+        }
+        for (int i = 0; i < sliceNum; i++) {
+            cursors.add(new SliceCursor(i));
+        }
+        if (sliceNum > 1) {
+            startSliceReaders();
+        }
+        fetchNextRow();
+        if (CollectionUtils.isNotEmpty(sourceIncludes)) {
+            metaInfo = new ArrayList<>(sourceIncludes);
+        } else {
+            // 未指定返回字段时使用第一条文档的字段
+            metaInfo = new ArrayList<>();
+            if (Objects.nonNull(nextRow)) {
+                nextRow.forEach(pair -> metaInfo.add(pair.getKey()));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> getMetaInfo() {
+        return metaInfo;
+    }
+
+    @Override
+    public Object readNext() {
+        if (Objects.isNull(nextRow)) {
+            throw new DtLoaderException("no more documents");
+        }
+        List<Pair<String, Object>> row = nextRow;
+        readCount++;
+        fetchNextRow();
+        return row;
+    }
+
+    @Override
+    public boolean reachedEnd() {
+        return Objects.isNull(nextRow);
+    }
+
+    @Override
+    public boolean close() throws Exception {
+        if (closed) {
+            return true;
+        }
+        closed = true;
+        try {
+            if (Objects.nonNull(executor)) {
+                executor.shutdownNow();
+                executor.awaitTermination(QUEUE_POLL_TIMEOUT * 2, TimeUnit.MILLISECONDS);
+            }
+            for (SliceCursor cursor : cursors) {
+                cursor.clear();
+            }
+            closePointInTime();
+        } finally {
+            clientReleaser.accept(client);
+        }
+        return true;
+    }
+
+    @Override
+    public String getFileName() {
+        return index;
+    }
+
+    @Override
+    public List<String> getContainers() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * 预读下一行，达到 limit 或者所有 slice 读取完后 nextRow 为 null
+     */
+    private void fetchNextRow() {
+        nextRow = null;
+        if (limit > 0 && readCount >= limit) {
+            return;
+        }
+        while (!currentBatch.hasNext()) {
+            List<List<Pair<String, Object>>> batch = sliceNum > 1 ? takeBatch() : cursors.get(0).nextBatch();
+            if (Objects.isNull(batch) || batch.isEmpty()) {
+                return;
+            }
+            currentBatch = batch.iterator();
+        }
+        nextRow = currentBatch.next();
+    }
+
+    /**
+     * 从队列中获取一批数据，所有 slice 都读取完时返回 null
+     */
+    private List<List<Pair<String, Object>>> takeBatch() {
+        while (runningSlices > 0) {
+            SliceBatch sliceBatch;
+            try {
+                sliceBatch = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DtLoaderException("read es documents interrupted", e);
+            }
+            if (Objects.nonNull(sliceBatch.getError())) {
+                throw new DtLoaderException(String.format("read es slice failed: %s", sliceBatch.getError().getMessage()), sliceBatch.getError());
+            }
+            if (Objects.isNull(sliceBatch.getRows())) {
+                runningSlices--;
+                continue;
+            }
+            return sliceBatch.getRows();
+        }
+        return null;
+    }
+
+    private void startSliceReaders() {
+        queue = new ArrayBlockingQueue<>(sliceNum * 2);
+        runningSlices = sliceNum;
+        executor = Executors.newFixedThreadPool(sliceNum, new DtClassThreadFactory("esSliceDownloader"));
+        for (SliceCursor cursor : cursors) {
+            executor.submit(() -> {
+                SliceBatch end = new SliceBatch(null, null);
+                try {
+                    List<List<Pair<String, Object>>> rows;
+                    while (!closed && !(rows = cursor.nextBatch()).isEmpty()) {
+                        if (!offer(new SliceBatch(rows, null))) {
+                            return;
+                        }
+                    }
+                } catch (Throwable e) {
+                    end = new SliceBatch(null, e);
+                }
+                offer(end);
+            });
+        }
+    }
+
+    /**
+     * 放入队列，队列满时等待，下载器关闭后返回 false
+     */
+    private boolean offer(SliceBatch batch) {
+        try {
+            while (!closed) {
+                if (queue.offer(batch, QUEUE_POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * 根据服务端版本判断是否支持 point in time 及 _shard_doc 排序
+     */
+    private boolean supportPointInTime() {
+        try {
+            String version = performRequest("GET", "/", null, null, in -> {
+                Object info = readJson(in);
+                Object versionInfo = info instanceof Map ? ((Map<?, ?>) info).get("version") : null;
+                return versionInfo instanceof Map ? String.valueOf(((Map<?, ?>) versionInfo).get("number")) : null;
+            });
+            String[] numbers = StringUtils.split(StringUtils.defaultString(version), '.');
+            if (numbers.length < 2) {
+                return false;
+            }
+            int major = Integer.parseInt(numbers[0]);
+            int minor = Integer.parseInt(numbers[1]);
+            return major > PIT_MIN_MAJOR_VERSION || (major == PIT_MIN_MAJOR_VERSION && minor >= PIT_MIN_MINOR_VERSION);
+        } catch (Exception e) {
+            log.warn("get es version failed, use scroll to download: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private String openPointInTime() {
+        Map<String, String> params = Collections.singletonMap("keep_alive", keepAlive);
+        return performRequest("POST", String.format("/%s/_pit", index), params, null, in -> {
+            Object result = readJson(in);
+            return result instanceof Map ? (String) ((Map<?, ?>) result).get("id") : null;
+        });
+    }
+
+    private void closePointInTime() {
+        if (StringUtils.isBlank(pitId)) {
+            return;
+        }
+        JSONObject body = new JSONObject();
+        body.put("id", pitId);
+        try {
+            performRequest("DELETE", "/_pit", null, body.toJSONString(), in -> null);
+        } catch (Exception e) {
+            log.warn("close es point in time failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 构建查询请求体，保留 DSL 中的 query、sort 等条件，size、from、_source 及 slice 由下载器设置
+     */
+    private JSONObject buildSearchBody(int sliceId) {
+        JSONObject body = StringUtils.isNotBlank(dsl) ? JSONObject.parseObject(dsl, Feature.OrderedField) : new JSONObject(true);
+        body.remove("from");
+        body.put("size", batchSize);
+        if (CollectionUtils.isNotEmpty(sourceIncludes) || CollectionUtils.isNotEmpty(sourceExcludes)) {
+            JSONObject source = new JSONObject(true);
+            if (CollectionUtils.isNotEmpty(sourceIncludes)) {
+                source.put("includes", sourceIncludes);
+            }
+            if (CollectionUtils.isNotEmpty(sourceExcludes)) {
+                source.put("excludes", sourceExcludes);
+            }
+            body.put("_source", source);
+        }
+        if (sliceNum > 1) {
+            JSONObject slice = new JSONObject(true);
+            slice.put("id", sliceId);
+            slice.put("max", sliceNum);
+            body.put("slice", slice);
+        }
+        JSONArray sort = body.containsKey("sort") ? toArray(body.get("sort")) : new JSONArray();
+        if (StringUtils.isNotBlank(pitId)) {
+            // point in time 需要唯一的排序字段保证 search_after 不丢数据
+            sort.add(Collections.singletonMap("_shard_doc", "asc"));
+        } else if (sort.isEmpty()) {
+            // scroll 未指定排序时按 _doc 排序效率最高
+            sort.add("_doc");
+        }
+        body.put("sort", sort);
+        return body;
+    }
+
+    private static JSONArray toArray(Object sort) {
+        if (sort instanceof JSONArray) {
+            return (JSONArray) sort;
+        }
+        JSONArray array = new JSONArray();
+        array.add(sort);
+        return array;
+    }
+
+    private <R> R performRequest(String method, String endpoint, Map<String, String> params, String body, ResponseHandler<R> handler) {
+        Request request = new Request(method, endpoint);
+        if (Objects.nonNull(params)) {
+            params.forEach(request::addParameter);
+        }
+        if (Objects.nonNull(body)) {
+            request.setEntity(new NStringEntity(body, ContentType.APPLICATION_JSON));
+        }
+        try {
+            Response response = client.getLowLevelClient().performRequest(request);
+            if (Objects.isNull(response.getEntity())) {
+                return handler.handle(null);
+            }
+            try (InputStream in = response.getEntity().getContent()) {
+                return handler.handle(in);
+            }
+        } catch (IOException e) {
+            throw new DtLoaderException(String.format("es request %s %s failed: %s", method, endpoint, e.getMessage()), e);
+        }
+    }
+
+    private static JsonParser createParser(InputStream in) throws IOException {
+        JsonParser parser = JSON_FACTORY.createParser(in);
+        parser.nextToken();
+        return parser;
+    }
+
+    private static Object readJson(InputStream in) throws IOException {
+        try (JsonParser parser = createParser(in)) {
+            return readValue(parser);
+        }
+    }
+
+    /**
+     * 流式解析查询结果，只读取 _scroll_id、pit_id 以及每个文档的 _source、sort
+     */
+    private static SearchPage parsePage(InputStream in) throws IOException {
+        SearchPage page = new SearchPage();
+        try (JsonParser parser = createParser(in)) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new DtLoaderException("es search response is not a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("_scroll_id".equals(field)) {
+                    page.scrollId = parser.getText();
+                } else if ("pit_id".equals(field)) {
+                    page.pitId = parser.getText();
+                } else if ("hits".equals(field)) {
+                    parseHits(parser, page);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return page;
+    }
+
+    private static void parseHits(JsonParser parser, SearchPage page) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (!"hits".equals(field) || parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                List<Pair<String, Object>> row = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String hitField = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("_source".equals(hitField) && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String key = parser.getCurrentName();
+                            parser.nextToken();
+                            row.add(new Pair<>(key, readValue(parser)));
+                        }
+                    } else if ("sort".equals(hitField)) {
+                        page.lastSort = readValue(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                page.rows.add(row);
+            }
+        }
+    }
+
+    /**
+     * 读取当前 token 对应的值，对象转为 LinkedHashMap，数组转为 List
+     */
+    private static Object readValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (Objects.isNull(token)) {
+            return null;
+        }
+        switch (token) {
+            case START_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    parser.nextToken();
+                    map.put(key, readValue(parser));
+                }
+                return map;
+            case START_ARRAY:
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser));
+                }
+                return list;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                return parser.getText();
+        }
+    }
+
+    /**
+     * 单个 slice 的读取游标
+     */
+    private class SliceCursor {
+
+        private final int sliceId;
+
+        private String scrollId;
+
+        /**
+         * 服务端返回的 point in time id 可能变化，每次查询使用最新的 id
+         */
+        private String slicePitId;
+
+        private Object searchAfter;
+
+        private boolean finished = false;
+
+        private SliceCursor(int sliceId) {
+            this.sliceId = sliceId;
+        }
+
+        /**
+         * 读取下一批数据，读取完时返回空集合
+         */
+        private List<List<Pair<String, Object>>> nextBatch() {
+            if (finished || closed) {
+                return Collections.emptyList();
+            }
+            SearchPage page;
+            if (StringUtils.isNotBlank(pitId)) {
+                JSONObject body = buildSearchBody(sliceId);
+                JSONObject pit = new JSONObject(true);
+                pit.put("id", StringUtils.isNotBlank(slicePitId) ? slicePitId : pitId);
+                pit.put("keep_alive", keepAlive);
+                body.put("pit", pit);
+                if (Objects.nonNull(searchAfter)) {
+                    body.put("search_after", searchAfter);
+                }
+                page = performRequest("POST", "/_search", null, body.toJSONString(), EsStreamDownloader::parsePage);
+                searchAfter = page.lastSort;
+                slicePitId = page.pitId;
+                finished = page.rows.size() < batchSize;
+            } else if (Objects.isNull(scrollId)) {
+                Map<String, String> params = Collections.singletonMap("scroll", keepAlive);
+                page = performRequest("POST", String.format("/%s/_search", index), params, buildSearchBody(sliceId).toJSONString(), EsStreamDownloader::parsePage);
+                scrollId = page.scrollId;
+                finished = page.rows.isEmpty();
+            } else {
+                JSONObject body = new JSONObject(true);
+                body.put("scroll", keepAlive);
+                body.put("scroll_id", scrollId);
+                page = performRequest("POST", "/_search/scroll", null, body.toJSONString(), EsStreamDownloader::parsePage);
+                scrollId = StringUtils.isNotBlank(page.scrollId) ? page.scrollId : scrollId;
+                finished = page.rows.isEmpty();
+            }
+            return page.rows;
+        }
+
+        /**
+         * 清除 scroll 上下文
+         */
+        private void clear() {
+            if (StringUtils.isBlank(scrollId)) {
+                return;
+            }
+            JSONObject body = new JSONObject();
+            body.put("scroll_id", Collections.singletonList(scrollId));
+            try {
+                performRequest("DELETE", "/_search/scroll", null, body.toJSONString(), in -> null);
+            } catch (Exception e) {
+                log.warn("clear es scroll failed: {}", e.getMessage());
+            }
+            scrollId = null;
+        }
+    }
+
+    /**
+     * 一次查询解析后的结果
+     */
+    private static class SearchPage {
+
+        private final List<List<Pair<String, Object>>> rows = new ArrayList<>();
+
+        private String scrollId;
+
+        private String pitId;
+
+        private Object lastSort;
+    }
+
+    /**
+     * slice 读取的一批数据，rows 和 error 都为 null 表示该 slice 读取结束
+     */
+    private static class SliceBatch {
+
+        private final List<List<Pair<String, Object>>> rows;
+
+        private final Throwable error;
+
+        private SliceBatch(List<List<Pair<String, Object>>> rows, Throwable error) {
+            this.rows = rows;
+            this.error = error;
+        }
+
+        private List<List<Pair<String, Object>>> getRows() {
+            return rows;
+        }
+
+        private Throwable getError() {
+            return error;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseHandler<R> {
+        R handle(InputStream in) throws IOException;
+    }
+}
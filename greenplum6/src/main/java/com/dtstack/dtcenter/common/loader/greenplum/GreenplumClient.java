@@ -100,6 +100,9 @@ public class GreenplumClient extends AbsRdbmsClient {
     // 获取当前版本号
     private static final String SHOW_VERSION = "select version()";
 
+    // 切换 schema 命令
+    private static final String SWITCH_SCHEMA_SQL = "set search_path to %s";
+
     // 获取指定schema下的表，不包括视图
     private static final String SHOW_TABLE_BY_SCHEMA_SQL = "SELECT table_name FROM information_schema.tables WHERE table_schema = '%s' AND table_type = 'BASE TABLE' %s";
 
@@ -183,6 +186,9 @@ public class GreenplumClient extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         Greenplum6SourceDTO greenplum6SourceDTO = (Greenplum6SourceDTO) source;
         String schema = StringUtils.isNotBlank(queryDTO.getSchema()) ? queryDTO.getSchema() : greenplum6SourceDTO.getSchema();
         GreenplumDownloader greenplumDownloader = new GreenplumDownloader(getCon(greenplum6SourceDTO),
@@ -191,6 +197,17 @@ public class GreenplumClient extends AbsRdbmsClient {
         return greenplumDownloader;
     }
 
+    @Override
+    protected String getSwitchSchemaSql(String schema) {
+        return StringUtils.isBlank(schema) ? null : String.format(SWITCH_SCHEMA_SQL, schema);
+    }
+
+    @Override
+    protected boolean isStreamAutoCommit() {
+        // 关闭自动提交后 fetchSize 才会生效，否则会一次性读取全部结果
+        return false;
+    }
+
     @Override
     public String getCreateTableSql(ISourceDTO source, SqlQueryDTO queryDTO) {
         throw new DtLoaderException("Not Support");
@@ -18,7 +18,12 @@
 
 package com.dtstack.dtcenter.common.loader.hbase;
 
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
+import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.client.IHbase;
+import com.dtstack.dtcenter.loader.dto.HbaseBatchConfigDTO;
+import com.dtstack.dtcenter.loader.dto.HbaseCellDTO;
 import com.dtstack.dtcenter.loader.dto.HbaseQueryDTO;
 import com.dtstack.dtcenter.loader.dto.filter.TimestampFilter;
 import com.dtstack.dtcenter.loader.dto.source.HbaseSourceDTO;
@@ -32,14 +37,18 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.HColumnDescriptor;
+import org.apache.hadoop.hbase.HConstants;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.NamespaceDescriptor;
 import org.apache.hadoop.hbase.NamespaceNotFoundException;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
@@ -58,9 +67,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * hbase 新客户端，提供hbase特有的一些方法
@@ -87,6 +101,12 @@ public class HbaseClientSpecial implements IHbase {
     // 列的时间戳
     private static final String TIMESTAMP = "timestamp";
 
+    // 批量查询默认每批 rowKey 个数
+    private static final int DEFAULT_BATCH_GET_SIZE = 1000;
+
+    // 扫描时每次 rpc 默认拉取的行数
+    private static final int DEFAULT_SCAN_CACHING = 1000;
+
     @Override
     public Boolean isDbExists(ISourceDTO source, String namespace) {
         HbaseSourceDTO hbaseSourceDTO = (HbaseSourceDTO) source;
@@ -227,12 +247,15 @@ public class HbaseClientSpecial implements IHbase {
             //获取hbase连接
             connection = HbaseConnFactory.getHbaseConn(hbaseSourceDTO);
             table = connection.getTable(TableName.valueOf(tbName));
+            List<Delete> deletes = new ArrayList<>(rowKeys.size());
             for (String rowKey : rowKeys) {
                 Delete delete = new Delete(Bytes.toBytes(rowKey));
                 delete.addColumn(Bytes.toBytes(family), Bytes.toBytes(qualifier));
-                table.delete(delete);
-                log.info("delete hbase rowKey success , rowKey {}", rowKey);
+                deletes.add(delete);
             }
+            // 批量删除，按 region server 分组后一次提交
+            table.delete(deletes);
+            log.info("delete hbase rowKey success , rowKeys {}", rowKeys);
             return true;
         } catch (DtLoaderException e) {
             throw e;
@@ -492,7 +515,8 @@ public class HbaseClientSpecial implements IHbase {
             }
             // 设置 pageFilter 返回结果在多 region 情况下可能也不准确，通过 limit 限制
             long limit = Objects.isNull(hbaseQueryDTO.getLimit()) ? Long.MAX_VALUE : hbaseQueryDTO.getLimit();
-            scan.setMaxResultSize(limit);
+            // setMaxResultSize 限制的是字节数而不是行数，这里通过 caching 控制每次 rpc 拉取的行数
+            fillScanCaching(scan, hbaseQueryDTO, limit);
             // 单独设置时间戳过滤
             if (Objects.nonNull(timestampFilter)) {
                 HbaseClient.fillTimestampFilter(scan, timestampFilter);
@@ -526,34 +550,340 @@ public class HbaseClientSpecial implements IHbase {
         }
         //理解为一行记录
         for (Result result : results) {
-            List<Cell> cells = result.listCells();
-            if (CollectionUtils.isEmpty(cells)) {
-                continue;
-            }
-            long timestamp = 0L;
-            HashMap<String, Object> row = Maps.newHashMap();
-            for (Cell cell : cells){
-                row.put(ROWKEY, Bytes.toString(cell.getRowArray(), cell.getRowOffset(),cell.getRowLength()));
-                String family = Bytes.toString(cell.getFamilyArray(), cell.getFamilyOffset(),cell.getFamilyLength());
-                String qualifier = Bytes.toString(cell.getQualifierArray(), cell.getQualifierOffset(),cell.getQualifierLength());
-                Object value;
-                String familyQualifier = String.format(FAMILY_QUALIFIER, family, qualifier);
-                if (MapUtils.isNotEmpty(hbaseQueryDTO.getColumnTypes()) && Objects.nonNull(hbaseQueryDTO.getColumnTypes().get(familyQualifier))) {
-                    HbaseQueryDTO.ColumnType columnType = hbaseQueryDTO.getColumnTypes().get(familyQualifier);
-                    value = convertColumnType(columnType, cell);
+            Map<String, Object> row = convertResult(result, hbaseQueryDTO.getColumnTypes());
+            if (Objects.nonNull(row)) {
+                executeResult.add(row);
+            }
+        }
+        return executeResult;
+    }
+
+    @Override
+    public IDownloader getScanDownloader(ISourceDTO source, HbaseQueryDTO hbaseQueryDTO, TimestampFilter timestampFilter) {
+        if (Objects.isNull(hbaseQueryDTO) || StringUtils.isBlank(hbaseQueryDTO.getTableName())) {
+            throw new DtLoaderException("hbase scan table name cannot be empty");
+        }
+        HbaseSourceDTO hbaseSourceDTO = (HbaseSourceDTO) source;
+        HbaseScanDownloader downloader;
+        try {
+            Scan scan = buildScan(hbaseQueryDTO, timestampFilter);
+            downloader = new HbaseScanDownloader(hbaseSourceDTO, hbaseQueryDTO.getTableName(), scan,
+                    hbaseQueryDTO.getLimit(), hbaseQueryDTO.getColumns(), result -> convertResult(result, hbaseQueryDTO.getColumnTypes()));
+            downloader.configure();
+        } catch (DtLoaderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("hbase scan downloader configure exception, %s", e.getMessage()), e);
+        }
+        return downloader;
+    }
+
+    @Override
+    public Boolean batchPut(ISourceDTO source, String tableName, List<HbaseCellDTO> cells, HbaseBatchConfigDTO batchConfig) {
+        if (CollectionUtils.isEmpty(cells)) {
+            throw new DtLoaderException("The data to be inserted cannot be empty！");
+        }
+        // 同一个 rowKey 的数据合并为一个 Put
+        Map<String, Put> putMap = new LinkedHashMap<>();
+        for (HbaseCellDTO cell : cells) {
+            if (StringUtils.isBlank(cell.getRowKey()) || StringUtils.isBlank(cell.getFamily()) || StringUtils.isBlank(cell.getQualifier())) {
+                throw new DtLoaderException(String.format("rowKey, family and qualifier cannot be empty！cell: %s", cell));
+            }
+            Put put = putMap.computeIfAbsent(cell.getRowKey(), rowKey -> new Put(Bytes.toBytes(rowKey)));
+            byte[] value = Objects.isNull(cell.getValue()) ? HConstants.EMPTY_BYTE_ARRAY : Bytes.toBytes(cell.getValue());
+            if (Objects.nonNull(cell.getTimestamp())) {
+                put.addColumn(Bytes.toBytes(cell.getFamily()), Bytes.toBytes(cell.getQualifier()), cell.getTimestamp(), value);
+            } else {
+                put.addColumn(Bytes.toBytes(cell.getFamily()), Bytes.toBytes(cell.getQualifier()), value);
+            }
+        }
+        mutate(source, tableName, new ArrayList<>(putMap.values()), batchConfig);
+        return true;
+    }
+
+    @Override
+    public Boolean batchDelete(ISourceDTO source, String tableName, List<HbaseCellDTO> cells, HbaseBatchConfigDTO batchConfig) {
+        if (CollectionUtils.isEmpty(cells)) {
+            throw new DtLoaderException("The data to be deleted cannot be empty！");
+        }
+        List<Mutation> deletes = new ArrayList<>(cells.size());
+        for (HbaseCellDTO cell : cells) {
+            if (StringUtils.isBlank(cell.getRowKey())) {
+                throw new DtLoaderException(String.format("The rowKey to be deleted cannot be empty！cell: %s", cell));
+            }
+            Long timestamp = cell.getTimestamp();
+            Delete delete = Objects.isNull(timestamp) ? new Delete(Bytes.toBytes(cell.getRowKey())) : new Delete(Bytes.toBytes(cell.getRowKey()), timestamp);
+            if (StringUtils.isNotBlank(cell.getFamily())) {
+                byte[] family = Bytes.toBytes(cell.getFamily());
+                if (StringUtils.isBlank(cell.getQualifier())) {
+                    if (Objects.isNull(timestamp)) {
+                        delete.addFamily(family);
+                    } else {
+                        delete.addFamily(family, timestamp);
+                    }
+                } else if (Objects.isNull(timestamp)) {
+                    delete.addColumns(family, Bytes.toBytes(cell.getQualifier()));
                 } else {
-                    value = Bytes.toString(cell.getValueArray(), cell.getValueOffset(),cell.getValueLength());
+                    delete.addColumn(family, Bytes.toBytes(cell.getQualifier()), timestamp);
                 }
-                row.put(familyQualifier, value);
-                //取到最新变动的时间
-                if (cell.getTimestamp() > timestamp) {
-                    timestamp = cell.getTimestamp();
+            }
+            deletes.add(delete);
+        }
+        mutate(source, tableName, deletes, batchConfig);
+        return true;
+    }
+
+    @Override
+    public List<Map<String, Object>> batchGet(ISourceDTO source, String tableName, List<String> rowKeys, List<String> columns, HbaseBatchConfigDTO batchConfig) {
+        List<Map<String, Object>> executeResult = Lists.newArrayList();
+        if (CollectionUtils.isEmpty(rowKeys)) {
+            return executeResult;
+        }
+        HbaseSourceDTO hbaseSourceDTO = (HbaseSourceDTO) source;
+        int batchSize = Objects.isNull(batchConfig) || Objects.isNull(batchConfig.getBatchSize()) || batchConfig.getBatchSize() < 1 ?
+                DEFAULT_BATCH_GET_SIZE : batchConfig.getBatchSize();
+        Connection connection = null;
+        Table table = null;
+        ExecutorService pool = null;
+        try {
+            //获取hbase连接
+            connection = HbaseConnFactory.getHbaseConn(hbaseSourceDTO);
+            pool = createBatchPool(batchConfig);
+            table = Objects.isNull(pool) ? connection.getTable(TableName.valueOf(tableName)) : connection.getTable(TableName.valueOf(tableName), pool);
+            List<Get> gets = new ArrayList<>(Math.min(batchSize, rowKeys.size()));
+            for (String rowKey : rowKeys) {
+                gets.add(buildGet(rowKey, columns));
+                if (gets.size() >= batchSize) {
+                    addResults(table.get(gets), executeResult);
+                    gets = new ArrayList<>(batchSize);
                 }
             }
-            row.put(TIMESTAMP, timestamp);
-            executeResult.add(row);
+            if (CollectionUtils.isNotEmpty(gets)) {
+                addResults(table.get(gets), executeResult);
+            }
+            return executeResult;
+        } catch (DtLoaderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("Hbase batch gets data exception! table: %s, rowKey size: %s, %s", tableName, rowKeys.size(), e.getMessage()), e);
+        } finally {
+            close(table);
+            closeConnection(connection, hbaseSourceDTO);
+            shutdownPool(pool);
+            HbaseClient.destroyProperty();
         }
-        return executeResult;
+    }
+
+    /**
+     * 使用 BufferedMutator 批量提交，缓冲区满或达到 flushSize 时提交，失败的数据在 flush 时抛出异常
+     *
+     * @param source      数据源信息
+     * @param tableName   表名
+     * @param mutations   put 或 delete 集合
+     * @param batchConfig 批量配置
+     */
+    private void mutate(ISourceDTO source, String tableName, List<? extends Mutation> mutations, HbaseBatchConfigDTO batchConfig) {
+        HbaseSourceDTO hbaseSourceDTO = (HbaseSourceDTO) source;
+        Integer flushSize = Objects.isNull(batchConfig) ? null : batchConfig.getFlushSize();
+        Connection connection = null;
+        BufferedMutator mutator = null;
+        ExecutorService pool = null;
+        try {
+            //获取hbase连接
+            connection = HbaseConnFactory.getHbaseConn(hbaseSourceDTO);
+            BufferedMutatorParams params = new BufferedMutatorParams(TableName.valueOf(tableName));
+            if (Objects.nonNull(batchConfig) && Objects.nonNull(batchConfig.getWriteBufferSize()) && batchConfig.getWriteBufferSize() > 0) {
+                params.writeBufferSize(batchConfig.getWriteBufferSize());
+            }
+            pool = createBatchPool(batchConfig);
+            if (Objects.nonNull(pool)) {
+                params.pool(pool);
+            }
+            mutator = connection.getBufferedMutator(params);
+            int count = 0;
+            for (Mutation mutation : mutations) {
+                mutator.mutate(mutation);
+                if (Objects.nonNull(flushSize) && flushSize > 0 && ++count % flushSize == 0) {
+                    mutator.flush();
+                }
+            }
+            mutator.flush();
+            log.info("hbase batch mutate success, table: {}, size: {}", tableName, mutations.size());
+        } catch (DtLoaderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("hbase batch mutate data exception! table: %s, size: %s, %s", tableName, mutations.size(), e.getMessage()), e);
+        } finally {
+            close(mutator);
+            closeConnection(connection, hbaseSourceDTO);
+            shutdownPool(pool);
+            HbaseClient.destroyProperty();
+        }
+    }
+
+    /**
+     * 构建流式扫描使用的 scan，列格式为 列族:列名 或者 列族
+     *
+     * @param hbaseQueryDTO   查询条件
+     * @param timestampFilter 时间戳过滤
+     * @return hbase scan
+     * @throws IOException 设置时间范围异常
+     */
+    private static Scan buildScan(HbaseQueryDTO hbaseQueryDTO, TimestampFilter timestampFilter) throws IOException {
+        Scan scan = new Scan();
+        if (CollectionUtils.isNotEmpty(hbaseQueryDTO.getColumns())) {
+            for (String column : hbaseQueryDTO.getColumns()) {
+                String[] familyAndQualifier = column.split(":", 2);
+                if (familyAndQualifier.length < 2) {
+                    scan.addFamily(Bytes.toBytes(familyAndQualifier[0]));
+                } else {
+                    scan.addColumn(Bytes.toBytes(familyAndQualifier[0]), Bytes.toBytes(familyAndQualifier[1]));
+                }
+            }
+        }
+        com.dtstack.dtcenter.loader.dto.filter.Filter loaderFilter = hbaseQueryDTO.getFilter();
+        if (Objects.nonNull(loaderFilter)) {
+            if (loaderFilter instanceof com.dtstack.dtcenter.loader.dto.filter.FilterList) {
+                com.dtstack.dtcenter.loader.dto.filter.FilterList loaderFilterList = (com.dtstack.dtcenter.loader.dto.filter.FilterList) loaderFilter;
+                FilterList hbaseFilterList = new FilterList(convertOp(loaderFilterList.getOperator()));
+                convertFilter(loaderFilterList, hbaseFilterList);
+                scan.setFilter(hbaseFilterList);
+            } else {
+                Filter filter = FilterType.get(loaderFilter);
+                if (Objects.nonNull(filter)) {
+                    scan.setFilter(filter);
+                }
+            }
+        }
+        if (StringUtils.isNotBlank(hbaseQueryDTO.getStartRowKey())) {
+            scan.setStartRow(Bytes.toBytes(hbaseQueryDTO.getStartRowKey()));
+        }
+        if (StringUtils.isNotBlank(hbaseQueryDTO.getEndRowKey())) {
+            scan.setStopRow(Bytes.toBytes(hbaseQueryDTO.getEndRowKey()));
+        }
+        long limit = Objects.isNull(hbaseQueryDTO.getLimit()) ? Long.MAX_VALUE : hbaseQueryDTO.getLimit();
+        fillScanCaching(scan, hbaseQueryDTO, limit);
+        if (Objects.nonNull(timestampFilter)) {
+            HbaseClient.fillTimestampFilter(scan, timestampFilter);
+        }
+        return scan;
+    }
+
+    /**
+     * 设置每次 rpc 拉取的行数和每行返回的最大列数，未指定 caching 时取 limit 和默认值中的较小值
+     *
+     * @param scan          hbase scan
+     * @param hbaseQueryDTO 查询条件
+     * @param limit         最多返回的行数
+     */
+    private static void fillScanCaching(Scan scan, HbaseQueryDTO hbaseQueryDTO, long limit) {
+        // 兼容老版本 core 包
+        if (!ReflectUtil.fieldExists(HbaseQueryDTO.class, "caching")) {
+            scan.setCaching((int) Math.max(1, Math.min(limit, DEFAULT_SCAN_CACHING)));
+            return;
+        }
+        Integer caching = hbaseQueryDTO.getCaching();
+        if (Objects.nonNull(caching) && caching > 0) {
+            scan.setCaching(caching);
+        } else {
+            scan.setCaching((int) Math.max(1, Math.min(limit, DEFAULT_SCAN_CACHING)));
+        }
+        Integer batch = hbaseQueryDTO.getBatch();
+        if (Objects.nonNull(batch) && batch > 0) {
+            scan.setBatch(batch);
+        }
+    }
+
+    /**
+     * 构造 Get，列格式为 列族:列名 或 列族
+     *
+     * @param rowKey  rowKey
+     * @param columns 查询的列
+     * @return Get
+     */
+    private static Get buildGet(String rowKey, List<String> columns) {
+        Get get = new Get(Bytes.toBytes(rowKey));
+        if (CollectionUtils.isNotEmpty(columns)) {
+            for (String column : columns) {
+                String[] familyAndQualifier = column.split(":", 2);
+                if (familyAndQualifier.length < 2 || StringUtils.isEmpty(familyAndQualifier[1])) {
+                    get.addFamily(Bytes.toBytes(familyAndQualifier[0]));
+                } else {
+                    get.addColumn(Bytes.toBytes(familyAndQualifier[0]), Bytes.toBytes(familyAndQualifier[1]));
+                }
+            }
+        }
+        return get;
+    }
+
+    private void addResults(Result[] results, List<Map<String, Object>> executeResult) {
+        if (Objects.isNull(results)) {
+            return;
+        }
+        for (Result result : results) {
+            Map<String, Object> row = convertResult(result, null);
+            if (Objects.nonNull(row)) {
+                executeResult.add(row);
+            }
+        }
+    }
+
+    /**
+     * 创建批量请求使用的线程池，未指定并行度时返回 null 使用 hbase 客户端默认线程池
+     *
+     * @param batchConfig 批量配置
+     * @return 线程池
+     */
+    private static ExecutorService createBatchPool(HbaseBatchConfigDTO batchConfig) {
+        if (Objects.isNull(batchConfig) || Objects.isNull(batchConfig.getParallelism()) || batchConfig.getParallelism() < 1) {
+            return null;
+        }
+        int parallelism = batchConfig.getParallelism();
+        // 使用无界队列，hbase 按 region server 拆分的任务数可能超过线程数
+        return new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("hbaseBatchFactory"));
+    }
+
+    private static void shutdownPool(ExecutorService pool) {
+        if (Objects.nonNull(pool)) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 将一行 hbase 数据转化为 map，key 为 rowkey、列族:列名、timestamp
+     *
+     * @param result      hbase 一行数据
+     * @param columnTypes 字段值类型，为空时转化为字符串
+     * @return 转化后的数据，没有 cell 时返回 null
+     */
+    private Map<String, Object> convertResult(Result result, Map<String, HbaseQueryDTO.ColumnType> columnTypes) {
+        List<Cell> cells = result.listCells();
+        if (CollectionUtils.isEmpty(cells)) {
+            return null;
+        }
+        long timestamp = 0L;
+        HashMap<String, Object> row = Maps.newHashMap();
+        for (Cell cell : cells){
+            row.put(ROWKEY, Bytes.toString(cell.getRowArray(), cell.getRowOffset(),cell.getRowLength()));
+            String family = Bytes.toString(cell.getFamilyArray(), cell.getFamilyOffset(),cell.getFamilyLength());
+            String qualifier = Bytes.toString(cell.getQualifierArray(), cell.getQualifierOffset(),cell.getQualifierLength());
+            Object value;
+            String familyQualifier = String.format(FAMILY_QUALIFIER, family, qualifier);
+            if (MapUtils.isNotEmpty(columnTypes) && Objects.nonNull(columnTypes.get(familyQualifier))) {
+                HbaseQueryDTO.ColumnType columnType = columnTypes.get(familyQualifier);
+                value = convertColumnType(columnType, cell);
+            } else {
+                value = Bytes.toString(cell.getValueArray(), cell.getValueOffset(),cell.getValueLength());
+            }
+            row.put(familyQualifier, value);
+            //取到最新变动的时间
+            if (cell.getTimestamp() > timestamp) {
+                timestamp = cell.getTimestamp();
+            }
+        }
+        row.put(TIMESTAMP, timestamp);
+        return row;
     }
 
     private static boolean getAccurateQuery(Table table, List<Result> results, Filter filter) throws IOException {
@@ -30,6 +30,7 @@ import com.dtstack.dtcenter.common.loader.hdfs.downloader.HdfsParquetDownload;
 import com.dtstack.dtcenter.common.loader.hdfs.downloader.HdfsTextDownload;
 import com.dtstack.dtcenter.common.loader.hdfs.downloader.YarnLogDownload.YarnTFileDownload;
 import com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload.HiveORCDownload;
+import com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload.HiveParallelDownload;
 import com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload.HiveParquetDownload;
 import com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload.HiveTextDownload;
 import com.dtstack.dtcenter.common.loader.hdfs.fileMerge.core.CombineMergeBuilder;
@@ -37,12 +38,15 @@ import com.dtstack.dtcenter.common.loader.hdfs.fileMerge.core.CombineServer;
 import com.dtstack.dtcenter.common.loader.hdfs.hdfswriter.HdfsOrcWriter;
 import com.dtstack.dtcenter.common.loader.hdfs.hdfswriter.HdfsParquetWriter;
 import com.dtstack.dtcenter.common.loader.hdfs.hdfswriter.HdfsTextWriter;
+import com.dtstack.dtcenter.common.loader.hdfs.util.HdfsBatchExecutor;
+import com.dtstack.dtcenter.common.loader.hdfs.util.HdfsListUtil;
 import com.dtstack.dtcenter.common.loader.hdfs.util.StringUtil;
 import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.client.IHdfsFile;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.FileStatus;
 import com.dtstack.dtcenter.loader.dto.HDFSContentSummary;
+import com.dtstack.dtcenter.loader.dto.HdfsBatchResultDTO;
 import com.dtstack.dtcenter.loader.dto.HdfsWriterDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.HdfsSourceDTO;
@@ -52,6 +56,7 @@ import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.ContentSummary;
@@ -61,9 +66,11 @@ import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.hive.ql.io.orc.OrcFile;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.hadoop.yarn.logaggregation.filecontroller.ifile.LogAggregationIndexedFileController;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -435,6 +442,11 @@ public class HdfsFileClient implements IHdfsFile {
         return KerberosLoginUtil.loginWithUGI(hdfsSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<IDownloader>) () -> {
                     try {
+                        Integer parallelism = ReflectUtil.fieldExists(HdfsSourceDTO.class, "downloadParallelism") ? hdfsSourceDTO.getDownloadParallelism() : null;
+                        if (parallelism != null && parallelism > 1) {
+                            boolean keepOrder = !ReflectUtil.fieldExists(HdfsSourceDTO.class, "downloadKeepOrder") || !Boolean.FALSE.equals(hdfsSourceDTO.getDownloadKeepOrder());
+                            return createParallelDownloader(fileFormat, conf, tableLocation, commonColumn, fieldDelimiter, partitionColumns, needIndex, filterPartition, partitions, hdfsSourceDTO.getKerberosConfig(), parallelism, keepOrder);
+                        }
                         return createDownloader(fileFormat, conf, tableLocation, commonColumn, fieldDelimiter, partitionColumns, needIndex, filterPartition, partitions, hdfsSourceDTO.getKerberosConfig());
                     } catch (Exception e) {
                         throw new DtLoaderException(String.format("create downloader exception : %s", e.getMessage()), e);
@@ -489,6 +501,36 @@ public class HdfsFileClient implements IHdfsFile {
         throw new DtLoaderException("This storage type file is not currently supported for writing to hdfs");
     }
 
+    /**
+     * 创建并发读取的 hiveDownloader，每个文件使用单独的下载器，由多个线程并发读取
+     *
+     * @param parallelism 并发读取的文件数
+     * @param keepOrder   是否保持文件顺序
+     * @return downloader 数据下载器
+     * @throws Exception 异常信息
+     */
+    private IDownloader createParallelDownloader(String storageMode, Configuration conf, String tableLocation,
+                                                 List<ColumnMetaDTO> columns, String fieldDelimiter,
+                                                 ArrayList<String> partitionColumns, List<Integer> needIndex,
+                                                 Map<String, String> filterPartitions, List<String> partitions,
+                                                 Map<String, Object> kerberosConfig, int parallelism, boolean keepOrder) throws Exception {
+        if (!StringUtils.equalsIgnoreCase(FileFormat.TEXT.getVal(), storageMode)
+                && !StringUtils.equalsIgnoreCase(FileFormat.ORC.getVal(), storageMode)
+                && !StringUtils.equalsIgnoreCase(FileFormat.PARQUET.getVal(), storageMode)) {
+            throw new DtLoaderException("This storage type file is not currently supported for writing to hdfs");
+        }
+        List<String> files = new ArrayList<>();
+        HdfsListUtil.listDataFiles(tableLocation, files, FileSystem.get(conf));
+        List<String> metaInfo = columns.stream().map(ColumnMetaDTO::getKey).collect(Collectors.toList());
+        metaInfo.addAll(partitionColumns);
+        HiveParallelDownload parallelDownload = new HiveParallelDownload(metaInfo, files,
+                filePath -> createDownloader(storageMode, conf, filePath, columns, fieldDelimiter, partitionColumns,
+                        needIndex, filterPartitions, partitions, kerberosConfig),
+                parallelism, keepOrder, UserGroupInformation.getCurrentUser());
+        parallelDownload.configure();
+        return parallelDownload;
+    }
+
     @Override
     public List<ColumnMetaDTO> getColumnList(ISourceDTO source, SqlQueryDTO queryDTO, String fileFormat) {
         HdfsSourceDTO hdfsSourceDTO = (HdfsSourceDTO) source;
@@ -534,47 +576,27 @@ public class HdfsFileClient implements IHdfsFile {
 
     @Override
     public List<HDFSContentSummary> getContentSummary(ISourceDTO source, List<String> hdfsDirPaths){
+        HdfsBatchResultDTO<HDFSContentSummary> batchResult = getContentSummaryBatch(source, hdfsDirPaths);
+        if (MapUtils.isNotEmpty(batchResult.getErrors())) {
+            Map.Entry<String, String> error = batchResult.getErrors().entrySet().iterator().next();
+            throw new DtLoaderException(String.format("Failed to obtain HDFS file information：%s, %s", error.getKey(), error.getValue()));
+        }
+        return hdfsDirPaths.stream().map(batchResult.getResults()::get).collect(Collectors.toList());
+    }
+
+    @Override
+    public HdfsBatchResultDTO<HDFSContentSummary> getContentSummaryBatch(ISourceDTO source, List<String> hdfsDirPaths) {
         if (CollectionUtils.isEmpty(hdfsDirPaths)) {
             throw new DtLoaderException("hdfs path cannot be empty！");
         }
         HdfsSourceDTO hdfsSourceDTO = (HdfsSourceDTO) source;
-        List<HDFSContentSummary> hdfsContentSummaries = Lists.newArrayList();
         // kerberos认证
         return KerberosLoginUtil.loginWithUGI(hdfsSourceDTO.getKerberosConfig()).doAs(
-                (PrivilegedAction<List<HDFSContentSummary>>) () -> {
+                (PrivilegedAction<HdfsBatchResultDTO<HDFSContentSummary>>) () -> {
                     try {
                         Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
                         FileSystem fs = FileSystem.get(conf);
-                        for (String HDFSDirPath : hdfsDirPaths) {
-                            Path hdfsPath = new Path(HDFSDirPath);
-                            // 判断路径是否存在，不存在则返回空对象
-                            HDFSContentSummary hdfsContentSummary;
-                            if (!fs.exists(hdfsPath)) {
-                                log.warn("execute method getContentSummary: path {} not exists!", HDFSDirPath);
-                                hdfsContentSummary = HDFSContentSummary.builder()
-                                        .directoryCount(0L)
-                                        .fileCount(0L)
-                                        .ModifyTime(0L)
-                                        .spaceConsumed(0L)
-                                        .build();
-                                if (ReflectUtil.fieldExists(hdfsContentSummary.getClass(), "isExists")) {
-                                    hdfsContentSummary.setIsExists(false);
-                                }
-                            } else {
-                                org.apache.hadoop.fs.FileStatus fileStatus = fs.getFileStatus(hdfsPath);
-                                ContentSummary contentSummary = fs.getContentSummary(hdfsPath);
-                                hdfsContentSummary = HDFSContentSummary.builder()
-                                        .directoryCount(contentSummary.getDirectoryCount())
-                                        .fileCount(contentSummary.getFileCount())
-                                        .ModifyTime(fileStatus.getModificationTime())
-                                        .spaceConsumed(contentSummary.getLength()).build();
-                                if (ReflectUtil.fieldExists(hdfsContentSummary.getClass(), "isExists")) {
-                                    hdfsContentSummary.setIsExists(true);
-                                }
-                            }
-                            hdfsContentSummaries.add(hdfsContentSummary);
-                        }
-                        return hdfsContentSummaries;
+                        return HdfsBatchExecutor.execute(hdfsDirPaths, hdfsDirPath -> buildContentSummary(fs, hdfsDirPath));
                     } catch (Exception e) {
                         throw new DtLoaderException(String.format("Failed to obtain HDFS file information：%s", e.getMessage()), e);
                     }
@@ -582,6 +604,85 @@ public class HdfsFileClient implements IHdfsFile {
         );
     }
 
+    @Override
+    public HdfsBatchResultDTO<List<FileStatus>> listFilesBatch(ISourceDTO source, List<String> remotePaths, boolean isIterate) {
+        if (CollectionUtils.isEmpty(remotePaths)) {
+            throw new DtLoaderException("hdfs path cannot be empty！");
+        }
+        HdfsSourceDTO hdfsSourceDTO = (HdfsSourceDTO) source;
+        // kerberos认证
+        return KerberosLoginUtil.loginWithUGI(hdfsSourceDTO.getKerberosConfig()).doAs(
+                (PrivilegedAction<HdfsBatchResultDTO<List<FileStatus>>>) () -> {
+                    try {
+                        Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
+                        FileSystem fs = FileSystem.get(conf);
+                        return HdfsBatchExecutor.execute(remotePaths, remotePath -> listLocatedFiles(fs, remotePath, isIterate));
+                    } catch (Exception e) {
+                        throw new DtLoaderException(String.format("Failed to get the file in the target path : %s", e.getMessage()), e);
+                    }
+                }
+        );
+    }
+
+    /**
+     * 获取单个路径的内容摘要，通过 getFileStatus 判断路径是否存在，不再单独调用 exists
+     *
+     * @param fs          HDFS 文件系统
+     * @param hdfsDirPath hdfs 路径
+     * @return 内容摘要
+     */
+    private HDFSContentSummary buildContentSummary(FileSystem fs, String hdfsDirPath) throws IOException {
+        Path hdfsPath = new Path(hdfsDirPath);
+        org.apache.hadoop.fs.FileStatus fileStatus;
+        try {
+            fileStatus = fs.getFileStatus(hdfsPath);
+        } catch (FileNotFoundException e) {
+            // 路径不存在则返回空对象
+            log.warn("execute method getContentSummary: path {} not exists!", hdfsDirPath);
+            HDFSContentSummary hdfsContentSummary = HDFSContentSummary.builder()
+                    .directoryCount(0L)
+                    .fileCount(0L)
+                    .ModifyTime(0L)
+                    .spaceConsumed(0L)
+                    .build();
+            if (ReflectUtil.fieldExists(hdfsContentSummary.getClass(), "isExists")) {
+                hdfsContentSummary.setIsExists(false);
+            }
+            return hdfsContentSummary;
+        }
+        ContentSummary contentSummary = fs.getContentSummary(hdfsPath);
+        HDFSContentSummary hdfsContentSummary = HDFSContentSummary.builder()
+                .directoryCount(contentSummary.getDirectoryCount())
+                .fileCount(contentSummary.getFileCount())
+                .ModifyTime(fileStatus.getModificationTime())
+                .spaceConsumed(contentSummary.getLength()).build();
+        if (ReflectUtil.fieldExists(hdfsContentSummary.getClass(), "isExists")) {
+            hdfsContentSummary.setIsExists(true);
+        }
+        return hdfsContentSummary;
+    }
+
+    /**
+     * 使用 listFiles 迭代器分批获取路径下的文件，路径不存在时返回空集合，路径为文件时返回该文件本身
+     *
+     * @param fs         HDFS 文件系统
+     * @param remotePath hdfs 路径
+     * @param isIterate  是否递归
+     * @return 文件信息
+     */
+    private List<FileStatus> listLocatedFiles(FileSystem fs, String remotePath, boolean isIterate) throws IOException {
+        List<org.apache.hadoop.fs.FileStatus> fileStatuses = new ArrayList<>();
+        try {
+            RemoteIterator<LocatedFileStatus> iterator = fs.listFiles(new Path(remotePath), isIterate);
+            while (iterator.hasNext()) {
+                fileStatuses.add(iterator.next());
+            }
+        } catch (FileNotFoundException e) {
+            log.warn("execute method listFilesBatch: path {} not exists!", remotePath);
+        }
+        return transferFileStatus(fileStatuses);
+    }
+
     private int writeByPosWithFileFormat(ISourceDTO source, HdfsWriterDTO hdfsWriterDTO) throws IOException {
         if (FileFormat.ORC.getVal().equals(hdfsWriterDTO.getFileFormat())) {
             return HdfsOrcWriter.writeByPos(source, hdfsWriterDTO);
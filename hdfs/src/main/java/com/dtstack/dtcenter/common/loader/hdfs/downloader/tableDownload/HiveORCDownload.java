@@ -25,6 +25,7 @@ import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.security.UserGroupInformation;
 
 import java.io.IOException;
 import java.security.PrivilegedAction;
@@ -70,6 +71,11 @@ public class HiveORCDownload implements IDownloader {
 
     private final Map<String, Object> kerberosConfig;
 
+    /**
+     * 下载器使用的 UGI，第一次读取时获取
+     */
+    private UserGroupInformation ugi;
+
     /**
      * 需要查询字段的索引
      */
@@ -134,7 +140,7 @@ public class HiveORCDownload implements IDownloader {
 
     @Override
     public List<String> readNext() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<List<String>>) ()->{
                     try {
                         return readNextWithKerberos();
@@ -250,16 +256,56 @@ public class HiveORCDownload implements IDownloader {
 
     @Override
     public boolean reachedEnd() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<Boolean>) ()->{
                     try {
-                        return recordReader == null || !nextRecord();
+                        return reachedEndWithKerberos();
                     } catch (Exception e){
                         throw new DtLoaderException(String.format("Download file is abnormal,%s", e.getMessage()), e);
                     }
                 });
     }
 
+    private boolean reachedEndWithKerberos() throws Exception {
+        return recordReader == null || !nextRecord();
+    }
+
+    /**
+     * 批量读取，一批数据只做一次 doAs
+     *
+     * @param batchSize 每批最多读取的行数
+     * @return 数据集合
+     */
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        return getUgi().doAs(
+                (PrivilegedAction<List<Object>>) ()->{
+                    List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+                    try {
+                        while (rows.size() < batchSize && !reachedEndWithKerberos()) {
+                            rows.add(readNextWithKerberos());
+                        }
+                    } catch (DtLoaderException e) {
+                        throw e;
+                    } catch (Exception e){
+                        throw new DtLoaderException(String.format("Abnormal reading file,%s", e.getMessage()), e);
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * 下载器生命周期内复用同一个 UGI，避免每次读取都经过 KerberosLoginUtil 的全局锁
+     *
+     * @return UGI
+     */
+    private UserGroupInformation getUgi() {
+        if (ugi == null) {
+            ugi = KerberosLoginUtil.loginWithUGI(kerberosConfig);
+        }
+        return ugi;
+    }
+
     @Override
     public boolean close() throws IOException {
         if(recordReader != null){
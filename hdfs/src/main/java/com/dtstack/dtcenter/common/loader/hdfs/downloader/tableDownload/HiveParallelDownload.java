@@ -0,0 +1,296 @@
+package com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.security.UserGroupInformation;
+
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 下载hive表:多个文件并发读取
+ * 每个读取线程按顺序领取文件，使用单文件的下载器读取后按批放入有界队列，readNext 从队列中取数据。
+ * 保持文件顺序时每个文件使用单独的队列，按文件顺序消费；不保持顺序时所有文件共用一个队列
+ * Date: 2026/10/18
+ * Company: www.dtstack.com
+ *
+ * @author wangchuan
+ */
+@Slf4j
+public class HiveParallelDownload implements IDownloader {
+
+    /**
+     * 每批数据的行数
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * 每个读取线程最多缓存的批数
+     */
+    private static final int CHUNK_BUFFER = 4;
+
+    /**
+     * 单个文件的下载器创建逻辑，返回的下载器需要已经 configure
+     */
+    public interface FileDownloaderFactory {
+        IDownloader create(String filePath) throws Exception;
+    }
+
+    /**
+     * 一批数据
+     */
+    private static class Chunk {
+
+        private final List<Object> rows;
+
+        /**
+         * 是否是该文件的最后一批
+         */
+        private final boolean last;
+
+        private final Throwable error;
+
+        private Chunk(List<Object> rows, boolean last, Throwable error) {
+            this.rows = rows;
+            this.last = last;
+            this.error = error;
+        }
+    }
+
+    private final List<String> metaInfo;
+
+    private final List<String> files;
+
+    private final FileDownloaderFactory factory;
+
+    private final int parallelism;
+
+    private final boolean keepOrder;
+
+    private final UserGroupInformation ugi;
+
+    private final AtomicInteger nextFileIndex = new AtomicInteger(0);
+
+    private ExecutorService executor;
+
+    /**
+     * 保持顺序时每个文件一个队列
+     */
+    private List<BlockingQueue<Chunk>> fileQueues;
+
+    /**
+     * 不保持顺序时所有文件共用的队列
+     */
+    private BlockingQueue<Chunk> sharedQueue;
+
+    /**
+     * 当前消费的文件下标，保持顺序时使用
+     */
+    private int currentFileIndex = 0;
+
+    /**
+     * 已经读取完的文件数，不保持顺序时使用
+     */
+    private int finishedFiles = 0;
+
+    private List<Object> currentRows = Collections.emptyList();
+
+    private int currentRowIndex = 0;
+
+    private volatile boolean closed = false;
+
+    public HiveParallelDownload(List<String> metaInfo, List<String> files, FileDownloaderFactory factory,
+                                int parallelism, boolean keepOrder, UserGroupInformation ugi) {
+        this.metaInfo = metaInfo;
+        this.files = files;
+        this.factory = factory;
+        this.parallelism = Math.max(1, Math.min(parallelism, files.size()));
+        this.keepOrder = keepOrder;
+        this.ugi = ugi;
+    }
+
+    @Override
+    public boolean configure() {
+        if (files.isEmpty()) {
+            return true;
+        }
+        if (keepOrder) {
+            fileQueues = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                fileQueues.add(new LinkedBlockingQueue<>(CHUNK_BUFFER));
+            }
+        } else {
+            sharedQueue = new LinkedBlockingQueue<>(parallelism * CHUNK_BUFFER);
+        }
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("hiveParallelDownload"));
+        for (int i = 0; i < parallelism; i++) {
+            executor.submit(this::readFiles);
+        }
+        log.info("download {} files with {} readers, keep order : {}", files.size(), parallelism, keepOrder);
+        return true;
+    }
+
+    /**
+     * 读取线程逻辑，按顺序领取文件直到全部读取完或下载器关闭
+     */
+    private void readFiles() {
+        int fileIndex;
+        while (!closed && (fileIndex = nextFileIndex.getAndIncrement()) < files.size()) {
+            if (!readFile(fileIndex)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 读取单个文件
+     *
+     * @param fileIndex 文件下标
+     * @return 是否继续读取，下载器关闭时返回 false
+     */
+    private boolean readFile(int fileIndex) {
+        String filePath = files.get(fileIndex);
+        IDownloader downloader = null;
+        try {
+            downloader = ugi.doAs((PrivilegedExceptionAction<IDownloader>) () -> factory.create(filePath));
+            List<Object> rows;
+            while (!(rows = downloader.readNextBatch(CHUNK_SIZE)).isEmpty()) {
+                if (!put(fileIndex, new Chunk(rows, false, null))) {
+                    return false;
+                }
+            }
+            return put(fileIndex, new Chunk(Collections.emptyList(), true, null));
+        } catch (Throwable e) {
+            log.error("read file {} failed : {}", filePath, e.getMessage(), e);
+            put(fileIndex, new Chunk(Collections.emptyList(), true, e));
+            return false;
+        } finally {
+            if (downloader != null) {
+                try {
+                    downloader.close();
+                } catch (Exception e) {
+                    log.warn("close downloader of file {} failed : {}", filePath, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private boolean put(int fileIndex, Chunk chunk) {
+        BlockingQueue<Chunk> queue = keepOrder ? fileQueues.get(fileIndex) : sharedQueue;
+        try {
+            queue.put(chunk);
+            return true;
+        } catch (InterruptedException e) {
+            // 下载器关闭时会中断读取线程
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getMetaInfo() {
+        return metaInfo;
+    }
+
+    @Override
+    public Object readNext() {
+        if (currentRowIndex >= currentRows.size() && reachedEnd()) {
+            return null;
+        }
+        return currentRows.get(currentRowIndex++);
+    }
+
+    @Override
+    public boolean reachedEnd() {
+        while (currentRowIndex >= currentRows.size()) {
+            Chunk chunk = takeChunk();
+            if (chunk == null) {
+                return true;
+            }
+            if (chunk.error != null) {
+                throw new DtLoaderException(String.format("Abnormal reading file,%s", chunk.error.getMessage()), chunk.error);
+            }
+            currentRows = chunk.rows;
+            currentRowIndex = 0;
+        }
+        return false;
+    }
+
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+        while (rows.size() < batchSize && !reachedEnd()) {
+            int count = Math.min(batchSize - rows.size(), currentRows.size() - currentRowIndex);
+            rows.addAll(currentRows.subList(currentRowIndex, currentRowIndex + count));
+            currentRowIndex += count;
+        }
+        return rows;
+    }
+
+    /**
+     * 获取下一批数据，全部文件读取完返回 null
+     *
+     * @return 一批数据
+     */
+    private Chunk takeChunk() {
+        try {
+            if (keepOrder) {
+                while (fileQueues != null && currentFileIndex < files.size()) {
+                    Chunk chunk = fileQueues.get(currentFileIndex).take();
+                    if (chunk.last) {
+                        // 释放已经读取完的文件队列
+                        fileQueues.set(currentFileIndex, null);
+                        currentFileIndex++;
+                    }
+                    if (chunk.error != null || !chunk.rows.isEmpty()) {
+                        return chunk;
+                    }
+                }
+                return null;
+            }
+            while (sharedQueue != null && finishedFiles < files.size()) {
+                Chunk chunk = sharedQueue.take();
+                if (chunk.last) {
+                    finishedFiles++;
+                }
+                if (chunk.error != null || !chunk.rows.isEmpty()) {
+                    return chunk;
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DtLoaderException("download interrupted", e);
+        }
+    }
+
+    @Override
+    public boolean close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        return true;
+    }
+
+    @Override
+    public String getFileName() {
+        return null;
+    }
+
+    @Override
+    public List<String> getContainers() {
+        return Collections.emptyList();
+    }
+}
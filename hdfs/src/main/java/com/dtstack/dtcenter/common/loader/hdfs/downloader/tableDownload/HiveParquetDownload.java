@@ -4,6 +4,7 @@ import com.dtstack.dtcenter.common.loader.common.enums.ColumnType;
 import com.dtstack.dtcenter.common.loader.common.utils.StringUtil;
 import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HdfsOperator;
 import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
+import com.dtstack.dtcenter.common.loader.hdfs.util.HdfsListUtil;
 import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
@@ -14,9 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.example.GroupReadSupport;
@@ -82,6 +83,11 @@ public class HiveParquetDownload implements IDownloader {
 
     private final Map<String, Object> kerberosConfig;
 
+    /**
+     * 下载器使用的 UGI，第一次读取时获取
+     */
+    private UserGroupInformation ugi;
+
     /**
      * 按分区下载
      */
@@ -92,8 +98,6 @@ public class HiveParquetDownload implements IDownloader {
      */
     private final List<String> partitions;
 
-    private static final String IMPALA_INSERT_STAGING = "_impala_insert_staging";
-
     public HiveParquetDownload(Configuration conf, String tableLocation, List<ColumnMetaDTO> columns,
                                List<String> partitionColumns, List<Integer> needIndex, Map<String, String> filterPartition,
                                List<String> partitions, Map<String, Object> kerberosConfig){
@@ -170,7 +174,7 @@ public class HiveParquetDownload implements IDownloader {
 
     @Override
     public List<String> readNext() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<List<String>>) ()->{
                     try {
                         return readNextWithKerberos();
@@ -355,16 +359,56 @@ public class HiveParquetDownload implements IDownloader {
 
     @Override
     public boolean reachedEnd() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<Boolean>) ()->{
                     try {
-                        return !nextRecord();
+                        return reachedEndWithKerberos();
                     } catch (Exception e){
                         throw new DtLoaderException(String.format("Download file is abnormal,%s", e.getMessage()), e);
                     }
                 });
     }
 
+    private boolean reachedEndWithKerberos() throws Exception {
+        return !nextRecord();
+    }
+
+    /**
+     * 批量读取，一批数据只做一次 doAs
+     *
+     * @param batchSize 每批最多读取的行数
+     * @return 数据集合
+     */
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        return getUgi().doAs(
+                (PrivilegedAction<List<Object>>) ()->{
+                    List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+                    try {
+                        while (rows.size() < batchSize && !reachedEndWithKerberos()) {
+                            rows.add(readNextWithKerberos());
+                        }
+                    } catch (DtLoaderException e) {
+                        throw e;
+                    } catch (Exception e){
+                        throw new DtLoaderException(String.format("Abnormal reading file,%s", e.getMessage()), e);
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * 下载器生命周期内复用同一个 UGI，避免每次读取都经过 KerberosLoginUtil 的全局锁
+     *
+     * @return UGI
+     */
+    private UserGroupInformation getUgi() {
+        if (ugi == null) {
+            ugi = KerberosLoginUtil.loginWithUGI(kerberosConfig);
+        }
+        return ugi;
+    }
+
     @Override
     public boolean close() throws Exception {
         if (build != null){
@@ -386,23 +430,7 @@ public class HiveParquetDownload implements IDownloader {
      * @param fs HDFS 文件系统
      */
     public static void getAllPartitionPath(String tableLocation, List<String> pathList, FileSystem fs) throws IOException {
-        Path inputPath = new Path(tableLocation);
-        // 路径不存在直接返回
-        if (!fs.exists(inputPath)) {
-            return;
-        }
-        //剔除隐藏系统文件和无关文件
-        FileStatus[] fsStatus = fs.listStatus(inputPath, path -> !path.getName().startsWith(".") && !path.getName().startsWith("_SUCCESS") && !path.getName().startsWith(IMPALA_INSERT_STAGING) && !path.getName().startsWith("_common_metadata") && !path.getName().startsWith("_metadata"));
-        if(fsStatus == null || fsStatus.length == 0){
-            return;
-        }
-        for (FileStatus status : fsStatus) {
-            if (status.isFile()) {
-                pathList.add(status.getPath().toString());
-            }else {
-                getAllPartitionPath(status.getPath().toString(), pathList, fs);
-            }
-        }
+        HdfsListUtil.listDataFiles(tableLocation, pathList, fs);
     }
 
     /**
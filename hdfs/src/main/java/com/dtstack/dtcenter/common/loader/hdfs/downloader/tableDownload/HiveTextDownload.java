@@ -1,7 +1,9 @@
 package com.dtstack.dtcenter.common.loader.hdfs.downloader.tableDownload;
 
+import com.dtstack.dtcenter.common.loader.common.utils.TextRowDecoder;
 import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HdfsOperator;
 import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
+import com.dtstack.dtcenter.common.loader.hdfs.util.HdfsListUtil;
 import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import com.google.common.collect.Lists;
@@ -9,7 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.LongWritable;
@@ -20,6 +21,7 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.hadoop.security.UserGroupInformation;
 
 import java.io.IOException;
 import java.security.PrivilegedAction;
@@ -41,13 +43,16 @@ import java.util.Set;
 public class HiveTextDownload implements IDownloader {
     private static final int SPLIT_NUM = 1;
 
-    private static final String IMPALA_INSERT_STAGING = "_impala_insert_staging";
-
     private TextInputFormat inputFormat;
     private JobConf conf;
     private LongWritable key;
     private Text value;
 
+    /**
+     * 文本行解析器，第一次读取时创建
+     */
+    private TextRowDecoder rowDecoder;
+
     private RecordReader recordReader;
     private final String tableLocation;
     private final String fieldDelimiter;
@@ -66,6 +71,11 @@ public class HiveTextDownload implements IDownloader {
     private final List<String> partitionColumns;
     private final Map<String, Object> kerberosConfig;
 
+    /**
+     * 下载器使用的 UGI，第一次读取时获取
+     */
+    private UserGroupInformation ugi;
+
     /**
      * 按分区下载
      */
@@ -121,23 +131,7 @@ public class HiveTextDownload implements IDownloader {
      * @param fs HDFS 文件系统
      */
     public static void getAllPartitionPath(String tableLocation, List<String> pathList, FileSystem fs) throws IOException {
-        Path inputPath = new Path(tableLocation);
-        // 路径不存在直接返回
-        if (!fs.exists(inputPath)) {
-            return;
-        }
-        //剔除隐藏系统文件和无关文件
-        FileStatus[] fsStatus = fs.listStatus(inputPath, path -> !path.getName().startsWith(".") && !path.getName().startsWith("_SUCCESS") && !path.getName().startsWith(IMPALA_INSERT_STAGING) && !path.getName().startsWith("_common_metadata") && !path.getName().startsWith("_metadata"));
-        if(fsStatus == null || fsStatus.length == 0){
-            return;
-        }
-        for (FileStatus status : fsStatus) {
-            if (status.isFile()) {
-                pathList.add(status.getPath().toString());
-            }else {
-                getAllPartitionPath(status.getPath().toString(), pathList, fs);
-            }
-        }
+        HdfsListUtil.listDataFiles(tableLocation, pathList, fs);
     }
 
     private boolean nextRecordReader() throws IOException {
@@ -233,7 +227,7 @@ public class HiveTextDownload implements IDownloader {
 
     @Override
     public List<String> readNext(){
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<List<String>>) ()->{
                     try {
                         return readNextWithKerberos();
@@ -244,39 +238,67 @@ public class HiveTextDownload implements IDownloader {
     }
 
     public List<String> readNextWithKerberos(){
-        String line = value.toString();
-        value.clear();
-        String[] fields = line.split(fieldDelimiter, -1);
-        List<String> row = Lists.newArrayList(fields);
-        if(CollectionUtils.isNotEmpty(partitionColumns)){
-            row.addAll(currentPartData);
-        }
-        if (CollectionUtils.isNotEmpty(needIndex)) {
-            List<String> rowNew = Lists.newArrayList();
-            for (Integer index : needIndex) {
-                if (index > row.size() -1) {
-                    rowNew.add(null);
-                } else {
-                    rowNew.add(row.get(index));
-                }
-            }
-            return rowNew;
+        if (rowDecoder == null) {
+            rowDecoder = new TextRowDecoder(fieldDelimiter, needIndex);
         }
+        List<String> row = rowDecoder.decode(value.getBytes(), value.getLength(),
+                CollectionUtils.isNotEmpty(partitionColumns) ? currentPartData : null);
+        value.clear();
         return row;
     }
 
     @Override
     public boolean reachedEnd() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<Boolean>) ()->{
                     try {
-                        return recordReader == null || !nextRecord();
+                        return reachedEndWithKerberos();
                     } catch (Exception e){
                         throw new DtLoaderException(String.format("Download file is abnormal,%s", e.getMessage()), e);
                     }
                 });
     }
 
+    private boolean reachedEndWithKerberos() throws Exception {
+        return recordReader == null || !nextRecord();
+    }
+
+    /**
+     * 批量读取，一批数据只做一次 doAs
+     *
+     * @param batchSize 每批最多读取的行数
+     * @return 数据集合
+     */
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        return getUgi().doAs(
+                (PrivilegedAction<List<Object>>) ()->{
+                    List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+                    try {
+                        while (rows.size() < batchSize && !reachedEndWithKerberos()) {
+                            rows.add(readNextWithKerberos());
+                        }
+                    } catch (DtLoaderException e) {
+                        throw e;
+                    } catch (Exception e){
+                        throw new DtLoaderException(String.format("Abnormal reading file,%s", e.getMessage()), e);
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * 下载器生命周期内复用同一个 UGI，避免每次读取都经过 KerberosLoginUtil 的全局锁
+     *
+     * @return UGI
+     */
+    private UserGroupInformation getUgi() {
+        if (ugi == null) {
+            ugi = KerberosLoginUtil.loginWithUGI(kerberosConfig);
+        }
+        return ugi;
+    }
+
     @Override
     public boolean close() throws IOException {
         if(recordReader != null){
@@ -64,6 +64,11 @@ public class CombineMergeBuilder {
      */
     private long maxCombinedFileSize = 125 * 1024 * 1024L;
 
+    /**
+     * 备份、合并任务的并行度
+     */
+    private int parallelism = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 4));
+
 
     public CombineMergeBuilder() {
     }
@@ -88,6 +93,11 @@ public class CombineMergeBuilder {
         return this;
     }
 
+    public CombineMergeBuilder parallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
     public CombineMergeBuilder fileType(FileFormat fileFormat) {
         this.fileFormat = fileFormat;
         return this;
@@ -109,6 +119,7 @@ public class CombineMergeBuilder {
         combine.setNeedCombineFileSizeLimit(needCombineFileSizeLimit);
         combine.setMaxCombinedFileSize(maxCombinedFileSize);
         combine.setFs(FileSystem.get(configuration));
+        combine.setParallelism(parallelism);
 
         log.info("combine info {}",combine);
         return combine;
@@ -18,6 +18,7 @@
 
 package com.dtstack.dtcenter.common.loader.hdfs.fileMerge.core;
 
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
 import com.dtstack.dtcenter.common.loader.hdfs.util.FileSystemUtils;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import com.google.gson.Gson;
@@ -27,10 +28,20 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.UserGroupInformation;
 
 import java.io.File;
 import java.io.IOException;
+import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public abstract class CombineServer {
@@ -64,6 +75,16 @@ public abstract class CombineServer {
 
     protected FileSystem fs;
 
+    /**
+     * 备份、合并任务的并行度
+     */
+    protected int parallelism = 1;
+
+    /**
+     * 合并后文件名称前缀
+     */
+    protected String mergedFileName;
+
     public CombineServer() {
     }
 
@@ -78,30 +99,135 @@ public abstract class CombineServer {
         //对文件夹副本下的文件/文件夹进行数据划分
         splitFile(sourcePath, directors, copyFiles, combineFiles);
 
-        //源目录下假如存在文件夹 直接移动到 mergedTempPath目录下
-        for (FileStatus director : directors) {
-            FileSystemUtils.backupDirector(director.getPath(), new Path(mergedTempPath.toUri().getPath() + File.separator + director.getPath().getName()), fs, configuration);
+        if (!fs.exists(mergedTempPath)) {
+            fs.mkdirs(mergedTempPath);
         }
 
-        //源目录下超过阈值的大文件直接进行复制 不需要合并
-        for (FileStatus copyFile : copyFiles) {
-            FileSystemUtils.backupFile(copyFile.getPath(), mergedTempPath, fs, configuration);
+        // 工作线程需要使用调用线程的 kerberos 身份
+        UserGroupInformation ugi = UserGroupInformation.getCurrentUser();
+        ExecutorService executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("hdfsCombine"));
+        List<Future<Void>> futures = new ArrayList<>();
+        try {
+            //源目录下假如存在文件夹 直接移动到 mergedTempPath目录下
+            for (FileStatus director : directors) {
+                futures.add(submit(executor, ugi, () -> FileSystemUtils.backupDirector(director.getPath(), new Path(mergedTempPath.toUri().getPath() + File.separator + director.getPath().getName()), fs, configuration)));
+            }
+
+            //源目录下超过阈值的大文件直接进行复制 不需要合并
+            for (FileStatus copyFile : copyFiles) {
+                futures.add(submit(executor, ugi, () -> FileSystemUtils.backupFile(copyFile.getPath(), new Path(mergedTempPath, copyFile.getPath().getName()), fs, configuration)));
+            }
+
+            if (CollectionUtils.isEmpty(combineFiles)) {
+                log.info("There are no small files to be merged in the source directory");
+            } else {
+                //小文件合并，每个分组合并为一个文件
+                init(combineFiles);
+                List<List<FileStatus>> groups = groupFiles(combineFiles);
+                log.info("merge {} small files on {} into {} groups", combineFiles.size(), sourcePath, groups.size());
+                for (int i = 0; i < groups.size(); i++) {
+                    List<FileStatus> group = groups.get(i);
+                    Path mergedFile = getMergedFilePath(i);
+                    futures.add(submit(executor, ugi, () -> combineGroup(group, mergedFile)));
+                }
+            }
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DtLoaderException(String.format("combine %s interrupted", sourcePath), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DtLoaderException) {
+                throw (DtLoaderException) cause;
+            }
+            throw new DtLoaderException(String.format("combine file failed,errorMessage :%s", cause.getMessage()), cause);
+        } finally {
+            executor.shutdownNow();
         }
 
-        if (CollectionUtils.isEmpty(combineFiles)) {
-            log.info("There are no small files to be merged in the source directory");
-            return;
+        if (CollectionUtils.isNotEmpty(combineFiles)) {
+            log.info("merge {} to {} successful ", sourcePath, mergedTempPath);
         }
+    }
 
-        //小文件合并
-        doCombine(combineFiles, mergedTempPath);
-        log.info("merge {} to {} successful ", sourcePath, mergedTempPath);
+    /**
+     * 按文件大小将小文件分组，每组文件大小之和不超过 maxCombinedFileSize
+     */
+    private List<List<FileStatus>> groupFiles(List<FileStatus> combineFiles) {
+        List<List<FileStatus>> groups = new ArrayList<>();
+        List<FileStatus> current = new ArrayList<>();
+        long currentSize = 0L;
+        for (FileStatus fileStatus : combineFiles) {
+            if (!current.isEmpty() && currentSize + fileStatus.getLen() > maxCombinedFileSize) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentSize = 0L;
+            }
+            current.add(fileStatus);
+            currentSize += fileStatus.getLen();
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private Future<Void> submit(ExecutorService executor, UserGroupInformation ugi, CombineTask task) {
+        return executor.submit(() -> ugi.doAs((PrivilegedExceptionAction<Void>) () -> {
+            task.run();
+            return null;
+        }));
+    }
+
+    /**
+     * 合并文件路径
+     *
+     * @param index 分组序号
+     * @return 合并文件路径
+     */
+    protected Path getMergedFilePath(int index) {
+        return new Path(mergedTempPath.toString() + File.separator + mergedFileName + index + "." + getFileSuffix() + getCompressSuffix());
     }
 
     /**
-     * 小文件合并操作
+     * 初始化，读取最大文件的元信息作为合并文件的元信息，只会被调用一次
+     *
+     * @param combineFiles 需要合并的小文件
+     * @throws IOException io 异常
      */
-    protected abstract void doCombine(ArrayList<FileStatus> combineFiles, Path mergedTempPath) throws IOException;
+    protected void init(List<FileStatus> combineFiles) throws IOException {
+        this.mergedFileName = System.currentTimeMillis() + "";
+        FileStatus largest = combineFiles.stream()
+                .max(Comparator.comparing(FileStatus::getLen))
+                .orElseThrow(() -> new DtLoaderException("not find any file to combine on " + sourcePath));
+        initMetaData(largest);
+    }
+
+    /**
+     * 读取文件元信息
+     *
+     * @param fileStatus 需要合并的小文件中最大的文件
+     * @throws IOException io 异常
+     */
+    protected abstract void initMetaData(FileStatus fileStatus) throws IOException;
+
+    /**
+     * 将一组小文件合并为一个文件，不同分组会并行执行
+     *
+     * @param combineFiles 同一组的小文件
+     * @param mergedFile   合并后的文件
+     * @throws IOException io 异常
+     */
+    protected abstract void combineGroup(List<FileStatus> combineFiles, Path mergedFile) throws IOException;
+
+    /**
+     * 获取合并文件的压缩后缀，不压缩为空字符串
+     */
+    protected abstract String getCompressSuffix();
 
     /**
      * 获取对应文件类型的后缀名
@@ -159,6 +285,18 @@ public abstract class CombineServer {
         this.fs = fs;
     }
 
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 备份、合并任务
+     */
+    @FunctionalInterface
+    private interface CombineTask {
+        void run() throws IOException;
+    }
+
 
     @Override
     public String toString() {
@@ -168,6 +306,7 @@ public abstract class CombineServer {
                 ", configuration=" + FileSystemUtils.printConfiguration(configuration) +
                 ", needCombineFileSizeLimit=" + needCombineFileSizeLimit +
                 ", maxCombinedFileSize=" + maxCombinedFileSize +
+                ", parallelism=" + parallelism +
                 '}';
     }
 }
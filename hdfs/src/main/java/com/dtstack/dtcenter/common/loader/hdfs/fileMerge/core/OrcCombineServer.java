@@ -24,33 +24,26 @@ import com.dtstack.dtcenter.common.loader.hdfs.util.FileSystemUtils;
 import com.dtstack.dtcenter.loader.enums.FileFormat;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.orc.CompressionKind;
 import org.apache.orc.OrcFile;
+import org.apache.orc.OrcProto;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
-import org.apache.orc.TypeDescription;
+import org.apache.orc.StripeInformation;
 import org.apache.orc.Writer;
 
-import java.io.File;
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.stream.Collectors;
-
-import static java.math.BigDecimal.ROUND_HALF_UP;
+import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 public class OrcCombineServer extends CombineServer {
 
-    //文件编号
-    private int index;
-
-    private String mergedFileName;
-
     //orc文件的元信息
     private OrcMetaData metaData;
 
@@ -58,38 +51,37 @@ public class OrcCombineServer extends CombineServer {
     }
 
     @Override
-    protected void doCombine(ArrayList<FileStatus> combineFiles, Path mergedTempPath) throws IOException {
-        init(combineFiles);
+    protected void initMetaData(FileStatus fileStatus) throws IOException {
+        this.metaData = getFileMetaData(fileStatus);
+    }
 
-        Writer writer = null;
-        long currentCount = 0L;
+    /**
+     * 同一组文件的 schema、压缩格式、压缩块大小、行索引间隔和版本都一致时直接拷贝 stripe，不进行解码，
+     * 否则逐批读取后重新编码写入
+     */
+    @Override
+    protected void combineGroup(List<FileStatus> combineFiles, Path mergedFile) throws IOException {
+        List<Reader> readers = new ArrayList<>(combineFiles.size());
+        boolean compatible = true;
+        for (FileStatus fileStatus : combineFiles) {
+            Reader reader = getReader(fileStatus);
+            readers.add(reader);
+            compatible = compatible && isStripeCompatible(reader);
+        }
 
+        Writer writer = null;
         try {
-            for (FileStatus fileStatus : combineFiles) {
-                log.info("start read {}",fileStatus.getPath());
-                Reader reader = getReader(fileStatus);
-
-                RecordReader rows = reader.rows();
-                TypeDescription schema = reader.getSchema();
-                VectorizedRowBatch batch = schema.createRowBatch();
-
-                while (rows.nextBatch(batch)) {
-                    if (writer == null) {
-                        writer = getWriter(index++, mergedFileName);
-                    }
-                    currentCount += batch.size;
-                    if (batch.size != 0) {
-                        writer.addRowBatch(batch);
-                        batch.reset();
-                    }
-                    //如果达到了写入数量阈值 此文件就不会再进行写入
-                    if (currentCount >= metaData.getLimitSize()) {
-                        currentCount = 0L;
-                        writer.close();
-                        writer = null;
-                    }
+            if (compatible) {
+                writer = getStripeWriter(mergedFile);
+                for (int i = 0; i < combineFiles.size(); i++) {
+                    appendStripes(writer, combineFiles.get(i).getPath(), readers.get(i));
+                }
+            } else {
+                log.info("orc files merged into {} are not stripe compatible, rewrite rows", mergedFile);
+                writer = getWriter(mergedFile);
+                for (int i = 0; i < combineFiles.size(); i++) {
+                    rewriteRows(writer, combineFiles.get(i).getPath(), readers.get(i));
                 }
-                rows.close();
             }
         } catch (Exception e) {
             throw new DtLoaderException(String.format("combine file failed,errorMessage :%s", e.getMessage()), e);
@@ -98,42 +90,84 @@ public class OrcCombineServer extends CombineServer {
         }
     }
 
-
-    @Override
-    public String getFileSuffix() {
-        return FileFormat.ORC.name();
+    /**
+     * 直接拷贝 stripe 的原始字节和统计信息
+     */
+    private void appendStripes(Writer writer, Path path, Reader reader) throws IOException {
+        log.info("start append stripes of {}", path);
+        List<StripeInformation> stripes = reader.getStripes();
+        List<OrcProto.StripeStatistics> stripeStatistics = reader.getOrcProtoStripeStatistics();
+        try (FSDataInputStream in = fs.open(path)) {
+            for (int i = 0; i < stripes.size(); i++) {
+                StripeInformation stripe = stripes.get(i);
+                int length = (int) (stripe.getIndexLength() + stripe.getDataLength() + stripe.getFooterLength());
+                byte[] buffer = new byte[length];
+                in.readFully(stripe.getOffset(), buffer, 0, length);
+                writer.appendStripe(buffer, 0, length, stripe, stripeStatistics.get(i));
+            }
+        }
+        writer.appendUserMetadata(reader.getOrcProtoUserMetadata());
     }
 
     /**
-     * 初始化
-     * 文件写入数量阈值 rowCountSplit
-     * 合并文件名字前缀
-     *
-     * @param combineFiles
-     * @throws IOException
+     * 解码后重新写入
      */
-    private void init(ArrayList<FileStatus> combineFiles) throws IOException {
-
-        FileStatus fileStatus = combineFiles.stream()
-                .sorted(Comparator.comparing(FileStatus::getLen).reversed())
-                .collect(Collectors.toList()).get(0);
-
-        this.index = 0;
-        this.mergedFileName = System.currentTimeMillis() + "";
-
-        metaData = getFileMetaData(fileStatus);
+    private void rewriteRows(Writer writer, Path path, Reader reader) throws IOException {
+        log.info("start read {}", path);
+        RecordReader rows = reader.rows();
+        try {
+            VectorizedRowBatch batch = reader.getSchema().createRowBatch();
+            while (rows.nextBatch(batch)) {
+                if (batch.size != 0) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                }
+            }
+        } finally {
+            rows.close();
+        }
     }
 
+    private boolean isStripeCompatible(Reader reader) {
+        return metaData.geteCompressType() != null
+                && Objects.equals(metaData.getSchema(), reader.getSchema())
+                && Objects.equals(metaData.geteCompressType(), getCompressType(reader.getCompressionKind()))
+                && metaData.getCompressionSize() == reader.getCompressionSize()
+                && metaData.getRowIndexStride() == reader.getRowIndexStride()
+                && metaData.getFileVersion() == reader.getFileVersion()
+                && metaData.getWriterVersion() == reader.getWriterVersion();
+    }
 
-    private Writer getWriter(int index, String radonPath) throws IOException {
+    @Override
+    public String getFileSuffix() {
+        return FileFormat.ORC.name();
+    }
 
-        String combineFileName = mergedTempPath.toString() + File.separator
-                + radonPath + index + "." + getFileSuffix();
+    @Override
+    protected String getCompressSuffix() {
+        return metaData.isCompressed() ? metaData.geteCompressType().getSuffix() : "";
+    }
 
-        if (metaData.isCompressed()) {
-            combineFileName += metaData.geteCompressType().getSuffix();
-        }
+    /**
+     * 拷贝 stripe 使用的 writer，压缩参数需要和源文件完全一致
+     */
+    private Writer getStripeWriter(Path mergedFile) throws IOException {
+        OrcFile.WriterOptions writerOptions = OrcFile.writerOptions(configuration)
+                .fileSystem(fs)
+                .setSchema(metaData.getSchema())
+                .compress(CompressionKind.valueOf(metaData.geteCompressType().getType()))
+                .bufferSize(metaData.getCompressionSize())
+                // 宽表时 writer 会按字段数估算更小的压缩块，footer 中记录的压缩块和拷贝的 stripe 不一致会导致无法解压
+                .enforceBufferSize()
+                .rowIndexStride(metaData.getRowIndexStride())
+                .version(metaData.getFileVersion())
+                .blockPadding(false);
+
+        log.info("switch stripe writer,the new path is {},compress is {}", mergedFile, writerOptions.getCompress());
+        return OrcFile.createWriter(mergedFile, writerOptions);
+    }
 
+    private Writer getWriter(Path mergedFile) throws IOException {
         try {
             OrcFile.WriterOptions writerOptions = OrcFile.writerOptions(configuration)
                     .fileSystem(fs)
@@ -148,8 +182,8 @@ public class OrcCombineServer extends CombineServer {
                 writerOptions.compress(CompressionKind.NONE);
             }
 
-            log.info("switch writer,the new path is {},compress is {}", combineFileName, writerOptions.getCompress());
-            return OrcFile.createWriter(new Path(combineFileName), writerOptions);
+            log.info("switch writer,the new path is {},compress is {}", mergedFile, writerOptions.getCompress());
+            return OrcFile.createWriter(mergedFile, writerOptions);
 
         } catch (IOException e) {
             throw new DtLoaderException(String.format("switch writer failed,%s", e.getMessage()), e);
@@ -159,7 +193,7 @@ public class OrcCombineServer extends CombineServer {
 
     private Reader getReader(FileStatus fileStatus) throws IOException {
         return OrcFile.createReader(fileStatus.getPath(),
-                OrcFile.readerOptions(configuration));
+                OrcFile.readerOptions(configuration).filesystem(fs));
     }
 
     private void cleanPackage(Writer writer) {
@@ -172,17 +206,21 @@ public class OrcCombineServer extends CombineServer {
         }
     }
 
+    private ECompressType getCompressType(CompressionKind compressionKind) {
+        return ECompressType.getByTypeAndFileType(compressionKind.name(), "orc");
+    }
+
     protected OrcMetaData getFileMetaData(FileStatus fileStatus) throws IOException {
         OrcMetaData orcMetaData = new OrcMetaData();
         Reader reader = getReader(fileStatus);
         CompressionKind compressionKind = reader.getCompressionKind();
         orcMetaData.setSchema(reader.getSchema());
-        orcMetaData.seteCompressType(ECompressType.getByTypeAndFileType(compressionKind.name(), "orc"));
+        orcMetaData.seteCompressType(getCompressType(compressionKind));
         orcMetaData.setCompressed(orcMetaData.geteCompressType() != null && !compressionKind.equals(CompressionKind.NONE));
-
-        long rowSize = reader.getNumberOfRows();
-        BigDecimal divide = new BigDecimal(rowSize + "").divide(new BigDecimal(fileStatus.getLen() + ""), 8, ROUND_HALF_UP);
-        orcMetaData.setLimitSize(new BigDecimal(maxCombinedFileSize + "").multiply(divide).longValue());
+        orcMetaData.setCompressionSize(reader.getCompressionSize());
+        orcMetaData.setRowIndexStride(reader.getRowIndexStride());
+        orcMetaData.setFileVersion(reader.getFileVersion());
+        orcMetaData.setWriterVersion(reader.getWriterVersion());
 
         log.info("FileMeatData info {}", orcMetaData);
         return orcMetaData;
@@ -30,64 +30,89 @@ import org.apache.hadoop.fs.Path;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.format.CompressionCodec;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.example.ExampleParquetWriter;
 import org.apache.parquet.hadoop.example.GroupReadSupport;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 
-import java.io.File;
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import static java.math.BigDecimal.ROUND_HALF_UP;
 
 @Slf4j
 public class ParquetCombineServer extends CombineServer {
 
-    private int index;
-
-    private String mergedFileName;
-
     private ParquetMetaData metadata;
 
     public ParquetCombineServer() {
     }
 
     @Override
-    protected void doCombine(ArrayList<FileStatus> combineFiles, Path mergedTempPath) throws IOException {
-        init(combineFiles);
+    protected void initMetaData(FileStatus fileStatus) {
+        this.metadata = getFileMetaData(fileStatus);
+    }
 
-        List<Path> paths = combineFiles.stream().map(FileStatus::getPath).collect(Collectors.toList());
+    /**
+     * 同一组文件的 schema 和压缩格式都一致时直接拷贝 row group，不进行解码，否则逐行读取后重新编码写入
+     */
+    @Override
+    protected void combineGroup(List<FileStatus> combineFiles, Path mergedFile) throws IOException {
+        List<ParquetMetadata> footers = new ArrayList<>(combineFiles.size());
+        boolean compatible = true;
+        for (FileStatus fileStatus : combineFiles) {
+            ParquetMetadata footer = ParquetFileReader.readFooter(configuration, fileStatus, ParquetMetadataConverter.NO_FILTER);
+            footers.add(footer);
+            compatible = compatible && isRowGroupCompatible(footer);
+        }
 
-        ParquetWriter<Group> writer = null;
+        if (compatible) {
+            appendRowGroups(combineFiles, footers, mergedFile);
+        } else {
+            log.info("parquet files merged into {} are not row group compatible, rewrite rows", mergedFile);
+            rewriteRows(combineFiles, mergedFile);
+        }
+    }
 
-        long currentCount = 0L;
+    /**
+     * 直接拷贝 row group 的原始字节
+     */
+    private void appendRowGroups(List<FileStatus> combineFiles, List<ParquetMetadata> footers, Path mergedFile) throws IOException {
+        log.info("switch row group writer,the new path is {}", mergedFile);
+        ParquetFileWriter writer = new ParquetFileWriter(configuration, metadata.getSchema(), mergedFile, ParquetFileWriter.Mode.CREATE);
         try {
-            for (Path path : paths) {
-                log.info("start read {}",path);
-                GroupReadSupport readSupport = new GroupReadSupport();
-                ParquetReader.Builder<Group> builder = ParquetReader.builder(readSupport, path).withConf(configuration);
-                ParquetReader<Group> reader = builder.build();
-                Group line;
-                while ((line = reader.read()) != null) {
-                    if (writer == null) {
-                        writer = getWriter(index++, mergedFileName);
-                    }
-
-                    currentCount++;
-                    writer.write(line);
+            writer.start();
+            for (FileStatus fileStatus : combineFiles) {
+                log.info("start append row groups of {}", fileStatus.getPath());
+                writer.appendFile(configuration, fileStatus.getPath());
+            }
+            writer.end(footers.get(0).getFileMetaData().getKeyValueMetaData());
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("combine file failed,errorMessage: %s", e.getMessage()), e);
+        }
+    }
 
-                    if (currentCount >= metadata.getLimitSize()) {
-                        currentCount = 0L;
-                        writer.close();
-                        writer = null;
+    /**
+     * 解码后重新写入
+     */
+    private void rewriteRows(List<FileStatus> combineFiles, Path mergedFile) {
+        ParquetWriter<Group> writer = null;
+        try {
+            writer = getWriter(mergedFile);
+            for (FileStatus fileStatus : combineFiles) {
+                log.info("start read {}", fileStatus.getPath());
+                GroupReadSupport readSupport = new GroupReadSupport();
+                ParquetReader.Builder<Group> builder = ParquetReader.builder(readSupport, fileStatus.getPath()).withConf(configuration);
+                try (ParquetReader<Group> reader = builder.build()) {
+                    Group line;
+                    while ((line = reader.read()) != null) {
+                        writer.write(line);
                     }
                 }
             }
@@ -98,39 +123,33 @@ public class ParquetCombineServer extends CombineServer {
         }
     }
 
+    private boolean isRowGroupCompatible(ParquetMetadata footer) {
+        if (!metadata.getSchema().equals(footer.getFileMetaData().getSchema())) {
+            return false;
+        }
+        for (BlockMetaData block : footer.getBlocks()) {
+            for (ColumnChunkMetaData column : block.getColumns()) {
+                if (getCompressType(column.getCodec()) != metadata.geteCompressType()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public String getFileSuffix() {
         return FileFormat.PARQUET.name();
     }
 
-
-    /**
-     * 初始化
-     * 文件写入数量阈值 rowCountSplit
-     * 合并文件名字前缀
-     */
-    private void init(ArrayList<FileStatus> combineFiles) throws IOException {
-
-        FileStatus fileStatus = combineFiles.stream()
-                .sorted(Comparator.comparing(FileStatus::getLen).reversed())
-                .collect(Collectors.toList()).get(0);
-
-        this.index = 0;
-        this.mergedFileName = System.currentTimeMillis() + "";
-        this.metadata = getFileMetaData(fileStatus);
+    @Override
+    protected String getCompressSuffix() {
+        return metadata.isCompressed() ? metadata.geteCompressType().getSuffix() : "";
     }
 
-
-    private ParquetWriter<Group> getWriter(int id, String mergedFileName) throws IOException {
-        String combineFileName = mergedTempPath.toString() + File.separator
-                + mergedFileName + id + "." + getFileSuffix();
-
-        if (metadata.isCompressed()) {
-            combineFileName += metadata.geteCompressType().getSuffix();
-        }
-
+    private ParquetWriter<Group> getWriter(Path mergedFile) throws IOException {
         ExampleParquetWriter.Builder builder = ExampleParquetWriter
-                .builder(new Path(combineFileName))
+                .builder(mergedFile)
                 .withWriteMode(org.apache.parquet.hadoop.ParquetFileWriter.Mode.CREATE)
                 .withWriterVersion(ParquetProperties.WriterVersion.PARQUET_1_0)
                 .withRowGroupSize(org.apache.parquet.hadoop.ParquetWriter.DEFAULT_BLOCK_SIZE)
@@ -143,7 +162,7 @@ public class ParquetCombineServer extends CombineServer {
             builder.withCompressionCodec(CompressionCodecName.UNCOMPRESSED);
         }
 
-        log.info("switch writer,the new path is {}", combineFileName);
+        log.info("switch writer,the new path is {}", mergedFile);
         return builder.build();
     }
 
@@ -157,6 +176,10 @@ public class ParquetCombineServer extends CombineServer {
         }
     }
 
+    private ECompressType getCompressType(CompressionCodecName codecName) {
+        return ECompressType.getByTypeAndFileType(codecName.name(), "parquet");
+    }
+
     protected ParquetMetaData getFileMetaData(FileStatus fileStatus) {
         ParquetMetaData metaData = new ParquetMetaData();
         try (ParquetFileReader parquetFileReader = ParquetFileReader.open(configuration, fileStatus.getPath())) {
@@ -166,14 +189,8 @@ public class ParquetCombineServer extends CombineServer {
                 BlockMetaData blockMetaData = blocks.get(0);
                 CompressionCodec compressionCodec = CompressionCodec.valueOf(blockMetaData.getColumns().get(0).getCodec().toString());
 
-                //小文件的数据大小
-                long compressedSize = blockMetaData.getCompressedSize();
-                //小文件的行数
-                long rowSize = blockMetaData.getRowCount();
-                BigDecimal limitRows = new BigDecimal(rowSize + "").divide(new BigDecimal(compressedSize + ""), 8, ROUND_HALF_UP);
                 metaData.seteCompressType(ECompressType.getByTypeAndFileType(compressionCodec.name(), "parquet"));
                 metaData.setCompressed(metaData.geteCompressType() != null && !compressionCodec.equals(CompressionCodec.UNCOMPRESSED));
-                metaData.setLimitSize(new BigDecimal(maxCombinedFileSize + "").multiply(limitRows).longValue());
             }
         } catch (IOException e) {
             throw new DtLoaderException(String.format("ParquetFileReader open error,%s", e.getMessage()), e);
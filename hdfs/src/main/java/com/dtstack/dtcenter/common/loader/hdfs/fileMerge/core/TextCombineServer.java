@@ -30,76 +30,74 @@ import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.IOUtils;
 
-import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 public class TextCombineServer extends CombineServer {
 
-    private int index;
-
-    private String mergedFileName;
+    /**
+     * 拷贝缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private FileMetaData fileMetaData;
 
     public TextCombineServer() {
     }
 
+    /**
+     * 源文件压缩格式和合并文件一致时直接拷贝原始字节，gzip 多个 member 拼接后仍然是合法的 gzip 文件；
+     * 其余情况解压后重新压缩写入
+     */
     @Override
-    protected void doCombine(ArrayList<FileStatus> combineFiles, Path mergedTempPath) throws IOException {
-        init(combineFiles);
-
-        //文件大小是128M
-
-        //定义缓冲区大小4096
-        byte[] buf = new byte[4096];
+    protected void combineGroup(List<FileStatus> combineFiles, Path mergedFile) throws IOException {
+        byte[] buf = new byte[BUFFER_SIZE];
+        OutputStream rawOut = null;
         OutputStream out = null;
         InputStream in = null;
         try {
-            long currentSize = 0L;
-            //todo 每次读取判断读取的字节数是否到128M个字节 到了就重新新建一个out流
+            rawOut = fs.create(mergedFile);
+            log.info("switch writer,the new path is  {}", mergedFile);
             for (FileStatus fileStatus : combineFiles) {
-                // 打开输入流
-                in = getInputStream(fileStatus.getPath());
                 log.info("start read {}", fileStatus.getPath());
-                while (true) {
-                    int read = in.read(buf, 0, 4096);
-                    if (read == -1) {
-                        IOUtils.closeStream(in);
-                        //只有当前小文件读取完毕 才进行文件切割判断
-                        if (currentSize >= fileMetaData.getLimitSize()) {
-                            IOUtils.closeStream(out);
-                            out = null;
-                            currentSize = 0;
-                        }
-                        break;
+                ECompressType compressType = getCompressType(fileStatus.getPath());
+                if (canCopyRaw(compressType)) {
+                    // 压缩流需要先结束当前 member 再拷贝原始字节
+                    if (out != null && out != rawOut) {
+                        out.close();
+                        out = null;
                     }
-                    currentSize += read;
-
+                    in = fs.open(fileStatus.getPath());
+                    IOUtils.copyBytes(in, rawOut, BUFFER_SIZE, false);
+                } else {
                     if (out == null) {
-                        out = getOutStream(index++, mergedFileName);
+                        out = getOutStream(rawOut);
+                    }
+                    in = getInputStream(fileStatus.getPath(), compressType);
+                    int read;
+                    while ((read = in.read(buf, 0, BUFFER_SIZE)) != -1) {
+                        out.write(buf, 0, read);
                     }
-
-                    out.write(buf, 0, read);
                 }
+                IOUtils.closeStream(in);
+                in = null;
             }
-
+            if (out != null && out != rawOut) {
+                out.close();
+            }
+            rawOut.close();
+            rawOut = null;
         } catch (Exception e) {
             throw new DtLoaderException(String.format("combine file failed,errorMessage :%s ", e.getMessage()), e);
         } finally {
-            cleanSource(in, out);
+            cleanSource(in, rawOut);
         }
-
     }
 
     @Override
@@ -107,66 +105,88 @@ public class TextCombineServer extends CombineServer {
         return FileFormat.TEXT.name();
     }
 
+    @Override
+    protected String getCompressSuffix() {
+        return fileMetaData.isCompressed() ? fileMetaData.geteCompressType().getSuffix() : "";
+    }
+
     /**
-     * 初始化
-     * 合并文件名字前缀
+     * 初始化合并文件的压缩格式
      */
-    private void init(List<FileStatus> combineFiles) throws IOException{
-        this.index = 0;
-        this.mergedFileName = System.currentTimeMillis() + "";
-        FileStatus fileStatus = combineFiles.stream()
-                .sorted(Comparator.comparing(FileStatus::getLen).reversed())
-                .collect(Collectors.toList()).get(0);
-
+    @Override
+    protected void initMetaData(FileStatus fileStatus) throws IOException {
         FileMetaData metaData = new FileMetaData();
-        if (FileSystemUtils.isBzip2(fileStatus.getPath(), fs)) {
-            metaData.setCompressed(true);
-            metaData.seteCompressType(ECompressType.TEXT_BZIP2);
-        } else if (FileSystemUtils.isGzip(fileStatus.getPath(), fs)) {
-            metaData.setCompressed(true);
-            metaData.seteCompressType(ECompressType.TEXT_GZIP);
-        } else {
-            metaData.setCompressed(false);
-            metaData.seteCompressType(ECompressType.TEXT_NONE);
-        }
-        //metaData.geteCompressType().getDeviation()  这个压缩比 是将压缩后的文件大小/压缩前大小得到的值
-        metaData.setLimitSize(new BigDecimal(maxCombinedFileSize + "").divide(new BigDecimal(metaData.geteCompressType().getDeviation() + ""), 1, RoundingMode.HALF_UP).longValue());
+        ECompressType compressType = getCompressType(fileStatus.getPath());
+        metaData.setCompressed(!ECompressType.TEXT_NONE.equals(compressType));
+        metaData.seteCompressType(compressType);
 
         this.fileMetaData = metaData;
         log.info("FileMeatData info  {}", metaData);
     }
 
-    private InputStream getInputStream(Path path) throws IOException {
-        //打开文件流
+    private ECompressType getCompressType(Path path) throws IOException {
         if (FileSystemUtils.isBzip2(path, fs)) {
-            return new BZip2CompressorInputStream(fs.open(path));
+            return ECompressType.TEXT_BZIP2;
         } else if (FileSystemUtils.isGzip(path, fs)) {
+            return ECompressType.TEXT_GZIP;
+        }
+        return ECompressType.TEXT_NONE;
+    }
+
+    /**
+     * 是否可以直接拷贝原始字节
+     */
+    private boolean canCopyRaw(ECompressType compressType) {
+        return compressType.equals(fileMetaData.geteCompressType())
+                && (ECompressType.TEXT_NONE.equals(compressType) || ECompressType.TEXT_GZIP.equals(compressType));
+    }
+
+    private InputStream getInputStream(Path path, ECompressType compressType) throws IOException {
+        //打开文件流
+        if (ECompressType.TEXT_BZIP2.equals(compressType)) {
+            return new BZip2CompressorInputStream(fs.open(path));
+        } else if (ECompressType.TEXT_GZIP.equals(compressType)) {
             return new GZIPInputStream(fs.open(path));
         } else {
             return fs.open(path);
         }
     }
-    private OutputStream getOutStream(int index, String mergedFileName) throws IOException {
-        String combineFileName = mergedTempPath.toString() + File.separator
-                + mergedFileName + index + "." + getFileSuffix();
-        if (fileMetaData.isCompressed()) {
-            combineFileName += fileMetaData.geteCompressType().getSuffix();
-        }
-
-        log.info("switch writer,the new path is  {}", combineFileName);
 
+    /**
+     * 在合并文件输出流上包装压缩流，不压缩时直接返回原始输出流
+     */
+    private OutputStream getOutStream(OutputStream rawOut) throws IOException {
         if (fileMetaData.isCompressed()) {
             if (fileMetaData.geteCompressType().equals(ECompressType.TEXT_BZIP2)) {
-                return new BZip2CompressorOutputStream(fs.create(new Path(combineFileName)));
+                return new BZip2CompressorOutputStream(new NonClosingOutputStream(rawOut));
             } else if (fileMetaData.geteCompressType().equals(ECompressType.TEXT_GZIP)) {
-                return new GZIPOutputStream(fs.create(new Path(combineFileName)));
+                return new GZIPOutputStream(new NonClosingOutputStream(rawOut));
             } else {
                 throw new DtLoaderException("not support " + fileMetaData.geteCompressType().getType() + " compress");
             }
         } else {
-            return fs.create(new Path(combineFileName));
+            return rawOut;
         }
+    }
+
+    /**
+     * close 时只 flush 的输出流，关闭压缩流时只结束当前压缩 member，不关闭合并文件输出流
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
 
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
     private void cleanSource(InputStream in, OutputStream out) {
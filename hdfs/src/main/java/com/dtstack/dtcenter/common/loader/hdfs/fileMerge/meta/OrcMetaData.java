@@ -18,6 +18,7 @@
 
 package com.dtstack.dtcenter.common.loader.hdfs.fileMerge.meta;
 
+import org.apache.orc.OrcFile;
 import org.apache.orc.TypeDescription;
 
 /**
@@ -27,6 +28,18 @@ public class OrcMetaData extends FileMetaData {
     //新的orc文件的schema
     private TypeDescription schema;
 
+    //压缩块大小
+    private int compressionSize;
+
+    //行索引间隔
+    private int rowIndexStride;
+
+    //文件版本
+    private OrcFile.Version fileVersion;
+
+    //写入文件的 writer 版本
+    private OrcFile.WriterVersion writerVersion;
+
     public TypeDescription getSchema() {
         return schema;
     }
@@ -34,4 +47,48 @@ public class OrcMetaData extends FileMetaData {
     public void setSchema(TypeDescription schema) {
         this.schema = schema;
     }
+
+    public int getCompressionSize() {
+        return compressionSize;
+    }
+
+    public void setCompressionSize(int compressionSize) {
+        this.compressionSize = compressionSize;
+    }
+
+    public int getRowIndexStride() {
+        return rowIndexStride;
+    }
+
+    public void setRowIndexStride(int rowIndexStride) {
+        this.rowIndexStride = rowIndexStride;
+    }
+
+    public OrcFile.Version getFileVersion() {
+        return fileVersion;
+    }
+
+    public void setFileVersion(OrcFile.Version fileVersion) {
+        this.fileVersion = fileVersion;
+    }
+
+    public OrcFile.WriterVersion getWriterVersion() {
+        return writerVersion;
+    }
+
+    public void setWriterVersion(OrcFile.WriterVersion writerVersion) {
+        this.writerVersion = writerVersion;
+    }
+
+    @Override
+    public String toString() {
+        return "OrcMetaData{" +
+                "schema=" + schema +
+                ", compressionSize=" + compressionSize +
+                ", rowIndexStride=" + rowIndexStride +
+                ", fileVersion=" + fileVersion +
+                ", writerVersion=" + writerVersion +
+                ", " + super.toString() +
+                '}';
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.hdfs.hdfswriter;
+
+import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
+import com.dtstack.dtcenter.loader.dto.HDFSImportColumn;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.hive.common.type.HiveDecimal;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 字段值转换器，每个字段在导入开始时解析一次类型，避免逐个单元格比较类型名称
+ * <p>
+ * SimpleDateFormat 非线程安全，多线程使用时每个线程需要通过 {@link #copy()} 获取自己的实例
+ *
+ * @author ：wangchuan
+ * date：Created in 下午4:10 2026/10/18
+ * company: www.dtstack.com
+ */
+public class HdfsColumnConverter {
+
+    /**
+     * 字段类型
+     */
+    public enum ColumnType {
+        TINYINT, SMALLINT, INT, BIGINT, FLOAT, DOUBLE, DECIMAL, TIMESTAMP, DATE, STRING, BOOLEAN, BINARY;
+
+        /**
+         * 根据字段类型名称解析，匹配规则和 {@link HdfsWriter#convertToTargetType} 保持一致
+         *
+         * @param typeName 字段类型名称，如 int、varchar(255)、decimal(10,2)
+         * @return 字段类型
+         */
+        public static ColumnType of(String typeName) {
+            String type = StringUtils.trimToEmpty(typeName).toLowerCase(Locale.ENGLISH);
+            if (type.startsWith("char") || type.startsWith("varchar") || type.startsWith("string")) {
+                return STRING;
+            }
+            // int 和 integer
+            if (type.startsWith("int")) {
+                return INT;
+            }
+            if (type.startsWith("tinyint")) {
+                return TINYINT;
+            }
+            if (type.startsWith("smallint")) {
+                return SMALLINT;
+            }
+            if (type.startsWith("bigint")) {
+                return BIGINT;
+            }
+            if (type.startsWith("float")) {
+                return FLOAT;
+            }
+            if (type.startsWith("double")) {
+                return DOUBLE;
+            }
+            if (type.startsWith("decimal")) {
+                return DECIMAL;
+            }
+            if (type.startsWith("boolean")) {
+                return BOOLEAN;
+            }
+            if (type.startsWith("timestamp")) {
+                return TIMESTAMP;
+            }
+            if (type.startsWith("date")) {
+                return DATE;
+            }
+            if (type.startsWith("binary")) {
+                return BINARY;
+            }
+            throw new DtLoaderException("not support of column type" + typeName);
+        }
+    }
+
+    private final ColumnType columnType;
+
+    private final SimpleDateFormat dateFormat;
+
+    private final boolean setDefault;
+
+    /**
+     * timestamp 类型的纯数字值是否优先作为毫秒时间戳处理，只有 parquet 沿用该规则，
+     * text、orc 优先使用日期格式，避免 yyyyMMdd 等纯数字格式被当成时间戳
+     */
+    private final boolean numericTimestampFirst;
+
+    public HdfsColumnConverter(ColumnType columnType, SimpleDateFormat dateFormat, boolean setDefault) {
+        this(columnType, dateFormat, setDefault, false);
+    }
+
+    public HdfsColumnConverter(ColumnType columnType, SimpleDateFormat dateFormat, boolean setDefault, boolean numericTimestampFirst) {
+        this.columnType = columnType;
+        this.dateFormat = dateFormat;
+        this.setDefault = setDefault;
+        this.numericTimestampFirst = numericTimestampFirst;
+    }
+
+    /**
+     * 解析所有字段的转换器
+     *
+     * @param columnsList 表字段信息
+     * @param keyList     导入字段信息，用于获取日期格式
+     * @param setDefault  空值是否设置默认值
+     * @param numericTimestampFirst timestamp 类型的纯数字值是否优先作为毫秒时间戳处理
+     * @return 与 columnsList 下标对应的转换器
+     */
+    public static HdfsColumnConverter[] resolve(List<ColumnMetaDTO> columnsList, List<HDFSImportColumn> keyList, boolean setDefault,
+                                                boolean numericTimestampFirst) {
+        HdfsColumnConverter[] converters = new HdfsColumnConverter[columnsList.size()];
+        for (int i = 0; i < columnsList.size(); i++) {
+            SimpleDateFormat dateFormat = keyList != null && i < keyList.size() ? keyList.get(i).getDateFormat() : null;
+            converters[i] = new HdfsColumnConverter(ColumnType.of(columnsList.get(i).getType()), dateFormat, setDefault, numericTimestampFirst);
+        }
+        return converters;
+    }
+
+    /**
+     * 复制转换器数组，供其他线程使用
+     *
+     * @param converters 转换器数组
+     * @return 新的转换器数组
+     */
+    public static HdfsColumnConverter[] copy(HdfsColumnConverter[] converters) {
+        HdfsColumnConverter[] copies = new HdfsColumnConverter[converters.length];
+        for (int i = 0; i < converters.length; i++) {
+            copies[i] = converters[i].copy();
+        }
+        return copies;
+    }
+
+    /**
+     * 复制转换器，日期格式会被 clone
+     *
+     * @return 新的转换器
+     */
+    public HdfsColumnConverter copy() {
+        SimpleDateFormat format = dateFormat == null ? null : (SimpleDateFormat) dateFormat.clone();
+        return new HdfsColumnConverter(columnType, format, setDefault, numericTimestampFirst);
+    }
+
+    public ColumnType getColumnType() {
+        return columnType;
+    }
+
+    /**
+     * 转换字段值
+     *
+     * @param columnVal 字段值
+     * @return 转换后的对象，空值返回 null
+     * @throws ParseException 日期类型解析异常
+     */
+    public Object convert(String columnVal) throws ParseException {
+        if (StringUtils.isBlank(columnVal)) {
+            // 不设置默认值返回 null
+            return setDefault ? defaultValue() : null;
+        }
+        if (HdfsWriter.DEFAULT_NULL.equalsIgnoreCase(columnVal)) {
+            return null;
+        }
+        switch (columnType) {
+            case STRING:
+            case BINARY:
+                // binary 类型用文件类型导入只能导入字符串
+                return columnVal;
+            case INT:
+                return Integer.valueOf(columnVal);
+            case TINYINT:
+                return Byte.valueOf(columnVal);
+            case SMALLINT:
+                return Short.valueOf(columnVal);
+            case BIGINT:
+                return Long.valueOf(columnVal);
+            case FLOAT:
+                return Float.valueOf(columnVal);
+            case DOUBLE:
+                return Double.valueOf(columnVal);
+            case DECIMAL:
+                return HiveDecimal.create(new BigDecimal(columnVal));
+            case BOOLEAN:
+                return Boolean.valueOf(columnVal);
+            case TIMESTAMP:
+                if (numericTimestampFirst && StringUtils.isNumeric(columnVal)) {
+                    // 毫秒时间戳
+                    return new Timestamp(Long.parseLong(columnVal));
+                }
+                if (dateFormat != null) {
+                    return new Timestamp(dateFormat.parse(columnVal).getTime());
+                }
+                // 格式必须符合'yyyy-MM-dd HH:mm:ss'
+                return Timestamp.valueOf(columnVal);
+            case DATE:
+                if (dateFormat != null) {
+                    return new Date(dateFormat.parse(columnVal).getTime());
+                }
+                // 格式必须符合'yyyy-MM-dd'
+                return Date.valueOf(columnVal);
+            default:
+                throw new DtLoaderException("not support of column type" + columnType);
+        }
+    }
+
+    /**
+     * 空白字符串的默认值
+     */
+    private Object defaultValue() {
+        switch (columnType) {
+            case INT:
+                return 0;
+            case TINYINT:
+                return (byte) 0;
+            case SMALLINT:
+                return (short) 0;
+            case BIGINT:
+                return 0L;
+            case FLOAT:
+                return 0f;
+            case DOUBLE:
+                return 0.0;
+            case DECIMAL:
+                return HiveDecimal.ZERO;
+            case BOOLEAN:
+                return false;
+            case TIMESTAMP:
+            case DATE:
+                return null;
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.hdfs.hdfswriter;
+
+import com.csvreader.CsvReader;
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
+import com.dtstack.dtcenter.loader.dto.HDFSImportColumn;
+import com.dtstack.dtcenter.loader.dto.HdfsWriterDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.security.PrivilegedExceptionAction;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 本地文件导入 hdfs 的流水线：
+ * <p>
+ * 1. 调用线程解析 CSV，按批次放入有界队列
+ * 2. 多个工作线程使用预先解析好的 {@link HdfsColumnConverter} 转换字段值
+ * 3. 每个工作线程写入自己的文件，超过 maxFileSize 后滚动生成新文件
+ * <p>
+ * 导入失败时会删除本次导入已经生成的文件
+ *
+ * @author ：wangchuan
+ * date：Created in 下午4:10 2026/10/18
+ * company: www.dtstack.com
+ */
+public class HdfsImportPipeline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HdfsImportPipeline.class);
+
+    /**
+     * 每个批次的行数
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * 默认最大并行度
+     */
+    private static final int DEFAULT_MAX_PARALLELISM = 4;
+
+    /**
+     * 默认单个文件最大字节数 256M
+     */
+    private static final long DEFAULT_MAX_FILE_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * 队列等待超时时间，超时后检查是否已经失败
+     */
+    private static final long POLL_TIMEOUT_MILLS = 200L;
+
+    /**
+     * 结束标识
+     */
+    private static final RowBatch END = new RowBatch(0);
+
+    private final HdfsWriterDTO hdfsWriterDTO;
+
+    private final FileSystem fs;
+
+    private final HdfsRowSink.Factory sinkFactory;
+
+    /**
+     * 按名称匹配时是否去除字段值首尾空白
+     */
+    private final boolean trimValue;
+
+    /**
+     * timestamp 类型的纯数字值是否优先作为毫秒时间戳处理
+     */
+    private final boolean numericTimestampFirst;
+
+    private final int columnSize;
+
+    private final int parallelism;
+
+    private final long maxFileSize;
+
+    private final BlockingQueue<RowBatch> queue;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * 本次导入创建的所有文件
+     */
+    private final Queue<Path> createdPaths = new ConcurrentLinkedQueue<>();
+
+    private HdfsImportPipeline(HdfsWriterDTO hdfsWriterDTO, FileSystem fs, HdfsRowSink.Factory sinkFactory, boolean trimValue,
+                               boolean numericTimestampFirst) {
+        this.hdfsWriterDTO = hdfsWriterDTO;
+        this.fs = fs;
+        this.sinkFactory = sinkFactory;
+        this.trimValue = trimValue;
+        this.numericTimestampFirst = numericTimestampFirst;
+        this.columnSize = hdfsWriterDTO.getColumnsList().size();
+        Integer writeParallelism = ReflectUtil.getFieldValueNotThrow(Integer.class, hdfsWriterDTO, "writeParallelism", null, null);
+        this.parallelism = writeParallelism != null && writeParallelism > 0 ? writeParallelism
+                : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_PARALLELISM));
+        Long fileSize = ReflectUtil.getFieldValueNotThrow(Long.class, hdfsWriterDTO, "maxFileSize", null, null);
+        this.maxFileSize = fileSize != null && fileSize > 0 ? fileSize : DEFAULT_MAX_FILE_SIZE;
+        this.queue = new ArrayBlockingQueue<>(parallelism * 2);
+    }
+
+    /**
+     * 按位置写入
+     *
+     * @param hdfsWriterDTO hdfs 写入配置类
+     * @param fs            hdfs 文件系统
+     * @param sinkFactory   文件写入器工厂
+     * @return 写入条数
+     * @throws IOException io 异常
+     */
+    public static int writeByPos(HdfsWriterDTO hdfsWriterDTO, FileSystem fs, HdfsRowSink.Factory sinkFactory) throws IOException {
+        return writeByPos(hdfsWriterDTO, fs, sinkFactory, false);
+    }
+
+    /**
+     * 按位置写入
+     *
+     * @param hdfsWriterDTO         hdfs 写入配置类
+     * @param fs                    hdfs 文件系统
+     * @param sinkFactory           文件写入器工厂
+     * @param numericTimestampFirst timestamp 类型的纯数字值是否优先作为毫秒时间戳处理
+     * @return 写入条数
+     * @throws IOException io 异常
+     */
+    public static int writeByPos(HdfsWriterDTO hdfsWriterDTO, FileSystem fs, HdfsRowSink.Factory sinkFactory,
+                                 boolean numericTimestampFirst) throws IOException {
+        return new HdfsImportPipeline(hdfsWriterDTO, fs, sinkFactory, false, numericTimestampFirst).run(false);
+    }
+
+    /**
+     * 按名称写入，只有首行为标题行才可以使用名称匹配
+     *
+     * @param hdfsWriterDTO hdfs 写入配置类
+     * @param fs            hdfs 文件系统
+     * @param sinkFactory   文件写入器工厂
+     * @param trimValue     是否去除字段值首尾空白
+     * @return 写入条数
+     * @throws IOException io 异常
+     */
+    public static int writeByName(HdfsWriterDTO hdfsWriterDTO, FileSystem fs, HdfsRowSink.Factory sinkFactory, boolean trimValue) throws IOException {
+        return writeByName(hdfsWriterDTO, fs, sinkFactory, trimValue, false);
+    }
+
+    /**
+     * 按名称写入，只有首行为标题行才可以使用名称匹配
+     *
+     * @param hdfsWriterDTO         hdfs 写入配置类
+     * @param fs                    hdfs 文件系统
+     * @param sinkFactory           文件写入器工厂
+     * @param trimValue             是否去除字段值首尾空白
+     * @param numericTimestampFirst timestamp 类型的纯数字值是否优先作为毫秒时间戳处理
+     * @return 写入条数
+     * @throws IOException io 异常
+     */
+    public static int writeByName(HdfsWriterDTO hdfsWriterDTO, FileSystem fs, HdfsRowSink.Factory sinkFactory, boolean trimValue,
+                                  boolean numericTimestampFirst) throws IOException {
+        return new HdfsImportPipeline(hdfsWriterDTO, fs, sinkFactory, trimValue, numericTimestampFirst).run(true);
+    }
+
+    private int run(boolean byName) throws IOException {
+        Boolean isSetDefault = ReflectUtil.getFieldValueNotThrow(Boolean.class, hdfsWriterDTO, "setDefault", true, true);
+        HdfsColumnConverter[] converters = HdfsColumnConverter.resolve(hdfsWriterDTO.getColumnsList(), hdfsWriterDTO.getKeyList(), isSetDefault, numericTimestampFirst);
+        String taskId = UUID.randomUUID().toString();
+        // 工作线程需要使用调用线程的 kerberos 身份
+        UserGroupInformation ugi = UserGroupInformation.getCurrentUser();
+
+        ExecutorService executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("hdfsImport"));
+        List<Future<Integer>> futures = Lists.newArrayListWithCapacity(parallelism);
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                ImportWorker worker = new ImportWorker(String.format("part-%s-%05d", taskId, i), HdfsColumnConverter.copy(converters));
+                futures.add(executor.submit(() -> ugi.doAs((PrivilegedExceptionAction<Integer>) worker::call)));
+            }
+
+            parse(byName);
+
+            int writeLineNum = 0;
+            for (Future<Integer> future : futures) {
+                try {
+                    writeLineNum += future.get();
+                } catch (ExecutionException e) {
+                    failure.compareAndSet(null, e.getCause());
+                }
+            }
+            if (failure.get() == null) {
+                return writeLineNum;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        deleteCreatedFiles();
+        Throwable cause = failure.get();
+        if (cause instanceof DtLoaderException) {
+            throw (DtLoaderException) cause;
+        }
+        throw new DtLoaderException("data import failed: " + cause.getMessage(), cause);
+    }
+
+    /**
+     * 解析 CSV 文件，按批次放入队列
+     */
+    private void parse(boolean byName) throws InterruptedException {
+        int startLine = hdfsWriterDTO.getStartLine();
+        // 按位置写入时首行是标题则内容从下一行开始，按名称写入时 startLine 所在行为标题行
+        if (!byName && BooleanUtils.isTrue(hdfsWriterDTO.getTopLineIsTitle())) {
+            startLine++;
+        }
+
+        int currLineNum = 0;
+        int[] indexes = null;
+        RowBatch batch = new RowBatch(BATCH_SIZE);
+        InputStreamReader inputStreamReader = null;
+        CsvReader reader = null;
+        try {
+            inputStreamReader = HdfsWriter.getReader(hdfsWriterDTO.getFromFileName(), hdfsWriterDTO.getOriCharSet());
+            reader = new CsvReader(inputStreamReader, HdfsWriter.getDelim(hdfsWriterDTO.getFromLineDelimiter()));
+            while (failure.get() == null && reader.readRecord()) {
+                currLineNum++;
+                if (currLineNum < startLine) {
+                    continue;
+                }
+
+                String[] values = reader.getValues();
+                if (byName) {
+                    // 首行为标题行
+                    if (currLineNum == startLine) {
+                        indexes = buildIndexes(values);
+                        continue;
+                    }
+                    values = mapByName(values, indexes);
+                }
+
+                batch.add(values, currLineNum);
+                if (batch.isFull()) {
+                    if (!enqueue(batch)) {
+                        return;
+                    }
+                    batch = new RowBatch(BATCH_SIZE);
+                }
+            }
+            if (batch.size > 0 && !enqueue(batch)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            failure.compareAndSet(null, new DtLoaderException(String.format("the %s row data is abnormal, please check, data import failed", currLineNum), e));
+        } finally {
+            if (reader != null) {
+                reader.close();
+            }
+            if (inputStreamReader != null) {
+                try {
+                    inputStreamReader.close();
+                } catch (IOException e) {
+                    LOG.error("close file reader error", e);
+                }
+            }
+        }
+
+        for (int i = 0; i < parallelism; i++) {
+            if (!enqueue(END)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 根据标题行计算每个导入字段在源文件中的位置，不存在为 -1
+     */
+    private int[] buildIndexes(String[] titles) {
+        List<HDFSImportColumn> keyList = hdfsWriterDTO.getKeyList();
+        int[] indexes = new int[keyList.size()];
+        for (int i = 0; i < keyList.size(); i++) {
+            indexes[i] = -1;
+            String key = StringUtils.trimToNull(keyList.get(i).getKey());
+            if (key == null) {
+                continue;
+            }
+            for (int j = 0; j < titles.length; j++) {
+                if (key.equals(StringUtils.trim(titles[j]))) {
+                    indexes[i] = j;
+                    break;
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * 按照导入字段顺序重排字段值，源文件中不存在的字段值为 null
+     */
+    private String[] mapByName(String[] values, int[] indexes) {
+        String[] mapped = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            if (index != -1 && index < values.length) {
+                mapped[i] = trimValue ? values[index].trim() : values[index];
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * 放入队列，工作线程失败时返回 false
+     */
+    private boolean enqueue(RowBatch batch) throws InterruptedException {
+        while (!queue.offer(batch, POLL_TIMEOUT_MILLS, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deleteCreatedFiles() {
+        for (Path path : createdPaths) {
+            try {
+                fs.delete(path, false);
+            } catch (Exception e) {
+                LOG.error("delete file {} error after import failed", path, e);
+            }
+        }
+    }
+
+    /**
+     * 工作线程，转换字段值并写入自己的文件
+     */
+    private class ImportWorker {
+
+        private final String fileNamePrefix;
+
+        private final HdfsColumnConverter[] converters;
+
+        private HdfsRowSink sink;
+
+        private int fileSeq = 0;
+
+        ImportWorker(String fileNamePrefix, HdfsColumnConverter[] converters) {
+            this.fileNamePrefix = fileNamePrefix;
+            this.converters = converters;
+        }
+
+        Integer call() {
+            Object[] values = new Object[columnSize];
+            int writeLineNum = 0;
+            try {
+                while (true) {
+                    RowBatch batch = queue.poll(POLL_TIMEOUT_MILLS, TimeUnit.MILLISECONDS);
+                    if (failure.get() != null || batch == END) {
+                        break;
+                    }
+                    if (batch == null) {
+                        continue;
+                    }
+                    for (int r = 0; r < batch.size; r++) {
+                        writeRow(batch.rows[r], batch.lineNums[r], values);
+                        writeLineNum++;
+                    }
+                    if (sink != null && sink.getWrittenBytes() >= maxFileSize) {
+                        closeSink();
+                    }
+                }
+                closeSink();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+                try {
+                    closeSink();
+                } catch (Exception closeException) {
+                    LOG.error("close hdfs file writer error", closeException);
+                }
+            }
+            return writeLineNum;
+        }
+
+        private void writeRow(String[] row, int lineNum, Object[] values) {
+            int size = Math.min(row.length, columnSize);
+            try {
+                for (int i = 0; i < size; i++) {
+                    values[i] = converters[i].convert(row[i]);
+                }
+                for (int i = size; i < columnSize; i++) {
+                    values[i] = null;
+                }
+                if (sink == null) {
+                    sink = sinkFactory.create(String.format("%s-%05d", fileNamePrefix, fileSeq++));
+                    createdPaths.add(sink.getPath());
+                }
+                sink.write(values, size);
+            } catch (Exception e) {
+                throw new DtLoaderException(String.format("the %s row data is abnormal, please check, data import failed", lineNum), e);
+            }
+        }
+
+        private void closeSink() throws IOException {
+            if (sink != null) {
+                HdfsRowSink current = sink;
+                sink = null;
+                current.close();
+            }
+        }
+    }
+
+    /**
+     * 一批待转换的数据
+     */
+    private static class RowBatch {
+
+        private final String[][] rows;
+
+        private final int[] lineNums;
+
+        private int size;
+
+        RowBatch(int capacity) {
+            this.rows = new String[capacity][];
+            this.lineNums = new int[capacity];
+        }
+
+        void add(String[] row, int lineNum) {
+            rows[size] = row;
+            lineNums[size] = lineNum;
+            size++;
+        }
+
+        boolean isFull() {
+            return size == rows.length;
+        }
+    }
+}
@@ -18,40 +18,40 @@
 
 package com.dtstack.dtcenter.common.loader.hdfs.hdfswriter;
 
-import com.csvreader.CsvReader;
 import com.dtstack.dtcenter.common.loader.common.utils.DateUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.MathUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.TableUtil;
 import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HadoopConfUtil;
 import com.dtstack.dtcenter.common.loader.hdfs.OrcColumnTypeConverter;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
-import com.dtstack.dtcenter.loader.dto.HDFSImportColumn;
 import com.dtstack.dtcenter.loader.dto.HdfsWriterDTO;
 import com.dtstack.dtcenter.loader.dto.source.HdfsSourceDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
-import com.dtstack.dtcenter.loader.exception.DtLoaderException;
-import com.google.common.collect.Lists;
-import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.common.type.HiveDecimal;
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DecimalColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.TimestampColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.hadoop.hive.ql.io.orc.OrcFile;
 import org.apache.hadoop.hive.ql.io.orc.Writer;
+import org.apache.hadoop.hive.serde2.io.DateWritable;
 import org.apache.hadoop.hive.serde2.io.HiveDecimalWritable;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
-import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * orc文件写入hdfs
@@ -62,13 +62,6 @@ import java.util.UUID;
  */
 public class HdfsOrcWriter {
 
-    private static final Logger logger = LoggerFactory.getLogger(HdfsOrcWriter.class);
-
-    /**
-     * 10行刷新到远程一次
-     **/
-    public static final int FLUSH_LINE_NUM = 1000;
-
     /**
      * 按位置写入
      *
@@ -78,82 +71,11 @@ public class HdfsOrcWriter {
      * @throws IOException io 异常
      */
     public static int writeByPos(ISourceDTO source, HdfsWriterDTO hdfsWriterDTO) throws IOException {
-
         TableUtil.dealColumnType(hdfsWriterDTO.getColumnsList(), OrcColumnTypeConverter::apply);
         HdfsSourceDTO hdfsSourceDTO = (HdfsSourceDTO) source;
-        Boolean topLineIsTitle = hdfsWriterDTO.getTopLineIsTitle();
-        int startLine = hdfsWriterDTO.getStartLine();
-        // 首行是标题则内容从下一行开始
-        if (BooleanUtils.isTrue(topLineIsTitle)) {
-            startLine++;
-        }
-
         Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
-        String typeInfoStr = buildTypeInfo(hdfsWriterDTO.getColumnsList());
-
-        TypeInfo typeInfo = TypeInfoUtils.getTypeInfoFromTypeString(typeInfoStr);
-        ObjectInspector inspector = TypeInfoUtils.getStandardJavaObjectInspectorFromTypeInfo(typeInfo);
-        OrcFile.WriterOptions options = OrcFile.writerOptions(conf).inspector(inspector);
-        List<TypeInfo> structList = ((StructTypeInfo) typeInfo).getAllStructFieldTypeInfos();
-
-        //FIXME 暂时根据uuid生成文件名称--需要改成和hive原始的名称eg: part-0000
-        Path path = new Path(hdfsWriterDTO.getHdfsDirPath(), UUID.randomUUID().toString());
-        Writer writer = OrcFile.createWriter(path, options);
-        int writeLineNum = 0;
-        int currLineNum = 0;
-
-        InputStreamReader inputStreamReader = null;
-        CsvReader reader = null;
-        try {
-            inputStreamReader = HdfsWriter.getReader(hdfsWriterDTO.getFromFileName(), hdfsWriterDTO.getOriCharSet());
-            reader = new CsvReader(inputStreamReader, HdfsWriter.getDelim(hdfsWriterDTO.getFromLineDelimiter()));
-            while (reader.readRecord()) {
-                currLineNum++;
-                if (currLineNum < startLine) {
-                    continue;
-                }
-
-                String[] lineArray = reader.getValues();
-                int size = 0;
-                if (lineArray.length > hdfsWriterDTO.getColumnsList().size()) {
-                    size = hdfsWriterDTO.getColumnsList().size();
-                } else {
-                    size = lineArray.length;
-                }
-
-                List<Object> targetList = Lists.newArrayList();
-                for (int i = 0; i < size; i++) {
-                    targetList.add(HdfsWriter.convertToTargetType(structList.get(i).getTypeName(), lineArray[i], hdfsWriterDTO.getKeyList().get(i).getDateFormat(), hdfsWriterDTO));
-                }
-
-                writer.addRow(targetList);
-                if (writeLineNum % FLUSH_LINE_NUM == 0) {
-                    writer.writeIntermediateFooter();
-                }
-
-                writeLineNum++;
-            }
-        } catch (Exception e) {
-            throw new DtLoaderException("The" + (currLineNum - (topLineIsTitle ? 1 : 0)) + " row of data is abnormal, please check", e);
-        } finally {
-            try {
-                if (writer != null) {
-                    writer.close();
-                }
-
-                if (inputStreamReader != null) {
-                    inputStreamReader.close();
-                }
-
-                if (reader != null) {
-                    reader.close();
-                }
-            } catch (Exception e) {
-                logger.error("Close connection exception", e);
-            }
-        }
-
-        return writeLineNum;
+        FileSystem fs = FileSystem.get(conf);
+        return HdfsImportPipeline.writeByPos(hdfsWriterDTO, fs, sinkFactory(conf, fs, hdfsWriterDTO));
     }
 
     /**
@@ -165,116 +87,27 @@ public class HdfsOrcWriter {
      * @throws IOException io 异常
      */
     public static int writeByName(ISourceDTO source, HdfsWriterDTO hdfsWriterDTO) throws IOException {
-
         TableUtil.dealColumnType(hdfsWriterDTO.getColumnsList(), OrcColumnTypeConverter::apply);
         HdfsSourceDTO hdfsSourceDTO = (HdfsSourceDTO) source;
         Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
-        String typeInfoStr = buildTypeInfo(hdfsWriterDTO.getColumnsList());
+        FileSystem fs = FileSystem.get(conf);
+        return HdfsImportPipeline.writeByName(hdfsWriterDTO, fs, sinkFactory(conf, fs, hdfsWriterDTO), true);
+    }
 
-        int startLine = hdfsWriterDTO.getStartLine();
-        TypeInfo typeInfo = TypeInfoUtils.getTypeInfoFromTypeString(typeInfoStr);
+    private static HdfsRowSink.Factory sinkFactory(Configuration conf, FileSystem fs, HdfsWriterDTO hdfsWriterDTO) {
+        List<ColumnMetaDTO> columnsList = hdfsWriterDTO.getColumnsList();
+        TypeInfo typeInfo = TypeInfoUtils.getTypeInfoFromTypeString(buildTypeInfo(columnsList));
         ObjectInspector inspector = TypeInfoUtils.getStandardJavaObjectInspectorFromTypeInfo(typeInfo);
-        OrcFile.WriterOptions options = OrcFile.writerOptions(conf).inspector(inspector);
-
-        //FIXME 暂时根据uuid生成文件名称--需要改成和hive原始的名称eg: part-0000
-        Path path = new Path(hdfsWriterDTO.getHdfsDirPath(), UUID.randomUUID().toString());
-        Writer writer = OrcFile.createWriter(path, options);
-
-        int currLineNum = 0;
-        int writeLineNum = 0;
-        List<Integer> indexList = Lists.newArrayList();
-        List<TypeInfo> structList = ((StructTypeInfo) typeInfo).getAllStructFieldTypeInfos();
-
-        InputStreamReader inputStreamReader = null;
-        CsvReader reader = null;
-        try {
-            inputStreamReader = HdfsWriter.getReader(hdfsWriterDTO.getFromFileName(), hdfsWriterDTO.getOriCharSet());
-            reader = new CsvReader(inputStreamReader, HdfsWriter.getDelim(hdfsWriterDTO.getFromLineDelimiter()));
-            while (reader.readRecord()) {
-
-                if (currLineNum < (startLine - 1)) {
-                    currLineNum++;
-                    continue;
-                }
-
-                String[] columnArr = reader.getValues();
-                // 首行为标题行
-                if (currLineNum == (startLine - 1)) {
-                    // 计算出需要使用的索引位置
-                    for (HDFSImportColumn importColum : hdfsWriterDTO.getKeyList()) {
-                        if (StringUtils.isBlank(importColum.getKey())) {
-                            indexList.add(-1);
-                        } else {
-                            boolean isMatch = false;
-                            for (int i = 0; i < columnArr.length; i++) {
-                                String name = columnArr[i];
-                                if (StringUtils.isNotEmpty(name)) {
-                                    name = name.trim();
-                                }
-                                String key = importColum.getKey();
-                                if (StringUtils.isNotEmpty(key)) {
-                                    key = key.trim();
-                                }
-                                if (name.equals(key)) {
-                                    indexList.add(i);
-                                    isMatch = true;
-                                    break;
-                                }
-                            }
-
-                            if (!isMatch) {
-                                indexList.add(-1);
-                            }
-                        }
-                    }
-                    currLineNum++;
-                    continue;
-                }
-
-                Object[] recordArr = new Object[indexList.size()];
-
-                for (int i = 0; i < indexList.size(); i++) {
-                    Integer index = indexList.get(i);
-                    String val = null;
-                    //根据schema进行类型转换
-                    if (index != -1 && index <= (columnArr.length - 1)) {
-                        val = columnArr[index].trim();
-                    }
-
-                    TypeInfo struct = structList.get(i);
-                    Object record = HdfsWriter.convertToTargetType(struct.getTypeName(), val, hdfsWriterDTO.getKeyList().get(i).getDateFormat(), hdfsWriterDTO);
-                    recordArr[i] = record;
-                }
-
-                writer.addRow(Arrays.asList(recordArr));
-                if (writeLineNum % FLUSH_LINE_NUM == 0) {
-                    writer.writeIntermediateFooter();
-                }
-
-                currLineNum++;
-                writeLineNum++;
-            }
-        } catch (Exception e) {
-            throw new DtLoaderException("The" + currLineNum + "Row data is abnormal, please check", e);
-        } finally {
-            try {
-                if (writer != null) {
-                    writer.close();
-                }
-
-                if (inputStreamReader != null) {
-                    inputStreamReader.close();
-                }
-
-                if (reader != null) {
-                    reader.close();
-                }
-            } catch (Exception e) {
-                logger.error("Close connection exception", e);
-            }
+        HdfsColumnConverter.ColumnType[] columnTypes = new HdfsColumnConverter.ColumnType[columnsList.size()];
+        for (int i = 0; i < columnsList.size(); i++) {
+            columnTypes[i] = HdfsColumnConverter.ColumnType.of(columnsList.get(i).getType());
         }
-
-        return writeLineNum;
+        return fileName -> {
+            Path path = new Path(hdfsWriterDTO.getHdfsDirPath(), fileName);
+            OrcFile.WriterOptions options = OrcFile.writerOptions(conf).inspector(inspector);
+            options.fileSystem(fs);
+            return new OrcRowSink(path, OrcFile.createWriter(path, options), columnTypes);
+        };
     }
 
     /**
@@ -359,4 +192,98 @@ public class HdfsOrcWriter {
         return record;
     }
 
+    /**
+     * orc 文件写入器，数据先填充到 {@link VectorizedRowBatch}，批次满后整体写入
+     */
+    private static class OrcRowSink implements HdfsRowSink {
+
+        private final Path path;
+
+        private final Writer writer;
+
+        private final HdfsColumnConverter.ColumnType[] columnTypes;
+
+        private final VectorizedRowBatch batch;
+
+        OrcRowSink(Path path, Writer writer, HdfsColumnConverter.ColumnType[] columnTypes) {
+            this.path = path;
+            this.writer = writer;
+            this.columnTypes = columnTypes;
+            this.batch = writer.getSchema().createRowBatch();
+        }
+
+        @Override
+        public void write(Object[] values, int size) throws IOException {
+            int row = batch.size++;
+            for (int i = 0; i < columnTypes.length; i++) {
+                setValue(batch.cols[i], row, columnTypes[i], i < size ? values[i] : null);
+            }
+            if (batch.size == batch.getMaxSize()) {
+                flushBatch();
+            }
+        }
+
+        @Override
+        public long getWrittenBytes() {
+            // 未压缩的数据量，只在 stripe 写出后更新
+            return writer.getRawDataSize();
+        }
+
+        @Override
+        public Path getPath() {
+            return path;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushBatch();
+            } finally {
+                writer.close();
+            }
+        }
+
+        private void flushBatch() throws IOException {
+            if (batch.size > 0) {
+                writer.addRowBatch(batch);
+                batch.reset();
+            }
+        }
+
+        private static void setValue(ColumnVector vector, int row, HdfsColumnConverter.ColumnType columnType, Object value) {
+            if (value == null) {
+                vector.noNulls = false;
+                vector.isNull[row] = true;
+                return;
+            }
+            switch (columnType) {
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                case BIGINT:
+                    ((LongColumnVector) vector).vector[row] = ((Number) value).longValue();
+                    break;
+                case BOOLEAN:
+                    ((LongColumnVector) vector).vector[row] = (Boolean) value ? 1L : 0L;
+                    break;
+                case DATE:
+                    ((LongColumnVector) vector).vector[row] = DateWritable.dateToDays((Date) value);
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    ((DoubleColumnVector) vector).vector[row] = ((Number) value).doubleValue();
+                    break;
+                case DECIMAL:
+                    ((DecimalColumnVector) vector).set(row, (HiveDecimal) value);
+                    break;
+                case TIMESTAMP:
+                    ((TimestampColumnVector) vector).set(row, (Timestamp) value);
+                    break;
+                default:
+                    byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                    ((BytesColumnVector) vector).setRef(row, bytes, 0, bytes.length);
+                    break;
+            }
+        }
+    }
 }
\ No newline at end of file
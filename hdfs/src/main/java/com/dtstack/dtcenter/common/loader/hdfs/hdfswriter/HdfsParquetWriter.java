@@ -19,19 +19,13 @@
 package com.dtstack.dtcenter.common.loader.hdfs.hdfswriter;
 
 
-import com.csvreader.CsvReader;
-import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
 import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HadoopConfUtil;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
-import com.dtstack.dtcenter.loader.dto.HDFSImportColumn;
 import com.dtstack.dtcenter.loader.dto.HdfsWriterDTO;
 import com.dtstack.dtcenter.loader.dto.source.HdfsSourceDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
-import com.dtstack.dtcenter.loader.exception.DtLoaderException;
-import com.google.common.collect.Lists;
-import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.common.type.HiveDecimal;
 import org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe;
@@ -46,22 +40,16 @@ import org.apache.parquet.hadoop.example.ExampleParquetWriter;
 import org.apache.parquet.hadoop.example.GroupWriteSupport;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.DecimalMetadata;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.OriginalType;
 import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Types;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.Timestamp;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 /**
  * parquet文件写入hdfs
@@ -72,9 +60,7 @@ import java.util.UUID;
  */
 public class HdfsParquetWriter {
 
-    private static final String KEY_PRECISION = "precision";
-
-    private static final String KEY_SCALE = "scale";
+    private static final String FILE_SUFFIX = ".parquet";
 
     /**
      * 按位置写入
@@ -86,113 +72,9 @@ public class HdfsParquetWriter {
      */
     public static int writeByPos(ISourceDTO source, HdfsWriterDTO hdfsWriterDTO) throws IOException {
         HdfsSourceDTO hdfsSourceDTO = (HdfsSourceDTO) source;
-        int startLine = hdfsWriterDTO.getStartLine();
-        //首行是标题则内容从下一行开始
-        if (BooleanUtils.isTrue(hdfsWriterDTO.getTopLineIsTitle())) {
-            startLine++;
-        }
-
-        MessageType schema = buildSchema(hdfsWriterDTO.getColumnsList());
-        ParquetWriter<Group> writer = getWriter(hdfsSourceDTO, hdfsWriterDTO.getHdfsDirPath(), hdfsWriterDTO.getColumnsList());
-        Map<String, Map<String, Integer>> decimalColInfo = getDecimalColInfo(hdfsWriterDTO.getColumnsList());
-
-        int currLineNum = 0;
-        int writeLineNum = 0;
-        Group group;
-        InputStreamReader inputStreamReader = null;
-        CsvReader reader = null;
-        try {
-            inputStreamReader = HdfsWriter.getReader(hdfsWriterDTO.getFromFileName(), hdfsWriterDTO.getOriCharSet());
-            reader = new CsvReader(inputStreamReader, HdfsWriter.getDelim(hdfsWriterDTO.getFromLineDelimiter()));
-            while (reader.readRecord()) {
-                currLineNum++;
-                if (currLineNum < startLine) {
-                    continue;
-                }
-
-                String[] lineArray = reader.getValues();
-                int size = 0;
-                if (lineArray.length > hdfsWriterDTO.getColumnsList().size()) {
-                    size = hdfsWriterDTO.getColumnsList().size();
-                } else {
-                    size = lineArray.length;
-                }
-
-                group = new SimpleGroup(schema);
-                for (int i = 0; i < size; i++) {
-                    String val = lineArray[i];
-                    Boolean isSetDefault = ReflectUtil.getFieldValueNotThrow(Boolean.class, hdfsWriterDTO, "setDefault", true, true);
-                    // val 为空且不设置默认值时 跳过本次循环
-                    if (StringUtils.isBlank(val) && !isSetDefault) {
-                        continue;
-                    }
-                    // 为 null 时跳过本次循环
-                    if (StringUtils.equalsIgnoreCase(val, HdfsWriter.DEFAULT_NULL)) {
-                        continue;
-                    }
-                    String type = hdfsWriterDTO.getColumnsList().get(i).getType().toLowerCase();
-                    switch (type) {
-                        case "tinyint":
-                        case "smallint":
-                        case "int":
-                        case "integer":
-                            group.add(i, Integer.parseInt(val));
-                            break;
-                        case "bigint":
-                            group.add(i, Long.parseLong(val));
-                            break;
-                        case "float":
-                            group.add(i, Float.parseFloat(val));
-                            break;
-                        case "double":
-                            group.add(i, Double.parseDouble(val));
-                            break;
-                        case "binary":
-                            group.add(i, Binary.fromString(val));
-                            break;
-                        case "char":
-                        case "varchar":
-                        case "string":
-                            group.add(i, val);
-                            break;
-                        case "boolean":
-                            group.add(i, Boolean.parseBoolean(val));
-                            break;
-                        case "timestamp":
-                            Timestamp ts = new Timestamp(getTime(val, hdfsWriterDTO.getKeyList().get(i).getDateFormat()));
-                            group.add(i, NanoTimeUtils.getNanoTime(ts, false).toBinary());
-                            break;
-                        case "date":
-                            group.add(i, DateWritable.millisToDays(getMillis(val, hdfsWriterDTO.getKeyList().get(i).getDateFormat())));
-                            break;
-                        default:
-                            if (type.contains("decimal")) {
-                                HiveDecimal hiveDecimal = HiveDecimal.create(new BigDecimal(val));
-                                Map<String, Integer> decimalInfo = decimalColInfo.get(hdfsWriterDTO.getColumnsList().get(i).getKey());
-                                if (decimalInfo != null) {
-                                    group.add(i, decimalToBinary(hiveDecimal, decimalInfo.get(KEY_PRECISION), decimalInfo.get(KEY_SCALE)));
-                                } else {
-                                    group.add(i, Integer.parseInt(val));
-                                }
-                            } else {
-                                group.add(i, val);
-                            }
-                            break;
-                    }
-                }
-
-                writer.write(group);
-
-                currLineNum++;
-                writeLineNum++;
-            }
-        } catch (Exception e) {
-            throw new DtLoaderException("The" + currLineNum + "row data is abnormal:" + e.getMessage(), e);
-        } finally {
-            closeResource(writer, inputStreamReader, reader);
-        }
-
-        return writeLineNum;
+        Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
+        // parquet 的 timestamp 纯数字值优先作为毫秒时间戳处理，和之前的写入逻辑保持一致
+        return HdfsImportPipeline.writeByPos(hdfsWriterDTO, FileSystem.get(conf), sinkFactory(conf, hdfsWriterDTO), true);
     }
 
     /**
@@ -205,144 +87,21 @@ public class HdfsParquetWriter {
      */
     public static int writeByName(ISourceDTO source, HdfsWriterDTO hdfsWriterDTO) throws IOException {
         HdfsSourceDTO hdfsSourceDTO = (HdfsSourceDTO) source;
-        MessageType schema = buildSchema(hdfsWriterDTO.getColumnsList());
-        ParquetWriter<Group> writer = getWriter(hdfsSourceDTO, hdfsWriterDTO.getHdfsDirPath(), hdfsWriterDTO.getColumnsList());
-        Map<String, Map<String, Integer>> decimalColInfo = getDecimalColInfo(hdfsWriterDTO.getColumnsList());
-
-        int currLineNum = 0;
-        int writeLineNum = 0;
-        int startLine = hdfsWriterDTO.getStartLine();
-        Group group;
-        List<Integer> indexList = Lists.newArrayList();
-        InputStreamReader inputStreamReader = null;
-        CsvReader reader = null;
-        try {
-            inputStreamReader = HdfsWriter.getReader(hdfsWriterDTO.getFromFileName(), hdfsWriterDTO.getOriCharSet());
-            reader = new CsvReader(inputStreamReader, HdfsWriter.getDelim(hdfsWriterDTO.getFromLineDelimiter()));
-            while (reader.readRecord()) {
-                if (currLineNum < (startLine - 1)) {
-                    currLineNum++;
-                    continue;
-                }
-
-                String[] columnArr = reader.getValues();
-
-                // 首行为标题行
-                if (currLineNum == (startLine - 1)) {
-                    for (HDFSImportColumn importColumn : hdfsWriterDTO.getKeyList()) {
-                        if (StringUtils.isBlank(importColumn.getKey())) {
-                            indexList.add(-1);
-                        } else {
-                            boolean isMatch = false;
-                            for (int i = 0; i < columnArr.length; i++) {
-                                String name = columnArr[i];
-                                if (name.equals(importColumn.getKey())) {
-                                    indexList.add(i);
-                                    isMatch = true;
-                                    break;
-                                }
-                            }
-
-                            if (!isMatch) {
-                                indexList.add(-1);
-                            }
-                        }
-                    }
-
-                    currLineNum++;
-                    continue;
-                }
-
-                group = new SimpleGroup(schema);
-                String columnName;
-                for (int i = 0; i < indexList.size(); i++) {
-                    int index = indexList.get(i);
-                    String val;
-                    //根据schema进行类型转换
-                    if (index != -1 && index <= (columnArr.length - 1)) {
-                        columnName = hdfsWriterDTO.getColumnsList().get(index).getKey();
-                        val = columnArr[index].trim();
-                        Boolean isSetDefault = ReflectUtil.getFieldValueNotThrow(Boolean.class, hdfsWriterDTO, "setDefault", true, true);
-                        // val 为空且不设置默认值时 跳过本次循环
-                        if (StringUtils.isBlank(val) && !isSetDefault) {
-                            continue;
-                        }
-                        // 为 null 时跳过本次循环
-                        if (StringUtils.equalsIgnoreCase(val, HdfsWriter.DEFAULT_NULL)) {
-                            continue;
-                        }
-                        String type = hdfsWriterDTO.getColumnsList().get(i).getType().toLowerCase();
-                        switch (hdfsWriterDTO.getColumnsList().get(index).getType().toLowerCase()) {
-                            case "tinyint":
-                            case "smallint":
-                            case "int":
-                            case "integer":
-                                group.add(columnName, Integer.parseInt(val));
-                                break;
-                            case "bigint":
-                                group.add(columnName, Long.parseLong(val));
-                                break;
-                            case "float":
-                                group.add(columnName, Float.parseFloat(val));
-                                break;
-                            case "double":
-                                group.add(columnName, Double.parseDouble(val));
-                                break;
-                            case "binary":
-                                group.add(columnName, Binary.fromString(val));
-                                break;
-                            case "char":
-                            case "varchar":
-                            case "string":
-                                group.add(columnName, val);
-                                break;
-                            case "boolean":
-                                group.add(columnName, Boolean.parseBoolean(val));
-                                break;
-                            case "timestamp":
-                                Timestamp ts = new Timestamp(getTime(val, hdfsWriterDTO.getKeyList().get(i).getDateFormat()));
-                                group.add(columnName, NanoTimeUtils.getNanoTime(ts, false).toBinary());
-                                break;
-                            case "date":
-                                group.add(columnName, DateWritable.millisToDays(getMillis(val, hdfsWriterDTO.getKeyList().get(i).getDateFormat())));
-                                break;
-                            default:
-                                if (type.contains("decimal")) {
-                                    HiveDecimal hiveDecimal = HiveDecimal.create(new BigDecimal(val));
-                                    Map<String, Integer> decimalInfo = decimalColInfo.get(hdfsWriterDTO.getKeyList().get(i).getKey());
-                                    if (decimalInfo != null) {
-                                        group.add(i, decimalToBinary(hiveDecimal, decimalInfo.get(KEY_PRECISION), decimalInfo.get(KEY_SCALE)));
-                                    } else {
-                                        group.add(i, Integer.parseInt(val));
-                                    }
-                                } else {
-                                    group.add(i, val);
-                                }
-                                break;
-                        }
-                    }
-                }
-
-                writer.write(group);
-
-                currLineNum++;
-                writeLineNum++;
-            }
-        } catch (Exception e) {
-            throw new DtLoaderException("the" + currLineNum + "row data is abnormal:" + e.getMessage(), e);
-        } finally {
-            closeResource(writer, inputStreamReader, reader);
-        }
-
-        return writeLineNum;
+        Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
+        // parquet 的 timestamp 纯数字值优先作为毫秒时间戳处理，和之前的写入逻辑保持一致
+        return HdfsImportPipeline.writeByName(hdfsWriterDTO, FileSystem.get(conf), sinkFactory(conf, hdfsWriterDTO), true, true);
     }
 
-    private static ParquetWriter<Group> getWriter(HdfsSourceDTO sourceDTO, String hdfsDirPath, List<ColumnMetaDTO> columnsList) throws IOException {
-        Configuration conf = HadoopConfUtil.getHdfsConf(sourceDTO.getDefaultFS(), sourceDTO.getConfig(), sourceDTO.getKerberosConfig());
-        MessageType schema = buildSchema(columnsList);
+    private static HdfsRowSink.Factory sinkFactory(Configuration conf, HdfsWriterDTO hdfsWriterDTO) {
+        MessageType schema = buildSchema(hdfsWriterDTO.getColumnsList());
         GroupWriteSupport.setSchema(schema, conf);
-        Path writePath = new Path(hdfsDirPath, "part-" + UUID.randomUUID().toString() + ".parquet");
+        return fileName -> {
+            Path writePath = new Path(hdfsWriterDTO.getHdfsDirPath(), fileName + FILE_SUFFIX);
+            return new ParquetRowSink(writePath, getWriter(conf, writePath, schema), schema);
+        };
+    }
 
+    private static ParquetWriter<Group> getWriter(Configuration conf, Path writePath, MessageType schema) throws IOException {
         ExampleParquetWriter.Builder builder = ExampleParquetWriter.builder(writePath)
                 .withWriteMode(ParquetFileWriter.Mode.CREATE)
                 .withWriterVersion(ParquetProperties.WriterVersion.PARQUET_1_0)
@@ -353,39 +112,6 @@ public class HdfsParquetWriter {
         return builder.build();
     }
 
-    private static void closeResource(ParquetWriter<Group> writer, InputStreamReader inputStreamReader, CsvReader reader) throws IOException {
-        if (writer != null) {
-            writer.close();
-        }
-
-        if (inputStreamReader != null) {
-            inputStreamReader.close();
-        }
-
-        if (reader != null) {
-            reader.close();
-        }
-    }
-
-    private static Map<String, Map<String, Integer>> getDecimalColInfo(List<ColumnMetaDTO> columnsList) {
-        Map<String, Map<String, Integer>> decimalColInfo = new HashMap<>();
-
-        for (ColumnMetaDTO column : columnsList) {
-            String colType = column.getType().toLowerCase();
-            if (colType.contains("decimal")) {
-                int precision = Integer.parseInt(colType.substring(colType.indexOf("(") + 1, colType.indexOf(",")).trim());
-                int scale = Integer.parseInt(colType.substring(colType.indexOf(",") + 1, colType.indexOf(")")).trim());
-
-                Map<String, Integer> decimalInfo = new HashMap<>();
-                decimalInfo.put(KEY_PRECISION, precision);
-                decimalInfo.put(KEY_SCALE, scale);
-                decimalColInfo.put(column.getKey(), decimalInfo);
-            }
-        }
-
-        return decimalColInfo;
-    }
-
     private static Binary decimalToBinary(final HiveDecimal hiveDecimal, int prec, int scale) {
         byte[] decimalBytes = hiveDecimal.setScale(scale).unscaledValue().toByteArray();
 
@@ -409,22 +135,6 @@ public class HdfsParquetWriter {
         return Binary.fromByteArray(tgt);
     }
 
-    private static long getTime(String val, SimpleDateFormat dateFormat) throws ParseException {
-        if (StringUtils.isNumeric(val)) {
-            return Long.parseLong(val);
-        } else {
-            Date date;
-            if (dateFormat == null) {
-                SimpleDateFormat sdf2 = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-                date = sdf2.parse(val);
-            } else {
-                date = dateFormat.parse(val);
-            }
-
-            return date.getTime();
-        }
-    }
-
     private static MessageType buildSchema(List<ColumnMetaDTO> columnsList) {
         Types.MessageTypeBuilder typeBuilder = Types.buildMessage();
         String name;
@@ -492,16 +202,89 @@ public class HdfsParquetWriter {
         return numBytes;
     }
 
-    private static long getMillis(String dateStr, SimpleDateFormat dateFormat) throws Exception {
-        Date date;
-        if (dateFormat != null) {
-            date = dateFormat.parse(dateStr);
-        } else {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-            date = sdf.parse(dateStr);
+    /**
+     * parquet 文件写入器，根据 schema 中的物理类型写入转换后的字段值
+     */
+    private static class ParquetRowSink implements HdfsRowSink {
+
+        private final Path path;
+
+        private final ParquetWriter<Group> writer;
+
+        private final MessageType schema;
+
+        private final PrimitiveType[] fieldTypes;
+
+        ParquetRowSink(Path path, ParquetWriter<Group> writer, MessageType schema) {
+            this.path = path;
+            this.writer = writer;
+            this.schema = schema;
+            List<org.apache.parquet.schema.Type> fields = schema.getFields();
+            this.fieldTypes = new PrimitiveType[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                fieldTypes[i] = fields.get(i).asPrimitiveType();
+            }
         }
 
-        return date.getTime();
-    }
+        @Override
+        public void write(Object[] values, int size) throws IOException {
+            Group group = new SimpleGroup(schema);
+            for (int i = 0; i < size; i++) {
+                // 为 null 时不写入该字段
+                if (values[i] != null) {
+                    addValue(group, i, fieldTypes[i], values[i]);
+                }
+            }
+            writer.write(group);
+        }
+
+        @Override
+        public long getWrittenBytes() {
+            return writer.getDataSize();
+        }
 
+        @Override
+        public Path getPath() {
+            return path;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static void addValue(Group group, int index, PrimitiveType fieldType, Object value) {
+            switch (fieldType.getPrimitiveTypeName()) {
+                case INT32:
+                    if (OriginalType.DATE == fieldType.getOriginalType()) {
+                        group.add(index, DateWritable.dateToDays((Date) value));
+                    } else {
+                        group.add(index, ((Number) value).intValue());
+                    }
+                    break;
+                case INT64:
+                    group.add(index, ((Number) value).longValue());
+                    break;
+                case FLOAT:
+                    group.add(index, ((Number) value).floatValue());
+                    break;
+                case DOUBLE:
+                    group.add(index, ((Number) value).doubleValue());
+                    break;
+                case BOOLEAN:
+                    group.add(index, (Boolean) value);
+                    break;
+                case INT96:
+                    group.add(index, NanoTimeUtils.getNanoTime((Timestamp) value, false).toBinary());
+                    break;
+                case FIXED_LEN_BYTE_ARRAY:
+                    DecimalMetadata decimalMetadata = fieldType.getDecimalMetadata();
+                    group.add(index, decimalToBinary((HiveDecimal) value, decimalMetadata.getPrecision(), decimalMetadata.getScale()));
+                    break;
+                default:
+                    group.add(index, Binary.fromString(value.toString()));
+                    break;
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.hdfs.hdfswriter;
+
+import org.apache.hadoop.fs.Path;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 导入流水线中单个 hdfs 文件的写入器，只会被一个线程使用
+ *
+ * @author ：wangchuan
+ * date：Created in 下午4:10 2026/10/18
+ * company: www.dtstack.com
+ */
+public interface HdfsRowSink extends Closeable {
+
+    /**
+     * 写入一行数据，实现类不能持有 values 数组的引用
+     *
+     * @param values 转换后的字段值，下标和表字段对应
+     * @param size   有效字段个数，之后的字段在源文件中不存在
+     * @throws IOException io 异常
+     */
+    void write(Object[] values, int size) throws IOException;
+
+    /**
+     * 已写入的字节数，用于判断是否需要滚动生成新文件，可以是估算值
+     *
+     * @return 字节数
+     */
+    long getWrittenBytes();
+
+    /**
+     * 写入的文件路径
+     *
+     * @return 文件路径
+     */
+    Path getPath();
+
+    /**
+     * 写入器工厂
+     */
+    @FunctionalInterface
+    interface Factory {
+
+        /**
+         * 在目标目录下创建写入器
+         *
+         * @param fileName 文件名称，不包含后缀
+         * @return 写入器
+         * @throws IOException io 异常
+         */
+        HdfsRowSink create(String fileName) throws IOException;
+    }
+}
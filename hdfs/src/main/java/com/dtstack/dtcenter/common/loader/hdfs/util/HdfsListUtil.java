@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.hdfs.util;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * hive 表数据文件遍历工具
+ *
+ * @author ：wangchuan
+ * date：Created in 下午5:40 2026/10/18
+ * company: www.dtstack.com
+ */
+public class HdfsListUtil {
+
+    private static final String IMPALA_INSERT_STAGING = "_impala_insert_staging";
+
+    /**
+     * 遍历获取路径下所有数据文件，排除隐藏文件和无关文件，被排除的文件夹不再向下遍历。
+     * 每个文件夹只发起一次 listStatus 请求，不再预先判断路径是否存在，路径不存在或遍历过程中被删除时直接跳过
+     *
+     * @param location 文件或文件夹路径
+     * @param pathList 数据文件集合
+     * @param fs       HDFS 文件系统
+     */
+    public static void listDataFiles(String location, List<String> pathList, FileSystem fs) throws IOException {
+        FileStatus[] fsStatus;
+        try {
+            fsStatus = fs.listStatus(new Path(location), path -> isDataPath(path.getName()));
+        } catch (FileNotFoundException e) {
+            return;
+        }
+        if (fsStatus == null) {
+            return;
+        }
+        for (FileStatus status : fsStatus) {
+            if (status.isFile()) {
+                pathList.add(status.getPath().toString());
+            } else {
+                listDataFiles(status.getPath().toString(), pathList, fs);
+            }
+        }
+    }
+
+    private static boolean isDataPath(String name) {
+        return !name.startsWith(".")
+                && !name.startsWith("_SUCCESS")
+                && !name.startsWith(IMPALA_INSERT_STAGING)
+                && !name.startsWith("_common_metadata")
+                && !name.startsWith("_metadata");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.common.loader.hdfs.fileMerge.core;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.CompressionKind;
+import org.apache.orc.OrcFile;
+import org.apache.orc.Reader;
+import org.apache.orc.RecordReader;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+/**
+ * orc 小文件合并测试
+ *
+ * @author ：wangchuan
+ * date：Created in 下午2:10 2026/10/18
+ * company: www.dtstack.com
+ */
+public class OrcCombineServerTest {
+
+    /**
+     * 字段数足够多时，不强制指定压缩块大小的 writer 会按字段数估算出更小的压缩块
+     */
+    private static final int COLUMN_NUM = 600;
+
+    private static final int FILE_NUM = 3;
+
+    private static final int ROW_NUM = 100;
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void combineWideTable() throws IOException {
+        Configuration configuration = new Configuration();
+        FileSystem fs = FileSystem.getLocal(configuration);
+        Path sourcePath = new Path(folder.newFolder("source").getAbsolutePath());
+        Path mergedTempPath = new Path(folder.getRoot().getAbsolutePath(), "merged");
+
+        TypeDescription schema = TypeDescription.createStruct();
+        for (int i = 0; i < COLUMN_NUM; i++) {
+            schema.addField("col_" + i, TypeDescription.createLong());
+        }
+        for (int i = 0; i < FILE_NUM; i++) {
+            writeFile(configuration, fs, new Path(sourcePath, "part-" + i), schema, i);
+        }
+
+        OrcCombineServer combineServer = new OrcCombineServer();
+        combineServer.setSourcePath(sourcePath);
+        combineServer.setMergedTempPath(mergedTempPath);
+        combineServer.setConfiguration(configuration);
+        combineServer.setFs(fs);
+        combineServer.setNeedCombineFileSizeLimit(Long.MAX_VALUE);
+        combineServer.setMaxCombinedFileSize(Long.MAX_VALUE);
+        combineServer.combine();
+
+        FileStatus[] mergedFiles = fs.listStatus(mergedTempPath, path -> !path.getName().startsWith("."));
+        Assert.assertEquals(1, mergedFiles.length);
+
+        Reader reader = OrcFile.createReader(mergedFiles[0].getPath(), OrcFile.readerOptions(configuration).filesystem(fs));
+        Assert.assertEquals(BUFFER_SIZE, reader.getCompressionSize());
+        Assert.assertEquals((long) FILE_NUM * ROW_NUM, reader.getNumberOfRows());
+
+        // 按文件序号累加每个字段的值，校验 stripe 拷贝后可以正常解压
+        long[] sums = new long[COLUMN_NUM];
+        VectorizedRowBatch batch = reader.getSchema().createRowBatch();
+        RecordReader rows = reader.rows();
+        try {
+            while (rows.nextBatch(batch)) {
+                for (int col = 0; col < COLUMN_NUM; col++) {
+                    LongColumnVector vector = (LongColumnVector) batch.cols[col];
+                    for (int row = 0; row < batch.size; row++) {
+                        sums[col] += vector.vector[row];
+                    }
+                }
+            }
+        } finally {
+            rows.close();
+        }
+        for (int col = 0; col < COLUMN_NUM; col++) {
+            Assert.assertEquals(expectedSum(col), sums[col]);
+        }
+    }
+
+    private void writeFile(Configuration configuration, FileSystem fs, Path path, TypeDescription schema, int fileIndex) throws IOException {
+        Writer writer = OrcFile.createWriter(path, OrcFile.writerOptions(configuration)
+                .fileSystem(fs)
+                .setSchema(schema)
+                .compress(CompressionKind.ZLIB)
+                .bufferSize(BUFFER_SIZE)
+                .enforceBufferSize());
+        VectorizedRowBatch batch = schema.createRowBatch(ROW_NUM);
+        for (int row = 0; row < ROW_NUM; row++) {
+            for (int col = 0; col < COLUMN_NUM; col++) {
+                ((LongColumnVector) batch.cols[col]).vector[row] = value(fileIndex, row, col);
+            }
+        }
+        batch.size = ROW_NUM;
+        writer.addRowBatch(batch);
+        writer.close();
+    }
+
+    private long value(int fileIndex, int row, int col) {
+        return (long) fileIndex * ROW_NUM * COLUMN_NUM + (long) row * COLUMN_NUM + col;
+    }
+
+    private long expectedSum(int col) {
+        long sum = 0L;
+        for (int fileIndex = 0; fileIndex < FILE_NUM; fileIndex++) {
+            for (int row = 0; row < ROW_NUM; row++) {
+                sum += value(fileIndex, row, col);
+            }
+        }
+        return sum;
+    }
+}
@@ -30,7 +30,9 @@ import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HadoopConfUtil;
 import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HdfsOperator;
 import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
 import com.dtstack.dtcenter.common.loader.hive2.HiveConnFactory;
+import com.dtstack.dtcenter.common.loader.hive2.downloader.HiveFilterPushdown;
 import com.dtstack.dtcenter.common.loader.hive2.downloader.HiveORCDownload;
+import com.dtstack.dtcenter.common.loader.hive2.downloader.HiveParallelDownload;
 import com.dtstack.dtcenter.common.loader.hive2.downloader.HiveParquetDownload;
 import com.dtstack.dtcenter.common.loader.hive2.downloader.HiveTextDownload;
 import com.dtstack.dtcenter.common.loader.rdbms.AbsRdbmsClient;
@@ -53,6 +55,8 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivilegedAction;
@@ -61,10 +65,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
@@ -224,38 +228,35 @@ public class HiveClient extends AbsRdbmsClient {
     }
 
     private List<ColumnMetaDTO> getColumnMetaData(Connection conn, String tableName, Boolean filterPartitionColumns) {
-        List<ColumnMetaDTO> columnMetaDTOS = new ArrayList<>();
+        // 字段名和字段信息，用于标记分区字段
+        Map<String, ColumnMetaDTO> columnMetaMap = new LinkedHashMap<>();
         Statement stmt = null;
         ResultSet resultSet = null;
 
         try {
             stmt = conn.createStatement();
+            // 只执行一次 desc extended，先读取普通字段，再从分区信息中标记分区字段
             resultSet = stmt.executeQuery("desc extended " + tableName);
+            boolean columnEnd = false;
+            boolean partBegin = false;
             while (resultSet.next()) {
-                String dataType = resultSet.getString(DtClassConsistent.PublicConsistent.DATA_TYPE);
                 String colName = resultSet.getString(DtClassConsistent.PublicConsistent.COL_NAME);
-                if (StringUtils.isEmpty(dataType) || StringUtils.isBlank(colName)) {
-                    break;
-                }
-
-                colName = colName.trim();
-                ColumnMetaDTO metaDTO = new ColumnMetaDTO();
-                metaDTO.setType(dataType.trim());
-                metaDTO.setKey(colName);
-                metaDTO.setComment(resultSet.getString(DtClassConsistent.PublicConsistent.COMMENT));
-
-                if (colName.startsWith("#") || "Detailed Table Information".equals(colName)) {
-                    break;
+                if (!columnEnd) {
+                    String dataType = resultSet.getString(DtClassConsistent.PublicConsistent.DATA_TYPE);
+                    if (StringUtils.isEmpty(dataType) || StringUtils.isBlank(colName)
+                            || colName.trim().startsWith("#") || "Detailed Table Information".equals(colName.trim())) {
+                        columnEnd = true;
+                    } else {
+                        ColumnMetaDTO metaDTO = new ColumnMetaDTO();
+                        metaDTO.setType(dataType.trim());
+                        metaDTO.setKey(colName.trim());
+                        metaDTO.setComment(resultSet.getString(DtClassConsistent.PublicConsistent.COMMENT));
+                        columnMetaMap.putIfAbsent(colName.trim(), metaDTO);
+                        continue;
+                    }
                 }
-                columnMetaDTOS.add(metaDTO);
-            }
-
-            DBUtil.closeDBResources(resultSet, null, null);
-            resultSet = stmt.executeQuery("desc extended " + tableName);
-            boolean partBegin = false;
-            while (resultSet.next()) {
-                String colName = resultSet.getString(DtClassConsistent.PublicConsistent.COL_NAME).trim();
 
+                colName = StringUtils.trimToEmpty(colName);
                 if (colName.contains("# Partition Information")) {
                     partBegin = true;
                 }
@@ -270,10 +271,9 @@ public class HiveClient extends AbsRdbmsClient {
 
                 // 处理分区标志
                 if (partBegin && !colName.contains("Partition Type")) {
-                    Optional<ColumnMetaDTO> metaDTO =
-                            columnMetaDTOS.stream().filter(meta -> colName.trim().equals(meta.getKey())).findFirst();
-                    if (metaDTO.isPresent()) {
-                        metaDTO.get().setPart(true);
+                    ColumnMetaDTO metaDTO = columnMetaMap.get(colName);
+                    if (metaDTO != null) {
+                        metaDTO.setPart(true);
                     }
                 } else if (colName.contains("Partition Type")) {
                     //分区字段结束
@@ -281,7 +281,7 @@ public class HiveClient extends AbsRdbmsClient {
                 }
             }
 
-            return columnMetaDTOS.stream().filter(column -> !filterPartitionColumns || !column.getPart()).collect(Collectors.toList());
+            return columnMetaMap.values().stream().filter(column -> !filterPartitionColumns || !column.getPart()).collect(Collectors.toList());
         } catch (SQLException e) {
             throw new DtLoaderException(String.format("Failed to get meta information for the fields of table :%s. Please contact the DBA to check the database table information.",
                     tableName), e);
@@ -401,12 +401,24 @@ public class HiveClient extends AbsRdbmsClient {
             throw new DtLoaderException("defaultFS incorrect format");
         }
         transformDelim(table);
+        // 字段过滤条件，ORC 和 Parquet 表会下推到文件读取
+        HiveFilterPushdown filterPushdown = HiveFilterPushdown.of(
+                ReflectUtil.fieldExists(SqlQueryDTO.class, "columnFilters") ? queryDTO.getColumnFilters() : null,
+                commonColumn, partitionColumns);
+        if (filterPushdown != null && StringUtils.containsIgnoreCase(table.getStoreType(), "text")) {
+            throw new DtLoaderException("Column filters are not supported when reading text tables");
+        }
         Configuration conf = HadoopConfUtil.getHdfsConf(hiveSourceDTO.getDefaultFS(), hiveSourceDTO.getConfig(), hiveSourceDTO.getKerberosConfig());
         List<String> finalPartitions = partitions;
         return KerberosLoginUtil.loginWithUGI(hiveSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<IDownloader>) () -> {
                     try {
-                        return createDownloader(table.getStoreType(), conf, table.getPath(), commonColumn, table.getDelim(), partitionColumns, needIndex, queryDTO.getPartitionColumns(), finalPartitions, hiveSourceDTO.getKerberosConfig());
+                        Integer parallelism = ReflectUtil.fieldExists(HiveSourceDTO.class, "downloadParallelism") ? hiveSourceDTO.getDownloadParallelism() : null;
+                        if (parallelism != null && parallelism > 1 && !isTransOrcTable(table)) {
+                            boolean keepOrder = !ReflectUtil.fieldExists(HiveSourceDTO.class, "downloadKeepOrder") || !Boolean.FALSE.equals(hiveSourceDTO.getDownloadKeepOrder());
+                            return createParallelDownloader(table.getStoreType(), conf, table.getPath(), commonColumn, table.getDelim(), partitionColumns, needIndex, queryDTO.getPartitionColumns(), finalPartitions, hiveSourceDTO.getKerberosConfig(), filterPushdown, parallelism, keepOrder);
+                        }
+                        return createDownloader(table.getStoreType(), conf, table.getPath(), commonColumn, table.getDelim(), partitionColumns, needIndex, queryDTO.getPartitionColumns(), finalPartitions, hiveSourceDTO.getKerberosConfig(), filterPushdown);
                     } catch (Exception e) {
                         throw new DtLoaderException(String.format("create downloader exception,%s", e.getMessage()), e);
                     }
@@ -442,6 +454,7 @@ public class HiveClient extends AbsRdbmsClient {
      * @param filterPartitions 需要查询的分区
      * @param partitions       全部分区
      * @param kerberosConfig   kerberos 配置
+     * @param filterPushdown   字段过滤条件，可以为 null
      * @return downloader
      * @throws Exception 异常信息
      */
@@ -449,7 +462,7 @@ public class HiveClient extends AbsRdbmsClient {
                                                   List<ColumnMetaDTO> columns, String fieldDelimiter,
                                                   ArrayList<String> partitionColumns, List<Integer> needIndex,
                                                   Map<String, String> filterPartitions, List<String> partitions,
-                                                  Map<String, Object> kerberosConfig) throws Exception {
+                                                  Map<String, Object> kerberosConfig, HiveFilterPushdown filterPushdown) throws Exception {
         // 根据存储格式创建对应的hiveDownloader
         if (StringUtils.isBlank(storageMode)) {
             throw new DtLoaderException("Hive table reads for this storage type are not supported");
@@ -465,14 +478,14 @@ public class HiveClient extends AbsRdbmsClient {
 
         if (StringUtils.containsIgnoreCase(storageMode, "orc")) {
             HiveORCDownload hiveORCDownload = new HiveORCDownload(conf, tableLocation, columnNames,
-                    partitionColumns, needIndex, partitions, kerberosConfig);
+                    partitionColumns, needIndex, partitions, kerberosConfig, filterPushdown);
             hiveORCDownload.configure();
             return hiveORCDownload;
         }
 
         if (StringUtils.containsIgnoreCase(storageMode, "parquet")) {
             HiveParquetDownload hiveParquetDownload = new HiveParquetDownload(conf, tableLocation, columns,
-                    partitionColumns, needIndex, filterPartitions, partitions, kerberosConfig);
+                    partitionColumns, needIndex, filterPartitions, partitions, kerberosConfig, filterPushdown);
             hiveParquetDownload.configure();
             return hiveParquetDownload;
         }
@@ -480,6 +493,49 @@ public class HiveClient extends AbsRdbmsClient {
         throw new DtLoaderException("Hive table reads for this storage type are not supported");
     }
 
+    /**
+     * 创建并发读取的 hiveDownloader，每个文件使用单独的下载器，由多个线程并发读取
+     *
+     * @param parallelism 并发读取的文件数
+     * @param keepOrder   是否保持文件顺序
+     * @return downloader 数据下载器
+     * @throws Exception 异常信息
+     */
+    private IDownloader createParallelDownloader(String storageMode, Configuration conf, String tableLocation,
+                                                 List<ColumnMetaDTO> columns, String fieldDelimiter,
+                                                 ArrayList<String> partitionColumns, List<Integer> needIndex,
+                                                 Map<String, String> filterPartitions, List<String> partitions,
+                                                 Map<String, Object> kerberosConfig, HiveFilterPushdown filterPushdown,
+                                                 int parallelism, boolean keepOrder) throws Exception {
+        if (!StringUtils.containsIgnoreCase(storageMode, "text")
+                && !StringUtils.containsIgnoreCase(storageMode, "orc")
+                && !StringUtils.containsIgnoreCase(storageMode, "parquet")) {
+            throw new DtLoaderException("Hive table reads for this storage type are not supported");
+        }
+        List<String> files = new ArrayList<>();
+        HiveTextDownload.getAllPartitionPath(tableLocation, files, FileSystem.get(conf));
+        List<String> metaInfo = columns.stream().map(ColumnMetaDTO::getKey).collect(Collectors.toList());
+        metaInfo.addAll(partitionColumns);
+        HiveParallelDownload parallelDownload = new HiveParallelDownload(metaInfo, files,
+                filePath -> createDownloader(storageMode, conf, filePath, columns, fieldDelimiter, partitionColumns,
+                        needIndex, filterPartitions, partitions, kerberosConfig, filterPushdown),
+                parallelism, keepOrder, UserGroupInformation.getCurrentUser());
+        parallelDownload.configure();
+        return parallelDownload;
+    }
+
+    /**
+     * 事务表的 orc 文件需要按目录合并 base 和 delta 读取，不能按文件并发读取
+     *
+     * @param table 表信息
+     * @return 是否是 orc 事务表
+     */
+    private boolean isTransOrcTable(Table table) {
+        return StringUtils.containsIgnoreCase(table.getStoreType(), "orc")
+                && ReflectUtil.fieldExists(Table.class, "isTransTable")
+                && Boolean.TRUE.equals(table.getIsTransTable());
+    }
+
     /**
      * 处理hive分区信息和sql语句
      *
@@ -0,0 +1,540 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.hive2.downloader;
+
+import com.dtstack.dtcenter.loader.dto.ColumnFilterDTO;
+import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.hive.ql.io.sarg.PredicateLeaf;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgument;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgumentFactory;
+import org.apache.hadoop.hive.serde2.io.HiveDecimalWritable;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+/**
+ * hive 表下载过滤条件，负责将条件下推为 ORC SearchArgument 和 Parquet FilterPredicate，
+ * 下推只能跳过 stripe/row group，读取到的每一行仍然需要通过 {@link #matchRow} 过滤
+ *
+ * @author ：wangchuan
+ * date：Created in 下午7:20 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class HiveFilterPushdown {
+
+    /**
+     * 单个过滤条件，column 为字段在普通字段中的索引或者在分区字段中的索引
+     */
+    private static class Condition {
+
+        private final ColumnFilterDTO filter;
+
+        private final String columnName;
+
+        private final int index;
+
+        private final String type;
+
+        private Condition(ColumnFilterDTO filter, String columnName, int index, String type) {
+            this.filter = filter;
+            this.columnName = columnName;
+            this.index = index;
+            this.type = type;
+        }
+    }
+
+    /**
+     * 普通字段的过滤条件
+     */
+    private final List<Condition> columnConditions;
+
+    /**
+     * 分区字段的过滤条件
+     */
+    private final List<Condition> partitionConditions;
+
+    private HiveFilterPushdown(List<Condition> columnConditions, List<Condition> partitionConditions) {
+        this.columnConditions = columnConditions;
+        this.partitionConditions = partitionConditions;
+    }
+
+    /**
+     * 创建过滤条件，没有过滤条件时返回 null
+     *
+     * @param filters          过滤条件
+     * @param columns          普通字段
+     * @param partitionColumns 分区字段
+     * @return 过滤条件
+     */
+    public static HiveFilterPushdown of(List<ColumnFilterDTO> filters, List<ColumnMetaDTO> columns, List<String> partitionColumns) {
+        if (CollectionUtils.isEmpty(filters)) {
+            return null;
+        }
+        List<Condition> columnConditions = new ArrayList<>();
+        List<Condition> partitionConditions = new ArrayList<>();
+        for (ColumnFilterDTO filter : filters) {
+            if (filter == null || StringUtils.isBlank(filter.getColumn()) || filter.getOperator() == null) {
+                throw new DtLoaderException("The column and operator of filter cannot be empty");
+            }
+            Condition condition = null;
+            for (int i = 0; i < columns.size(); i++) {
+                if (filter.getColumn().equalsIgnoreCase(columns.get(i).getKey())) {
+                    condition = new Condition(filter, columns.get(i).getKey(), i, StringUtils.lowerCase(columns.get(i).getType()));
+                    columnConditions.add(condition);
+                    break;
+                }
+            }
+            if (condition == null && partitionColumns != null) {
+                for (int i = 0; i < partitionColumns.size(); i++) {
+                    if (filter.getColumn().equalsIgnoreCase(partitionColumns.get(i))) {
+                        condition = new Condition(filter, partitionColumns.get(i), i, "string");
+                        partitionConditions.add(condition);
+                        break;
+                    }
+                }
+            }
+            if (condition == null) {
+                throw new DtLoaderException("The filter field does not exist! Field name：" + filter.getColumn());
+            }
+        }
+        return new HiveFilterPushdown(columnConditions, partitionConditions);
+    }
+
+    /**
+     * 计算需要读取的普通字段索引，包括查询字段和过滤字段
+     *
+     * @param filterPushdown 过滤条件，可以为 null
+     * @param needIndex      需要查询字段的索引
+     * @param columnCount    普通字段数量
+     * @return 升序的字段索引，返回 null 表示读取所有字段
+     */
+    public static List<Integer> getReadColumnIds(HiveFilterPushdown filterPushdown, List<Integer> needIndex, int columnCount) {
+        if (CollectionUtils.isEmpty(needIndex)) {
+            return null;
+        }
+        Set<Integer> ids = new TreeSet<>();
+        for (Integer index : needIndex) {
+            if (index < columnCount) {
+                ids.add(index);
+            }
+        }
+        if (filterPushdown != null) {
+            for (Condition condition : filterPushdown.columnConditions) {
+                ids.add(condition.index);
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 是否存在普通字段的过滤条件
+     */
+    public boolean hasColumnFilter() {
+        return !columnConditions.isEmpty();
+    }
+
+    /**
+     * 判断分区是否满足分区字段的过滤条件
+     *
+     * @param partitionValues 当前文件的分区值，顺序和分区字段一致
+     * @return 是否满足
+     */
+    public boolean matchPartition(List<String> partitionValues) {
+        for (Condition condition : partitionConditions) {
+            String value = partitionValues != null && condition.index < partitionValues.size() ? partitionValues.get(condition.index) : null;
+            if (!match(condition, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断行数据是否满足普通字段的过滤条件
+     *
+     * @param columnValue 根据普通字段索引获取字段值
+     * @return 是否满足
+     */
+    public boolean matchRow(IntFunction<String> columnValue) {
+        for (Condition condition : columnConditions) {
+            if (!match(condition, columnValue.apply(condition.index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean match(Condition condition, String value) {
+        ColumnFilterDTO filter = condition.filter;
+        switch (filter.getOperator()) {
+            case IS_NULL:
+                return value == null;
+            case IS_NOT_NULL:
+                return value != null;
+            case IN:
+                if (value == null || filter.getValues() == null) {
+                    return false;
+                }
+                for (String literal : filter.getValues()) {
+                    Integer result = compare(condition.type, value, literal);
+                    if (result != null && result == 0) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                if (value == null || filter.getValue() == null) {
+                    return false;
+                }
+                Integer result = compare(condition.type, value, filter.getValue());
+                if (result == null) {
+                    return false;
+                }
+                switch (filter.getOperator()) {
+                    case EQ:
+                        return result == 0;
+                    case NOT_EQ:
+                        return result != 0;
+                    case LT:
+                        return result < 0;
+                    case LE:
+                        return result <= 0;
+                    case GT:
+                        return result > 0;
+                    case GE:
+                        return result >= 0;
+                    default:
+                        return false;
+                }
+        }
+    }
+
+    /**
+     * 按照字段类型比较，无法转换时返回 null
+     */
+    private static Integer compare(String type, String value, String literal) {
+        try {
+            if (isIntegerType(type) || isFloatType(type) || isDecimalType(type)) {
+                return new BigDecimal(value.trim()).compareTo(new BigDecimal(literal.trim()));
+            }
+            if ("boolean".equals(type)) {
+                return Boolean.compare(Boolean.parseBoolean(value.trim()), Boolean.parseBoolean(literal.trim()));
+            }
+            // parquet 读取的 timestamp 为 yyyy-MM-dd HH:mm:ss.0 格式，不能直接按字符串比较
+            if ("timestamp".equals(type)) {
+                return Timestamp.valueOf(value.trim()).compareTo(Timestamp.valueOf(literal.trim()));
+            }
+            if ("date".equals(type)) {
+                return Date.valueOf(value.trim()).compareTo(Date.valueOf(literal.trim()));
+            }
+            return value.compareTo(literal);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 转换为 ORC SearchArgument，没有可以下推的条件时返回 null
+     *
+     * @return SearchArgument
+     */
+    public SearchArgument toSearchArgument() {
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+        int leafCount = 0;
+        for (Condition condition : columnConditions) {
+            try {
+                if (addSearchArgumentLeaf(builder, condition)) {
+                    leafCount++;
+                }
+            } catch (Exception e) {
+                // 条件无法转换时不下推，只在读取时过滤
+                log.warn("filter on column {} cannot push down to orc : {}", condition.columnName, e.getMessage());
+            }
+        }
+        return leafCount == 0 ? null : builder.end().build();
+    }
+
+    private static boolean addSearchArgumentLeaf(SearchArgument.Builder builder, Condition condition) {
+        PredicateLeaf.Type leafType = toLeafType(condition.type);
+        if (leafType == null) {
+            return false;
+        }
+        ColumnFilterDTO filter = condition.filter;
+        String column = condition.columnName;
+        switch (filter.getOperator()) {
+            case IS_NULL:
+                builder.isNull(column, leafType);
+                return true;
+            case IS_NOT_NULL:
+                builder.startNot().isNull(column, leafType).end();
+                return true;
+            case IN:
+                if (CollectionUtils.isEmpty(filter.getValues())) {
+                    return false;
+                }
+                Object[] literals = new Object[filter.getValues().size()];
+                for (int i = 0; i < literals.length; i++) {
+                    literals[i] = toLeafLiteral(leafType, filter.getValues().get(i));
+                }
+                builder.in(column, leafType, literals);
+                return true;
+            default:
+                if (filter.getValue() == null) {
+                    return false;
+                }
+                Object literal = toLeafLiteral(leafType, filter.getValue());
+                switch (filter.getOperator()) {
+                    case EQ:
+                        builder.equals(column, leafType, literal);
+                        return true;
+                    case NOT_EQ:
+                        builder.startNot().equals(column, leafType, literal).end();
+                        return true;
+                    case LT:
+                        builder.lessThan(column, leafType, literal);
+                        return true;
+                    case LE:
+                        builder.lessThanEquals(column, leafType, literal);
+                        return true;
+                    case GT:
+                        builder.startNot().lessThanEquals(column, leafType, literal).end();
+                        return true;
+                    case GE:
+                        builder.startNot().lessThan(column, leafType, literal).end();
+                        return true;
+                    default:
+                        return false;
+                }
+        }
+    }
+
+    private static PredicateLeaf.Type toLeafType(String type) {
+        if (isIntegerType(type)) {
+            return PredicateLeaf.Type.LONG;
+        }
+        if (isFloatType(type)) {
+            return PredicateLeaf.Type.FLOAT;
+        }
+        if (isDecimalType(type)) {
+            return PredicateLeaf.Type.DECIMAL;
+        }
+        if (isStringType(type)) {
+            return PredicateLeaf.Type.STRING;
+        }
+        if ("boolean".equals(type)) {
+            return PredicateLeaf.Type.BOOLEAN;
+        }
+        if ("date".equals(type)) {
+            return PredicateLeaf.Type.DATE;
+        }
+        if ("timestamp".equals(type)) {
+            return PredicateLeaf.Type.TIMESTAMP;
+        }
+        return null;
+    }
+
+    private static Object toLeafLiteral(PredicateLeaf.Type leafType, String value) {
+        String trimValue = value.trim();
+        switch (leafType) {
+            case LONG:
+                return Long.parseLong(trimValue);
+            case FLOAT:
+                return Double.parseDouble(trimValue);
+            case DECIMAL:
+                return new HiveDecimalWritable(trimValue);
+            case BOOLEAN:
+                return Boolean.parseBoolean(trimValue);
+            case DATE:
+                return Date.valueOf(trimValue);
+            case TIMESTAMP:
+                return Timestamp.valueOf(trimValue);
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * 转换为 Parquet FilterPredicate，只下推文件中存在且类型可以直接比较的字段，没有可以下推的条件时返回 null
+     *
+     * @param fileSchema parquet 文件 schema
+     * @return FilterPredicate
+     */
+    public FilterPredicate toParquetPredicate(MessageType fileSchema) {
+        FilterPredicate predicate = null;
+        for (Condition condition : columnConditions) {
+            FilterPredicate leaf;
+            try {
+                leaf = toParquetLeaf(fileSchema, condition);
+            } catch (Exception e) {
+                log.warn("filter on column {} cannot push down to parquet : {}", condition.columnName, e.getMessage());
+                continue;
+            }
+            if (leaf != null) {
+                predicate = predicate == null ? leaf : FilterApi.and(predicate, leaf);
+            }
+        }
+        return predicate;
+    }
+
+    private static FilterPredicate toParquetLeaf(MessageType fileSchema, Condition condition) {
+        Type field = null;
+        for (Type type : fileSchema.getFields()) {
+            if (type.getName().equalsIgnoreCase(condition.columnName)) {
+                field = type;
+                break;
+            }
+        }
+        if (field == null || !field.isPrimitive()) {
+            return null;
+        }
+        PrimitiveType primitiveType = field.asPrimitiveType();
+        OriginalType originalType = primitiveType.getOriginalType();
+        String path = field.getName();
+        ColumnFilterDTO filter = condition.filter;
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+                if (originalType != null && originalType != OriginalType.INT_8 && originalType != OriginalType.INT_16 && originalType != OriginalType.INT_32) {
+                    return null;
+                }
+                return toParquetLeaf(FilterApi.intColumn(path), filter, v -> Integer.parseInt(v.trim()));
+            case INT64:
+                if (originalType != null && originalType != OriginalType.INT_64) {
+                    return null;
+                }
+                return toParquetLeaf(FilterApi.longColumn(path), filter, v -> Long.parseLong(v.trim()));
+            case FLOAT:
+                return toParquetLeaf(FilterApi.floatColumn(path), filter, v -> Float.parseFloat(v.trim()));
+            case DOUBLE:
+                return toParquetLeaf(FilterApi.doubleColumn(path), filter, v -> Double.parseDouble(v.trim()));
+            case BINARY:
+                // 低版本 parquet 按有符号字节比较 Binary，范围条件不下推
+                if (originalType != OriginalType.UTF8 || isRangeOperator(filter.getOperator())) {
+                    return null;
+                }
+                return toParquetLeaf(FilterApi.binaryColumn(path), filter, Binary::fromString);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isRangeOperator(ColumnFilterDTO.Operator operator) {
+        return operator == ColumnFilterDTO.Operator.LT || operator == ColumnFilterDTO.Operator.LE
+                || operator == ColumnFilterDTO.Operator.GT || operator == ColumnFilterDTO.Operator.GE;
+    }
+
+    private interface LiteralParser<T> {
+        T parse(String value);
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate toParquetLeaf(
+            C column, ColumnFilterDTO filter, LiteralParser<T> parser) {
+        switch (filter.getOperator()) {
+            case IS_NULL:
+                return FilterApi.eq(column, null);
+            case IS_NOT_NULL:
+                return FilterApi.notEq(column, null);
+            case IN:
+                if (CollectionUtils.isEmpty(filter.getValues())) {
+                    return null;
+                }
+                FilterPredicate predicate = null;
+                for (String value : filter.getValues()) {
+                    FilterPredicate eq = FilterApi.eq(column, parser.parse(value));
+                    predicate = predicate == null ? eq : FilterApi.or(predicate, eq);
+                }
+                return predicate;
+            default:
+                if (filter.getValue() == null) {
+                    return null;
+                }
+                T literal = parser.parse(filter.getValue());
+                switch (filter.getOperator()) {
+                    case EQ:
+                        return FilterApi.eq(column, literal);
+                    case NOT_EQ:
+                        return FilterApi.notEq(column, literal);
+                    case LT:
+                        return FilterApi.lt(column, literal);
+                    case LE:
+                        return FilterApi.ltEq(column, literal);
+                    case GT:
+                        return FilterApi.gt(column, literal);
+                    case GE:
+                        return FilterApi.gtEq(column, literal);
+                    default:
+                        return null;
+                }
+        }
+    }
+
+    /**
+     * 需要读取的普通字段名称，小写
+     *
+     * @param columns     普通字段
+     * @param readColumns 需要读取的字段索引
+     * @return 字段名称
+     */
+    public static Set<String> getReadColumnNames(List<ColumnMetaDTO> columns, List<Integer> readColumns) {
+        if (readColumns == null) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new TreeSet<>();
+        for (Integer index : readColumns) {
+            names.add(columns.get(index).getKey().toLowerCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    private static boolean isIntegerType(String type) {
+        return "tinyint".equals(type) || "smallint".equals(type) || "int".equals(type) || "bigint".equals(type);
+    }
+
+    private static boolean isFloatType(String type) {
+        return "float".equals(type) || "double".equals(type);
+    }
+
+    private static boolean isDecimalType(String type) {
+        return type != null && type.startsWith("decimal");
+    }
+
+    private static boolean isStringType(String type) {
+        return type != null && (type.equals("string") || type.startsWith("varchar") || type.startsWith("char"));
+    }
+}
@@ -35,6 +35,9 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.ql.io.orc.OrcInputFormat;
 import org.apache.hadoop.hive.ql.io.orc.OrcSerde;
 import org.apache.hadoop.hive.ql.io.orc.OrcSplit;
+import org.apache.hadoop.hive.ql.io.sarg.ConvertAstToSearchArg;
+import org.apache.hadoop.hive.ql.io.sarg.SearchArgument;
+import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
 import org.apache.hadoop.hive.serde2.objectinspector.StructField;
 import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
 import org.apache.hadoop.mapred.FileInputFormat;
@@ -43,6 +46,7 @@ import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.security.UserGroupInformation;
 
 import java.io.IOException;
 import java.security.PrivilegedAction;
@@ -88,6 +92,11 @@ public class HiveORCDownload implements IDownloader {
 
     private final Map<String, Object> kerberosConfig;
 
+    /**
+     * 下载器使用的 UGI，第一次读取时获取
+     */
+    private UserGroupInformation ugi;
+
     /**
      * 需要查询字段的索引
      */
@@ -98,9 +107,22 @@ public class HiveORCDownload implements IDownloader {
      */
     private final List<String> partitions;
 
+    /**
+     * 字段过滤条件，为 null 时不过滤
+     */
+    private final HiveFilterPushdown filterPushdown;
+
     public HiveORCDownload(Configuration configuration, String tableLocation, List<String> columnNames,
                            List<String> partitionColumns, List<Integer> needIndex,
                            List<String> partitions, Map<String, Object> kerberosConfig){
+        this(configuration, tableLocation, columnNames, partitionColumns, needIndex, partitions, kerberosConfig, null);
+    }
+
+    public HiveORCDownload(Configuration configuration, String tableLocation, List<String> columnNames,
+                           List<String> partitionColumns, List<Integer> needIndex,
+                           List<String> partitions, Map<String, Object> kerberosConfig,
+                           HiveFilterPushdown filterPushdown){
+        this.filterPushdown = filterPushdown;
         this.configuration = configuration;
         this.tableLocation = tableLocation;
         this.columnNames = columnNames;
@@ -125,6 +147,7 @@ public class HiveORCDownload implements IDownloader {
             return false;
         }
         FileInputFormat.setInputPaths(conf, targetFilePath);
+        configureReadColumns();
         splits = inputFormat.getSplits(conf, SPLIT_NUM);
         if(ArrayUtils.isNotEmpty(splits)){
             boolean isInit = initRecordReader();
@@ -141,6 +164,30 @@ public class HiveORCDownload implements IDownloader {
         return true;
     }
 
+    /**
+     * 设置需要读取的字段和过滤条件，OrcInputFormat 只读取需要的字段，并根据 stripe 统计信息跳过不满足条件的 stripe
+     */
+    private void configureReadColumns() {
+        List<Integer> readColumnIds = HiveFilterPushdown.getReadColumnIds(filterPushdown, needIndex, columnNames.size());
+        if (readColumnIds != null) {
+            List<String> readColumnNames = new ArrayList<>(readColumnIds.size());
+            for (Integer index : readColumnIds) {
+                readColumnNames.add(columnNames.get(index));
+            }
+            ColumnProjectionUtils.appendReadColumns(conf, readColumnIds, readColumnNames);
+        }
+        if (filterPushdown == null) {
+            return;
+        }
+        SearchArgument sarg = filterPushdown.toSearchArgument();
+        if (sarg != null) {
+            // 下推条件需要知道字段名称
+            conf.set("columns", StringUtil.join(columnNames, ","));
+            conf.set(ConvertAstToSearchArg.SARG_PUSHDOWN, ConvertAstToSearchArg.sargToKryo(sarg));
+            conf.setBoolean("hive.optimize.index.filter", true);
+        }
+    }
+
     @Override
     public List<String> getMetaInfo(){
         List<String> metaInfo = new ArrayList<>(columnNames);
@@ -152,7 +199,7 @@ public class HiveORCDownload implements IDownloader {
 
     @Override
     public List<String> readNext() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<List<String>>) ()->{
                     try {
                         return readNextWithKerberos();
@@ -246,7 +293,7 @@ public class HiveORCDownload implements IDownloader {
         }
 
         // 如果路径不存在，重新进行初始化 recordReader orcSplit.getPath().toString() 可以拿到当前逻辑切片的 hdfs 文件路径
-        if (!isPartitionExists(orcSplit.getPath().toString())) {
+        if (!isPartitionExists(orcSplit.getPath().toString()) || !isRequiredPartition(orcSplit.getPath().toString())) {
             return initRecordReader();
         }
 
@@ -255,10 +302,20 @@ public class HiveORCDownload implements IDownloader {
     }
 
     public boolean nextRecord() throws IOException {
+        // 下推只能跳过 stripe，读取到的数据还需要再过滤
+        while (nextRawRecord()) {
+            if (filterPushdown == null || !filterPushdown.hasColumnFilter() || filterPushdown.matchRow(this::getFieldByIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean nextRawRecord() throws IOException {
         if(recordReader.next(key, value)){
             return true;
         }
-        for (int i = splitIndex; i < splits.length; i++) {
+        while (splitIndex < splits.length) {
             if (initRecordReader() && recordReader.next(key, value)) {
                 return true;
             }
@@ -268,16 +325,56 @@ public class HiveORCDownload implements IDownloader {
 
     @Override
     public boolean reachedEnd() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<Boolean>) ()->{
                     try {
-                        return recordReader == null || !nextRecord();
+                        return reachedEndWithKerberos();
                     } catch (Exception e){
                         throw new DtLoaderException(String.format("Download file is abnormal,%s", e.getMessage()), e);
                     }
                 });
     }
 
+    private boolean reachedEndWithKerberos() throws Exception {
+        return recordReader == null || !nextRecord();
+    }
+
+    /**
+     * 批量读取，一批数据只做一次 doAs
+     *
+     * @param batchSize 每批最多读取的行数
+     * @return 数据集合
+     */
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        return getUgi().doAs(
+                (PrivilegedAction<List<Object>>) ()->{
+                    List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+                    try {
+                        while (rows.size() < batchSize && !reachedEndWithKerberos()) {
+                            rows.add(readNextWithKerberos());
+                        }
+                    } catch (DtLoaderException e) {
+                        throw e;
+                    } catch (Exception e){
+                        throw new DtLoaderException(String.format("Abnormal reading file,%s", e.getMessage()), e);
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * 下载器生命周期内复用同一个 UGI，避免每次读取都经过 KerberosLoginUtil 的全局锁
+     *
+     * @return UGI
+     */
+    private UserGroupInformation getUgi() {
+        if (ugi == null) {
+            ugi = KerberosLoginUtil.loginWithUGI(kerberosConfig);
+        }
+        return ugi;
+    }
+
     @Override
     public boolean close() throws IOException {
         if(recordReader != null){
@@ -318,6 +415,19 @@ public class HiveORCDownload implements IDownloader {
         return partitions.contains(curPathPartition);
     }
 
+    /**
+     * 判断分区是否满足分区字段的过滤条件
+     *
+     * @param path hdfs 文件路径
+     * @return 是否需要该分区
+     */
+    private boolean isRequiredPartition(String path) {
+        if (filterPushdown == null || CollectionUtils.isEmpty(partitionColumns)) {
+            return true;
+        }
+        return filterPushdown.matchPartition(HdfsOperator.parsePartitionDataFromUrl(path, partitionColumns));
+    }
+
     /**
      * 获取当前路径的分区路径
      *
@@ -36,11 +36,18 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.parquet.example.data.Group;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.InitContext;
 import org.apache.parquet.hadoop.example.GroupReadSupport;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.DecimalMetadata;
+import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 
@@ -91,7 +98,12 @@ public class HiveParquetDownload implements IDownloader {
 
     private List<String> currentPartData;
 
-    private final GroupReadSupport readSupport = new GroupReadSupport();
+    private GroupReadSupport readSupport;
+
+    /**
+     * 字段过滤条件，为 null 时不过滤
+     */
+    private final HiveFilterPushdown filterPushdown;
 
     private static final int JULIAN_EPOCH_OFFSET_DAYS = 2440588;
 
@@ -101,6 +113,11 @@ public class HiveParquetDownload implements IDownloader {
 
     private final Map<String, Object> kerberosConfig;
 
+    /**
+     * 下载器使用的 UGI，第一次读取时获取
+     */
+    private UserGroupInformation ugi;
+
     /**
      * 按分区下载
      */
@@ -116,6 +133,13 @@ public class HiveParquetDownload implements IDownloader {
     public HiveParquetDownload(Configuration conf, String tableLocation, List<ColumnMetaDTO> columns,
                                List<String> partitionColumns, List<Integer> needIndex, Map<String, String> filterPartition,
                                List<String> partitions, Map<String, Object> kerberosConfig){
+        this(conf, tableLocation, columns, partitionColumns, needIndex, filterPartition, partitions, kerberosConfig, null);
+    }
+
+    public HiveParquetDownload(Configuration conf, String tableLocation, List<ColumnMetaDTO> columns,
+                               List<String> partitionColumns, List<Integer> needIndex, Map<String, String> filterPartition,
+                               List<String> partitions, Map<String, Object> kerberosConfig, HiveFilterPushdown filterPushdown){
+        this.filterPushdown = filterPushdown;
         this.conf = conf;
         this.tableLocation = tableLocation;
         this.columns = columns;
@@ -132,9 +156,39 @@ public class HiveParquetDownload implements IDownloader {
         FileSystem fs =  FileSystem.get(conf);
         // 递归获取表路径下所有文件
         getAllPartitionPath(tableLocation, paths, fs);
+        List<Integer> readColumnIds = HiveFilterPushdown.getReadColumnIds(filterPushdown, needIndex, columns.size());
+        readSupport = readColumnIds == null ? new GroupReadSupport() : new ProjectionReadSupport(HiveFilterPushdown.getReadColumnNames(columns, readColumnIds));
         return true;
     }
 
+    /**
+     * 只读取需要字段的 ReadSupport，不在文件 schema 中的字段读取结果为 null
+     */
+    private static class ProjectionReadSupport extends GroupReadSupport {
+
+        /**
+         * 需要读取的字段名称，小写
+         */
+        private final Set<String> readColumnNames;
+
+        private ProjectionReadSupport(Set<String> readColumnNames) {
+            this.readColumnNames = readColumnNames;
+        }
+
+        @Override
+        public ReadContext init(InitContext context) {
+            MessageType fileSchema = context.getFileSchema();
+            List<Type> readFields = fileSchema.getFields().stream()
+                    .filter(field -> readColumnNames.contains(field.getName().toLowerCase()))
+                    .collect(Collectors.toList());
+            // 文件中不存在需要的字段时读取全部字段，保证行数正确
+            if (readFields.isEmpty()) {
+                return new ReadContext(fileSchema);
+            }
+            return new ReadContext(new MessageType(fileSchema.getName(), readFields));
+        }
+    }
+
     private void nextSplitRecordReader() throws Exception{
         if (currFileIndex > paths.size() - 1) {
             return;
@@ -143,13 +197,18 @@ public class HiveParquetDownload implements IDownloader {
         currFile = paths.get(currFileIndex);
 
         // 如果分区不存在或者不需要该分区则进行跳过
-        if (!isPartitionExists() || !isRequiredPartition()){
+        if (!isPartitionExists() || !isRequiredPartition() || !isFilterPartition()){
             currFileIndex++;
             nextSplitRecordReader();
             return;
         }
 
         ParquetReader.Builder<Group> reader = ParquetReader.builder(readSupport, new Path(currFile)).withConf(conf);
+        FilterPredicate predicate = getFilterPredicate(new Path(currFile));
+        if (predicate != null) {
+            // 根据 row group 统计信息跳过不满足条件的 row group
+            reader.withFilter(FilterCompat.get(predicate));
+        }
         build = reader.build();
 
         if(CollectionUtils.isNotEmpty(partitionColumns)){
@@ -159,7 +218,46 @@ public class HiveParquetDownload implements IDownloader {
         currFileIndex++;
     }
 
+    /**
+     * 获取当前文件的下推条件，只读取 footer 中的 schema
+     *
+     * @param path 文件路径
+     * @return 下推条件，没有时返回 null
+     */
+    private FilterPredicate getFilterPredicate(Path path) throws IOException {
+        if (filterPushdown == null || !filterPushdown.hasColumnFilter()) {
+            return null;
+        }
+        MessageType fileSchema = ParquetFileReader.readFooter(conf, path, ParquetMetadataConverter.SKIP_ROW_GROUPS)
+                .getFileMetaData().getSchema();
+        return filterPushdown.toParquetPredicate(fileSchema);
+    }
+
     private boolean nextRecord() throws Exception{
+        // 下推只能跳过 row group，读取到的数据还需要再过滤
+        while (nextRawRecord()) {
+            if (filterPushdown == null || !filterPushdown.hasColumnFilter() || filterPushdown.matchRow(this::getColumnValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取普通字段的值，字段不存在或者值为空时返回 null
+     *
+     * @param columnIndex 普通字段索引
+     * @return 字段值
+     */
+    private String getColumnValue(int columnIndex) {
+        Integer fieldIndex = isFieldExists(columns.get(columnIndex).getKey());
+        if (fieldIndex == -1 || currentLine.getFieldRepetitionCount(fieldIndex) == 0) {
+            return null;
+        }
+        return getFieldByIndex(columns.get(columnIndex).getType(), fieldIndex);
+    }
+
+    private boolean nextRawRecord() throws Exception{
         if(build == null && currFileIndex <= paths.size() - 1){
             nextSplitRecordReader();
         }
@@ -171,8 +269,9 @@ public class HiveParquetDownload implements IDownloader {
         currentLine = build.read();
 
         if (currentLine == null){
+            build.close();
             build = null;
-            nextRecord();
+            nextRawRecord();
         }
 
         return currentLine != null;
@@ -189,7 +288,7 @@ public class HiveParquetDownload implements IDownloader {
 
     @Override
     public List<String> readNext() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<List<String>>) ()->{
                     try {
                         return readNextWithKerberos();
@@ -374,16 +473,56 @@ public class HiveParquetDownload implements IDownloader {
 
     @Override
     public boolean reachedEnd() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<Boolean>) ()->{
                     try {
-                        return !nextRecord();
+                        return reachedEndWithKerberos();
                     } catch (Exception e){
                         throw new DtLoaderException(String.format("Download file is abnormal,%s", e.getMessage()), e);
                     }
                 });
     }
 
+    private boolean reachedEndWithKerberos() throws Exception {
+        return !nextRecord();
+    }
+
+    /**
+     * 批量读取，一批数据只做一次 doAs
+     *
+     * @param batchSize 每批最多读取的行数
+     * @return 数据集合
+     */
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        return getUgi().doAs(
+                (PrivilegedAction<List<Object>>) ()->{
+                    List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+                    try {
+                        while (rows.size() < batchSize && !reachedEndWithKerberos()) {
+                            rows.add(readNextWithKerberos());
+                        }
+                    } catch (DtLoaderException e) {
+                        throw e;
+                    } catch (Exception e){
+                        throw new DtLoaderException(String.format("Abnormal reading file,%s", e.getMessage()), e);
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * 下载器生命周期内复用同一个 UGI，避免每次读取都经过 KerberosLoginUtil 的全局锁
+     *
+     * @return UGI
+     */
+    private UserGroupInformation getUgi() {
+        if (ugi == null) {
+            ugi = KerberosLoginUtil.loginWithUGI(kerberosConfig);
+        }
+        return ugi;
+    }
+
     @Override
     public boolean close() throws Exception {
         if (build != null){
@@ -495,6 +634,18 @@ public class HiveParquetDownload implements IDownloader {
         return true;
     }
 
+    /**
+     * 判断分区是否满足分区字段的过滤条件
+     *
+     * @return 是否需要该分区
+     */
+    private boolean isFilterPartition() {
+        if (filterPushdown == null || CollectionUtils.isEmpty(partitionColumns)) {
+            return true;
+        }
+        return filterPushdown.matchPartition(HdfsOperator.parsePartitionDataFromUrl(currFile, partitionColumns));
+    }
+
     @Override
     public List<String> getContainers() {
         return Collections.emptyList();
@@ -18,6 +18,7 @@
 
 package com.dtstack.dtcenter.common.loader.hive2.downloader;
 
+import com.dtstack.dtcenter.common.loader.common.utils.TextRowDecoder;
 import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HdfsOperator;
 import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
 import com.dtstack.dtcenter.loader.IDownloader;
@@ -38,6 +39,7 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.hadoop.security.UserGroupInformation;
 
 import java.io.IOException;
 import java.security.PrivilegedAction;
@@ -66,6 +68,11 @@ public class HiveTextDownload implements IDownloader {
     private LongWritable key;
     private Text value;
 
+    /**
+     * 文本行解析器，第一次读取时创建
+     */
+    private TextRowDecoder rowDecoder;
+
     private RecordReader recordReader;
     private final String tableLocation;
     private final String fieldDelimiter;
@@ -84,6 +91,11 @@ public class HiveTextDownload implements IDownloader {
     private final List<String> partitionColumns;
     private final Map<String, Object> kerberosConfig;
 
+    /**
+     * 下载器使用的 UGI，第一次读取时获取
+     */
+    private UserGroupInformation ugi;
+
     /**
      * 按分区下载
      */
@@ -251,7 +263,7 @@ public class HiveTextDownload implements IDownloader {
 
     @Override
     public List<String> readNext(){
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<List<String>>) ()->{
                     try {
                         return readNextWithKerberos();
@@ -262,39 +274,67 @@ public class HiveTextDownload implements IDownloader {
     }
 
     public List<String> readNextWithKerberos(){
-        String line = value.toString();
-        value.clear();
-        String[] fields = line.split(fieldDelimiter, -1);
-        List<String> row = Lists.newArrayList(fields);
-        if(CollectionUtils.isNotEmpty(partitionColumns)){
-            row.addAll(currentPartData);
-        }
-        if (CollectionUtils.isNotEmpty(needIndex)) {
-            List<String> rowNew = Lists.newArrayList();
-            for (Integer index : needIndex) {
-                if (index > row.size() -1) {
-                    rowNew.add(null);
-                } else {
-                    rowNew.add(row.get(index));
-                }
-            }
-            return rowNew;
+        if (rowDecoder == null) {
+            rowDecoder = new TextRowDecoder(fieldDelimiter, needIndex);
         }
+        List<String> row = rowDecoder.decode(value.getBytes(), value.getLength(),
+                CollectionUtils.isNotEmpty(partitionColumns) ? currentPartData : null);
+        value.clear();
         return row;
     }
 
     @Override
     public boolean reachedEnd() {
-        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+        return getUgi().doAs(
                 (PrivilegedAction<Boolean>) ()->{
                     try {
-                        return recordReader == null || !nextRecord();
+                        return reachedEndWithKerberos();
                     } catch (Exception e){
                         throw new DtLoaderException(String.format("Download file is abnormal,%s", e.getMessage()), e);
                     }
                 });
     }
 
+    private boolean reachedEndWithKerberos() throws Exception {
+        return recordReader == null || !nextRecord();
+    }
+
+    /**
+     * 批量读取，一批数据只做一次 doAs
+     *
+     * @param batchSize 每批最多读取的行数
+     * @return 数据集合
+     */
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        return getUgi().doAs(
+                (PrivilegedAction<List<Object>>) ()->{
+                    List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+                    try {
+                        while (rows.size() < batchSize && !reachedEndWithKerberos()) {
+                            rows.add(readNextWithKerberos());
+                        }
+                    } catch (DtLoaderException e) {
+                        throw e;
+                    } catch (Exception e){
+                        throw new DtLoaderException(String.format("Abnormal reading file,%s", e.getMessage()), e);
+                    }
+                    return rows;
+                });
+    }
+
+    /**
+     * 下载器生命周期内复用同一个 UGI，避免每次读取都经过 KerberosLoginUtil 的全局锁
+     *
+     * @return UGI
+     */
+    private UserGroupInformation getUgi() {
+        if (ugi == null) {
+            ugi = KerberosLoginUtil.loginWithUGI(kerberosConfig);
+        }
+        return ugi;
+    }
+
     @Override
     public boolean close() throws IOException {
         if(recordReader != null){
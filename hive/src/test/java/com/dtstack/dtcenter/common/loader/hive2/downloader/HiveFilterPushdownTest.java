@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.common.loader.hive2.downloader;
+
+import com.dtstack.dtcenter.loader.dto.ColumnFilterDTO;
+import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * hive 读取时行过滤测试，timestamp 和 date 字段需要按时间比较
+ *
+ * @author ：wangchuan
+ * date：Created in 下午4:40 2026/10/18
+ * company: www.dtstack.com
+ */
+public class HiveFilterPushdownTest {
+
+    /**
+     * parquet 读取到的 timestamp 格式
+     */
+    private static final String PARQUET_TIMESTAMP = "2024-01-01 00:00:00.0";
+
+    @Test
+    public void timestampEqualsIgnoreFormat() {
+        Assert.assertTrue(match("timestamp", filter(ColumnFilterDTO.Operator.EQ, "2024-01-01 00:00:00"), PARQUET_TIMESTAMP));
+        Assert.assertFalse(match("timestamp", filter(ColumnFilterDTO.Operator.NOT_EQ, "2024-01-01 00:00:00"), PARQUET_TIMESTAMP));
+    }
+
+    @Test
+    public void timestampIn() {
+        ColumnFilterDTO filter = ColumnFilterDTO.builder().column("ts").operator(ColumnFilterDTO.Operator.IN)
+                .values(Arrays.asList("2023-12-31 23:59:59", "2024-01-01 00:00:00")).build();
+        Assert.assertTrue(match("timestamp", filter, PARQUET_TIMESTAMP));
+    }
+
+    @Test
+    public void timestampRange() {
+        Assert.assertTrue(match("timestamp", filter(ColumnFilterDTO.Operator.LE, "2024-01-01 00:00:00"), PARQUET_TIMESTAMP));
+        Assert.assertTrue(match("timestamp", filter(ColumnFilterDTO.Operator.GE, "2024-01-01 00:00:00"), PARQUET_TIMESTAMP));
+        Assert.assertFalse(match("timestamp", filter(ColumnFilterDTO.Operator.LT, "2024-01-01 00:00:00"), PARQUET_TIMESTAMP));
+        Assert.assertTrue(match("timestamp", filter(ColumnFilterDTO.Operator.GT, "2023-12-31 23:59:59.999"), PARQUET_TIMESTAMP));
+    }
+
+    @Test
+    public void dateCompare() {
+        Assert.assertTrue(match("date", filter(ColumnFilterDTO.Operator.EQ, "2024-01-01"), "2024-01-01"));
+        // 字符串比较时 2024-1-9 > 2024-01-10
+        Assert.assertTrue(match("date", filter(ColumnFilterDTO.Operator.LT, "2024-01-10"), "2024-1-9"));
+    }
+
+    @Test
+    public void invalidTimestampNotMatch() {
+        Assert.assertFalse(match("timestamp", filter(ColumnFilterDTO.Operator.EQ, "2024/01/01"), PARQUET_TIMESTAMP));
+        Assert.assertFalse(match("timestamp", filter(ColumnFilterDTO.Operator.NOT_EQ, "2024/01/01"), PARQUET_TIMESTAMP));
+        Assert.assertFalse(match("date", filter(ColumnFilterDTO.Operator.GE, "not a date"), "2024-01-01"));
+    }
+
+    private static ColumnFilterDTO filter(ColumnFilterDTO.Operator operator, String value) {
+        return ColumnFilterDTO.builder().column("ts").operator(operator).value(value).build();
+    }
+
+    private static boolean match(String type, ColumnFilterDTO filter, String value) {
+        ColumnMetaDTO column = new ColumnMetaDTO();
+        column.setKey("ts");
+        column.setType(type);
+        List<ColumnMetaDTO> columns = new ArrayList<>();
+        columns.add(column);
+        HiveFilterPushdown pushdown = HiveFilterPushdown.of(Collections.singletonList(filter), columns, null);
+        return pushdown.matchRow(index -> value);
+    }
+}
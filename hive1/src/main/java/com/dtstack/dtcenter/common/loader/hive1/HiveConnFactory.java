@@ -71,7 +71,6 @@ public class HiveConnFactory extends ConnFactory {
         Connection connection = KerberosLoginUtil.loginWithUGI(hive1SourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<Connection>) () -> {
                     try {
-                        DriverManager.setLoginTimeout(30);
                         Properties properties = DBUtil.stringToProperties(taskParams);
                         // 特殊处理 properties 属性
                         dealProperties(properties);
@@ -70,7 +70,6 @@ public class HiveConnFactory extends ConnFactory {
         Connection connection = KerberosLoginUtil.loginWithUGI(hiveSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<Connection>) () -> {
                     try {
-                        DriverManager.setLoginTimeout(30);
                         Properties properties = DBUtil.stringToProperties(taskParams);
                         // 特殊处理 properties 属性
                         dealProperties(properties);
@@ -51,7 +51,6 @@ public class HiveConnFactory extends ConnFactory {
         Connection connection = KerberosLoginUtil.loginWithUGI(hive3CDPSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<Connection>) () -> {
                     try {
-                        DriverManager.setLoginTimeout(30);
                         Properties properties = DBUtil.stringToProperties(taskParams);
                         // 特殊处理 properties 属性
                         dealProperties(properties);
@@ -11,6 +11,7 @@ import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HdfsOperator;
 import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
 import com.dtstack.dtcenter.common.loader.hive3.HiveConnFactory;
 import com.dtstack.dtcenter.common.loader.hive3.downloader.HiveORCDownload;
+import com.dtstack.dtcenter.common.loader.hive3.downloader.HiveParallelDownload;
 import com.dtstack.dtcenter.common.loader.hive3.downloader.HiveParquetDownload;
 import com.dtstack.dtcenter.common.loader.hive3.downloader.HiveTextDownload;
 import com.dtstack.dtcenter.common.loader.rdbms.AbsRdbmsClient;
@@ -34,9 +35,11 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.hive.metastore.api.hive_metastoreConstants;
 import org.apache.hadoop.hive.ql.io.AcidUtils;
 import org.apache.hadoop.hive.ql.io.IOConstants;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivilegedAction;
@@ -320,6 +323,10 @@ public class Hive3Client extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO sourceDTO, SqlQueryDTO queryDTO) {
+        // 字段过滤条件只有 hive2 的 orc、parquet 表支持，不能忽略条件返回全部数据
+        if (ReflectUtil.fieldExists(SqlQueryDTO.class, "columnFilters") && CollectionUtils.isNotEmpty(queryDTO.getColumnFilters())) {
+            throw new DtLoaderException("Column filters are not supported by the hive3 cdp table downloader");
+        }
         Hive3CDPSourceDTO hive3CDPSourceDTO = (Hive3CDPSourceDTO) sourceDTO;
         Integer clearStatus = beforeQuery(hive3CDPSourceDTO, queryDTO, false);
         Table table;
@@ -395,6 +402,11 @@ public class Hive3Client extends AbsRdbmsClient {
         return KerberosLoginUtil.loginWithUGI(hive3CDPSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<IDownloader>) () -> {
                     try {
+                        Integer parallelism = ReflectUtil.fieldExists(Hive3CDPSourceDTO.class, "downloadParallelism") ? hive3CDPSourceDTO.getDownloadParallelism() : null;
+                        if (parallelism != null && parallelism > 1 && !isTransOrcTable(table)) {
+                            boolean keepOrder = !ReflectUtil.fieldExists(Hive3CDPSourceDTO.class, "downloadKeepOrder") || !Boolean.FALSE.equals(hive3CDPSourceDTO.getDownloadKeepOrder());
+                            return createParallelDownloader(table.getStoreType(), conf, table.getPath(), commonColumn, table.getDelim(), partitionColumns, needIndex, queryDTO.getPartitionColumns(), finalPartitions, hive3CDPSourceDTO.getKerberosConfig(), parallelism, keepOrder);
+                        }
                         return createDownloader(table.getStoreType(), conf, table.getPath(), commonColumn, table.getDelim(), partitionColumns, needIndex, queryDTO.getPartitionColumns(), finalPartitions, hive3CDPSourceDTO.getKerberosConfig());
                     } catch (Exception e) {
                         throw new DtLoaderException(String.format("create downloader exception,%s", e.getMessage()), e);
@@ -474,6 +486,49 @@ public class Hive3Client extends AbsRdbmsClient {
         throw new DtLoaderException("Hive table reads for this storage type are not supported");
     }
 
+    /**
+     * 创建并发读取的 hiveDownloader，每个文件使用单独的下载器，由多个线程并发读取
+     *
+     * @param parallelism 并发读取的文件数
+     * @param keepOrder   是否保持文件顺序
+     * @return downloader 数据下载器
+     * @throws Exception 异常信息
+     */
+    private IDownloader createParallelDownloader(String storageMode, Configuration conf, String tableLocation,
+                                                 List<ColumnMetaDTO> columns, String fieldDelimiter,
+                                                 ArrayList<String> partitionColumns, List<Integer> needIndex,
+                                                 Map<String, String> filterPartitions, List<String> partitions,
+                                                 Map<String, Object> kerberosConfig,
+                                                 int parallelism, boolean keepOrder) throws Exception {
+        if (!StringUtils.containsIgnoreCase(storageMode, "text")
+                && !StringUtils.containsIgnoreCase(storageMode, "orc")
+                && !StringUtils.containsIgnoreCase(storageMode, "parquet")) {
+            throw new DtLoaderException("Hive table reads for this storage type are not supported");
+        }
+        List<String> files = new ArrayList<>();
+        HiveTextDownload.getAllPartitionPath(tableLocation, files, FileSystem.get(conf));
+        List<String> metaInfo = columns.stream().map(ColumnMetaDTO::getKey).collect(Collectors.toList());
+        metaInfo.addAll(partitionColumns);
+        HiveParallelDownload parallelDownload = new HiveParallelDownload(metaInfo, files,
+                filePath -> createDownloader(storageMode, conf, filePath, columns, fieldDelimiter, partitionColumns,
+                        needIndex, filterPartitions, partitions, kerberosConfig),
+                parallelism, keepOrder, UserGroupInformation.getCurrentUser());
+        parallelDownload.configure();
+        return parallelDownload;
+    }
+
+    /**
+     * 事务表的 orc 文件需要按目录合并 base 和 delta 读取，不能按文件并发读取
+     *
+     * @param table 表信息
+     * @return 是否是 orc 事务表
+     */
+    private boolean isTransOrcTable(Table table) {
+        return StringUtils.containsIgnoreCase(table.getStoreType(), "orc")
+                && ReflectUtil.fieldExists(Table.class, "isTransTable")
+                && Boolean.TRUE.equals(table.getIsTransTable());
+    }
+
     /**
      * 处理hive分区信息和sql语句
      *
@@ -0,0 +1,63 @@
+package com.dtstack.dtcenter.common.loader.kafka.pool;
+
+import kafka.admin.AdminClient;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+
+import java.util.Properties;
+
+/**
+ * kafka admin client 对象池工厂
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:05 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class KafkaAdminClientPoolFactory implements PooledObjectFactory<AdminClient> {
+
+    private final Properties properties;
+
+    public KafkaAdminClientPoolFactory(Properties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public PooledObject<AdminClient> makeObject() {
+        return new DefaultPooledObject<>(AdminClient.create(properties));
+    }
+
+    @Override
+    public void destroyObject(PooledObject<AdminClient> pooledObject) {
+        try {
+            pooledObject.getObject().close();
+        } catch (Exception e) {
+            log.warn("close kafka admin client error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 空闲检查时获取一次 broker 列表，失败则销毁
+     */
+    @Override
+    public boolean validateObject(PooledObject<AdminClient> pooledObject) {
+        try {
+            return pooledObject.getObject().findAllBrokers().nonEmpty();
+        } catch (Exception e) {
+            log.warn("kafka admin client validate failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void activateObject(PooledObject<AdminClient> pooledObject) {
+        // nothing
+    }
+
+    @Override
+    public void passivateObject(PooledObject<AdminClient> pooledObject) {
+        // nothing
+    }
+}
@@ -55,7 +55,6 @@ public class InceptorConnFactory extends ConnFactory {
         Connection connection = KerberosLoginUtil.loginWithUGI(inceptorSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<Connection>) () -> {
                     try {
-                        DriverManager.setLoginTimeout(30);
                         String urlWithoutSchema = InceptorDriverUtil.removeSchema(inceptorSourceDTO.getUrl());
 
                         Properties properties = PropertiesUtil.convertToProp(inceptorSourceDTO);
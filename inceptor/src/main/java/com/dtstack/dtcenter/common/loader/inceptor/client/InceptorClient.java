@@ -33,6 +33,7 @@ import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
 import com.dtstack.dtcenter.common.loader.inceptor.InceptorConnFactory;
 import com.dtstack.dtcenter.common.loader.inceptor.downloader.InceptorDownload;
 import com.dtstack.dtcenter.common.loader.inceptor.downloader.InceptorORCDownload;
+import com.dtstack.dtcenter.common.loader.inceptor.downloader.InceptorParallelDownload;
 import com.dtstack.dtcenter.common.loader.inceptor.downloader.InceptorParquetDownload;
 import com.dtstack.dtcenter.common.loader.inceptor.downloader.InceptorTextDownload;
 import com.dtstack.dtcenter.common.loader.rdbms.AbsRdbmsClient;
@@ -59,6 +60,8 @@ import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.security.UserGroupInformation;
 import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -389,6 +392,10 @@ public class InceptorClient extends AbsRdbmsClient {
     }
 
     private IDownloader getDownloaderFromHdfs(ISourceDTO sourceDTO, SqlQueryDTO queryDTO) {
+        // 字段过滤条件只有 hive2 的 orc、parquet 表支持，不能忽略条件返回全部数据
+        if (ReflectUtil.fieldExists(SqlQueryDTO.class, "columnFilters") && CollectionUtils.isNotEmpty(queryDTO.getColumnFilters())) {
+            throw new DtLoaderException("Column filters are not supported by the inceptor table downloader");
+        }
         InceptorSourceDTO inceptorSourceDTO = (InceptorSourceDTO) sourceDTO;
         Integer clearStatus = beforeQuery(inceptorSourceDTO, queryDTO, false);
         Table table;
@@ -461,6 +468,11 @@ public class InceptorClient extends AbsRdbmsClient {
         return KerberosLoginUtil.loginWithUGI(inceptorSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<IDownloader>) () -> {
                     try {
+                        Integer parallelism = ReflectUtil.fieldExists(InceptorSourceDTO.class, "downloadParallelism") ? inceptorSourceDTO.getDownloadParallelism() : null;
+                        if (parallelism != null && parallelism > 1 && !isTransOrcTable(table)) {
+                            boolean keepOrder = !ReflectUtil.fieldExists(InceptorSourceDTO.class, "downloadKeepOrder") || !Boolean.FALSE.equals(inceptorSourceDTO.getDownloadKeepOrder());
+                            return createParallelDownloader(table.getStoreType(), conf, table.getPath(), commonColumn, table.getDelim(), partitionColumns, needIndex, queryDTO.getPartitionColumns(), finalPartitions, inceptorSourceDTO.getKerberosConfig(), parallelism, keepOrder);
+                        }
                         return createDownloader(table.getStoreType(), conf, table.getPath(), commonColumn, table.getDelim(), partitionColumns, needIndex, queryDTO.getPartitionColumns(), finalPartitions, inceptorSourceDTO.getKerberosConfig());
                     } catch (Exception e) {
                         throw new DtLoaderException(String.format("create downloader exception,%s", e.getMessage()), e);
@@ -519,6 +531,49 @@ public class InceptorClient extends AbsRdbmsClient {
         throw new DtLoaderException("inceptor table reads for this storage type are not supported");
     }
 
+    /**
+     * 创建并发读取的 inceptorDownloader，每个文件使用单独的下载器，由多个线程并发读取
+     *
+     * @param parallelism 并发读取的文件数
+     * @param keepOrder   是否保持文件顺序
+     * @return downloader 数据下载器
+     * @throws Exception 异常信息
+     */
+    private IDownloader createParallelDownloader(String storageMode, Configuration conf, String tableLocation,
+                                                 List<ColumnMetaDTO> columns, String fieldDelimiter,
+                                                 ArrayList<String> partitionColumns, List<Integer> needIndex,
+                                                 Map<String, String> filterPartitions, List<String> partitions,
+                                                 Map<String, Object> kerberosConfig,
+                                                 int parallelism, boolean keepOrder) throws Exception {
+        if (!StringUtils.containsIgnoreCase(storageMode, "text")
+                && !StringUtils.containsIgnoreCase(storageMode, "orc")
+                && !StringUtils.containsIgnoreCase(storageMode, "parquet")) {
+            throw new DtLoaderException("inceptor table reads for this storage type are not supported");
+        }
+        List<String> files = new ArrayList<>();
+        InceptorTextDownload.getAllPartitionPath(tableLocation, files, FileSystem.get(conf));
+        List<String> metaInfo = columns.stream().map(ColumnMetaDTO::getKey).collect(Collectors.toList());
+        metaInfo.addAll(partitionColumns);
+        InceptorParallelDownload parallelDownload = new InceptorParallelDownload(metaInfo, files,
+                filePath -> createDownloader(storageMode, conf, filePath, columns, fieldDelimiter, partitionColumns,
+                        needIndex, filterPartitions, partitions, kerberosConfig),
+                parallelism, keepOrder, UserGroupInformation.getCurrentUser());
+        parallelDownload.configure();
+        return parallelDownload;
+    }
+
+    /**
+     * 事务表的 orc 文件需要按目录合并 base 和 delta 读取，不能按文件并发读取
+     *
+     * @param table 表信息
+     * @return 是否是 orc 事务表
+     */
+    private boolean isTransOrcTable(Table table) {
+        return StringUtils.containsIgnoreCase(table.getStoreType(), "orc")
+                && ReflectUtil.fieldExists(Table.class, "isTransTable")
+                && Boolean.TRUE.equals(table.getIsTransTable());
+    }
+
     @Override
     public IDownloader getDownloader(ISourceDTO sourceDTO, SqlQueryDTO queryDTO) throws Exception {
         if (StringUtils.isNotBlank(queryDTO.getSql())) {
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.kafka.pool;
+
+import kafka.admin.AdminClient;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+
+import java.util.Properties;
+
+/**
+ * kafka admin client 对象池工厂
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:05 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class KafkaAdminClientPoolFactory implements PooledObjectFactory<AdminClient> {
+
+    private final Properties properties;
+
+    public KafkaAdminClientPoolFactory(Properties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public PooledObject<AdminClient> makeObject() {
+        return new DefaultPooledObject<>(AdminClient.create(properties));
+    }
+
+    @Override
+    public void destroyObject(PooledObject<AdminClient> pooledObject) {
+        try {
+            pooledObject.getObject().close();
+        } catch (Exception e) {
+            log.warn("close kafka admin client error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 空闲检查时获取一次 broker 列表，失败则销毁
+     */
+    @Override
+    public boolean validateObject(PooledObject<AdminClient> pooledObject) {
+        try {
+            return pooledObject.getObject().findAllBrokers().nonEmpty();
+        } catch (Exception e) {
+            log.warn("kafka admin client validate failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void activateObject(PooledObject<AdminClient> pooledObject) {
+        // nothing
+    }
+
+    @Override
+    public void passivateObject(PooledObject<AdminClient> pooledObject) {
+        // nothing
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.kafka.pool;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.common.Pool;
+import com.dtstack.dtcenter.common.loader.common.utils.EnvUtil;
+import kafka.admin.AdminClient;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * kafka 客户端管理，按连接配置缓存 consumer 和 admin client 对象池，避免每次调用都重新获取元数据及 SASL/Kerberos 认证
+ *
+ * <ul>
+ *     <li>对象池内：空闲超过 {@link #MIN_EVICTABLE_IDLE_TIME} 的客户端会被关闭，空闲检查时会校验客户端是否可用</li>
+ *     <li>对象池：超过空闲时间未使用的对象池，或对象池个数超过上限时最久未使用的对象池会被关闭</li>
+ * </ul>
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:10 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class KafkaClientManager {
+
+    /**
+     * 对象池缓存，key 为客户端类型及连接配置
+     */
+    private static final Map<String, PoolHolder<?>> POOLS = new ConcurrentHashMap<>();
+
+    // 每个对象池最多的客户端个数
+    private static final int MAX_TOTAL = 8;
+
+    // 获取客户端最大等待时间，单位：毫秒
+    private static final long MAX_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    // 客户端空闲超过该时间会被关闭，单位：毫秒
+    private static final long MIN_EVICTABLE_IDLE_TIME = TimeUnit.MINUTES.toMillis(5);
+
+    // 对象池内空闲检查间隔，单位：毫秒
+    private static final long TIME_BETWEEN_EVICTION_RUNS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * 对象池淘汰检查间隔，单位：秒
+     */
+    private static final long EVICT_PERIOD = 60;
+
+    private static final ScheduledExecutorService EVICT_EXECUTOR = new ScheduledThreadPoolExecutor(1,
+            new DtClassThreadFactory("kafkaClientPoolEvictor"));
+
+    static {
+        EVICT_EXECUTOR.scheduleWithFixedDelay(new EvictTimerTask(), EVICT_PERIOD, EVICT_PERIOD, TimeUnit.SECONDS);
+    }
+
+    private KafkaClientManager() {
+    }
+
+    /**
+     * 从对象池获取 consumer 执行操作，执行完归还，执行异常时销毁该 consumer
+     *
+     * @param properties kafka 配置
+     * @param principal  kerberos principal，未开启 kerberos 时为 null
+     * @param action     执行的操作
+     * @param <R>        返回值类型
+     * @return 操作结果
+     */
+    public static <R> R executeWithConsumer(Properties properties, String principal, Function<KafkaConsumer<String, String>, R> action) {
+        return execute("consumer", properties, principal, () -> new KafkaConsumerPoolFactory(properties), action);
+    }
+
+    /**
+     * 从对象池获取 admin client 执行操作，执行完归还，执行异常时销毁该 admin client
+     *
+     * @param properties kafka 配置
+     * @param principal  kerberos principal，未开启 kerberos 时为 null
+     * @param action     执行的操作
+     * @param <R>        返回值类型
+     * @return 操作结果
+     */
+    public static <R> R executeWithAdminClient(Properties properties, String principal, Function<AdminClient, R> action) {
+        return execute("admin", properties, principal, () -> new KafkaAdminClientPoolFactory(properties), action);
+    }
+
+    /**
+     * 淘汰空闲对象池，包括超过空闲时间的对象池及超过个数上限的最久未使用的对象池
+     */
+    public static void evictIdlePools() {
+        long idleTimeout = TimeUnit.SECONDS.toMillis(EnvUtil.getPoolIdleEvictTimeout());
+        long now = System.currentTimeMillis();
+        for (PoolHolder<?> holder : POOLS.values()) {
+            if (now - holder.getLastAccessTime() > idleTimeout) {
+                retire(holder);
+            }
+        }
+        int overflow = POOLS.size() - EnvUtil.getPoolMaxNum();
+        while (overflow-- > 0 && evictLeastRecentlyUsed()) {
+            // 按最久未使用依次淘汰
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> R execute(String type, Properties properties, String principal,
+                                    Supplier<PooledObjectFactory<T>> factorySupplier, Function<T, R> action) {
+        String poolKey = buildPoolKey(type, properties, principal);
+        while (true) {
+            PoolHolder<T> holder = (PoolHolder<T>) POOLS.get(poolKey);
+            if (Objects.isNull(holder)) {
+                holder = createHolder(poolKey, factorySupplier);
+            }
+            if (!holder.tryAcquire()) {
+                // 对象池刚被淘汰，重新获取
+                POOLS.remove(poolKey, holder);
+                continue;
+            }
+            try {
+                Pool<T> pool = holder.getPool();
+                T client = pool.getResource();
+                R result;
+                try {
+                    result = action.apply(client);
+                } catch (RuntimeException e) {
+                    pool.returnBrokenResource(client);
+                    throw e;
+                }
+                pool.returnResource(client);
+                return result;
+            } finally {
+                holder.release();
+            }
+        }
+    }
+
+    private static <T> PoolHolder<T> createHolder(String poolKey, Supplier<PooledObjectFactory<T>> factorySupplier) {
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        config.setMaxTotal(MAX_TOTAL);
+        config.setMaxIdle(MAX_TOTAL);
+        config.setMinIdle(0);
+        config.setMaxWaitMillis(MAX_WAIT_MILLIS);
+        config.setMinEvictableIdleTimeMillis(MIN_EVICTABLE_IDLE_TIME);
+        config.setTimeBetweenEvictionRunsMillis(TIME_BETWEEN_EVICTION_RUNS);
+        // 闲置实例校验标识，如果校验失败会删除当前实例
+        config.setTestWhileIdle(Boolean.TRUE);
+        // 客户端是懒加载的，创建对象池时不会建立连接，并发创建时未放入缓存的对象池直接关闭
+        PoolHolder<T> created = new PoolHolder<>(poolKey, new Pool<>(config, factorySupplier.get()));
+        @SuppressWarnings("unchecked")
+        PoolHolder<T> exists = (PoolHolder<T>) POOLS.putIfAbsent(poolKey, created);
+        if (Objects.isNull(exists)) {
+            return created;
+        }
+        created.getPool().destroy();
+        return exists;
+    }
+
+    /**
+     * 构建对象池 key，包含所有连接配置，配置不同的数据源使用不同的对象池
+     */
+    private static String buildPoolKey(String type, Properties properties, String principal) {
+        Map<Object, Object> sorted = new TreeMap<>((o1, o2) -> String.valueOf(o1).compareTo(String.valueOf(o2)));
+        sorted.putAll(properties);
+        return String.format("type:%s,principal:%s,properties:%s", type, principal, sorted);
+    }
+
+    /**
+     * 淘汰最久未使用且当前没有在使用的对象池
+     *
+     * @return 是否淘汰成功
+     */
+    private static boolean evictLeastRecentlyUsed() {
+        while (true) {
+            PoolHolder<?> candidate = null;
+            for (PoolHolder<?> holder : POOLS.values()) {
+                if (holder.isIdle() && (Objects.isNull(candidate) || holder.getLastAccessTime() < candidate.getLastAccessTime())) {
+                    candidate = holder;
+                }
+            }
+            if (Objects.isNull(candidate)) {
+                return false;
+            }
+            if (retire(candidate)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 关闭对象池，对象池正在使用时不处理
+     *
+     * @param holder 对象池
+     * @return 是否关闭成功
+     */
+    private static boolean retire(PoolHolder<?> holder) {
+        if (!holder.tryRetire()) {
+            return false;
+        }
+        POOLS.remove(holder.getPoolKey(), holder);
+        log.info("close idle kafka client pool, idle clients: {}", holder.getPool().getNumIdle());
+        try {
+            holder.getPool().destroy();
+        } catch (Exception e) {
+            log.error("close kafka client pool error: {}", e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * 对象池及其使用信息
+     */
+    private static class PoolHolder<T> {
+
+        /**
+         * 已淘汰标识
+         */
+        private static final int RETIRED = -1;
+
+        private final String poolKey;
+
+        private final Pool<T> pool;
+
+        /**
+         * 正在使用的线程数，为 RETIRED 时表示已淘汰
+         */
+        private final AtomicInteger borrowing = new AtomicInteger(0);
+
+        private volatile long lastAccessTime = System.currentTimeMillis();
+
+        PoolHolder(String poolKey, Pool<T> pool) {
+            this.poolKey = poolKey;
+            this.pool = pool;
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                int current = borrowing.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+                if (borrowing.compareAndSet(current, current + 1)) {
+                    lastAccessTime = System.currentTimeMillis();
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            lastAccessTime = System.currentTimeMillis();
+            borrowing.decrementAndGet();
+        }
+
+        boolean tryRetire() {
+            return borrowing.compareAndSet(0, RETIRED);
+        }
+
+        boolean isIdle() {
+            return borrowing.get() == 0;
+        }
+
+        String getPoolKey() {
+            return poolKey;
+        }
+
+        Pool<T> getPool() {
+            return pool;
+        }
+
+        long getLastAccessTime() {
+            return lastAccessTime;
+        }
+    }
+
+    /**
+     * 定时淘汰空闲对象池
+     */
+    static class EvictTimerTask implements Runnable {
+        @Override
+        public void run() {
+            try {
+                evictIdlePools();
+            } catch (Exception e) {
+                log.error("evict idle kafka client pools error: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.kafka.pool;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+
+import java.util.Properties;
+
+/**
+ * kafka consumer 对象池工厂
+ *
+ * @author ：wangchuan
+ * date：Created in 下午8:05 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class KafkaConsumerPoolFactory implements PooledObjectFactory<KafkaConsumer<String, String>> {
+
+    private final Properties properties;
+
+    public KafkaConsumerPoolFactory(Properties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public PooledObject<KafkaConsumer<String, String>> makeObject() {
+        return new DefaultPooledObject<>(new KafkaConsumer<>(properties));
+    }
+
+    @Override
+    public void destroyObject(PooledObject<KafkaConsumer<String, String>> pooledObject) {
+        try {
+            pooledObject.getObject().close();
+        } catch (Exception e) {
+            log.warn("close kafka consumer error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 空闲检查时请求一次元数据，失败则销毁
+     */
+    @Override
+    public boolean validateObject(PooledObject<KafkaConsumer<String, String>> pooledObject) {
+        try {
+            pooledObject.getObject().listTopics();
+            return true;
+        } catch (Exception e) {
+            log.warn("kafka consumer validate failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void activateObject(PooledObject<KafkaConsumer<String, String>> pooledObject) {
+        // nothing
+    }
+
+    /**
+     * 归还时清空分配的分区，避免影响下一次使用
+     */
+    @Override
+    public void passivateObject(PooledObject<KafkaConsumer<String, String>> pooledObject) {
+        pooledObject.getObject().unsubscribe();
+    }
+}
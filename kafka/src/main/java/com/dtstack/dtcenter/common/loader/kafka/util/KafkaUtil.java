@@ -21,7 +21,9 @@ package com.dtstack.dtcenter.common.loader.kafka.util;
 import com.dtstack.dtcenter.common.loader.common.utils.TelUtil;
 import com.dtstack.dtcenter.common.loader.kafka.KafkaConsistent;
 import com.dtstack.dtcenter.common.loader.kafka.enums.EConsumeType;
+import com.dtstack.dtcenter.common.loader.kafka.pool.KafkaClientManager;
 import com.dtstack.dtcenter.loader.dto.KafkaConsumerDTO;
+import com.dtstack.dtcenter.loader.dto.KafkaLagQueryDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaOffsetDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaPartitionDTO;
 import com.dtstack.dtcenter.loader.dto.source.KafkaSourceDTO;
@@ -29,10 +31,13 @@ import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import com.dtstack.dtcenter.loader.kerberos.HadoopConfTool;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import kafka.cluster.Broker;
 import kafka.cluster.EndPoint;
 import kafka.coordinator.group.GroupOverview;
 import kafka.utils.ZkUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -53,13 +58,19 @@ import sun.security.krb5.Config;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @company: www.dtstack.com
@@ -76,6 +87,12 @@ public class KafkaUtil {
     // 开启 kerberos 默认 sasl.kerberos.service.name
     private static final String DEFAULT_KERBEROS_NAME = "kafka";
 
+    // lag 缓存最多保存的查询条件个数
+    private static final int MAX_LAG_CACHE_SIZE = 256;
+
+    // 消费者组 lag 查询结果缓存，key 为数据源及查询条件
+    private static final Map<String, LagCache> LAG_CACHE = new ConcurrentHashMap<>();
+
     /**
      * 写入 kafka jaas文件到 keytab 文件所在同一级目录，同时设置 krb5.conf 绝对路径到系统变量中
      *
@@ -167,8 +184,9 @@ public class KafkaUtil {
     public static List<String> getTopicList(KafkaSourceDTO kafkaSourceDTO) {
         Properties defaultKafkaConfig = initProperties(kafkaSourceDTO);
         List<String> results = Lists.newArrayList();
-        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(defaultKafkaConfig)) {
-            Map<String, List<PartitionInfo>> topics = consumer.listTopics();
+        try {
+            Map<String, List<PartitionInfo>> topics = KafkaClientManager.executeWithConsumer(defaultKafkaConfig,
+                    getPrincipal(kafkaSourceDTO), KafkaConsumer::listTopics);
             if (topics != null) {
                 results.addAll(topics.keySet());
             }
@@ -208,35 +226,37 @@ public class KafkaUtil {
      */
     public static List<KafkaOffsetDTO> getPartitionOffset(KafkaSourceDTO sourceDTO, String topic) {
         Properties defaultKafkaConfig = initProperties(sourceDTO);
-        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(defaultKafkaConfig)) {
-            List<TopicPartition> partitions = new ArrayList<>();
-            List<PartitionInfo> allPartitionInfo = consumer.partitionsFor(topic);
-            for (PartitionInfo partitionInfo : allPartitionInfo) {
-                partitions.add(new TopicPartition(partitionInfo.topic(), partitionInfo.partition()));
-            }
+        try {
+            return KafkaClientManager.executeWithConsumer(defaultKafkaConfig, getPrincipal(sourceDTO), consumer -> {
+                List<TopicPartition> partitions = new ArrayList<>();
+                List<PartitionInfo> allPartitionInfo = consumer.partitionsFor(topic);
+                for (PartitionInfo partitionInfo : allPartitionInfo) {
+                    partitions.add(new TopicPartition(partitionInfo.topic(), partitionInfo.partition()));
+                }
 
-            Map<Integer, KafkaOffsetDTO> kafkaOffsetDTOMap = new HashMap<>();
-            Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
-            for (Map.Entry<TopicPartition, Long> entry : beginningOffsets.entrySet()) {
-                KafkaOffsetDTO offsetDTO = new KafkaOffsetDTO();
-                offsetDTO.setPartition(entry.getKey().partition());
-                offsetDTO.setFirstOffset(entry.getValue());
-                offsetDTO.setLastOffset(entry.getValue());
-                kafkaOffsetDTOMap.put(entry.getKey().partition(), offsetDTO);
-            }
+                Map<Integer, KafkaOffsetDTO> kafkaOffsetDTOMap = new HashMap<>();
+                Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+                for (Map.Entry<TopicPartition, Long> entry : beginningOffsets.entrySet()) {
+                    KafkaOffsetDTO offsetDTO = new KafkaOffsetDTO();
+                    offsetDTO.setPartition(entry.getKey().partition());
+                    offsetDTO.setFirstOffset(entry.getValue());
+                    offsetDTO.setLastOffset(entry.getValue());
+                    kafkaOffsetDTOMap.put(entry.getKey().partition(), offsetDTO);
+                }
 
-            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
-            for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
-                KafkaOffsetDTO offsetDTO = kafkaOffsetDTOMap.getOrDefault(entry.getKey().partition(),
-                        new KafkaOffsetDTO());
-                offsetDTO.setPartition(entry.getKey().partition());
-                offsetDTO.setFirstOffset(null == offsetDTO.getFirstOffset() ? entry.getValue() :
-                        offsetDTO.getFirstOffset());
-                offsetDTO.setLastOffset(entry.getValue());
-                kafkaOffsetDTOMap.put(entry.getKey().partition(), offsetDTO);
-            }
+                Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+                for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+                    KafkaOffsetDTO offsetDTO = kafkaOffsetDTOMap.getOrDefault(entry.getKey().partition(),
+                            new KafkaOffsetDTO());
+                    offsetDTO.setPartition(entry.getKey().partition());
+                    offsetDTO.setFirstOffset(null == offsetDTO.getFirstOffset() ? entry.getValue() :
+                            offsetDTO.getFirstOffset());
+                    offsetDTO.setLastOffset(entry.getValue());
+                    kafkaOffsetDTOMap.put(entry.getKey().partition(), offsetDTO);
+                }
 
-            return new ArrayList<>(kafkaOffsetDTOMap.values());
+                return new ArrayList<>(kafkaOffsetDTOMap.values());
+            });
         } catch (Exception e) {
             throw new DtLoaderException(e.getMessage(), e);
         } finally {
@@ -253,8 +273,8 @@ public class KafkaUtil {
     public static boolean checkConnection(KafkaSourceDTO sourceDTO) {
         Properties props = initProperties(sourceDTO);
         /* 定义consumer */
-        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props)) {
-            consumer.listTopics();
+        try {
+            KafkaClientManager.executeWithConsumer(props, getPrincipal(sourceDTO), KafkaConsumer::listTopics);
         } catch (Exception e) {
             throw new DtLoaderException(String.format("connect kafka fail: %s", e.getMessage()), e);
         } finally {
@@ -268,6 +288,19 @@ public class KafkaUtil {
         System.clearProperty("javax.security.auth.useSubjectCredsOnly");
     }
 
+    /**
+     * 获取 kerberos principal，用于区分客户端对象池
+     *
+     * @param sourceDTO kafka 数据源信息
+     * @return principal，未开启 kerberos 时为 null
+     */
+    private static String getPrincipal(KafkaSourceDTO sourceDTO) {
+        if (MapUtils.isEmpty(sourceDTO.getKerberosConfig())) {
+            return null;
+        }
+        return MapUtils.getString(sourceDTO.getKerberosConfig(), HadoopConfTool.PRINCIPAL);
+    }
+
     /**
      * 获取 kafka broker 地址，如果 broker 填写为空则从 zookeeper 中获取
      *
@@ -360,7 +393,8 @@ public class KafkaUtil {
         props.remove("request.timeout.ms");
         props.put("max.poll.records", MAX_POOL_RECORDS);
         /* 定义consumer */
-        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props);) {
+        // 拉取数据的时间较长，每次单独创建 consumer，不占用对象池中的 consumer
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props)) {
             List<TopicPartition> partitions = new ArrayList<>();
             List<PartitionInfo> all = consumer.partitionsFor(topic);
             for (PartitionInfo partitionInfo : all) {
@@ -408,9 +442,10 @@ public class KafkaUtil {
     public static List<KafkaPartitionDTO> getPartitions (KafkaSourceDTO sourceDTO, String topic) {
         Properties defaultKafkaConfig = initProperties(sourceDTO);
         List<KafkaPartitionDTO> partitionDTOS = Lists.newArrayList();
-        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(defaultKafkaConfig)) {
+        try {
             // PartitionInfo没有实现序列化接口，不能使用 fastJson 进行拷贝
-            List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+            List<PartitionInfo> partitions = KafkaClientManager.executeWithConsumer(defaultKafkaConfig,
+                    getPrincipal(sourceDTO), consumer -> consumer.partitionsFor(topic));
             if (CollectionUtils.isEmpty(partitions)) {
                 return partitionDTOS;
             }
@@ -477,6 +512,7 @@ public class KafkaUtil {
         Properties prop = initProperties(sourceDTO);
         // 每次拉取最大条数
         prop.put("max.poll.records", MAX_POOL_RECORDS);
+        // 拉取数据的时间较长，每次单独创建 consumer，不占用对象池中的 consumer
         try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(prop)) {
             List<TopicPartition> partitions = Lists.newArrayList();
             // 获取所有的分区
@@ -550,45 +586,41 @@ public class KafkaUtil {
      * @return 消费者组列表
      */
     public static List<String> listConsumerGroup(KafkaSourceDTO sourceDTO, String topic) {
-        List<String> consumerGroups = new ArrayList<>();
         Properties prop = initProperties(sourceDTO);
-        // 获取kafka client
-        kafka.admin.AdminClient adminClient = kafka.admin.AdminClient.create(prop);
         try {
-            // scala seq 转 java list
-            List<GroupOverview> groups = JavaConversions.seqAsJavaList(adminClient.listAllConsumerGroupsFlattened().toSeq());
-            groups.forEach(group -> consumerGroups.add(group.groupId()));
-            // 不指定topic 全部返回
-            if (StringUtils.isBlank(topic)) {
-                return consumerGroups;
-            }
-            List<String> consumerGroupsByTopic = Lists.newArrayList();
-            for (String groupId : consumerGroups) {
-                kafka.admin.AdminClient.ConsumerGroupSummary groupSummary = adminClient.describeConsumerGroup(groupId, 5000L);
-                // 消费者组不存在的情况
-                if (Objects.isNull(groupSummary) || "Dead".equals(groupSummary.state())) {
-                    continue;
-                }
-                Map<TopicPartition, Object> offsets = JavaConversions.mapAsJavaMap(adminClient.listGroupOffsets(groupId));
-                for (TopicPartition topicPartition : offsets.keySet()) {
-                    if (topic.equals(topicPartition.topic())) {
-                        consumerGroupsByTopic.add(groupId);
-                        break;
-                    }
-                }
-            }
-            return consumerGroupsByTopic;
+            return KafkaClientManager.executeWithAdminClient(prop, getPrincipal(sourceDTO), adminClient -> listConsumerGroup(adminClient, topic));
         } catch (Exception e){
             log.error("listConsumerGroup error:{}", e.getMessage(), e);
         } finally {
-            if (Objects.nonNull(adminClient)) {
-                adminClient.close();
-            }
             destroyProperty();
         }
         return Lists.newArrayList();
     }
 
+    /**
+     * 获取 kafka 消费者组列表
+     *
+     * @param adminClient kafka admin client
+     * @param topic       kafka 主题
+     * @return 消费者组列表
+     */
+    private static List<String> listConsumerGroup(kafka.admin.AdminClient adminClient, String topic) {
+        List<String> consumerGroups = listAllConsumerGroup(adminClient);
+        // 不指定topic 全部返回
+        if (StringUtils.isBlank(topic)) {
+            return consumerGroups;
+        }
+        // 已经不存在的消费者组没有提交的 offset，不再单独 describe 每个消费者组
+        Set<String> topics = Collections.singleton(topic);
+        List<String> consumerGroupsByTopic = Lists.newArrayList();
+        for (String groupId : consumerGroups) {
+            if (MapUtils.isNotEmpty(listGroupOffsets(adminClient, groupId, topics))) {
+                consumerGroupsByTopic.add(groupId);
+            }
+        }
+        return consumerGroupsByTopic;
+    }
+
     /**
      * 获取 kafka 消费者组详细信息
      *
@@ -600,84 +632,225 @@ public class KafkaUtil {
     public static List<KafkaConsumerDTO> getGroupInfoByGroupId(KafkaSourceDTO sourceDTO, String groupId, String srcTopic) {
         List<KafkaConsumerDTO> result = Lists.newArrayList();
         Properties prop = initProperties(sourceDTO);
-        // 获取kafka client
-        kafka.admin.AdminClient adminClient = kafka.admin.AdminClient.create(prop);
-        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(prop)){
-
+        String principal = getPrincipal(sourceDTO);
+        try {
             if (StringUtils.isNotBlank(groupId)) {
-                kafka.admin.AdminClient.ConsumerGroupSummary groupSummary = adminClient.describeConsumerGroup(groupId, 5000L);
-                // 消费者组不存在的情况
-                if (Objects.isNull(groupSummary) || "Dead".equals(groupSummary.state())) {
+                Set<String> topics = StringUtils.isBlank(srcTopic) ? Collections.emptySet() : Collections.singleton(srcTopic);
+                Map<TopicPartition, Long> offsets = KafkaClientManager.executeWithAdminClient(prop, principal, adminClient -> {
+                    kafka.admin.AdminClient.ConsumerGroupSummary groupSummary = adminClient.describeConsumerGroup(groupId, 5000L);
+                    // 消费者组不存在的情况
+                    if (Objects.isNull(groupSummary) || "Dead".equals(groupSummary.state())) {
+                        return null;
+                    }
+                    return listGroupOffsets(adminClient, groupId, topics);
+                });
+                if (Objects.isNull(offsets)) {
                     return result;
                 }
-            }else {
+                Map<String, Map<TopicPartition, Long>> groupOffsets = Maps.newHashMap();
+                groupOffsets.put(groupId, offsets);
+                result.addAll(KafkaClientManager.executeWithConsumer(prop, principal, consumer -> buildConsumerLag(consumer, groupOffsets)));
+            } else {
                 // groupId 为空的时候获取所有的分区
-                List<PartitionInfo> allPartitions = consumer.partitionsFor(srcTopic);
+                List<PartitionInfo> allPartitions = KafkaClientManager.executeWithConsumer(prop, principal, consumer -> consumer.partitionsFor(srcTopic));
+                List<TopicPartition> topicPartitions = Lists.newArrayList();
+                for (PartitionInfo partitionInfo : allPartitions) {
+                    topicPartitions.add(new TopicPartition(partitionInfo.topic(), partitionInfo.partition()));
+                }
+                // 一次请求获取所有分区的最大偏移量
+                Map<TopicPartition, Long> endOffsets = KafkaClientManager.executeWithConsumer(prop, principal, consumer -> consumer.endOffsets(topicPartitions));
                 for (PartitionInfo partitionInfo : allPartitions) {
                     TopicPartition topicPartition = new TopicPartition(partitionInfo.topic(), partitionInfo.partition());
-                    // 指定当前分区
-                    consumer.assign(Lists.newArrayList(topicPartition));
-                    consumer.seekToEnd(Lists.newArrayList(topicPartition));
-                    long logEndOffset = consumer.position(topicPartition);
                     String brokerHost = Objects.isNull(partitionInfo.leader()) ? null : partitionInfo.leader().host();
                     // 组装kafka consumer 信息
                     KafkaConsumerDTO kafkaConsumerDTO = KafkaConsumerDTO.builder()
                             .groupId(groupId)
                             .topic(partitionInfo.topic())
                             .partition(partitionInfo.partition())
-                            .logEndOffset(logEndOffset)
+                            .logEndOffset(endOffsets.get(topicPartition))
                             .brokerHost(brokerHost)
                             .build();
                     result.add(kafkaConsumerDTO);
                 }
-                return result;
             }
+        } catch (Exception e) {
+            log.error("getGroupInfoByGroupId error:{}", e.getMessage(), e);
+        } finally {
+            destroyProperty();
+        }
+        return result;
+    }
 
-            Map<TopicPartition, Object> offsets = JavaConversions.mapAsJavaMap(adminClient.listGroupOffsets(groupId));
-            for (TopicPartition topicPartition : offsets.keySet()) {
-                String topic = topicPartition.topic();
-                // 过滤指定topic 下的 partition
-                if (StringUtils.isNotBlank(srcTopic) && !srcTopic.equals(topic)) {
-                    continue;
+    /**
+     * 批量获取消费者组 lag，所有分区的最大偏移量只请求一次，每个主题的分区 leader 信息只请求一次
+     *
+     * @param sourceDTO   kafka 数据源信息
+     * @param lagQueryDTO 查询条件
+     * @return 每个消费者组每个分区的消费详情
+     */
+    public static List<KafkaConsumerDTO> getConsumerLag(KafkaSourceDTO sourceDTO, KafkaLagQueryDTO lagQueryDTO) {
+        List<String> groupIds = Objects.isNull(lagQueryDTO) ? null : lagQueryDTO.getGroupIds();
+        List<String> topics = Objects.isNull(lagQueryDTO) ? null : lagQueryDTO.getTopics();
+        long cacheTime = Objects.isNull(lagQueryDTO) || Objects.isNull(lagQueryDTO.getCacheTime()) ? 0L : lagQueryDTO.getCacheTime();
+        String cacheKey = null;
+        if (cacheTime > 0) {
+            cacheKey = buildLagCacheKey(sourceDTO, groupIds, topics);
+            LagCache lagCache = LAG_CACHE.get(cacheKey);
+            if (Objects.nonNull(lagCache) && lagCache.getExpireTime() > System.currentTimeMillis()) {
+                return Lists.newArrayList(lagCache.getLags());
+            }
+        }
+        List<KafkaConsumerDTO> lags;
+        Properties prop = initProperties(sourceDTO);
+        String principal = getPrincipal(sourceDTO);
+        Set<String> topicSet = CollectionUtils.isEmpty(topics) ? Collections.emptySet() : new HashSet<>(topics);
+        try {
+            Map<String, Map<TopicPartition, Long>> groupOffsets = KafkaClientManager.executeWithAdminClient(prop, principal, adminClient -> {
+                List<String> queryGroupIds = CollectionUtils.isEmpty(groupIds) ? listAllConsumerGroup(adminClient) : groupIds;
+                Map<String, Map<TopicPartition, Long>> offsetsMap = new LinkedHashMap<>();
+                for (String groupId : queryGroupIds) {
+                    Map<TopicPartition, Long> offsets = listGroupOffsets(adminClient, groupId, topicSet);
+                    if (MapUtils.isNotEmpty(offsets)) {
+                        offsetsMap.put(groupId, offsets);
+                    }
                 }
-                int partition = topicPartition.partition();
-                // 当前消费位置
-                Long currentOffset = (Long) offsets.get(topicPartition);
-                List<TopicPartition> singleTopicPartition = Lists.newArrayList(topicPartition);
-                // 指定当前分区
-                consumer.assign(singleTopicPartition);
-                consumer.seekToEnd(singleTopicPartition);
-                long logEndOffset = consumer.position(topicPartition);
+                return offsetsMap;
+            });
+            lags = KafkaClientManager.executeWithConsumer(prop, principal, consumer -> buildConsumerLag(consumer, groupOffsets));
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("get kafka consumer lag exception: %s", e.getMessage()), e);
+        } finally {
+            destroyProperty();
+        }
+        if (cacheTime > 0) {
+            putLagCache(cacheKey, lags, cacheTime);
+        }
+        return lags;
+    }
+
+    /**
+     * 获取所有的消费者组
+     *
+     * @param adminClient kafka admin client
+     * @return 消费者组列表
+     */
+    private static List<String> listAllConsumerGroup(kafka.admin.AdminClient adminClient) {
+        List<String> consumerGroups = Lists.newArrayList();
+        // scala seq 转 java list
+        List<GroupOverview> groups = JavaConversions.seqAsJavaList(adminClient.listAllConsumerGroupsFlattened().toSeq());
+        groups.forEach(group -> consumerGroups.add(group.groupId()));
+        return consumerGroups;
+    }
 
-                List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+    /**
+     * 获取消费者组提交的 offset
+     *
+     * @param adminClient kafka admin client
+     * @param groupId     消费者组
+     * @param topics      需要保留的主题，为空时保留所有主题
+     * @return 分区 -> 当前消费位置
+     */
+    private static Map<TopicPartition, Long> listGroupOffsets(kafka.admin.AdminClient adminClient, String groupId, Set<String> topics) {
+        Map<TopicPartition, Object> offsets = JavaConversions.mapAsJavaMap(adminClient.listGroupOffsets(groupId));
+        Map<TopicPartition, Long> groupOffsets = Maps.newHashMap();
+        for (Map.Entry<TopicPartition, Object> entry : offsets.entrySet()) {
+            if (CollectionUtils.isEmpty(topics) || topics.contains(entry.getKey().topic())) {
+                groupOffsets.put(entry.getKey(), (Long) entry.getValue());
+            }
+        }
+        return groupOffsets;
+    }
 
+    /**
+     * 组装消费者组消费详情，所有分区的最大偏移量通过一次 endOffsets 请求获取
+     *
+     * @param consumer     kafka consumer
+     * @param groupOffsets 消费者组 -> 分区 -> 当前消费位置
+     * @return 消费者组详细信息
+     */
+    private static List<KafkaConsumerDTO> buildConsumerLag(KafkaConsumer<String, String> consumer, Map<String, Map<TopicPartition, Long>> groupOffsets) {
+        List<KafkaConsumerDTO> result = Lists.newArrayList();
+        Set<TopicPartition> allPartitions = new HashSet<>();
+        groupOffsets.values().forEach(offsets -> allPartitions.addAll(offsets.keySet()));
+        if (allPartitions.isEmpty()) {
+            return result;
+        }
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(allPartitions);
+        // 每个主题只获取一次分区 leader 信息
+        Map<TopicPartition, String> leaderHosts = Maps.newHashMap();
+        Set<String> topics = new HashSet<>();
+        allPartitions.forEach(topicPartition -> topics.add(topicPartition.topic()));
+        for (String topic : topics) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+            if (CollectionUtils.isEmpty(partitions)) {
+                continue;
+            }
+            for (PartitionInfo partitionInfo : partitions) {
+                if (Objects.nonNull(partitionInfo.leader())) {
+                    leaderHosts.put(new TopicPartition(partitionInfo.topic(), partitionInfo.partition()), partitionInfo.leader().host());
+                }
+            }
+        }
+        for (Map.Entry<String, Map<TopicPartition, Long>> groupEntry : groupOffsets.entrySet()) {
+            for (Map.Entry<TopicPartition, Long> entry : groupEntry.getValue().entrySet()) {
+                TopicPartition topicPartition = entry.getKey();
+                Long currentOffset = entry.getValue();
+                Long logEndOffset = endOffsets.get(topicPartition);
                 // 组装kafka consumer 信息
                 KafkaConsumerDTO kafkaConsumerDTO = KafkaConsumerDTO.builder()
-                        .groupId(groupId)
-                        .topic(topic)
-                        .partition(partition)
+                        .groupId(groupEntry.getKey())
+                        .topic(topicPartition.topic())
+                        .partition(topicPartition.partition())
                         .currentOffset(currentOffset)
                         .logEndOffset(logEndOffset)
-                        .lag(logEndOffset - currentOffset)
+                        .lag(Objects.isNull(logEndOffset) || Objects.isNull(currentOffset) ? null : logEndOffset - currentOffset)
+                        .brokerHost(leaderHosts.get(topicPartition))
                         .build();
-
-                // 查询当前分区 leader 所在机器的host
-                for (PartitionInfo partitionInfo : partitions) {
-                    if (partition == partitionInfo.partition() && Objects.nonNull(partitionInfo.leader())) {
-                        kafkaConsumerDTO.setBrokerHost(partitionInfo.leader().host());
-                        break;
-                    }
-                }
                 result.add(kafkaConsumerDTO);
             }
-        } catch (Exception e) {
-            log.error("getGroupInfoByGroupId error:{}", e.getMessage(), e);
-        } finally {
-            if (Objects.nonNull(adminClient)) {
-                adminClient.close();
-            }
-            destroyProperty();
         }
         return result;
     }
+
+    /**
+     * 构建 lag 缓存 key，包含密码和 kerberos 配置的摘要，认证信息不同的调用不会命中彼此的缓存
+     */
+    private static String buildLagCacheKey(KafkaSourceDTO sourceDTO, List<String> groupIds, List<String> topics) {
+        List<String> sortedGroupIds = CollectionUtils.isEmpty(groupIds) ? Collections.emptyList() : new ArrayList<>(groupIds);
+        List<String> sortedTopics = CollectionUtils.isEmpty(topics) ? Collections.emptyList() : new ArrayList<>(topics);
+        Collections.sort(sortedGroupIds);
+        Collections.sort(sortedTopics);
+        Map<String, Object> sortedKerberosConfig = MapUtils.isEmpty(sourceDTO.getKerberosConfig()) ?
+                Collections.emptyMap() : new TreeMap<>(sourceDTO.getKerberosConfig());
+        String credentials = Hashing.sha256().hashString(String.format("password:%s,kerberosConfig:%s",
+                sourceDTO.getPassword(), sortedKerberosConfig), StandardCharsets.UTF_8).toString();
+        return String.format("%s_%s_%s_%s_%s_%s_%s", sourceDTO.getBrokerUrls(), sourceDTO.getUrl(), sourceDTO.getUsername(),
+                getPrincipal(sourceDTO), credentials, sortedGroupIds, sortedTopics);
+    }
+
+    /**
+     * 缓存 lag 结果，同时清理已经过期的缓存
+     */
+    private static void putLagCache(String cacheKey, List<KafkaConsumerDTO> lags, long cacheTime) {
+        long now = System.currentTimeMillis();
+        LAG_CACHE.entrySet().removeIf(entry -> entry.getValue().getExpireTime() <= now);
+        if (LAG_CACHE.size() >= MAX_LAG_CACHE_SIZE) {
+            return;
+        }
+        LAG_CACHE.put(cacheKey, new LagCache(now + cacheTime, Lists.newArrayList(lags)));
+    }
+
+    /**
+     * lag 查询结果缓存
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class LagCache {
+
+        // 过期时间戳
+        private final long expireTime;
+
+        // 缓存的 lag 信息
+        private final List<KafkaConsumerDTO> lags;
+    }
 }
@@ -18,7 +18,6 @@
 
 package com.dtstack.dtcenter.common.loader.hadoop.util;
 
-import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
 import com.dtstack.dtcenter.common.loader.hadoop.hdfs.HadoopConfUtil;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import com.dtstack.dtcenter.loader.kerberos.HadoopConfTool;
@@ -26,16 +25,10 @@ import com.dtstack.dtcenter.loader.source.DataSourceType;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.UserGroupInformation;
 import sun.security.krb5.Config;
 
-import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * @company: www.dtstack.com
@@ -51,38 +44,6 @@ public class KerberosLoginUtil {
     private static final String SECURITY_TO_LOCAL = "hadoop.security.auth_to_local";
     private static final String SECURITY_TO_LOCAL_DEFAULT = "RULE:[1:$1] RULE:[2:$1]";
 
-    private static ConcurrentHashMap<String, UGICacheData> UGI_INFO = new ConcurrentHashMap<>();
-
-    private static final ScheduledExecutorService SCHEDULED_THREAD_POOL_EXECUTOR = new ScheduledThreadPoolExecutor(1, new DtClassThreadFactory("ugiCacheFactory"));
-
-    static {
-        SCHEDULED_THREAD_POOL_EXECUTOR.scheduleAtFixedRate(new KerberosLoginUtil.CacheTimerTask(), 0, 10, TimeUnit.SECONDS);
-    }
-
-    static class CacheTimerTask implements Runnable {
-        @Override
-        public void run() {
-            Iterator<String> iterator = UGI_INFO.keySet().iterator();
-            while (iterator.hasNext()) {
-                clearKey(iterator.next());
-            }
-        }
-
-        private void clearKey(String principal) {
-            UGICacheData ugiCacheData = UGI_INFO.get(principal);
-            if (ugiCacheData == null || ugiCacheData.getUgi() == null) {
-                UGI_INFO.remove(principal);
-                log.info("KerberosLogin CLEAR UGI {}", principal);
-                return;
-            }
-
-            if (System.currentTimeMillis() > ugiCacheData.getTimeoutStamp()) {
-                UGI_INFO.remove(principal);
-                log.info("KerberosLogin CLEAR UGI {}", principal);
-            }
-        }
-    }
-
     public static UserGroupInformation loginWithUGI(Map<String, Object> confMap) {
         return loginWithUGI(confMap, HadoopConfTool.PRINCIPAL, HadoopConfTool.PRINCIPAL_FILE, HadoopConfTool.KEY_JAVA_SECURITY_KRB5_CONF);
     }
@@ -101,21 +62,13 @@ public class KerberosLoginUtil {
     }
 
     public static UserGroupInformation loginWithUGI(Map<String, Object> confMap, String principal, String keytab, String krb5Conf) {
-        synchronized (DataSourceType.class) {
-            // 非 Kerberos 认证，需要重新刷 UGI 信息
-            if (MapUtils.isEmpty(confMap)) {
-                try {
-                    UserGroupInformation currentUser = UserGroupInformation.getCurrentUser();
-                    if (UserGroupInformation.isSecurityEnabled() || !UserGroupInformation.AuthenticationMethod.SIMPLE.equals(currentUser.getAuthenticationMethod())) {
-                        Config.refresh();
-                        UserGroupInformation.setConfiguration(HadoopConfUtil.getDefaultConfiguration());
-                    }
-                    return currentUser;
-                } catch (Exception e) {
-                    throw new DtLoaderException(String.format("simple login failed,%s", e.getMessage()), e);
-                }
-            }
+        // 非 Kerberos 认证，需要重新刷 UGI 信息
+        if (MapUtils.isEmpty(confMap)) {
+            return simpleLogin();
+        }
 
+        // 调用方可能共用同一个 confMap，修改时只锁该 confMap
+        synchronized (confMap) {
             //Kerberos 认证属性
             principal = MapUtils.getString(confMap, principal);
             keytab = MapUtils.getString(confMap, keytab);
@@ -140,32 +93,42 @@ public class KerberosLoginUtil {
 
             // 处理 auth_to_local 规则，兼容所有 principal 短名处理
             confMap.put(SECURITY_TO_LOCAL, SECURITY_TO_LOCAL_DEFAULT);
+        }
 
-            // 判断缓存UGI，如果存在则直接使用
-            UGICacheData cacheData = UGI_INFO.get(principal + "_" + keytab);
-            if (cacheData != null) {
-                return cacheData.getUgi();
-            }
+        // 命中缓存不加锁，未命中时登录，即将过期的 UGI 由后台线程续期
+        return UGICacheManager.getUGI(principal, keytab, krb5Conf, confMap);
+    }
 
-            try {
-                // 设置 Krb5 配置文件
-                if (StringUtils.isNotEmpty(krb5Conf)) {
-                    System.setProperty(HadoopConfTool.KEY_JAVA_SECURITY_KRB5_CONF, krb5Conf);
+    /**
+     * 非 Kerberos 认证，当前已经是 SIMPLE 认证时直接返回，否则加锁刷新 UGI 配置
+     *
+     * @return 当前用户
+     */
+    private static UserGroupInformation simpleLogin() {
+        try {
+            UserGroupInformation currentUser = UserGroupInformation.getCurrentUser();
+            if (!UserGroupInformation.isSecurityEnabled() && UserGroupInformation.AuthenticationMethod.SIMPLE.equals(currentUser.getAuthenticationMethod())) {
+                return currentUser;
+            }
+            synchronized (DataSourceType.class) {
+                currentUser = UserGroupInformation.getCurrentUser();
+                if (UserGroupInformation.isSecurityEnabled() || !UserGroupInformation.AuthenticationMethod.SIMPLE.equals(currentUser.getAuthenticationMethod())) {
+                    Config.refresh();
+                    UserGroupInformation.setConfiguration(HadoopConfUtil.getDefaultConfiguration());
                 }
-
-                // 开始 Kerberos 认证
-                log.info("login kerberos, currentUser={}, principal={}, principalFilePath={}, krb5ConfPath={}", UserGroupInformation.getCurrentUser(), principal, keytab, krb5Conf);
-                Config.refresh();
-                Configuration config = KerberosConfigUtil.getConfig(confMap);
-                config.set("hadoop.security.authentication", "Kerberos");
-                UserGroupInformation.setConfiguration(config);
-                UserGroupInformation ugi = UserGroupInformation.loginUserFromKeytabAndReturnUGI(principal, keytab);
-                UGI_INFO.put(principal + "_" + keytab, new UGICacheData(ugi));
-                log.info("login kerberos success, currentUser={}", UserGroupInformation.getCurrentUser());
-                return ugi;
-            } catch (Exception var6) {
-                throw new DtLoaderException("login kerberos failed", var6);
+                return currentUser;
             }
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("simple login failed,%s", e.getMessage()), e);
         }
     }
+
+    /**
+     * 获取 UGI 缓存统计信息
+     *
+     * @return 统计信息
+     */
+    public static UGICacheStats getUGICacheStats() {
+        return UGICacheManager.getStats();
+    }
 }
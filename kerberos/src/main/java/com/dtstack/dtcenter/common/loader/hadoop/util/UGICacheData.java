@@ -18,29 +18,75 @@
 
 package com.dtstack.dtcenter.common.loader.hadoop.util;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.apache.hadoop.security.UserGroupInformation;
 
+import java.util.Map;
+
 /**
  * @company: www.dtstack.com
  * @Author ：Nanqi
  * @Date ：Created in 19:05 2020/10/29
  * @Description：UGI 缓存信息
  */
-@Data
+@Getter
 public class UGICacheData {
     /**
-     * 过期时间戳 只有头结点才存在
+     * principal
+     */
+    private final String principal;
+
+    /**
+     * keytab 文件路径
+     */
+    private final String keytab;
+
+    /**
+     * krb5.conf 文件路径
+     */
+    private final String krb5Conf;
+
+    /**
+     * 登录时使用的 kerberos 配置，续期时重新登录使用
      */
-    private Long timeoutStamp;
+    private final Map<String, Object> confMap;
 
     /**
-     * UGI 信息
+     * UGI 信息，续期后替换为新登录的 UGI
      */
-    private UserGroupInformation ugi;
+    @Setter
+    private volatile UserGroupInformation ugi;
 
-    public UGICacheData(UserGroupInformation ugi) {
-        this.ugi = ugi;
-        timeoutStamp = System.currentTimeMillis() + 10 * 1000;
+    /**
+     * 下次续期的时间戳
+     */
+    @Setter
+    private volatile long renewTimeStamp;
+
+    /**
+     * TGT 过期时间戳，获取不到 TGT 时为 Long.MAX_VALUE
+     */
+    @Setter
+    private volatile long expireTimeStamp;
+
+    /**
+     * 最近一次使用的时间戳
+     */
+    private volatile long lastAccessTimeStamp;
+
+    public UGICacheData(String principal, String keytab, String krb5Conf, Map<String, Object> confMap) {
+        this.principal = principal;
+        this.keytab = keytab;
+        this.krb5Conf = krb5Conf;
+        this.confMap = confMap;
+        this.lastAccessTimeStamp = System.currentTimeMillis();
+    }
+
+    /**
+     * 更新最近一次使用时间
+     */
+    public void touch() {
+        lastAccessTimeStamp = System.currentTimeMillis();
     }
 }
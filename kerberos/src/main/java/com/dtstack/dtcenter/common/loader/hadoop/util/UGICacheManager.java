@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.hadoop.util;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.dtstack.dtcenter.loader.kerberos.HadoopConfTool;
+import com.dtstack.dtcenter.loader.source.DataSourceType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.UserGroupInformation;
+import sun.security.krb5.Config;
+
+import javax.security.auth.Subject;
+import javax.security.auth.kerberos.KerberosPrincipal;
+import javax.security.auth.kerberos.KerberosTicket;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UGI 缓存管理
+ *
+ * <ul>
+ *     <li>命中缓存不加锁</li>
+ *     <li>相同 principal、keytab 的并发登录合并为一次</li>
+ *     <li>后台线程在 TGT 过期前重新登录并替换缓存中的 UGI，请求线程不需要等待 KDC</li>
+ *     <li>长时间未使用的 UGI 不再续期，直接淘汰</li>
+ * </ul>
+ * <p>
+ * hadoop 2.7 的 reloginFromKeytab 依赖 loginUser 的静态 keytab 信息，不支持多个 principal，
+ * 所以续期使用 loginUserFromKeytabAndReturnUGI 重新登录
+ *
+ * @company: www.dtstack.com
+ * @Author ：wangchuan
+ * @Date ：Created in 下午4:52 2026/10/18
+ * @Description：UGI 缓存管理
+ */
+@Slf4j
+public class UGICacheManager {
+
+    /**
+     * 在 TGT 有效期的该比例处续期，和 hadoop 自身的续期窗口保持一致
+     */
+    private static final double RENEW_WINDOW = 0.8;
+
+    /**
+     * 获取不到 TGT 有效期时的续期间隔
+     */
+    private static final long DEFAULT_RENEW_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * 续期失败后的重试间隔
+     */
+    private static final long RENEW_RETRY_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * 超过该时间未使用的 UGI 直接淘汰，不再续期
+     */
+    private static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(30);
+
+    /**
+     * 检查间隔，单位：秒
+     */
+    private static final long CHECK_PERIOD = 10;
+
+    private static final String TGT_PREFIX = "krbtgt/";
+
+    private static final Map<String, UGICacheData> UGI_INFO = new ConcurrentHashMap<>();
+
+    private static final AtomicLong HIT_COUNT = new AtomicLong(0);
+
+    private static final AtomicLong LOGIN_COUNT = new AtomicLong(0);
+
+    private static final AtomicLong RENEW_COUNT = new AtomicLong(0);
+
+    private static final AtomicLong RENEW_FAIL_COUNT = new AtomicLong(0);
+
+    private static final AtomicLong EVICT_COUNT = new AtomicLong(0);
+
+    private static final ScheduledExecutorService SCHEDULED_THREAD_POOL_EXECUTOR = new ScheduledThreadPoolExecutor(1, new DtClassThreadFactory("ugiRenewFactory"));
+
+    static {
+        SCHEDULED_THREAD_POOL_EXECUTOR.scheduleWithFixedDelay(new RenewTimerTask(), CHECK_PERIOD, CHECK_PERIOD, TimeUnit.SECONDS);
+    }
+
+    private UGICacheManager() {
+    }
+
+    /**
+     * 获取 UGI，命中缓存时不加锁，缓存不存在时登录
+     *
+     * @param principal principal
+     * @param keytab    keytab 文件路径
+     * @param krb5Conf  krb5.conf 文件路径
+     * @param confMap   kerberos 配置
+     * @return UGI
+     */
+    public static UserGroupInformation getUGI(String principal, String keytab, String krb5Conf, Map<String, Object> confMap) {
+        String key = principal + "_" + keytab;
+        UGICacheData cacheData = UGI_INFO.get(key);
+        if (Objects.nonNull(cacheData)) {
+            HIT_COUNT.incrementAndGet();
+            cacheData.touch();
+            return cacheData.getUgi();
+        }
+        cacheData = loginIfAbsent(key, principal, keytab, krb5Conf, confMap);
+        cacheData.touch();
+        return cacheData.getUgi();
+    }
+
+    /**
+     * 未命中缓存时登录。登录本身需要持有全局锁，在锁内再次检查缓存，相同 key 的并发登录只会执行一次。
+     * 不使用 computeIfAbsent，避免已持有全局锁的线程和正在等待全局锁的登录线程互相等待
+     *
+     * @param key       缓存 key
+     * @param principal principal
+     * @param keytab    keytab 文件路径
+     * @param krb5Conf  krb5.conf 文件路径
+     * @param confMap   kerberos 配置
+     * @return 缓存信息
+     */
+    private static UGICacheData loginIfAbsent(String key, String principal, String keytab, String krb5Conf, Map<String, Object> confMap) {
+        synchronized (DataSourceType.class) {
+            UGICacheData cacheData = UGI_INFO.get(key);
+            if (Objects.nonNull(cacheData)) {
+                HIT_COUNT.incrementAndGet();
+                return cacheData;
+            }
+            cacheData = new UGICacheData(principal, keytab, krb5Conf, new HashMap<>(confMap));
+            login(cacheData);
+            LOGIN_COUNT.incrementAndGet();
+            UGI_INFO.put(key, cacheData);
+            return cacheData;
+        }
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 统计信息
+     */
+    public static UGICacheStats getStats() {
+        return UGICacheStats.builder()
+                .size(UGI_INFO.size())
+                .hitCount(HIT_COUNT.get())
+                .loginCount(LOGIN_COUNT.get())
+                .renewCount(RENEW_COUNT.get())
+                .renewFailCount(RENEW_FAIL_COUNT.get())
+                .evictCount(EVICT_COUNT.get())
+                .build();
+    }
+
+    /**
+     * 使用 keytab 登录，并计算下次续期时间。登录会修改 krb5 及 UGI 的全局配置，需要加全局锁
+     *
+     * @param cacheData 缓存信息
+     */
+    private static void login(UGICacheData cacheData) {
+        synchronized (DataSourceType.class) {
+            try {
+                // 设置 Krb5 配置文件
+                if (StringUtils.isNotEmpty(cacheData.getKrb5Conf())) {
+                    System.setProperty(HadoopConfTool.KEY_JAVA_SECURITY_KRB5_CONF, cacheData.getKrb5Conf());
+                }
+
+                // 开始 Kerberos 认证
+                log.info("login kerberos, currentUser={}, principal={}, principalFilePath={}, krb5ConfPath={}", UserGroupInformation.getCurrentUser(), cacheData.getPrincipal(), cacheData.getKeytab(), cacheData.getKrb5Conf());
+                Config.refresh();
+                Configuration config = KerberosConfigUtil.getConfig(cacheData.getConfMap());
+                config.set("hadoop.security.authentication", "Kerberos");
+                UserGroupInformation.setConfiguration(config);
+                UserGroupInformation ugi = UserGroupInformation.loginUserFromKeytabAndReturnUGI(cacheData.getPrincipal(), cacheData.getKeytab());
+                log.info("login kerberos success, currentUser={}", UserGroupInformation.getCurrentUser());
+                cacheData.setUgi(ugi);
+                scheduleRenew(cacheData);
+            } catch (Exception e) {
+                throw new DtLoaderException("login kerberos failed", e);
+            }
+        }
+    }
+
+    /**
+     * 根据 TGT 有效期计算下次续期时间
+     *
+     * @param cacheData 缓存信息
+     */
+    private static void scheduleRenew(UGICacheData cacheData) {
+        long now = System.currentTimeMillis();
+        KerberosTicket tgt = getTGT(cacheData.getUgi());
+        if (Objects.isNull(tgt) || Objects.isNull(tgt.getEndTime())) {
+            cacheData.setExpireTimeStamp(Long.MAX_VALUE);
+            cacheData.setRenewTimeStamp(now + DEFAULT_RENEW_INTERVAL);
+            return;
+        }
+        long start = Objects.nonNull(tgt.getStartTime()) ? tgt.getStartTime().getTime() : now;
+        long end = tgt.getEndTime().getTime();
+        cacheData.setExpireTimeStamp(end);
+        cacheData.setRenewTimeStamp(start + (long) ((end - start) * RENEW_WINDOW));
+    }
+
+    /**
+     * 获取 UGI 中的 TGT，UGI 的 getSubject 方法不可见，在 doAs 中获取当前 Subject
+     *
+     * @param ugi UGI
+     * @return TGT，不存在时返回 null
+     */
+    private static KerberosTicket getTGT(UserGroupInformation ugi) {
+        Subject subject = ugi.doAs((PrivilegedAction<Subject>) () -> Subject.getSubject(AccessController.getContext()));
+        if (Objects.isNull(subject)) {
+            return null;
+        }
+        for (KerberosTicket ticket : subject.getPrivateCredentials(KerberosTicket.class)) {
+            KerberosPrincipal server = ticket.getServer();
+            if (Objects.nonNull(server) && server.getName().startsWith(TGT_PREFIX)) {
+                return ticket;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 淘汰长时间未使用的 UGI，对即将过期的 UGI 重新登录
+     */
+    static class RenewTimerTask implements Runnable {
+        @Override
+        public void run() {
+            for (Map.Entry<String, UGICacheData> entry : UGI_INFO.entrySet()) {
+                try {
+                    check(entry.getKey(), entry.getValue());
+                } catch (Exception e) {
+                    log.error("check kerberos ugi {} error: {}", entry.getKey(), e.getMessage(), e);
+                }
+            }
+        }
+
+        private void check(String key, UGICacheData cacheData) {
+            long now = System.currentTimeMillis();
+            if (now - cacheData.getLastAccessTimeStamp() > IDLE_TIMEOUT) {
+                if (UGI_INFO.remove(key, cacheData)) {
+                    EVICT_COUNT.incrementAndGet();
+                    log.info("KerberosLogin CLEAR UGI {}", key);
+                }
+                return;
+            }
+            if (now < cacheData.getRenewTimeStamp()) {
+                return;
+            }
+            try {
+                login(cacheData);
+                RENEW_COUNT.incrementAndGet();
+                log.info("KerberosLogin RENEW UGI {}", key);
+            } catch (Exception e) {
+                RENEW_FAIL_COUNT.incrementAndGet();
+                log.error("KerberosLogin RENEW UGI {} failed: {}", key, e.getMessage(), e);
+                if (now >= cacheData.getExpireTimeStamp()) {
+                    // TGT 已经过期，移除后由请求线程重新登录
+                    UGI_INFO.remove(key, cacheData);
+                } else {
+                    cacheData.setRenewTimeStamp(now + RENEW_RETRY_INTERVAL);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.hadoop.util;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * @company: www.dtstack.com
+ * @Author ：wangchuan
+ * @Date ：Created in 下午4:45 2026/10/18
+ * @Description：UGI 缓存统计信息
+ */
+@Data
+@Builder
+public class UGICacheStats {
+
+    /**
+     * 当前缓存的 UGI 个数
+     */
+    private Integer size;
+
+    /**
+     * 命中缓存次数
+     */
+    private Long hitCount;
+
+    /**
+     * 请求线程登录次数，即未命中缓存的次数
+     */
+    private Long loginCount;
+
+    /**
+     * 后台续期成功次数
+     */
+    private Long renewCount;
+
+    /**
+     * 后台续期失败次数
+     */
+    private Long renewFailCount;
+
+    /**
+     * 长时间未使用被淘汰的次数
+     */
+    private Long evictCount;
+}
@@ -22,9 +22,12 @@ import com.dtstack.dtcenter.common.loader.common.exception.IErrorPattern;
 import com.dtstack.dtcenter.common.loader.common.nosql.AbsNoSqlClient;
 import com.dtstack.dtcenter.common.loader.common.service.ErrorAdapterImpl;
 import com.dtstack.dtcenter.common.loader.common.service.IErrorAdapter;
+import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.SearchUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.TableUtil;
-import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
+import com.dtstack.dtcenter.common.loader.kudu.downloader.KuduScanTokenDownload;
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.dto.ColumnFilterDTO;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -45,9 +48,7 @@ import org.apache.kudu.client.KuduTable;
 import org.apache.kudu.client.RowResult;
 import org.apache.kudu.client.RowResultIterator;
 
-import java.security.PrivilegedAction;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -82,8 +83,8 @@ public class DtKuduClient<T> extends AbsNoSqlClient<T> {
         if (null == kuduSourceDTO || StringUtils.isBlank(kuduSourceDTO.getUrl())) {
             return false;
         }
-        try (KuduClient client = getConnection(kuduSourceDTO)){
-                client.getTablesList();
+        try {
+            KuduClientManager.execute(kuduSourceDTO, KuduClient::getTablesList);
             return true;
         } catch (Exception e) {
             throw new DtLoaderException(ERROR_ADAPTER.connAdapter(e.getMessage(), ERROR_PATTERN), e);
@@ -93,8 +94,8 @@ public class DtKuduClient<T> extends AbsNoSqlClient<T> {
     @Override
     public List<String> getTableList(ISourceDTO iSource, SqlQueryDTO queryDTO) {
         List<String> tableList = Lists.newArrayList();
-        try (KuduClient client = getConnection(iSource);){
-            tableList = client.getTablesList().getTablesList();
+        try {
+            tableList = KuduClientManager.execute(iSource, client -> client.getTablesList().getTablesList());
         } catch (KuduException e) {
             log.error(e.getMessage(), e);
         }
@@ -106,8 +107,8 @@ public class DtKuduClient<T> extends AbsNoSqlClient<T> {
         if (queryDTO == null || StringUtils.isBlank(queryDTO.getTableName())) {
             throw new DtLoaderException("table  is not empty");
         }
-        try (KuduClient client = getConnection(iSource);) {
-            return getTableColumns(client, queryDTO.getTableName());
+        try {
+            return KuduClientManager.execute(iSource, client -> getTableColumns(client, queryDTO.getTableName()));
         } catch (Exception e) {
             throw new DtLoaderException(String.format("kudu client get exception : %s", e.getMessage()), e);
         }
@@ -156,15 +157,29 @@ public class DtKuduClient<T> extends AbsNoSqlClient<T> {
         return errorMessage;
     }
 
-    private static KuduClient getConnection(ISourceDTO iSource) {
-        KuduSourceDTO kuduSourceDTO = (KuduSourceDTO) iSource;
-        if (kuduSourceDTO == null || StringUtils.isBlank(kuduSourceDTO.getUrl())) {
-            throw new DtLoaderException("The cluster address cannot be empty");
+    /**
+     * 获取基于 scan token 的表数据下载器，按 tablet 并发扫描
+     *
+     * @param source   数据源信息
+     * @param queryDTO 查询信息，columns 指定需要的字段，columnFilters 为下推的过滤条件，limit 为最多下载的行数
+     * @return 表数据下载器
+     */
+    @Override
+    public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) {
+        if (queryDTO == null || StringUtils.isBlank(queryDTO.getTableName())) {
+            throw new DtLoaderException("table  is not empty");
         }
-        List<String> hosts = Arrays.stream(kuduSourceDTO.getUrl().split(",")).collect(Collectors.toList());
-        return KerberosLoginUtil.loginWithUGI(kuduSourceDTO.getKerberosConfig()).doAs(
-                (PrivilegedAction<KuduClient>) () -> new KuduClient.KuduClientBuilder(hosts).defaultOperationTimeoutMs(TIME_OUT).build()
-        );
+        List<ColumnFilterDTO> columnFilters = ReflectUtil.fieldExists(SqlQueryDTO.class, "columnFilters") ? queryDTO.getColumnFilters() : null;
+        KuduScanTokenDownload kuduScanTokenDownload = new KuduScanTokenDownload((KuduSourceDTO) source, queryDTO.getTableName(),
+                queryDTO.getColumns(), columnFilters, queryDTO.getLimit());
+        try {
+            kuduScanTokenDownload.configure();
+        } catch (DtLoaderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("create kudu downloader exception : %s", dealMessageError(e.getMessage())), e);
+        }
+        return kuduScanTokenDownload;
     }
 
 
@@ -174,11 +189,11 @@ public class DtKuduClient<T> extends AbsNoSqlClient<T> {
             return null;
         }
 
-        KuduClient client = null;
+        KuduClientManager.CachedClient cachedClient = KuduClientManager.acquire(source);
+        KuduClient client = cachedClient.getClient();
         KuduScanner scanner = null;
         List<List<Object>> dataList = new ArrayList<>();
         try {
-            client = getConnection(source);
             KuduTable kuduTable = client.openTable(queryDTO.getTableName());
             Schema schema = kuduTable.getSchema();
             List<String> columnStr = schema.getColumns().stream().map(ColumnSchema::getName).collect(Collectors.toList());
@@ -202,56 +217,58 @@ public class DtKuduClient<T> extends AbsNoSqlClient<T> {
         } catch (KuduException e) {
             throw new DtLoaderException(dealMessageError(e.getMessage()), e);
         } finally {
-            closeClient(client, null, scanner);
+            // client 由 KuduClientManager 统一回收，这里只关闭 scanner
+            closeClient(null, null, scanner);
+            KuduClientManager.release(cachedClient);
         }
         return dataList;
     }
 
     private static List<Object> findRow(Schema schema,RowResult rowResult){
-        List<Object> row = new ArrayList<>();
-        for(ColumnSchema columnSchema : schema.getColumns()){
-            if(rowResult.isNull(columnSchema.getName())){
-                row.add(null);
-            }else{
-                switch(columnSchema.getType()){
-                    case INT8:
-                        row.add(rowResult.getByte(columnSchema.getName()));
-                        break;
-                    case INT16:
-                        row.add(rowResult.getShort(columnSchema.getName()));
-                        break;
-                    case INT32:
-                        row.add(rowResult.getInt(columnSchema.getName()));
-                        break;
-                    case INT64:
-                    case UNIXTIME_MICROS:
-                        //由于long值返回前端进行json转换会丢失精度，所以转换为字符串返回
-                        row.add(String.valueOf(rowResult.getLong(columnSchema.getName())));
-                        break;
-                    case BINARY:
-                        row.add("[BINARY]");
-                        break;
-                    case STRING:
-                        row.add(rowResult.getString(columnSchema.getName()));
-                        break;
-                    case BOOL:
-                        row.add(rowResult.getBoolean(columnSchema.getName()));
-                        break;
-                    case FLOAT:
-                        row.add(rowResult.getFloat(columnSchema.getName()));
-                        break;
-                    case DOUBLE:
-                        row.add(rowResult.getDouble(columnSchema.getName()));
-                        break;
-                    default:
-                        row.add(rowResult.getString(columnSchema.getName()));
-                        break;
-                }
-            }
+        List<Object> row = new ArrayList<>(schema.getColumnCount());
+        for (int i = 0; i < schema.getColumnCount(); i++) {
+            row.add(getColumnValue(rowResult, i));
         }
         return row;
     }
 
+    /**
+     * 获取行中指定下标字段的值，long 类型转换为字符串返回
+     *
+     * @param rowResult 行数据
+     * @param index     字段下标
+     * @return 字段值
+     */
+    public static Object getColumnValue(RowResult rowResult, int index) {
+        if (rowResult.isNull(index)) {
+            return null;
+        }
+        switch (rowResult.getColumnType(index)) {
+            case INT8:
+                return rowResult.getByte(index);
+            case INT16:
+                return rowResult.getShort(index);
+            case INT32:
+                return rowResult.getInt(index);
+            case INT64:
+            case UNIXTIME_MICROS:
+                //由于long值返回前端进行json转换会丢失精度，所以转换为字符串返回
+                return String.valueOf(rowResult.getLong(index));
+            case BINARY:
+                return "[BINARY]";
+            case STRING:
+                return rowResult.getString(index);
+            case BOOL:
+                return rowResult.getBoolean(index);
+            case FLOAT:
+                return rowResult.getFloat(index);
+            case DOUBLE:
+                return rowResult.getDouble(index);
+            default:
+                return rowResult.getString(index);
+        }
+    }
+
 
     public static void closeClient(org.apache.kudu.client.KuduClient client, KuduSession kuduSession, KuduScanner kuduScanner) {
         try {
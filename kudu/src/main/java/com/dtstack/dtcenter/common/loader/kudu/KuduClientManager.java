@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.kudu;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.hadoop.util.KerberosLoginUtil;
+import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
+import com.dtstack.dtcenter.loader.dto.source.KuduSourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kudu.client.KuduClient;
+import org.apache.kudu.client.KuduException;
+
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * kudu client 缓存，相同集群地址和 kerberos 配置的数据源复用同一个 KuduClient（netty 事件循环、master 连接、
+ * tablet 位置缓存），使用中的 client 不会被回收，空闲超过 {@link #IDLE_TIMEOUT_MILLIS} 后关闭
+ *
+ * @author ：wangchuan
+ * date：Created in 下午10:20 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class KuduClientManager {
+
+    /**
+     * 默认操作超时时间，单位：毫秒
+     */
+    private static final int TIME_OUT = 5 * 1000;
+
+    /**
+     * 空闲 client 的关闭时间，单位：毫秒
+     */
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * 空闲检查周期，单位：秒
+     */
+    private static final long EVICT_PERIOD_SECONDS = 60;
+
+    private static final String CLIENT_KEY = "masterAddresses:%s,kerberosConfig:%s";
+
+    private static final Map<String, CachedClient> CLIENTS = new ConcurrentHashMap<>();
+
+    /**
+     * 空闲回收线程，使用守护线程避免影响进程退出
+     */
+    private static final ScheduledExecutorService EVICT_SERVICE = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new DtClassThreadFactory("kuduClientEvict").newThread(r);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EVICT_SERVICE.scheduleWithFixedDelay(KuduClientManager::evictIdleClients, EVICT_PERIOD_SECONDS, EVICT_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 使用 client 的逻辑
+     *
+     * @param <R> 返回值类型
+     */
+    public interface ClientCallback<R> {
+        R call(KuduClient client) throws KuduException;
+    }
+
+    /**
+     * 缓存的 client 和引用计数
+     */
+    public static class CachedClient {
+
+        private final KuduClient kuduClient;
+
+        /**
+         * 正在使用该 client 的请求数
+         */
+        private final AtomicInteger references = new AtomicInteger(0);
+
+        private volatile long lastAccessTime = System.currentTimeMillis();
+
+        private CachedClient(KuduClient kuduClient) {
+            this.kuduClient = kuduClient;
+        }
+
+        public KuduClient getClient() {
+            return kuduClient;
+        }
+    }
+
+    private KuduClientManager() {
+    }
+
+    /**
+     * 使用缓存的 client 执行操作，执行完成后释放 client，不会关闭 client
+     *
+     * @param source   数据源信息
+     * @param callback 执行逻辑
+     * @param <R>      返回值类型
+     * @return 执行结果
+     * @throws KuduException kudu 异常
+     */
+    public static <R> R execute(ISourceDTO source, ClientCallback<R> callback) throws KuduException {
+        CachedClient cachedClient = acquire(source);
+        try {
+            return callback.call(cachedClient.kuduClient);
+        } finally {
+            release(cachedClient);
+        }
+    }
+
+    /**
+     * 获取 client 并增加引用计数，不存在时创建，使用完后需要调用 {@link #release(CachedClient)}
+     *
+     * @param source 数据源信息
+     * @return 缓存的 client
+     */
+    public static CachedClient acquire(ISourceDTO source) {
+        KuduSourceDTO kuduSourceDTO = (KuduSourceDTO) source;
+        if (kuduSourceDTO == null || StringUtils.isBlank(kuduSourceDTO.getUrl())) {
+            throw new DtLoaderException("The cluster address cannot be empty");
+        }
+        List<String> hosts = Arrays.stream(kuduSourceDTO.getUrl().split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toList());
+        return CLIENTS.compute(getPrimaryKey(hosts, kuduSourceDTO.getKerberosConfig()), (key, cachedClient) -> {
+            if (cachedClient == null) {
+                log.info("create kudu client, master addresses : {}", hosts);
+                cachedClient = new CachedClient(createClient(hosts, kuduSourceDTO.getKerberosConfig()));
+            }
+            cachedClient.references.incrementAndGet();
+            cachedClient.lastAccessTime = System.currentTimeMillis();
+            return cachedClient;
+        });
+    }
+
+    /**
+     * 释放 client，减少引用计数
+     *
+     * @param cachedClient 缓存的 client
+     */
+    public static void release(CachedClient cachedClient) {
+        cachedClient.lastAccessTime = System.currentTimeMillis();
+        cachedClient.references.decrementAndGet();
+    }
+
+    /**
+     * 创建 KuduClient，开启 kerberos 时在登录的 UGI 下创建，client 会持有登录的凭证
+     *
+     * @param hosts          master 地址
+     * @param kerberosConfig kerberos 配置
+     * @return KuduClient
+     */
+    private static KuduClient createClient(List<String> hosts, Map<String, Object> kerberosConfig) {
+        return KerberosLoginUtil.loginWithUGI(kerberosConfig).doAs(
+                (PrivilegedAction<KuduClient>) () -> new KuduClient.KuduClientBuilder(hosts).defaultOperationTimeoutMs(TIME_OUT).build()
+        );
+    }
+
+    /**
+     * 关闭空闲超时并且没有在使用的 client
+     */
+    private static void evictIdleClients() {
+        long now = System.currentTimeMillis();
+        List<CachedClient> evicted = new ArrayList<>();
+        for (String key : CLIENTS.keySet()) {
+            // 和 acquire 使用同一个 compute，保证回收时没有新的请求获取该 client
+            CLIENTS.computeIfPresent(key, (k, cachedClient) -> {
+                if (cachedClient.references.get() == 0 && now - cachedClient.lastAccessTime > IDLE_TIMEOUT_MILLIS) {
+                    evicted.add(cachedClient);
+                    return null;
+                }
+                return cachedClient;
+            });
+        }
+        for (CachedClient cachedClient : evicted) {
+            try {
+                cachedClient.kuduClient.close();
+            } catch (Exception e) {
+                log.warn("close idle kudu client error : {}", e.getMessage(), e);
+            }
+        }
+        if (!evicted.isEmpty()) {
+            log.info("close {} idle kudu clients, cached kudu clients : {}", evicted.size(), CLIENTS.size());
+        }
+    }
+
+    /**
+     * 生成缓存 key，master 地址排序后参与计算，地址顺序不同的数据源复用同一个 client
+     *
+     * @param hosts          master 地址
+     * @param kerberosConfig kerberos 配置
+     * @return 缓存 key
+     */
+    private static String getPrimaryKey(List<String> hosts, Map<String, Object> kerberosConfig) {
+        List<String> sortedHosts = hosts.stream().sorted().collect(Collectors.toList());
+        return String.format(CLIENT_KEY, sortedHosts, kerberosConfig == null ? null : new TreeMap<>(kerberosConfig));
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.kudu.downloader;
+
+import com.dtstack.dtcenter.loader.dto.ColumnFilterDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kudu.ColumnSchema;
+import org.apache.kudu.Schema;
+import org.apache.kudu.client.KuduPredicate;
+import org.apache.kudu.client.RowResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * kudu 表下载过滤条件，能够下推的条件转换为 {@link KuduPredicate} 由 tablet server 过滤，
+ * kudu 不支持的条件（不等于）在读取到数据后通过 {@link #matchRow} 过滤
+ *
+ * @author ：wangchuan
+ * date：Created in 下午10:35 2026/10/18
+ * company: www.dtstack.com
+ */
+public class KuduFilterPushdown {
+
+    /**
+     * 需要在客户端过滤的条件
+     */
+    private static class ResidualCondition {
+
+        private final String columnName;
+
+        private final ColumnSchema columnSchema;
+
+        private final Object value;
+
+        private ResidualCondition(String columnName, ColumnSchema columnSchema, Object value) {
+            this.columnName = columnName;
+            this.columnSchema = columnSchema;
+            this.value = value;
+        }
+    }
+
+    private final List<KuduPredicate> predicates;
+
+    private final List<ResidualCondition> residualConditions;
+
+    /**
+     * 是否存在永远不满足的条件，比如 IN 的值集合为空
+     */
+    private final boolean alwaysFalse;
+
+    private KuduFilterPushdown(List<KuduPredicate> predicates, List<ResidualCondition> residualConditions, boolean alwaysFalse) {
+        this.predicates = predicates;
+        this.residualConditions = residualConditions;
+        this.alwaysFalse = alwaysFalse;
+    }
+
+    /**
+     * 根据过滤条件和表结构构建
+     *
+     * @param filters 过滤条件
+     * @param schema  表结构
+     * @return kudu 表下载过滤条件
+     */
+    public static KuduFilterPushdown of(List<ColumnFilterDTO> filters, Schema schema) {
+        if (CollectionUtils.isEmpty(filters)) {
+            return new KuduFilterPushdown(Collections.emptyList(), Collections.emptyList(), false);
+        }
+        List<KuduPredicate> predicates = new ArrayList<>();
+        List<ResidualCondition> residualConditions = new ArrayList<>();
+        boolean alwaysFalse = false;
+        for (ColumnFilterDTO filter : filters) {
+            if (filter == null || StringUtils.isBlank(filter.getColumn()) || filter.getOperator() == null) {
+                throw new DtLoaderException("column filter's column and operator cannot be empty");
+            }
+            if (!schema.hasColumn(filter.getColumn())) {
+                throw new DtLoaderException(String.format("column filter's column %s not exists", filter.getColumn()));
+            }
+            ColumnSchema columnSchema = schema.getColumn(filter.getColumn());
+            switch (filter.getOperator()) {
+                case EQ:
+                    predicates.add(KuduPredicate.newComparisonPredicate(columnSchema, KuduPredicate.ComparisonOp.EQUAL, convert(columnSchema, filter.getValue())));
+                    break;
+                case LT:
+                    predicates.add(KuduPredicate.newComparisonPredicate(columnSchema, KuduPredicate.ComparisonOp.LESS, convert(columnSchema, filter.getValue())));
+                    break;
+                case LE:
+                    predicates.add(KuduPredicate.newComparisonPredicate(columnSchema, KuduPredicate.ComparisonOp.LESS_EQUAL, convert(columnSchema, filter.getValue())));
+                    break;
+                case GT:
+                    predicates.add(KuduPredicate.newComparisonPredicate(columnSchema, KuduPredicate.ComparisonOp.GREATER, convert(columnSchema, filter.getValue())));
+                    break;
+                case GE:
+                    predicates.add(KuduPredicate.newComparisonPredicate(columnSchema, KuduPredicate.ComparisonOp.GREATER_EQUAL, convert(columnSchema, filter.getValue())));
+                    break;
+                case IN:
+                    if (CollectionUtils.isEmpty(filter.getValues())) {
+                        alwaysFalse = true;
+                        break;
+                    }
+                    List<Object> values = new ArrayList<>(filter.getValues().size());
+                    for (String value : filter.getValues()) {
+                        values.add(convert(columnSchema, value));
+                    }
+                    predicates.add(KuduPredicate.newInListPredicate(columnSchema, values));
+                    break;
+                case IS_NULL:
+                    predicates.add(KuduPredicate.newIsNullPredicate(columnSchema));
+                    break;
+                case IS_NOT_NULL:
+                    predicates.add(KuduPredicate.newIsNotNullPredicate(columnSchema));
+                    break;
+                case NOT_EQ:
+                    // kudu 不支持不等于的谓词，在客户端过滤，同时下推 IS NOT NULL
+                    residualConditions.add(new ResidualCondition(filter.getColumn(), columnSchema, convert(columnSchema, filter.getValue())));
+                    predicates.add(KuduPredicate.newIsNotNullPredicate(columnSchema));
+                    break;
+                default:
+                    throw new DtLoaderException(String.format("not support column filter operator : %s", filter.getOperator()));
+            }
+        }
+        return new KuduFilterPushdown(predicates, residualConditions, alwaysFalse);
+    }
+
+    /**
+     * 将字符串值转换为字段类型对应的 java 类型，和 {@link KuduPredicate} 要求的类型保持一致
+     *
+     * @param columnSchema 字段信息
+     * @param value        字符串值
+     * @return 转换后的值
+     */
+    private static Object convert(ColumnSchema columnSchema, String value) {
+        if (value == null) {
+            throw new DtLoaderException(String.format("column filter's value of column %s cannot be null", columnSchema.getName()));
+        }
+        try {
+            switch (columnSchema.getType()) {
+                case INT8:
+                    return Byte.valueOf(value.trim());
+                case INT16:
+                    return Short.valueOf(value.trim());
+                case INT32:
+                    return Integer.valueOf(value.trim());
+                case INT64:
+                    return Long.valueOf(value.trim());
+                case UNIXTIME_MICROS:
+                    // 支持微秒时间戳和 yyyy-mm-dd hh:mm:ss[.f...] 格式
+                    if (StringUtils.isNumeric(value.trim())) {
+                        return Long.valueOf(value.trim());
+                    }
+                    Timestamp timestamp = Timestamp.valueOf(value.trim());
+                    return Math.floorDiv(timestamp.getTime(), 1000L) * 1000000L + timestamp.getNanos() / 1000;
+                case BOOL:
+                    return Boolean.valueOf(value.trim());
+                case FLOAT:
+                    return Float.valueOf(value.trim());
+                case DOUBLE:
+                    return Double.valueOf(value.trim());
+                case DECIMAL:
+                    return new BigDecimal(value.trim());
+                case DATE:
+                    return Date.valueOf(value.trim());
+                case BINARY:
+                    return value.getBytes(StandardCharsets.UTF_8);
+                default:
+                    return value;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DtLoaderException(String.format("column filter's value %s can not convert to type %s of column %s",
+                    value, columnSchema.getType().getName(), columnSchema.getName()), e);
+        }
+    }
+
+    /**
+     * 下推到 tablet server 的谓词
+     *
+     * @return 谓词集合
+     */
+    public List<KuduPredicate> getPredicates() {
+        return predicates;
+    }
+
+    /**
+     * 是否存在永远不满足的条件，此时不需要扫描
+     *
+     * @return 是否永远不满足
+     */
+    public boolean isAlwaysFalse() {
+        return alwaysFalse;
+    }
+
+    /**
+     * 是否存在需要在客户端过滤的条件
+     *
+     * @return 是否存在
+     */
+    public boolean hasResidualFilter() {
+        return !residualConditions.isEmpty();
+    }
+
+    /**
+     * 客户端过滤需要读取的字段
+     *
+     * @return 字段名称集合
+     */
+    public List<String> getResidualColumns() {
+        List<String> columns = new ArrayList<>(residualConditions.size());
+        for (ResidualCondition condition : residualConditions) {
+            if (!columns.contains(condition.columnName)) {
+                columns.add(condition.columnName);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 判断行是否满足客户端过滤条件，行中需要包含 {@link #getResidualColumns()} 中的字段
+     *
+     * @param rowResult 行数据
+     * @return 是否满足
+     */
+    public boolean matchRow(RowResult rowResult) {
+        for (ResidualCondition condition : residualConditions) {
+            if (rowResult.isNull(condition.columnName)) {
+                return false;
+            }
+            if (valueEquals(getValue(rowResult, condition), condition.value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object getValue(RowResult rowResult, ResidualCondition condition) {
+        switch (condition.columnSchema.getType()) {
+            case UNIXTIME_MICROS:
+                return rowResult.getLong(condition.columnName);
+            case BINARY:
+                return rowResult.getBinaryCopy(condition.columnName);
+            default:
+                return rowResult.getObject(condition.columnName);
+        }
+    }
+
+    private static boolean valueEquals(Object rowValue, Object filterValue) {
+        if (rowValue instanceof BigDecimal && filterValue instanceof BigDecimal) {
+            return ((BigDecimal) rowValue).compareTo((BigDecimal) filterValue) == 0;
+        }
+        if (rowValue instanceof Date && filterValue instanceof Date) {
+            return Objects.equals(rowValue.toString(), filterValue.toString());
+        }
+        return Objects.deepEquals(rowValue, filterValue);
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.kudu.downloader;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.kudu.DtKuduClient;
+import com.dtstack.dtcenter.common.loader.kudu.KuduClientManager;
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.dto.ColumnFilterDTO;
+import com.dtstack.dtcenter.loader.dto.source.KuduSourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.kudu.ColumnSchema;
+import org.apache.kudu.Schema;
+import org.apache.kudu.client.AsyncKuduScanner;
+import org.apache.kudu.client.KuduPredicate;
+import org.apache.kudu.client.KuduScanToken;
+import org.apache.kudu.client.KuduScanner;
+import org.apache.kudu.client.KuduTable;
+import org.apache.kudu.client.RowResult;
+import org.apache.kudu.client.RowResultIterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 下载kudu表:基于 scan token 并发扫描
+ * 按照表的 tablet 生成 scan token，多个读取线程按顺序领取 token 并在对应的 tablet server 上扫描，
+ * 字段投影和过滤条件随 token 下推，读取到的数据按批放入有界队列，readNext 从队列中取数据，不保证 tablet 之间的顺序
+ *
+ * @author ：wangchuan
+ * date：Created in 下午10:50 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class KuduScanTokenDownload implements IDownloader {
+
+    /**
+     * 每批数据的行数
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * 每个读取线程最多缓存的批数
+     */
+    private static final int CHUNK_BUFFER = 4;
+
+    /**
+     * 单次扫描请求返回的最大字节数
+     */
+    private static final int BATCH_SIZE_BYTES = 1024 * 1024;
+
+    /**
+     * 扫描请求超时时间，单位：毫秒
+     */
+    private static final long SCAN_REQUEST_TIMEOUT = 60 * 1000L;
+
+    /**
+     * 一批数据
+     */
+    private static class Chunk {
+
+        private final List<Object> rows;
+
+        /**
+         * 是否是该 token 的最后一批
+         */
+        private final boolean last;
+
+        private final Throwable error;
+
+        private Chunk(List<Object> rows, boolean last, Throwable error) {
+            this.rows = rows;
+            this.last = last;
+            this.error = error;
+        }
+    }
+
+    private final KuduSourceDTO kuduSourceDTO;
+
+    private final String tableName;
+
+    private final List<String> columns;
+
+    private final List<ColumnFilterDTO> columnFilters;
+
+    /**
+     * 最多下载的行数，为空时下载全部数据
+     */
+    private final Integer limit;
+
+    private KuduClientManager.CachedClient cachedClient;
+
+    private List<String> metaInfo;
+
+    private List<KuduScanToken> tokens = Collections.emptyList();
+
+    private KuduFilterPushdown filterPushdown;
+
+    private final AtomicInteger nextTokenIndex = new AtomicInteger(0);
+
+    private ExecutorService executor;
+
+    private BlockingQueue<Chunk> queue;
+
+    /**
+     * 已经扫描完的 token 数
+     */
+    private int finishedTokens = 0;
+
+    /**
+     * 已经返回的行数
+     */
+    private long readRows = 0;
+
+    private List<Object> currentRows = Collections.emptyList();
+
+    private int currentRowIndex = 0;
+
+    private volatile boolean closed = false;
+
+    public KuduScanTokenDownload(KuduSourceDTO kuduSourceDTO, String tableName, List<String> columns,
+                                 List<ColumnFilterDTO> columnFilters, Integer limit) {
+        this.kuduSourceDTO = kuduSourceDTO;
+        this.tableName = tableName;
+        this.columns = columns;
+        this.columnFilters = columnFilters;
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean configure() throws Exception {
+        // 已经初始化过时不再重复获取 client 和启动读取线程
+        if (cachedClient != null) {
+            return true;
+        }
+        cachedClient = KuduClientManager.acquire(kuduSourceDTO);
+        try {
+            return configureWithClient();
+        } catch (Exception e) {
+            close();
+            throw e;
+        }
+    }
+
+    private boolean configureWithClient() throws Exception {
+        KuduTable kuduTable = cachedClient.getClient().openTable(tableName);
+        Schema schema = kuduTable.getSchema();
+        metaInfo = getProjectedColumns(schema);
+        filterPushdown = KuduFilterPushdown.of(columnFilters, schema);
+        if (filterPushdown.isAlwaysFalse() || (limit != null && limit <= 0)) {
+            return true;
+        }
+
+        // 客户端过滤需要的字段追加在投影字段后面，返回数据时去掉
+        List<String> scanColumns = new ArrayList<>(metaInfo);
+        for (String residualColumn : filterPushdown.getResidualColumns()) {
+            if (!scanColumns.contains(residualColumn)) {
+                scanColumns.add(residualColumn);
+            }
+        }
+        KuduScanToken.KuduScanTokenBuilder tokenBuilder = cachedClient.getClient().newScanTokenBuilder(kuduTable)
+                .setProjectedColumnNames(scanColumns)
+                .cacheBlocks(false)
+                .readMode(AsyncKuduScanner.ReadMode.READ_LATEST)
+                .batchSizeBytes(BATCH_SIZE_BYTES)
+                .scanRequestTimeout(SCAN_REQUEST_TIMEOUT);
+        for (KuduPredicate predicate : filterPushdown.getPredicates()) {
+            tokenBuilder.addPredicate(predicate);
+        }
+        // 存在客户端过滤时无法在 tablet server 上限制行数
+        if (limit != null && !filterPushdown.hasResidualFilter()) {
+            tokenBuilder.limit(limit);
+        }
+        tokens = tokenBuilder.build();
+        if (tokens.isEmpty()) {
+            return true;
+        }
+
+        int parallelism = getParallelism();
+        queue = new LinkedBlockingQueue<>(parallelism * CHUNK_BUFFER);
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("kuduScanTokenDownload"));
+        for (int i = 0; i < parallelism; i++) {
+            executor.submit(this::scanTokens);
+        }
+        log.info("download kudu table {} with {} scan tokens and {} readers, predicates : {}",
+                tableName, tokens.size(), parallelism, filterPushdown.getPredicates());
+        return true;
+    }
+
+    /**
+     * 获取需要下载的字段，未指定或者指定 * 时下载全部字段
+     *
+     * @param schema 表结构
+     * @return 字段名称集合
+     */
+    private List<String> getProjectedColumns(Schema schema) {
+        List<String> allColumns = schema.getColumns().stream().map(ColumnSchema::getName).collect(Collectors.toList());
+        if (CollectionUtils.isEmpty(columns) || columns.contains("*")) {
+            return allColumns;
+        }
+        for (String column : columns) {
+            if (!allColumns.contains(column)) {
+                throw new DtLoaderException(String.format("column %s not exists in table %s", column, tableName));
+            }
+        }
+        return new ArrayList<>(columns);
+    }
+
+    private int getParallelism() {
+        Integer downloadParallelism = kuduSourceDTO.getDownloadParallelism();
+        int parallelism = downloadParallelism == null || downloadParallelism <= 0 ?
+                Runtime.getRuntime().availableProcessors() : downloadParallelism;
+        return Math.max(1, Math.min(parallelism, tokens.size()));
+    }
+
+    /**
+     * 读取线程逻辑，按顺序领取 token 直到全部扫描完或下载器关闭
+     */
+    private void scanTokens() {
+        int tokenIndex;
+        while (!closed && (tokenIndex = nextTokenIndex.getAndIncrement()) < tokens.size()) {
+            if (!scanToken(tokens.get(tokenIndex))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 扫描单个 token 对应的 tablet
+     *
+     * @param token scan token
+     * @return 是否继续读取，下载器关闭时返回 false
+     */
+    private boolean scanToken(KuduScanToken token) {
+        KuduScanner scanner = null;
+        try {
+            scanner = token.intoScanner(cachedClient.getClient());
+            List<Object> rows = new ArrayList<>(CHUNK_SIZE);
+            while (!closed && scanner.hasMoreRows()) {
+                RowResultIterator rowResults = scanner.nextRows();
+                while (rowResults.hasNext()) {
+                    RowResult rowResult = rowResults.next();
+                    if (filterPushdown.hasResidualFilter() && !filterPushdown.matchRow(rowResult)) {
+                        continue;
+                    }
+                    rows.add(toRow(rowResult));
+                    if (rows.size() >= CHUNK_SIZE) {
+                        if (!put(new Chunk(rows, false, null))) {
+                            return false;
+                        }
+                        rows = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+            }
+            return put(new Chunk(rows, true, null));
+        } catch (Throwable e) {
+            log.error("scan kudu table {} failed : {}", tableName, e.getMessage(), e);
+            put(new Chunk(Collections.emptyList(), true, e));
+            return false;
+        } finally {
+            if (scanner != null) {
+                try {
+                    scanner.close();
+                } catch (Exception e) {
+                    log.warn("close kudu scanner of table {} failed : {}", tableName, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 转换行数据，只返回投影的字段
+     *
+     * @param rowResult 行数据
+     * @return 行
+     */
+    private List<Object> toRow(RowResult rowResult) {
+        List<Object> row = new ArrayList<>(metaInfo.size());
+        for (int i = 0; i < metaInfo.size(); i++) {
+            row.add(DtKuduClient.getColumnValue(rowResult, i));
+        }
+        return row;
+    }
+
+    private boolean put(Chunk chunk) {
+        try {
+            queue.put(chunk);
+            return true;
+        } catch (InterruptedException e) {
+            // 下载器关闭时会中断读取线程
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getMetaInfo() {
+        return metaInfo;
+    }
+
+    @Override
+    public Object readNext() {
+        if (currentRowIndex >= currentRows.size() && reachedEnd()) {
+            return null;
+        }
+        readRows++;
+        return currentRows.get(currentRowIndex++);
+    }
+
+    @Override
+    public boolean reachedEnd() {
+        if (limit != null && readRows >= limit) {
+            return true;
+        }
+        while (currentRowIndex >= currentRows.size()) {
+            Chunk chunk = takeChunk();
+            if (chunk == null) {
+                return true;
+            }
+            if (chunk.error != null) {
+                throw new DtLoaderException(String.format("Abnormal reading kudu table,%s", chunk.error.getMessage()), chunk.error);
+            }
+            currentRows = chunk.rows;
+            currentRowIndex = 0;
+        }
+        return false;
+    }
+
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+        while (rows.size() < batchSize && !reachedEnd()) {
+            int count = Math.min(batchSize - rows.size(), currentRows.size() - currentRowIndex);
+            if (limit != null) {
+                count = (int) Math.min(count, limit - readRows);
+            }
+            rows.addAll(currentRows.subList(currentRowIndex, currentRowIndex + count));
+            currentRowIndex += count;
+            readRows += count;
+        }
+        return rows;
+    }
+
+    /**
+     * 获取下一批数据，全部 token 扫描完返回 null
+     *
+     * @return 一批数据
+     */
+    private Chunk takeChunk() {
+        try {
+            while (queue != null && finishedTokens < tokens.size()) {
+                Chunk chunk = queue.take();
+                if (chunk.last) {
+                    finishedTokens++;
+                }
+                if (chunk.error != null || !chunk.rows.isEmpty()) {
+                    return chunk;
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DtLoaderException("download interrupted", e);
+        }
+    }
+
+    @Override
+    public boolean close() {
+        if (closed) {
+            return true;
+        }
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        // 只释放 client，client 由 KuduClientManager 统一回收
+        if (cachedClient != null) {
+            KuduClientManager.release(cachedClient);
+        }
+        return true;
+    }
+
+    @Override
+    public String getFileName() {
+        return null;
+    }
+
+    @Override
+    public List<String> getContainers() {
+        return Collections.emptyList();
+    }
+}
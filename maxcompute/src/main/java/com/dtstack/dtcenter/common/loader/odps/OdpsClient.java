@@ -43,6 +43,8 @@ import com.dtstack.dtcenter.common.loader.common.utils.SearchUtil;
 import com.dtstack.dtcenter.common.loader.odps.common.OdpsFields;
 import com.dtstack.dtcenter.common.loader.odps.pool.OdpsManager;
 import com.dtstack.dtcenter.common.loader.odps.pool.OdpsPool;
+import com.dtstack.dtcenter.common.loader.odps.tunnel.OdpsTunnelDownload;
+import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -397,6 +399,29 @@ public class OdpsClient<T> extends AbsNoSqlClient<T> {
         return isSuccessful;
     }
 
+    /**
+     * 获取基于 tunnel 的数据下载器，指定 sql 时通过 Instance Tunnel 下载 sql 结果，否则通过 Table Tunnel 下载表或分区
+     *
+     * @param source   数据源信息
+     * @param queryDTO 查询信息，sql 为查询 sql；tableName 为表名，partitionColumns 为下载的分区，columns 为下载的字段；limit 为最多下载的行数
+     * @return 数据下载器
+     */
+    @Override
+    public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) {
+        if (queryDTO == null || (StringUtils.isBlank(queryDTO.getSql()) && StringUtils.isBlank(queryDTO.getTableName()))) {
+            throw new DtLoaderException("Query table name or sql cannot be empty");
+        }
+        OdpsTunnelDownload odpsTunnelDownload = new OdpsTunnelDownload((OdpsSourceDTO) source, queryDTO);
+        try {
+            odpsTunnelDownload.configure();
+        } catch (DtLoaderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("create odps tunnel downloader error : %s", e.getMessage()), e);
+        }
+        return odpsTunnelDownload;
+    }
+
     private void closeResource(Odps odps, OdpsSourceDTO odpsSourceDTO) {
         //归还对象
         if (BooleanUtils.isTrue(IS_OPEN_POOL.get()) && odps != null) {
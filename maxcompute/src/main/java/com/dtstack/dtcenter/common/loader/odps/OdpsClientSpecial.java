@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.odps;
+
+import com.aliyun.odps.Odps;
+import com.dtstack.dtcenter.common.loader.odps.tunnel.OdpsTunnelUpload;
+import com.dtstack.dtcenter.common.loader.odps.tunnel.OdpsTunnelUtil;
+import com.dtstack.dtcenter.loader.client.IOdps;
+import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
+import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
+import com.dtstack.dtcenter.loader.dto.source.OdpsSourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+
+/**
+ * odps tunnel 客户端
+ *
+ * @author ：wangchuan
+ * date：Created in 下午11:55 2026/10/18
+ * company: www.dtstack.com
+ */
+public class OdpsClientSpecial implements IOdps {
+
+    @Override
+    public Long uploadRecords(ISourceDTO source, SqlQueryDTO queryDTO, List<List<Object>> rows) {
+        OdpsSourceDTO odpsSourceDTO = (OdpsSourceDTO) source;
+        if (queryDTO == null || StringUtils.isBlank(queryDTO.getTableName())) {
+            throw new DtLoaderException("Upload table name cannot be empty");
+        }
+        if (CollectionUtils.isEmpty(rows)) {
+            return 0L;
+        }
+        Odps odps = null;
+        try {
+            odps = OdpsTunnelUtil.borrowOdps(odpsSourceDTO);
+            return OdpsTunnelUpload.upload(odps, odpsSourceDTO, queryDTO, rows);
+        } catch (DtLoaderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DtLoaderException(String.format("odps tunnel upload error : %s", e.getMessage()), e);
+        } finally {
+            OdpsTunnelUtil.releaseOdps(odps, odpsSourceDTO);
+        }
+    }
+}
@@ -30,6 +30,11 @@ public class OdpsFields {
 
     public final static String KEY_ODPS_SERVER = "endPoint";
 
+    /**
+     * tunnel 服务地址，为空时由 odps 服务端根据 endPoint 路由，可以配置为本地 mock 的 tunnel 服务用于测试
+     */
+    public final static String KEY_TUNNEL_SERVER = "tunnelEndPoint";
+
     public final static String KEY_ACCESS_ID = "accessId";
 
     public final static String KEY_ACCESS_KEY = "accessKey";
@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.odps.tunnel;
+
+import com.aliyun.odps.Column;
+import com.aliyun.odps.Instance;
+import com.aliyun.odps.Odps;
+import com.aliyun.odps.PartitionSpec;
+import com.aliyun.odps.TableSchema;
+import com.aliyun.odps.data.Record;
+import com.aliyun.odps.data.RecordReader;
+import com.aliyun.odps.task.SQLTask;
+import com.aliyun.odps.tunnel.InstanceTunnel;
+import com.aliyun.odps.tunnel.TableTunnel;
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
+import com.dtstack.dtcenter.loader.dto.source.OdpsSourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 下载odps数据:基于 tunnel 分段并发读取
+ * 指定 sql 时执行 SQLTask 后通过 Instance Tunnel 读取结果，否则通过 Table Tunnel 读取表或分区。
+ * 下载会话按照记录数拆分为多个分段，多个读取线程按顺序领取分段，读取后按批放入分段对应的有界队列，
+ * readNext 按分段顺序消费，保证和单线程读取的顺序一致
+ *
+ * @author ：wangchuan
+ * date：Created in 下午11:40 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class OdpsTunnelDownload implements IDownloader {
+
+    /**
+     * 每个分段的记录数
+     */
+    private static final long RANGE_SIZE = 100000L;
+
+    /**
+     * 每批数据的行数
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * 每个分段最多缓存的批数
+     */
+    private static final int CHUNK_BUFFER = 4;
+
+    /**
+     * 关闭时等待读取线程退出的时间，单位：秒
+     */
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /**
+     * 打开指定分段的 reader
+     */
+    private interface RangeReaderFactory {
+        RecordReader open(long start, long count) throws Exception;
+    }
+
+    /**
+     * 一批数据
+     */
+    private static class Chunk {
+
+        private final List<Object> rows;
+
+        /**
+         * 是否是该分段的最后一批
+         */
+        private final boolean last;
+
+        private final Throwable error;
+
+        private Chunk(List<Object> rows, boolean last, Throwable error) {
+            this.rows = rows;
+            this.last = last;
+            this.error = error;
+        }
+    }
+
+    private final OdpsSourceDTO odpsSourceDTO;
+
+    private final String sql;
+
+    private final String tableName;
+
+    private final Map<String, String> partitionColumns;
+
+    private final List<String> columns;
+
+    /**
+     * 最多下载的行数，为空时下载全部数据
+     */
+    private final Integer limit;
+
+    private Odps odps;
+
+    private List<Column> readColumns;
+
+    private RangeReaderFactory readerFactory;
+
+    /**
+     * 需要下载的记录数
+     */
+    private long recordCount;
+
+    private int rangeCount;
+
+    private final AtomicInteger nextRangeIndex = new AtomicInteger(0);
+
+    private ExecutorService executor;
+
+    private List<BlockingQueue<Chunk>> rangeQueues;
+
+    /**
+     * 当前消费的分段下标
+     */
+    private int currentRangeIndex = 0;
+
+    private List<Object> currentRows = Collections.emptyList();
+
+    private int currentRowIndex = 0;
+
+    private volatile boolean closed = false;
+
+    public OdpsTunnelDownload(OdpsSourceDTO odpsSourceDTO, SqlQueryDTO queryDTO) {
+        this.odpsSourceDTO = odpsSourceDTO;
+        this.sql = queryDTO.getSql();
+        this.tableName = queryDTO.getTableName();
+        this.partitionColumns = queryDTO.getPartitionColumns();
+        this.columns = queryDTO.getColumns();
+        this.limit = queryDTO.getLimit();
+    }
+
+    @Override
+    public boolean configure() throws Exception {
+        // 已经初始化过时不再重复创建下载会话
+        if (odps != null) {
+            return true;
+        }
+        odps = OdpsTunnelUtil.borrowOdps(odpsSourceDTO);
+        try {
+            return configureWithOdps();
+        } catch (Exception e) {
+            close();
+            throw e;
+        }
+    }
+
+    private boolean configureWithOdps() throws Exception {
+        String project = odps.getDefaultProject();
+        if (StringUtils.isNotBlank(sql)) {
+            // 查询 SQL 必须以 分号结尾
+            String querySql = sql.trim().endsWith(";") ? sql.trim() : sql.trim() + ";";
+            Instance instance = SQLTask.run(odps, querySql);
+            instance.waitForSuccess();
+            InstanceTunnel.DownloadSession session = OdpsTunnelUtil.createInstanceTunnel(odps, odpsSourceDTO)
+                    .createDownloadSession(project, instance.getId());
+            readColumns = session.getSchema().getColumns();
+            recordCount = session.getRecordCount();
+            readerFactory = session::openRecordReader;
+        } else {
+            if (StringUtils.isBlank(tableName)) {
+                throw new DtLoaderException("Query table name or sql cannot be empty");
+            }
+            TableTunnel tableTunnel = OdpsTunnelUtil.createTableTunnel(odps, odpsSourceDTO);
+            PartitionSpec partitionSpec = OdpsTunnelUtil.toPartitionSpec(partitionColumns);
+            TableTunnel.DownloadSession session = partitionSpec == null ?
+                    tableTunnel.createDownloadSession(project, tableName) :
+                    tableTunnel.createDownloadSession(project, tableName, partitionSpec);
+            readColumns = getReadColumns(session.getSchema());
+            recordCount = session.getRecordCount();
+            // 只读取需要的字段，开启压缩减少网络传输
+            readerFactory = (start, count) -> session.openRecordReader(start, count, true, readColumns);
+        }
+        if (limit != null) {
+            recordCount = Math.max(0, Math.min(recordCount, limit));
+        }
+        rangeCount = (int) ((recordCount + RANGE_SIZE - 1) / RANGE_SIZE);
+        if (rangeCount == 0) {
+            return true;
+        }
+
+        int parallelism = OdpsTunnelUtil.getParallelism(odpsSourceDTO, rangeCount);
+        rangeQueues = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            rangeQueues.add(new LinkedBlockingQueue<>(CHUNK_BUFFER));
+        }
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("odpsTunnelDownload"));
+        for (int i = 0; i < parallelism; i++) {
+            executor.submit(this::readRanges);
+        }
+        log.info("download {} records of odps {} with {} ranges and {} readers", recordCount,
+                StringUtils.isNotBlank(sql) ? "sql" : "table " + tableName, rangeCount, parallelism);
+        return true;
+    }
+
+    /**
+     * 获取需要下载的字段，未指定或者指定 * 时下载全部普通字段
+     *
+     * @param schema 表结构
+     * @return 字段集合
+     */
+    private List<Column> getReadColumns(TableSchema schema) {
+        if (CollectionUtils.isEmpty(columns) || columns.contains("*")) {
+            return schema.getColumns();
+        }
+        List<Column> readColumns = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            if (!schema.containsColumn(column)) {
+                throw new DtLoaderException(String.format("column %s not exists in table %s", column, tableName));
+            }
+            readColumns.add(schema.getColumn(column));
+        }
+        return readColumns;
+    }
+
+    /**
+     * 读取线程逻辑，按顺序领取分段直到全部读取完或下载器关闭
+     */
+    private void readRanges() {
+        int rangeIndex;
+        while (!closed && (rangeIndex = nextRangeIndex.getAndIncrement()) < rangeCount) {
+            if (!readRange(rangeIndex)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 读取单个分段
+     *
+     * @param rangeIndex 分段下标
+     * @return 是否继续读取，下载器关闭时返回 false
+     */
+    private boolean readRange(int rangeIndex) {
+        long start = rangeIndex * RANGE_SIZE;
+        long count = Math.min(RANGE_SIZE, recordCount - start);
+        RecordReader reader = null;
+        try {
+            reader = readerFactory.open(start, count);
+            List<Object> rows = new ArrayList<>(CHUNK_SIZE);
+            Record record;
+            while (!closed && (record = reader.read()) != null) {
+                rows.add(toRow(record));
+                if (rows.size() >= CHUNK_SIZE) {
+                    if (!put(rangeIndex, new Chunk(rows, false, null))) {
+                        return false;
+                    }
+                    rows = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            return put(rangeIndex, new Chunk(rows, true, null));
+        } catch (Throwable e) {
+            log.error("read odps tunnel range [{}, {}) failed : {}", start, start + count, e.getMessage(), e);
+            put(rangeIndex, new Chunk(Collections.emptyList(), true, e));
+            return false;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (Exception e) {
+                    log.warn("close odps tunnel reader failed : {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private List<Object> toRow(Record record) {
+        List<Object> row = new ArrayList<>(readColumns.size());
+        for (int i = 0; i < readColumns.size(); i++) {
+            row.add(OdpsTunnelUtil.getRecordValue(record, i, readColumns.get(i)));
+        }
+        return row;
+    }
+
+    private boolean put(int rangeIndex, Chunk chunk) {
+        try {
+            rangeQueues.get(rangeIndex).put(chunk);
+            return true;
+        } catch (InterruptedException e) {
+            // 下载器关闭时会中断读取线程
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getMetaInfo() {
+        return readColumns == null ? Collections.emptyList() :
+                readColumns.stream().map(Column::getName).collect(Collectors.toList());
+    }
+
+    @Override
+    public Object readNext() {
+        if (currentRowIndex >= currentRows.size() && reachedEnd()) {
+            return null;
+        }
+        return currentRows.get(currentRowIndex++);
+    }
+
+    @Override
+    public boolean reachedEnd() {
+        while (currentRowIndex >= currentRows.size()) {
+            Chunk chunk = takeChunk();
+            if (chunk == null) {
+                return true;
+            }
+            if (chunk.error != null) {
+                throw new DtLoaderException(String.format("Abnormal reading odps tunnel,%s", chunk.error.getMessage()), chunk.error);
+            }
+            currentRows = chunk.rows;
+            currentRowIndex = 0;
+        }
+        return false;
+    }
+
+    @Override
+    public List<Object> readNextBatch(int batchSize) {
+        List<Object> rows = new ArrayList<>(Math.max(batchSize, 0));
+        while (rows.size() < batchSize && !reachedEnd()) {
+            int count = Math.min(batchSize - rows.size(), currentRows.size() - currentRowIndex);
+            rows.addAll(currentRows.subList(currentRowIndex, currentRowIndex + count));
+            currentRowIndex += count;
+        }
+        return rows;
+    }
+
+    /**
+     * 按分段顺序获取下一批数据，全部分段读取完返回 null
+     *
+     * @return 一批数据
+     */
+    private Chunk takeChunk() {
+        try {
+            while (rangeQueues != null && currentRangeIndex < rangeCount) {
+                Chunk chunk = rangeQueues.get(currentRangeIndex).take();
+                if (chunk.last) {
+                    // 释放已经读取完的分段队列
+                    rangeQueues.set(currentRangeIndex, null);
+                    currentRangeIndex++;
+                }
+                if (chunk.error != null || !chunk.rows.isEmpty()) {
+                    return chunk;
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DtLoaderException("download interrupted", e);
+        }
+    }
+
+    @Override
+    public boolean close() {
+        if (closed) {
+            return true;
+        }
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow();
+            try {
+                // 等待读取线程退出后再归还 odps 对象，避免归还后仍被使用
+                executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        OdpsTunnelUtil.releaseOdps(odps, odpsSourceDTO);
+        return true;
+    }
+
+    @Override
+    public String getFileName() {
+        return null;
+    }
+
+    @Override
+    public List<String> getContainers() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.odps.tunnel;
+
+import com.aliyun.odps.Column;
+import com.aliyun.odps.Odps;
+import com.aliyun.odps.PartitionSpec;
+import com.aliyun.odps.TableSchema;
+import com.aliyun.odps.data.Record;
+import com.aliyun.odps.data.RecordWriter;
+import com.aliyun.odps.tunnel.TableTunnel;
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
+import com.dtstack.dtcenter.loader.dto.source.OdpsSourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 通过 Table Tunnel 批量写入odps数据
+ * 数据按照 {@link #BLOCK_SIZE} 拆分为多个 block，由有界线程池并发上传，全部 block 上传成功后统一提交，
+ * 任一 block 失败时不提交，写入的数据不可见
+ *
+ * @author ：wangchuan
+ * date：Created in 下午11:55 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class OdpsTunnelUpload {
+
+    /**
+     * 每个 block 的行数
+     */
+    private static final int BLOCK_SIZE = 10000;
+
+    private OdpsTunnelUpload() {
+    }
+
+    /**
+     * 写入数据
+     *
+     * @param odps          odps 对象
+     * @param odpsSourceDTO 数据源信息
+     * @param queryDTO      写入信息
+     * @param rows          写入的数据
+     * @return 写入的行数
+     * @throws Exception 写入异常
+     */
+    public static long upload(Odps odps, OdpsSourceDTO odpsSourceDTO, SqlQueryDTO queryDTO, List<List<Object>> rows) throws Exception {
+        String project = odps.getDefaultProject();
+        String tableName = queryDTO.getTableName();
+        PartitionSpec partitionSpec = OdpsTunnelUtil.toPartitionSpec(queryDTO.getPartitionColumns());
+        TableTunnel tableTunnel = OdpsTunnelUtil.createTableTunnel(odps, odpsSourceDTO);
+        TableTunnel.UploadSession session;
+        if (partitionSpec == null) {
+            session = tableTunnel.createUploadSession(project, tableName);
+        } else {
+            odps.tables().get(tableName).createPartition(partitionSpec, true);
+            session = tableTunnel.createUploadSession(project, tableName, partitionSpec);
+        }
+
+        TableSchema schema = session.getSchema();
+        List<Column> writeColumns = getWriteColumns(schema, queryDTO.getColumns(), tableName);
+        int[] columnIndexes = new int[writeColumns.size()];
+        for (int i = 0; i < writeColumns.size(); i++) {
+            columnIndexes[i] = schema.getColumnIndex(writeColumns.get(i).getName());
+        }
+
+        int blockCount = (rows.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int parallelism = OdpsTunnelUtil.getParallelism(odpsSourceDTO, blockCount);
+        ExecutorService executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("odpsTunnelUpload"));
+        try {
+            List<Future<?>> futures = new ArrayList<>(blockCount);
+            for (int i = 0; i < blockCount; i++) {
+                long blockId = i;
+                List<List<Object>> blockRows = rows.subList(i * BLOCK_SIZE, Math.min(rows.size(), (i + 1) * BLOCK_SIZE));
+                futures.add(executor.submit(() -> {
+                    writeBlock(session, blockId, blockRows, writeColumns, columnIndexes);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() == null ? e : e.getCause();
+                    if (cause instanceof DtLoaderException) {
+                        throw (DtLoaderException) cause;
+                    }
+                    throw new DtLoaderException(String.format("odps tunnel upload block error : %s", cause.getMessage()), cause);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Long[] blockIds = new Long[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blockIds[i] = (long) i;
+        }
+        session.commit(blockIds);
+        log.info("upload {} records to odps table {} with {} blocks and {} writers", rows.size(), tableName, blockCount, parallelism);
+        return rows.size();
+    }
+
+    /**
+     * 获取写入的字段，未指定时按照表的字段顺序写入
+     *
+     * @param schema    表结构
+     * @param columns   指定的字段
+     * @param tableName 表名
+     * @return 字段集合
+     */
+    private static List<Column> getWriteColumns(TableSchema schema, List<String> columns, String tableName) {
+        if (CollectionUtils.isEmpty(columns) || columns.contains("*")) {
+            return schema.getColumns();
+        }
+        List<Column> writeColumns = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            if (!schema.containsColumn(column)) {
+                throw new DtLoaderException(String.format("column %s not exists in table %s", column, tableName));
+            }
+            writeColumns.add(schema.getColumn(column));
+        }
+        return writeColumns;
+    }
+
+    /**
+     * 上传一个 block
+     */
+    private static void writeBlock(TableTunnel.UploadSession session, long blockId, List<List<Object>> blockRows,
+                                   List<Column> writeColumns, int[] columnIndexes) throws Exception {
+        RecordWriter writer = session.openRecordWriter(blockId, true);
+        try {
+            for (List<Object> row : blockRows) {
+                if (row == null || row.size() != writeColumns.size()) {
+                    throw new DtLoaderException(String.format("row size %s not equal to column size %s",
+                            row == null ? 0 : row.size(), writeColumns.size()));
+                }
+                Record record = session.newRecord();
+                for (int i = 0; i < writeColumns.size(); i++) {
+                    record.set(columnIndexes[i], OdpsTunnelUtil.convertRecordValue(row.get(i), writeColumns.get(i)));
+                }
+                writer.write(record);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.odps.tunnel;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.aliyun.odps.Column;
+import com.aliyun.odps.Odps;
+import com.aliyun.odps.OdpsType;
+import com.aliyun.odps.PartitionSpec;
+import com.aliyun.odps.data.AbstractChar;
+import com.aliyun.odps.data.Binary;
+import com.aliyun.odps.data.Char;
+import com.aliyun.odps.data.Record;
+import com.aliyun.odps.data.Varchar;
+import com.aliyun.odps.tunnel.InstanceTunnel;
+import com.aliyun.odps.tunnel.TableTunnel;
+import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
+import com.dtstack.dtcenter.common.loader.odps.OdpsClient;
+import com.dtstack.dtcenter.common.loader.odps.common.OdpsFields;
+import com.dtstack.dtcenter.common.loader.odps.pool.OdpsManager;
+import com.dtstack.dtcenter.loader.dto.source.OdpsSourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * odps tunnel 工具类，负责 tunnel 的创建、odps 对象的借还以及数据类型转换
+ *
+ * @author ：wangchuan
+ * date：Created in 下午11:30 2026/10/18
+ * company: www.dtstack.com
+ */
+public class OdpsTunnelUtil {
+
+    /**
+     * 默认 tunnel 并发读写数量
+     */
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private OdpsTunnelUtil() {
+    }
+
+    /**
+     * 获取 odps 对象，开启连接池时从 {@link OdpsManager} 的连接池中借出，需要通过 {@link #releaseOdps} 归还
+     *
+     * @param odpsSourceDTO 数据源信息
+     * @return odps 对象
+     */
+    public static Odps borrowOdps(OdpsSourceDTO odpsSourceDTO) {
+        try {
+            return OdpsClient.initOdps(odpsSourceDTO);
+        } finally {
+            // tunnel 读写可能跨线程，不使用线程变量记录是否池化
+            OdpsClient.IS_OPEN_POOL.remove();
+        }
+    }
+
+    /**
+     * 归还 odps 对象，未开启连接池时不做处理
+     *
+     * @param odps          odps 对象
+     * @param odpsSourceDTO 数据源信息
+     */
+    public static void releaseOdps(Odps odps, OdpsSourceDTO odpsSourceDTO) {
+        if (odps != null && odpsSourceDTO.getPoolConfig() != null) {
+            OdpsManager.getInstance().getConnection(odpsSourceDTO).returnResource(odps);
+        }
+    }
+
+    /**
+     * 创建 Table Tunnel，配置了 tunnelEndPoint 时使用指定的 tunnel 地址
+     *
+     * @param odps          odps 对象
+     * @param odpsSourceDTO 数据源信息
+     * @return Table Tunnel
+     */
+    public static TableTunnel createTableTunnel(Odps odps, OdpsSourceDTO odpsSourceDTO) {
+        TableTunnel tableTunnel = new TableTunnel(odps);
+        String tunnelServer = getTunnelServer(odpsSourceDTO);
+        if (StringUtils.isNotBlank(tunnelServer)) {
+            tableTunnel.setEndpoint(tunnelServer);
+        }
+        return tableTunnel;
+    }
+
+    /**
+     * 创建 Instance Tunnel，配置了 tunnelEndPoint 时使用指定的 tunnel 地址
+     *
+     * @param odps          odps 对象
+     * @param odpsSourceDTO 数据源信息
+     * @return Instance Tunnel
+     */
+    public static InstanceTunnel createInstanceTunnel(Odps odps, OdpsSourceDTO odpsSourceDTO) {
+        InstanceTunnel instanceTunnel = new InstanceTunnel(odps);
+        String tunnelServer = getTunnelServer(odpsSourceDTO);
+        if (StringUtils.isNotBlank(tunnelServer)) {
+            instanceTunnel.setEndpoint(tunnelServer);
+        }
+        return instanceTunnel;
+    }
+
+    private static String getTunnelServer(OdpsSourceDTO odpsSourceDTO) {
+        JSONObject odpsConfig = JSON.parseObject(odpsSourceDTO.getConfig());
+        return odpsConfig == null ? null : odpsConfig.getString(OdpsFields.KEY_TUNNEL_SERVER);
+    }
+
+    /**
+     * 获取 tunnel 并发读写数量
+     *
+     * @param odpsSourceDTO 数据源信息
+     * @param maxParallelism 最大并发数，一般为读写的分段数
+     * @return 并发数
+     */
+    public static int getParallelism(OdpsSourceDTO odpsSourceDTO, int maxParallelism) {
+        Integer tunnelParallelism = ReflectUtil.fieldExists(OdpsSourceDTO.class, "tunnelParallelism") ?
+                odpsSourceDTO.getTunnelParallelism() : null;
+        int parallelism = tunnelParallelism == null || tunnelParallelism <= 0 ? DEFAULT_PARALLELISM : tunnelParallelism;
+        return Math.max(1, Math.min(parallelism, maxParallelism));
+    }
+
+    /**
+     * 构建分区信息
+     *
+     * @param partitionColumns 分区字段和值
+     * @return 分区信息，非分区时返回 null
+     */
+    public static PartitionSpec toPartitionSpec(Map<String, String> partitionColumns) {
+        if (MapUtils.isEmpty(partitionColumns)) {
+            return null;
+        }
+        PartitionSpec partitionSpec = new PartitionSpec();
+        for (Map.Entry<String, String> entry : partitionColumns.entrySet()) {
+            partitionSpec.set(entry.getKey(), entry.getValue());
+        }
+        return partitionSpec;
+    }
+
+    /**
+     * 读取 record 中指定下标字段的值，字符类型转换为 String
+     *
+     * @param record record
+     * @param index  字段下标
+     * @param column 字段信息
+     * @return 字段值
+     */
+    public static Object getRecordValue(Record record, int index, Column column) {
+        if (column.getTypeInfo().getOdpsType() == OdpsType.STRING) {
+            return record.getString(index);
+        }
+        Object value = record.get(index);
+        if (value instanceof AbstractChar) {
+            return value.toString();
+        }
+        if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * 将写入的值转换为字段类型对应的 java 类型
+     *
+     * @param value  写入的值
+     * @param column 字段信息
+     * @return 转换后的值
+     */
+    public static Object convertRecordValue(Object value, Column column) {
+        if (value == null) {
+            return null;
+        }
+        OdpsType odpsType = column.getTypeInfo().getOdpsType();
+        try {
+            switch (odpsType) {
+                case BIGINT:
+                    return value instanceof Number ? ((Number) value).longValue() : Long.valueOf(value.toString().trim());
+                case INT:
+                    return value instanceof Number ? ((Number) value).intValue() : Integer.valueOf(value.toString().trim());
+                case SMALLINT:
+                    return value instanceof Number ? ((Number) value).shortValue() : Short.valueOf(value.toString().trim());
+                case TINYINT:
+                    return value instanceof Number ? ((Number) value).byteValue() : Byte.valueOf(value.toString().trim());
+                case DOUBLE:
+                    return value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(value.toString().trim());
+                case FLOAT:
+                    return value instanceof Number ? ((Number) value).floatValue() : Float.valueOf(value.toString().trim());
+                case BOOLEAN:
+                    return value instanceof Boolean ? value : Boolean.valueOf(value.toString().trim());
+                case DECIMAL:
+                    return value instanceof BigDecimal ? value : new BigDecimal(value.toString().trim());
+                case STRING:
+                    return value instanceof byte[] ? value : value.toString();
+                case VARCHAR:
+                    return new Varchar(value.toString());
+                case CHAR:
+                    return new Char(value.toString());
+                case BINARY:
+                    return new Binary(value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8));
+                case DATETIME:
+                    if (value instanceof Date) {
+                        return new Date(((Date) value).getTime());
+                    }
+                    return new Date(Timestamp.valueOf(value.toString().trim()).getTime());
+                case DATE:
+                    if (value instanceof java.sql.Date) {
+                        return value;
+                    }
+                    if (value instanceof Date) {
+                        return new java.sql.Date(((Date) value).getTime());
+                    }
+                    return java.sql.Date.valueOf(value.toString().trim());
+                case TIMESTAMP:
+                    if (value instanceof Timestamp) {
+                        return value;
+                    }
+                    if (value instanceof Date) {
+                        return new Timestamp(((Date) value).getTime());
+                    }
+                    return Timestamp.valueOf(value.toString().trim());
+                default:
+                    return value;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DtLoaderException(String.format("value %s can not convert to type %s of column %s",
+                    value, column.getTypeInfo().getTypeName(), column.getName()), e);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package com.dtstack.dtcenter.common.loader.mysql8;
 
 import com.dtstack.dtcenter.common.loader.common.DtClassConsistent;
 import com.dtstack.dtcenter.common.loader.common.utils.DBUtil;
+import com.dtstack.dtcenter.common.loader.common.utils.PropertiesUtil;
 import com.dtstack.dtcenter.common.loader.rdbms.AbsRdbmsClient;
 import com.dtstack.dtcenter.common.loader.rdbms.ConnFactory;
 import com.dtstack.dtcenter.loader.IDownloader;
@@ -30,6 +31,7 @@ import com.dtstack.dtcenter.loader.dto.source.RdbmsSourceDTO;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import com.dtstack.dtcenter.loader.source.DataSourceType;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.sql.ResultSet;
@@ -52,6 +54,12 @@ public class MysqlClient extends AbsRdbmsClient {
     // 获取正在使用数据库
     private static final String CURRENT_DB = "select database()";
 
+    // 切换 schema
+    private static final String USE_SCHEMA_SQL = "USE %s";
+
+    // 开启服务端游标的连接参数
+    private static final String USE_CURSOR_FETCH = "useCursorFetch=true";
+
     // 获取指定数据库下的表
     private static final String SHOW_TABLE_BY_SCHEMA_SQL = "select table_name from information_schema.tables where table_schema='%s' and table_type='BASE TABLE' %s";
 
@@ -107,12 +115,31 @@ public class MysqlClient extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         Mysql8SourceDTO mysql8SourceDTO = (Mysql8SourceDTO) source;
         MysqlDownloader mysqlDownloader = new MysqlDownloader(getCon(source), queryDTO.getSql(), mysql8SourceDTO.getSchema());
         mysqlDownloader.configure();
         return mysqlDownloader;
     }
 
+    @Override
+    protected String getSwitchSchemaSql(String schema) {
+        return StringUtils.isBlank(schema) ? null : String.format(USE_SCHEMA_SQL, schema);
+    }
+
+    @Override
+    protected Integer getStreamFetchSize(ISourceDTO source, Integer fetchSize) {
+        // 开启 useCursorFetch 时使用服务端游标按 fetchSize 读取，否则需要使用 Integer.MIN_VALUE 开启流式读取
+        RdbmsSourceDTO rdbmsSourceDTO = (RdbmsSourceDTO) source;
+        if (StringUtils.containsIgnoreCase(rdbmsSourceDTO.getUrl(), USE_CURSOR_FETCH)
+                || BooleanUtils.toBoolean(PropertiesUtil.convertToProp(rdbmsSourceDTO).getProperty("useCursorFetch"))) {
+            return super.getStreamFetchSize(source, fetchSize);
+        }
+        return Integer.MIN_VALUE;
+    }
+
     @Override
     protected Map<String, String> getColumnComments(RdbmsSourceDTO sourceDTO, SqlQueryDTO queryDTO) {
         Integer clearStatus = beforeColumnQuery(sourceDTO, queryDTO);
@@ -119,6 +119,9 @@ public class OceanBaseClient<T> extends AbsRdbmsClient<T> {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         OceanBaseDownloader oceanBaseDownloader = new OceanBaseDownloader(getCon(source), queryDTO.getSql());
         oceanBaseDownloader.configure();
         return oceanBaseDownloader;
@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * OpenTSDB 特有客户端
@@ -51,6 +52,15 @@ public class OpenTSDBClientSpecial implements ITsdb {
         }
     }
 
+    @Override
+    public CompletableFuture<Boolean> putAsync(ISourceDTO source, Collection<TsdbPoint> points) {
+        try (TSDB openTSDBClient = OpenTSDBConnFactory.getOpenTSDBClient(source)) {
+            return openTSDBClient.putAsync(points);
+        } catch (IOException e) {
+            throw new DtLoaderException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public List<QueryResult> query(ISourceDTO source, TsdbQuery query) {
         try (TSDB openTSDBClient = OpenTSDBConnFactory.getOpenTSDBClient(source)) {
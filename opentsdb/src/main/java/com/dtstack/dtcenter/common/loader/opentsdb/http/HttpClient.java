@@ -22,6 +22,7 @@ import com.dtstack.dtcenter.loader.dto.source.OpenTSDBSourceDTO;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpResponse;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
@@ -36,8 +37,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -66,11 +69,17 @@ public class HttpClient {
      */
     private final ScheduledExecutorService clearConnService;
 
-    HttpClient(OpenTSDBSourceDTO sourceDTO, CloseableHttpAsyncClient httpclient, ScheduledExecutorService clearConnService) {
+    /**
+     * 异步请求并发数限制，达到上限时提交请求会阻塞
+     */
+    private final Semaphore inFlightPermits;
+
+    HttpClient(OpenTSDBSourceDTO sourceDTO, CloseableHttpAsyncClient httpclient, ScheduledExecutorService clearConnService, int maxInFlight) {
         this.httpclient = httpclient;
         this.httpAddressManager = HttpAddressManager.createHttpAddressManager(sourceDTO);
         this.unCompletedTaskNum = new AtomicInteger(0);
         this.clearConnService = clearConnService;
+        this.inFlightPermits = new Semaphore(maxInFlight);
     }
 
     public void close() throws IOException {
@@ -121,6 +130,58 @@ public class HttpClient {
         }
     }
 
+    /**
+     * 异步执行请求，正在执行的异步请求数达到上限时阻塞等待
+     *
+     * @param request http 请求
+     * @param json    请求体
+     * @return 请求结果
+     */
+    private CompletableFuture<HttpResponse> executeAsync(HttpEntityEnclosingRequestBase request, String json) {
+        if (json != null && json.length() > 0) {
+            request.addHeader("Content-Type", "application/json");
+            request.setEntity(generateStringEntity(json));
+        }
+        try {
+            inFlightPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DtLoaderException("wait for in-flight http request interrupted", e);
+        }
+        unCompletedTaskNum.incrementAndGet();
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        try {
+            httpclient.execute(request, new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse response) {
+                    finishAsync();
+                    result.complete(response);
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    finishAsync();
+                    result.completeExceptionally(new DtLoaderException(String.format("execute http request error:%s", e.getMessage()), e));
+                }
+
+                @Override
+                public void cancelled() {
+                    finishAsync();
+                    result.completeExceptionally(new DtLoaderException("execute http request cancelled"));
+                }
+            });
+        } catch (RuntimeException e) {
+            finishAsync();
+            throw new DtLoaderException(String.format("execute http request error:%s", e.getMessage()), e);
+        }
+        return result;
+    }
+
+    private void finishAsync() {
+        unCompletedTaskNum.decrementAndGet();
+        inFlightPermits.release();
+    }
+
     private StringEntity generateStringEntity(String json) {
         return new StringEntity(json, DEFAULT_CHARSET);
     }
@@ -140,6 +201,18 @@ public class HttpClient {
         return execute(request, json);
     }
 
+    /**
+     * 异步 post 请求
+     *
+     * @param apiPath api 路径
+     * @param json    请求体
+     * @return 请求结果
+     */
+    public CompletableFuture<HttpResponse> postAsync(String apiPath, String json) {
+        URI uri = createURI(getUrl(apiPath), null);
+        return executeAsync(new HttpPost(uri), json);
+    }
+
     private URI createURI(String httpFullAPI, Map<String, String> params) {
         URIBuilder builder;
         try {
@@ -63,6 +63,11 @@ public class HttpClientFactory {
      */
     private static final Integer HTTP_CONNECTION_REQUEST_TIMEOUT = 90;
 
+    /**
+     * 单个客户端同时执行的异步请求数上限，同时也是单个地址的最大连接数
+     */
+    private static final Integer MAX_IN_FLIGHT_REQUESTS = 8;
+
     public static HttpClient createHttpClient(OpenTSDBSourceDTO sourceDTO) {
 
         // 创建 ConnectingIOReactor
@@ -75,6 +80,9 @@ public class HttpClientFactory {
                         .build();
         // 创建链接管理器
         PoolingNHttpClientConnectionManager cm = new PoolingNHttpClientConnectionManager(ioReactor, sessionStrategyRegistry);
+        // 默认单个地址只有 2 个连接，异步批量写入时需要和并发请求数保持一致
+        cm.setDefaultMaxPerRoute(MAX_IN_FLIGHT_REQUESTS);
+        cm.setMaxTotal(MAX_IN_FLIGHT_REQUESTS * 2);
 
         // 创建HttpAsyncClient
         CloseableHttpAsyncClient httpAsyncClient = createPoolingHttpClient(cm);
@@ -83,7 +91,7 @@ public class HttpClientFactory {
         ScheduledExecutorService clearConnService = initFixedCycleCloseConnection(cm);
 
         // 组合生产HttpClientImpl
-        return new HttpClient(sourceDTO, httpAsyncClient, clearConnService);
+        return new HttpClient(sourceDTO, httpAsyncClient, clearConnService, MAX_IN_FLIGHT_REQUESTS);
     }
 
 
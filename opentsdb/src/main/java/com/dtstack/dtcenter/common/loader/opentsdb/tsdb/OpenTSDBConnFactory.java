@@ -18,12 +18,23 @@
 
 package com.dtstack.dtcenter.common.loader.opentsdb.tsdb;
 
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.common.utils.EnvUtil;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
 import com.dtstack.dtcenter.loader.dto.source.OpenTSDBSourceDTO;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
- * Open TSDB 连接工厂
+ * Open TSDB 连接工厂，同一个 url 共享同一个 TSDB Client，空闲超时后关闭
  *
  * @author ：wangchuan
  * date：Created in 上午10:33 2021/6/7
@@ -33,13 +44,62 @@ import lombok.extern.slf4j.Slf4j;
 public class OpenTSDBConnFactory {
 
     /**
-     * 获取 openTSDB Client，暂不支持连接池
+     * TSDB Client 缓存，key 为 url
+     */
+    private static final Map<String, SharedTSDBClient> CLIENTS = new ConcurrentHashMap<>();
+
+    /**
+     * 空闲淘汰检查间隔，单位：秒
+     */
+    private static final long EVICT_PERIOD = 60;
+
+    private static final ScheduledExecutorService EVICT_EXECUTOR = new ScheduledThreadPoolExecutor(1,
+            new DtClassThreadFactory("tsdbClientEvictor"));
+
+    static {
+        EVICT_EXECUTOR.scheduleWithFixedDelay(OpenTSDBConnFactory::evictIdleClients, EVICT_PERIOD, EVICT_PERIOD, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 获取 openTSDB Client，使用完调用 close 释放引用即可，不会关闭底层 http 客户端
      *
      * @param source 数据源连接信息
      * @return TSDB Client
      */
     public static TSDB getOpenTSDBClient(ISourceDTO source) {
         OpenTSDBSourceDTO openTSDBSourceDTO = (OpenTSDBSourceDTO) source;
-        return new TSDBClient(openTSDBSourceDTO);
+        String key = openTSDBSourceDTO.getUrl();
+        while (true) {
+            SharedTSDBClient client = CLIENTS.computeIfAbsent(key, k -> new SharedTSDBClient(openTSDBSourceDTO));
+            if (client.tryAcquire()) {
+                return client;
+            }
+            // 刚被淘汰，重新创建
+            CLIENTS.remove(key, client);
+        }
+    }
+
+    /**
+     * 关闭空闲超时的客户端，缓存个数超过上限时关闭最久未使用的空闲客户端
+     */
+    public static void evictIdleClients() {
+        long idleTimeout = TimeUnit.SECONDS.toMillis(EnvUtil.getPoolIdleEvictTimeout());
+        long now = System.currentTimeMillis();
+        List<Map.Entry<String, SharedTSDBClient>> entries = new ArrayList<>(CLIENTS.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().getLastAccessTime()));
+        int overflow = entries.size() - EnvUtil.getPoolMaxNum();
+        for (Map.Entry<String, SharedTSDBClient> entry : entries) {
+            SharedTSDBClient client = entry.getValue();
+            boolean expired = now - client.getLastAccessTime() > idleTimeout;
+            if ((expired || overflow > 0) && client.tryRetire()) {
+                overflow--;
+                CLIENTS.remove(entry.getKey(), client);
+                try {
+                    client.shutdown();
+                } catch (Exception e) {
+                    log.warn("close tsdb client failed, url: {}, {}", entry.getKey(), e.getMessage());
+                }
+            }
+        }
     }
 }
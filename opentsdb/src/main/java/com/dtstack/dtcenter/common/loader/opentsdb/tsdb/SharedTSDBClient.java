@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.common.loader.opentsdb.tsdb;
+
+import com.dtstack.dtcenter.loader.dto.source.OpenTSDBSourceDTO;
+import com.dtstack.dtcenter.loader.dto.tsdb.TsdbPoint;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 共享的 TSDB Client，同一个数据源复用同一个 http 客户端，调用 close 时只释放引用，
+ * 由 {@link OpenTSDBConnFactory} 在空闲超时后真正关闭
+ *
+ * @author ：wangchuan
+ * date：Created in 下午9:20 2026/10/18
+ * company: www.dtstack.com
+ */
+public class SharedTSDBClient extends TSDBClient {
+
+    /**
+     * 引用计数，-1 表示已经淘汰
+     */
+    private final AtomicInteger refCount = new AtomicInteger(0);
+
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    public SharedTSDBClient(OpenTSDBSourceDTO sourceDTO) {
+        super(sourceDTO);
+    }
+
+    /**
+     * 获取引用，已经淘汰时返回 false
+     *
+     * @return 是否获取成功
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int count = refCount.get();
+            if (count < 0) {
+                return false;
+            }
+            if (refCount.compareAndSet(count, count + 1)) {
+                lastAccessTime = System.currentTimeMillis();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 释放引用
+     */
+    void release() {
+        lastAccessTime = System.currentTimeMillis();
+        refCount.updateAndGet(count -> count > 0 ? count - 1 : count);
+    }
+
+    /**
+     * 没有引用时标记为淘汰
+     *
+     * @return 是否淘汰成功
+     */
+    boolean tryRetire() {
+        return refCount.compareAndSet(0, -1);
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putAsync(Collection<TsdbPoint> points) {
+        // 调用方可能在请求完成前就 close，写入期间额外持有一个引用，避免被淘汰关闭
+        refCount.incrementAndGet();
+        CompletableFuture<Boolean> future;
+        try {
+            future = super.putAsync(points);
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+        future.whenComplete((result, e) -> release());
+        return future;
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    /**
+     * 共享客户端可能还有其他引用，force 也只释放当前引用，真正关闭由 {@link OpenTSDBConnFactory} 在空闲超时后处理
+     *
+     * @param force 是否强制关闭，共享客户端忽略该参数
+     */
+    @Override
+    public void close(boolean force) throws IOException {
+        release();
+    }
+
+    /**
+     * 真正关闭 http 客户端，等待未完成的请求结束
+     */
+    void shutdown() throws IOException {
+        super.close(false);
+    }
+}
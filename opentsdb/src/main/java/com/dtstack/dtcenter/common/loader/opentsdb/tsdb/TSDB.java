@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * TSDB interface
@@ -59,6 +60,14 @@ public interface TSDB extends Closeable {
      */
     Boolean putSync(Collection<TsdbPoint> points);
 
+    /**
+     * 异步插入多个点位，点位按批次拆分后并发写入，正在写入的批次数达到上限时阻塞等待
+     *
+     * @param points 插入点位
+     * @return 所有批次写入成功后返回 true，任一批次失败时异常结束
+     */
+    CompletableFuture<Boolean> putAsync(Collection<TsdbPoint> points);
+
     /**
      * 查询
      *
@@ -36,16 +36,21 @@ import com.dtstack.dtcenter.loader.dto.tsdb.Suggest;
 import com.dtstack.dtcenter.loader.dto.tsdb.TsdbPoint;
 import com.dtstack.dtcenter.loader.dto.tsdb.TsdbQuery;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpResponse;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * TSDB Client
@@ -63,6 +68,11 @@ public class TSDBClient implements TSDB {
 
     private static final String EMPTY_HOLDER = new JSONObject().toJSONString();
 
+    /**
+     * 单次写入请求最多的点位数
+     */
+    private static final int PUT_BATCH_SIZE = 500;
+
     public TSDBClient(OpenTSDBSourceDTO sourceDTO) {
         this.url = sourceDTO.getUrl();
         this.httpclient = HttpClientFactory.createHttpClient(sourceDTO);
@@ -84,11 +94,47 @@ public class TSDBClient implements TSDB {
 
     @Override
     public Boolean putSync(Collection<TsdbPoint> points) {
-        String jsonBody = JSON.toJSONString(points, SerializerFeature.DisableCircularReferenceDetect);
-        HttpResponse httpResponse = httpclient.post(HttpAPI.PUT, jsonBody);
-        ResultResponse resultResponse = ResultResponse.simplify(httpResponse);
-        handleStatus(resultResponse);
-        return true;
+        if (points.size() <= PUT_BATCH_SIZE) {
+            String jsonBody = JSON.toJSONString(points, SerializerFeature.DisableCircularReferenceDetect);
+            HttpResponse httpResponse = httpclient.post(HttpAPI.PUT, jsonBody);
+            ResultResponse resultResponse = ResultResponse.simplify(httpResponse);
+            handleStatus(resultResponse);
+            return true;
+        }
+        // 点位较多时拆分批次并发写入
+        try {
+            return putAsync(points).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DtLoaderException("put tsdb points interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DtLoaderException) {
+                throw (DtLoaderException) e.getCause();
+            }
+            throw new DtLoaderException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putAsync(Collection<TsdbPoint> points) {
+        if (points == null || points.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        List<List<TsdbPoint>> batches = Lists.partition(new ArrayList<>(points), PUT_BATCH_SIZE);
+        CompletableFuture<?>[] futures = new CompletableFuture[batches.size()];
+        for (int i = 0; i < batches.size(); i++) {
+            String jsonBody = JSON.toJSONString(batches.get(i), SerializerFeature.DisableCircularReferenceDetect);
+            try {
+                futures[i] = httpclient.postAsync(HttpAPI.PUT, jsonBody).thenAccept(httpResponse -> handleStatus(ResultResponse.simplify(httpResponse)));
+            } catch (DtLoaderException e) {
+                // 提交失败时已提交的批次继续执行，返回异常结束的结果
+                CompletableFuture<Boolean> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                futures[i] = failed;
+                return CompletableFuture.allOf(Arrays.copyOf(futures, i + 1)).thenApply(v -> true);
+            }
+        }
+        return CompletableFuture.allOf(futures).thenApply(v -> true);
     }
 
     @Override
@@ -122,6 +122,9 @@ public class OracleClient extends AbsRdbmsClient {
     // 获取当前版本号
     private static final String SHOW_VERSION = "select BANNER from v$version";
 
+    // 切换 schema
+    private static final String SWITCH_SCHEMA_SQL = "alter session set current_schema=%s";
+
     @Override
     protected ConnFactory getConnFactory() {
         return new OracleConnFactory();
@@ -305,12 +308,20 @@ public class OracleClient extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         OracleSourceDTO oracleSourceDTO = (OracleSourceDTO) source;
         OracleDownloader oracleDownloader = new OracleDownloader(getCon(oracleSourceDTO), queryDTO.getSql(), oracleSourceDTO.getSchema());
         oracleDownloader.configure();
         return oracleDownloader;
     }
 
+    @Override
+    protected String getSwitchSchemaSql(String schema) {
+        return StringUtils.isBlank(schema) ? null : String.format(SWITCH_SCHEMA_SQL, schema);
+    }
+
     @Override
     protected String dealSql(ISourceDTO iSourceDTO, SqlQueryDTO sqlQueryDTO){
         OracleSourceDTO oracleSourceDTO = (OracleSourceDTO) iSourceDTO;
@@ -77,6 +77,9 @@ public class PostgresqlClient extends AbsRdbmsClient {
     // 获取正在使用数据库
     private static final String CURRENT_DB = "select current_database()";
 
+    // 切换 schema 命令
+    private static final String SWITCH_SCHEMA_SQL = "set search_path to %s";
+
     // 获取正在使用 schema
     private static final String CURRENT_SCHEMA = "select current_schema()";
 
@@ -259,6 +262,9 @@ public class PostgresqlClient extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         PostgresqlSourceDTO postgresqlSourceDTO = (PostgresqlSourceDTO) source;
         String schema = StringUtils.isNotBlank(queryDTO.getSchema()) ? queryDTO.getSchema() : postgresqlSourceDTO.getSchema();
         PostgresqlDownloader postgresqlDownloader = new PostgresqlDownloader(getCon(postgresqlSourceDTO), queryDTO.getSql(), schema);
@@ -266,6 +272,17 @@ public class PostgresqlClient extends AbsRdbmsClient {
         return postgresqlDownloader;
     }
 
+    @Override
+    protected String getSwitchSchemaSql(String schema) {
+        return StringUtils.isBlank(schema) ? null : String.format(SWITCH_SCHEMA_SQL, schema);
+    }
+
+    @Override
+    protected boolean isStreamAutoCommit() {
+        // 关闭自动提交后 fetchSize 才会生效，否则会一次性读取全部结果
+        return false;
+    }
+
     @Override
     public List<ColumnMetaDTO> getFlinkColumnMetaData(ISourceDTO source, SqlQueryDTO queryDTO) {
         Integer clearStatus = beforeColumnQuery(source, queryDTO);
@@ -26,11 +26,14 @@ import com.dtstack.dtcenter.common.loader.common.utils.DBUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.SearchUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.StringUtil;
+import com.dtstack.dtcenter.common.loader.rdbms.pool.HikariPoolRegistry;
 import com.dtstack.dtcenter.loader.IDownloader;
 import com.dtstack.dtcenter.loader.cache.connection.CacheConnectionHelper;
 import com.dtstack.dtcenter.loader.client.IClient;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
+import com.dtstack.dtcenter.loader.dto.ColumnarResultDTO;
 import com.dtstack.dtcenter.loader.dto.Database;
+import com.dtstack.dtcenter.loader.dto.PoolStatusDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.Table;
 import com.dtstack.dtcenter.loader.dto.TableInfo;
@@ -45,6 +48,7 @@ import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -94,8 +98,32 @@ public abstract class AbsRdbmsClient<T> implements IClient<T> {
 
     private static final String SHOW_DB_SQL = "show databases";
 
-    //线程池 - 用于部分数据源测试连通性超时处理
-    protected static ExecutorService executor = new ThreadPoolExecutor(5, 10, 1L, TimeUnit.MINUTES, new ArrayBlockingQueue<>(5), new DtClassThreadFactory("testConnFactory"));
+    /**
+     * 测试连通性线程池的最大线程数
+     */
+    private static final int TEST_CONN_MAX_THREADS = 200;
+
+    /**
+     * 测试连通性线程池的等待队列长度
+     */
+    private static final int TEST_CONN_QUEUE_SIZE = 200;
+
+    /**
+     * 线程池 - 用于部分数据源测试连通性超时处理
+     * 线程按需创建，空闲后回收，线程用满时在有界队列中排队，排队时间计入调用方的超时；
+     * 队列也满时直接拒绝，不能由调用线程执行，否则调用方的超时控制会失效
+     */
+    protected static ExecutorService executor = newTestConnExecutor();
+
+    private static ExecutorService newTestConnExecutor() {
+        ThreadPoolExecutor testConnExecutor = new ThreadPoolExecutor(TEST_CONN_MAX_THREADS, TEST_CONN_MAX_THREADS, 1L, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(TEST_CONN_QUEUE_SIZE), new DtClassThreadFactory("testConnFactory"),
+                (r, pool) -> {
+                    throw new DtLoaderException("Test connection is busy, too many connectivity tests are running, please retry later");
+                });
+        testConnExecutor.allowCoreThreadTimeOut(true);
+        return testConnExecutor;
+    }
 
     /**
      * rdbms数据库获取连接唯一入口，对抛出异常进行统一处理
@@ -163,6 +191,18 @@ public abstract class AbsRdbmsClient<T> implements IClient<T> {
         return executeQuery(rdbmsSourceDTO, queryDTO, clearStatus);
     }
 
+    @Override
+    public ColumnarResultDTO executeColumnarQuery(ISourceDTO iSource, SqlQueryDTO queryDTO) {
+        Integer clearStatus = beforeQuery(iSource, queryDTO, true);
+        RdbmsSourceDTO rdbmsSourceDTO = (RdbmsSourceDTO) iSource;
+        try {
+            Boolean setMaxRow = ReflectUtil.fieldExists(SqlQueryDTO.class, "setMaxRow") ? queryDTO.getSetMaxRow() : null;
+            return DBUtil.executeColumnarQuery(rdbmsSourceDTO.getConnection(), queryDTO.getSql(), queryDTO.getLimit(), queryDTO.getPreFields(), queryDTO.getQueryTimeout(), setMaxRow, this::dealResult);
+        } finally {
+            DBUtil.closeDBResources(null, null, DBUtil.clearAfterGetConnection(rdbmsSourceDTO, clearStatus));
+        }
+    }
+
     @Override
     public Boolean executeSqlWithoutResultSet(ISourceDTO iSource, SqlQueryDTO queryDTO) {
         Integer clearStatus = beforeQuery(iSource, queryDTO, true);
@@ -609,6 +649,65 @@ public abstract class AbsRdbmsClient<T> implements IClient<T> {
         throw new DtLoaderException(ErrorCode.NOT_SUPPORT.getDesc());
     }
 
+    /**
+     * 是否使用游标流式下载
+     *
+     * @param queryDTO 查询信息
+     * @return 是否流式下载
+     */
+    protected boolean isStreamDownload(SqlQueryDTO queryDTO) {
+        return Objects.nonNull(queryDTO)
+                && ReflectUtil.fieldExists(SqlQueryDTO.class, "streamDownload")
+                && BooleanUtils.isTrue(queryDTO.getStreamDownload());
+    }
+
+    /**
+     * 获取游标流式下载器，只执行一次查询 sql，不执行 count 及分页 sql
+     *
+     * @param source   数据源信息
+     * @param queryDTO 查询信息
+     * @return 流式下载器
+     * @throws Exception 异常
+     */
+    protected IDownloader getStreamDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        Integer fetchSize = ReflectUtil.fieldExists(SqlQueryDTO.class, "fetchSize") ? queryDTO.getFetchSize() : null;
+        RdbmsStreamDownloader streamDownloader = new RdbmsStreamDownloader(getCon(source), queryDTO.getSql(),
+                getSwitchSchemaSql(getSchema(source, queryDTO)), getStreamFetchSize(source, fetchSize),
+                RdbmsStreamDownloader.DEFAULT_PAGE_SIZE, isStreamAutoCommit());
+        streamDownloader.configure();
+        return streamDownloader;
+    }
+
+    /**
+     * 获取流式下载时切换 schema 的 sql，默认不切换，需要的数据源自己实现
+     *
+     * @param schema schema 名称
+     * @return 切换 schema 的 sql
+     */
+    protected String getSwitchSchemaSql(String schema) {
+        return null;
+    }
+
+    /**
+     * 获取流式下载游标每次读取的条数，部分驱动需要特殊值开启流式读取
+     *
+     * @param source    数据源信息
+     * @param fetchSize 用户指定的 fetchSize
+     * @return 游标每次读取的条数
+     */
+    protected Integer getStreamFetchSize(ISourceDTO source, Integer fetchSize) {
+        return Objects.isNull(fetchSize) || fetchSize < 1 ? RdbmsStreamDownloader.DEFAULT_FETCH_SIZE : fetchSize;
+    }
+
+    /**
+     * 流式下载时是否开启自动提交，postgresql 等驱动需要关闭自动提交 fetchSize 才会生效
+     *
+     * @return 是否自动提交
+     */
+    protected boolean isStreamAutoCommit() {
+        return true;
+    }
+
     @Override
     public List<String> getAllDatabases(ISourceDTO source, SqlQueryDTO queryDTO){
         // 获取表信息需要通过show databases 语句
@@ -902,6 +1001,11 @@ public abstract class AbsRdbmsClient<T> implements IClient<T> {
         return tableInfo;
     }
 
+    @Override
+    public List<PoolStatusDTO> getPoolStatus() {
+        return HikariPoolRegistry.getPoolStatus();
+    }
+
     /**
      * 获取特殊处理关键字、库表名等时的左右符号, 默认使用双引号
      *
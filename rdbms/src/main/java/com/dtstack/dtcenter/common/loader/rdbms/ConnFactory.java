@@ -25,6 +25,7 @@ import com.dtstack.dtcenter.common.loader.common.service.IErrorAdapter;
 import com.dtstack.dtcenter.common.loader.common.utils.DBUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.PropertiesUtil;
 import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
+import com.dtstack.dtcenter.common.loader.rdbms.pool.HikariPoolRegistry;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
 import com.dtstack.dtcenter.loader.dto.source.RdbmsSourceDTO;
 import com.dtstack.dtcenter.loader.exception.DtLoaderException;
@@ -37,7 +38,6 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.Statement;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -62,12 +62,15 @@ public class ConnFactory {
 
     protected String testSql;
 
-    private static ConcurrentHashMap<String, Object> hikariDataSources = new ConcurrentHashMap<>();
-
     private AtomicBoolean isFirstLoaded = new AtomicBoolean(true);
 
     private static final String CP_POOL_KEY = "url:%s,username:%s,password:%s,properties:%s";
 
+    /**
+     * 默认登录超时时间，单位：秒
+     */
+    private static final int DEFAULT_LOGIN_TIMEOUT = 30;
+
     /**
      * 线程池 - 用于部分数据源获取连接超时处理
      */
@@ -82,6 +85,10 @@ public class ConnFactory {
         synchronized (ConnFactory.class) {
             if (isFirstLoaded.get()) {
                 Class.forName(driverName);
+                // DriverManager 的登录超时是 JVM 全局的，只在未设置时设置一次默认值，不覆盖使用方的配置
+                if (DriverManager.getLoginTimeout() <= 0) {
+                    DriverManager.setLoginTimeout(DEFAULT_LOGIN_TIMEOUT);
+                }
                 isFirstLoaded.set(false);
             }
         }
@@ -125,7 +132,7 @@ public class ConnFactory {
     }
 
     /**
-     * 从连接池获取连接
+     * 从连接池获取连接，连接池由 {@link HikariPoolRegistry} 统一管理
      *
      * @param source
      * @return
@@ -135,18 +142,7 @@ public class ConnFactory {
         RdbmsSourceDTO rdbmsSourceDTO = (RdbmsSourceDTO) source;
         String poolKey = getPrimaryKey(rdbmsSourceDTO);
         log.info("datasource connected(Hikari), url : {}, userName : {}, kerberosConfig : {}", rdbmsSourceDTO.getUrl(), rdbmsSourceDTO.getUsername(), rdbmsSourceDTO.getKerberosConfig());
-        HikariDataSource hikariData = (HikariDataSource) hikariDataSources.get(poolKey);
-        if (hikariData == null) {
-            synchronized (ConnFactory.class) {
-                hikariData = (HikariDataSource) hikariDataSources.get(poolKey);
-                if (hikariData == null) {
-                    hikariData = transHikari(source);
-                    hikariDataSources.put(poolKey, hikariData);
-                }
-            }
-        }
-
-        return hikariData.getConnection();
+        return HikariPoolRegistry.getConnection(poolKey, () -> transHikari(source));
     }
 
     /**
@@ -159,7 +155,6 @@ public class ConnFactory {
     protected Connection getSimpleConn(ISourceDTO source) throws Exception {
         RdbmsSourceDTO rdbmsSourceDTO = (RdbmsSourceDTO) source;
         init();
-        DriverManager.setLoginTimeout(30);
         String url = dealSourceUrl(rdbmsSourceDTO);
         log.info("datasource connected, url : {}, userName : {}, kerberosConfig : {}", url, rdbmsSourceDTO.getUsername(), rdbmsSourceDTO.getKerberosConfig());
         return DriverManager.getConnection(url, PropertiesUtil.convertToProp(rdbmsSourceDTO));
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.rdbms;
+
+import com.dtstack.dtcenter.common.loader.common.utils.DBUtil;
+import com.dtstack.dtcenter.common.loader.common.utils.SqlFormatUtil;
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * rdbms 流式下载器，只执行一次查询 sql，通过只进游标按 fetchSize 从数据库拉取数据，
+ * readNext 在内存中按 pageSize 分页返回，不再执行 count 及 limit/offset 分页 sql
+ *
+ * @company: www.dtstack.com
+ * @Author ：wangchuan
+ * @Date ：Created in 下午2:16 2026/10/18
+ * @Description：rdbms 流式下载器
+ */
+@Slf4j
+public class RdbmsStreamDownloader implements IDownloader {
+
+    /**
+     * 默认每次 readNext 返回的条数
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * 默认游标每次从数据库拉取的条数
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final Connection connection;
+
+    private final String sql;
+
+    private final String switchSchemaSql;
+
+    private final int fetchSize;
+
+    private final int pageSize;
+
+    private final boolean autoCommit;
+
+    private Statement statement;
+
+    private ResultSet resultSet;
+
+    private int columnCount;
+
+    private final List<String> columnNames = new ArrayList<>();
+
+    /**
+     * 游标是否还有下一行数据
+     */
+    private boolean hasNext;
+
+    /**
+     * 下载前连接原本的自动提交状态，关闭时还原
+     */
+    private Boolean originAutoCommit;
+
+    /**
+     * 构造流式下载器
+     *
+     * @param connection      数据库连接
+     * @param sql             查询 sql
+     * @param switchSchemaSql 切换 schema 的 sql，为空则不切换
+     * @param fetchSize       游标每次拉取条数，部分驱动需要传入特殊值开启流式读取，如 mysql 的 Integer.MIN_VALUE
+     * @param pageSize        每次 readNext 返回的条数
+     * @param autoCommit      读取时是否开启自动提交，postgresql 等驱动只有关闭自动提交时 fetchSize 才生效
+     */
+    public RdbmsStreamDownloader(Connection connection, String sql, String switchSchemaSql, Integer fetchSize, Integer pageSize, boolean autoCommit) {
+        this.connection = connection;
+        this.sql = SqlFormatUtil.formatSql(sql);
+        this.switchSchemaSql = switchSchemaSql;
+        this.fetchSize = Objects.isNull(fetchSize) || fetchSize == 0 ? DEFAULT_FETCH_SIZE : fetchSize;
+        this.pageSize = Objects.isNull(pageSize) || pageSize < 1 ? DEFAULT_PAGE_SIZE : pageSize;
+        this.autoCommit = autoCommit;
+    }
+
+    @Override
+    public boolean configure() throws Exception {
+        if (Objects.isNull(connection) || StringUtils.isEmpty(sql)) {
+            throw new DtLoaderException("connection is close or sql is null");
+        }
+        try {
+            if (StringUtils.isNotBlank(switchSchemaSql)) {
+                DBUtil.executeSqlWithoutResultSet(connection, switchSchemaSql);
+            }
+            if (connection.getAutoCommit() != autoCommit) {
+                originAutoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(autoCommit);
+            }
+            statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            resultSet = statement.executeQuery(sql);
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            columnCount = metaData.getColumnCount();
+            for (int i = 1; i <= columnCount; i++) {
+                columnNames.add(metaData.getColumnLabel(i));
+            }
+            hasNext = resultSet.next();
+        } catch (Exception e) {
+            close();
+            throw new DtLoaderException(String.format("build stream downloader exception : %s", e.getMessage()), e);
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> getMetaInfo() {
+        return columnNames;
+    }
+
+    @Override
+    public List<List<String>> readNext() {
+        List<List<String>> pageTemp = new ArrayList<>(pageSize);
+        try {
+            while (hasNext && pageTemp.size() < pageSize) {
+                List<String> columns = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    columns.add(resultSet.getString(i));
+                }
+                pageTemp.add(columns);
+                hasNext = resultSet.next();
+            }
+        } catch (SQLException e) {
+            throw new DtLoaderException(String.format("stream read data exception : %s", e.getMessage()), e);
+        }
+        return pageTemp;
+    }
+
+    @Override
+    public boolean reachedEnd() {
+        return !hasNext;
+    }
+
+    @Override
+    public boolean close() throws Exception {
+        DBUtil.closeDBResources(resultSet, statement, null);
+        resultSet = null;
+        statement = null;
+        if (Objects.nonNull(connection)) {
+            if (Objects.nonNull(originAutoCommit)) {
+                try {
+                    // 只读查询，结束事务后还原自动提交状态，避免归还连接池后影响其他使用方
+                    if (!autoCommit) {
+                        connection.rollback();
+                    }
+                    connection.setAutoCommit(originAutoCommit);
+                } catch (SQLException e) {
+                    log.warn("reset connection autoCommit error: {}", e.getMessage(), e);
+                }
+            }
+            connection.close();
+        }
+        return true;
+    }
+
+    @Override
+    public String getFileName() {
+        return null;
+    }
+
+    @Override
+    public List<String> getContainers() {
+        return Collections.emptyList();
+    }
+}
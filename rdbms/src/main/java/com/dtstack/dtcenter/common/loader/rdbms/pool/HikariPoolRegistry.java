@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.rdbms.pool;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.common.utils.EnvUtil;
+import com.dtstack.dtcenter.loader.dto.PoolStatusDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hikari 连接池注册中心，负责连接池的创建、空闲淘汰、总连接数控制及运行状态统计
+ *
+ * <ul>
+ *     <li>创建：按 key 无锁创建，HikariDataSource 无参构造为懒加载，并发创建时只保留一个，其余直接丢弃</li>
+ *     <li>淘汰：超过空闲时间未使用的连接池，或连接池个数超过上限时最久未使用的连接池会被关闭</li>
+ *     <li>总连接数：所有连接池 maximumPoolSize 之和不超过上限，不足时先淘汰空闲连接池，仍不足则调小新连接池的 maximumPoolSize</li>
+ * </ul>
+ * <p>
+ * rdbms 模块会打包进每个插件，由不同的 ClassLoader 加载，所以以上限制均为单个插件维度
+ *
+ * @company: www.dtstack.com
+ * @Author ：wangchuan
+ * @Date ：Created in 下午3:52 2026/10/18
+ * @Description：Hikari 连接池注册中心
+ */
+@Slf4j
+public class HikariPoolRegistry {
+
+    /**
+     * 连接池缓存，key 为数据源唯一标识
+     */
+    private static final Map<String, PoolHolder> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * 所有连接池已占用的最大连接数之和
+     */
+    private static final AtomicInteger RESERVED_CONNECTIONS = new AtomicInteger(0);
+
+    /**
+     * 连接池编号，用于生成连接池名称
+     */
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+
+    /**
+     * 淘汰检查间隔，单位：秒
+     */
+    private static final long EVICT_PERIOD = 60;
+
+    private static final ScheduledExecutorService EVICT_EXECUTOR = new ScheduledThreadPoolExecutor(1,
+            new DtClassThreadFactory("hikariPoolEvictor"));
+
+    static {
+        EVICT_EXECUTOR.scheduleWithFixedDelay(new EvictTimerTask(), EVICT_PERIOD, EVICT_PERIOD, TimeUnit.SECONDS);
+    }
+
+    private HikariPoolRegistry() {
+    }
+
+    /**
+     * 从连接池获取连接，连接池不存在时创建
+     *
+     * @param poolKey 数据源唯一标识
+     * @param creator 连接池构造方法，只做配置，不应该初始化连接池
+     * @return 数据库连接
+     * @throws SQLException 获取连接异常
+     */
+    public static Connection getConnection(String poolKey, Supplier<HikariDataSource> creator) throws SQLException {
+        while (true) {
+            PoolHolder holder = POOLS.get(poolKey);
+            if (Objects.isNull(holder)) {
+                holder = createHolder(poolKey, creator);
+            }
+            if (!holder.tryAcquire()) {
+                if (holder.isClosed()) {
+                    // 连接池已被淘汰关闭，重新获取
+                    POOLS.remove(poolKey, holder);
+                } else {
+                    // 淘汰线程正在检查活跃连接，检查完成后会恢复或关闭
+                    Thread.yield();
+                }
+                continue;
+            }
+            try {
+                return holder.getDataSource().getConnection();
+            } finally {
+                holder.release();
+            }
+        }
+    }
+
+    /**
+     * 获取所有连接池的运行状态
+     *
+     * @return 连接池状态
+     */
+    public static List<PoolStatusDTO> getPoolStatus() {
+        List<PoolStatusDTO> statusList = new ArrayList<>(POOLS.size());
+        for (PoolHolder holder : POOLS.values()) {
+            HikariDataSource dataSource = holder.getDataSource();
+            HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+            statusList.add(PoolStatusDTO.builder()
+                    .poolName(dataSource.getPoolName())
+                    .jdbcUrl(dataSource.getJdbcUrl())
+                    .username(dataSource.getUsername())
+                    .activeConnections(Objects.isNull(poolMXBean) ? 0 : poolMXBean.getActiveConnections())
+                    .idleConnections(Objects.isNull(poolMXBean) ? 0 : poolMXBean.getIdleConnections())
+                    .threadsAwaitingConnection(Objects.isNull(poolMXBean) ? 0 : poolMXBean.getThreadsAwaitingConnection())
+                    .totalConnections(Objects.isNull(poolMXBean) ? 0 : poolMXBean.getTotalConnections())
+                    .maximumPoolSize(holder.getMaximumPoolSize())
+                    .lastAccessTime(holder.getLastAccessTime())
+                    .build());
+        }
+        return statusList;
+    }
+
+    /**
+     * 获取所有连接池已占用的最大连接数之和
+     *
+     * @return 连接数
+     */
+    public static int getReservedConnections() {
+        return RESERVED_CONNECTIONS.get();
+    }
+
+    /**
+     * 淘汰空闲连接池，包括超过空闲时间的连接池及超过个数上限的最久未使用的连接池
+     */
+    public static void evictIdlePools() {
+        long idleTimeout = TimeUnit.SECONDS.toMillis(EnvUtil.getPoolIdleEvictTimeout());
+        long now = System.currentTimeMillis();
+        for (PoolHolder holder : POOLS.values()) {
+            if (now - holder.getLastAccessTime() > idleTimeout) {
+                retire(holder);
+            }
+        }
+        int overflow = POOLS.size() - EnvUtil.getPoolMaxNum();
+        while (overflow-- > 0 && evictLeastRecentlyUsed()) {
+            // 按最久未使用依次淘汰
+        }
+    }
+
+    /**
+     * 创建连接池并放入缓存，不持有全局锁，并发创建时未放入缓存的连接池直接关闭
+     *
+     * @param poolKey 数据源唯一标识
+     * @param creator 连接池构造方法
+     * @return 缓存中的连接池
+     */
+    private static PoolHolder createHolder(String poolKey, Supplier<HikariDataSource> creator) {
+        HikariDataSource dataSource = creator.get();
+        if (POOLS.size() >= EnvUtil.getPoolMaxNum()) {
+            evictLeastRecentlyUsed();
+        }
+        int maximumPoolSize = reserve(dataSource.getMaximumPoolSize());
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        if (dataSource.getMinimumIdle() > maximumPoolSize) {
+            dataSource.setMinimumIdle(maximumPoolSize);
+        }
+        dataSource.setPoolName("dtLoaderHikariPool-" + POOL_NUMBER.getAndIncrement());
+        PoolHolder created = new PoolHolder(poolKey, dataSource, maximumPoolSize);
+        PoolHolder exists = POOLS.putIfAbsent(poolKey, created);
+        if (Objects.isNull(exists)) {
+            return created;
+        }
+        RESERVED_CONNECTIONS.addAndGet(-maximumPoolSize);
+        dataSource.close();
+        return exists;
+    }
+
+    /**
+     * 为新连接池申请连接数，总数不足时先淘汰最久未使用的空闲连接池，仍不足则只分配剩余的连接数
+     *
+     * @param requested 申请的最大连接数
+     * @return 实际分配的最大连接数
+     */
+    private static int reserve(int requested) {
+        int limit = EnvUtil.getPoolMaxTotalConnections();
+        while (true) {
+            int reserved = RESERVED_CONNECTIONS.get();
+            int available = limit - reserved;
+            if (available < requested && evictLeastRecentlyUsed()) {
+                continue;
+            }
+            if (available <= 0) {
+                throw new DtLoaderException(String.format("the total connections of hikari pools has reached the limit %s, no idle pool can be evicted", limit));
+            }
+            int granted = Math.min(requested, available);
+            if (RESERVED_CONNECTIONS.compareAndSet(reserved, reserved + granted)) {
+                if (granted < requested) {
+                    log.warn("the total connections of hikari pools is close to the limit {}, maximumPoolSize is reduced from {} to {}", limit, requested, granted);
+                }
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * 淘汰最久未使用且当前没有活跃连接的连接池
+     *
+     * @return 是否淘汰成功
+     */
+    private static boolean evictLeastRecentlyUsed() {
+        while (true) {
+            PoolHolder candidate = null;
+            for (PoolHolder holder : POOLS.values()) {
+                if (holder.isIdle() && (Objects.isNull(candidate) || holder.getLastAccessTime() < candidate.getLastAccessTime())) {
+                    candidate = holder;
+                }
+            }
+            if (Objects.isNull(candidate)) {
+                return false;
+            }
+            if (retire(candidate)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 关闭连接池并释放占用的连接数，连接池正在使用时不处理
+     *
+     * @param holder 连接池
+     * @return 是否关闭成功
+     */
+    private static boolean retire(PoolHolder holder) {
+        if (!holder.tryRetire()) {
+            return false;
+        }
+        holder.markClosed();
+        POOLS.remove(holder.getPoolKey(), holder);
+        RESERVED_CONNECTIONS.addAndGet(-holder.getMaximumPoolSize());
+        HikariDataSource dataSource = holder.getDataSource();
+        log.info("close idle hikari pool {}, url : {}, userName : {}", dataSource.getPoolName(), dataSource.getJdbcUrl(), dataSource.getUsername());
+        try {
+            dataSource.close();
+        } catch (Exception e) {
+            log.error("close hikari pool {} error: {}", dataSource.getPoolName(), e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * 连接池及其使用信息
+     */
+    private static class PoolHolder {
+
+        /**
+         * 已淘汰标识
+         */
+        private static final int RETIRED = -1;
+
+        private final String poolKey;
+
+        private final HikariDataSource dataSource;
+
+        private final int maximumPoolSize;
+
+        /**
+         * 正在获取连接的线程数，为 RETIRED 时表示已淘汰
+         */
+        private final AtomicInteger borrowing = new AtomicInteger(0);
+
+        private volatile long lastAccessTime = System.currentTimeMillis();
+
+        /**
+         * 是否已经被淘汰关闭，只有关闭后的连接池才能从缓存中移除
+         */
+        private volatile boolean closed = false;
+
+        PoolHolder(String poolKey, HikariDataSource dataSource, int maximumPoolSize) {
+            this.poolKey = poolKey;
+            this.dataSource = dataSource;
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                int current = borrowing.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+                if (borrowing.compareAndSet(current, current + 1)) {
+                    lastAccessTime = System.currentTimeMillis();
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            lastAccessTime = System.currentTimeMillis();
+            borrowing.decrementAndGet();
+        }
+
+        /**
+         * 标记为已淘汰，有活跃连接时不处理；阻止新的借用后再次确认没有活跃连接，否则恢复
+         *
+         * @return 是否标记成功
+         */
+        boolean tryRetire() {
+            if (getActiveConnections() > 0 || !borrowing.compareAndSet(0, RETIRED)) {
+                return false;
+            }
+            // 检查和标记之间可能有线程借出了连接
+            if (getActiveConnections() > 0) {
+                borrowing.set(0);
+                return false;
+            }
+            return true;
+        }
+
+        void markClosed() {
+            closed = true;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        boolean isIdle() {
+            return borrowing.get() == 0 && getActiveConnections() == 0;
+        }
+
+        int getActiveConnections() {
+            HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+            return Objects.isNull(poolMXBean) ? 0 : poolMXBean.getActiveConnections();
+        }
+
+        String getPoolKey() {
+            return poolKey;
+        }
+
+        HikariDataSource getDataSource() {
+            return dataSource;
+        }
+
+        int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        long getLastAccessTime() {
+            return lastAccessTime;
+        }
+    }
+
+    /**
+     * 定时淘汰空闲连接池
+     */
+    static class EvictTimerTask implements Runnable {
+        @Override
+        public void run() {
+            try {
+                evictIdlePools();
+            } catch (Exception e) {
+                log.error("evict idle hikari pools error: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.common.loader.redis;
+
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.JedisCommands;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.util.JedisClusterCRC16;
+import redis.clients.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * redis 批量读取工具，单机、哨兵模式使用 pipeline，集群模式按 key 所在节点分组后分别使用 pipeline，
+ * 避免每个 key 一次网络往返
+ *
+ * @author ：wangchuan
+ * date：Created in 下午9:50 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class RedisPipelineUtil {
+
+    /**
+     * 单个 pipeline 最多发送的命令数
+     */
+    private static final int PIPELINE_BATCH_SIZE = 1000;
+
+    /**
+     * redis 集群 slot 个数
+     */
+    private static final int CLUSTER_SLOT_NUM = 16384;
+
+    private RedisPipelineUtil() {
+    }
+
+    /**
+     * 批量读取 key 对应的值
+     *
+     * @param jedis           Jedis 或 JedisCluster
+     * @param keys            key 集合
+     * @param pipelineCommand pipeline 执行的命令
+     * @param singleCommand   单个执行的命令，集群节点发生迁移或者无法使用 pipeline 时使用
+     * @param <T>             返回值类型
+     * @return key - value，顺序和 keys 一致
+     */
+    public static <T> Map<String, T> fetch(JedisCommands jedis, List<String> keys,
+                                           BiFunction<Pipeline, String, Response<T>> pipelineCommand,
+                                           BiFunction<JedisCommands, String, T> singleCommand) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (CollectionUtils.isEmpty(keys)) {
+            return result;
+        }
+        if (jedis instanceof Jedis) {
+            pipelineFetch((Jedis) jedis, keys, pipelineCommand, null, result);
+        } else if (jedis instanceof JedisCluster) {
+            clusterFetch((JedisCluster) jedis, keys, pipelineCommand, singleCommand, result);
+        } else {
+            for (String key : keys) {
+                result.put(key, singleCommand.apply(jedis, key));
+            }
+        }
+        // 按传入的 key 顺序返回
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String key : keys) {
+            ordered.put(key, result.get(key));
+        }
+        return ordered;
+    }
+
+    /**
+     * 使用 pipeline 分批读取
+     *
+     * @param clusterFallback 集群模式下 pipeline 返回 MOVED/ASK 等异常时使用集群客户端单独读取，单机模式为 null 直接抛出异常
+     */
+    private static <T> void pipelineFetch(Jedis jedis, List<String> keys,
+                                          BiFunction<Pipeline, String, Response<T>> pipelineCommand,
+                                          Function<String, T> clusterFallback, Map<String, T> result) {
+        for (List<String> batch : Lists.partition(keys, PIPELINE_BATCH_SIZE)) {
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<T>> responses = new ArrayList<>(batch.size());
+            for (String key : batch) {
+                responses.add(pipelineCommand.apply(pipeline, key));
+            }
+            pipeline.sync();
+            for (int i = 0; i < batch.size(); i++) {
+                String key = batch.get(i);
+                try {
+                    result.put(key, responses.get(i).get());
+                } catch (JedisDataException e) {
+                    if (Objects.isNull(clusterFallback)) {
+                        throw e;
+                    }
+                    result.put(key, clusterFallback.apply(key));
+                }
+            }
+        }
+    }
+
+    /**
+     * 集群模式按 key 所在的 master 节点分组，每个节点使用 pipeline 读取
+     */
+    private static <T> void clusterFetch(JedisCluster cluster, List<String> keys,
+                                         BiFunction<Pipeline, String, Response<T>> pipelineCommand,
+                                         BiFunction<JedisCommands, String, T> singleCommand, Map<String, T> result) {
+        Function<String, T> fallback = key -> singleCommand.apply(cluster, key);
+        Map<String, JedisPool> clusterNodes = cluster.getClusterNodes();
+        String[] slotNodes = getSlotNodes(clusterNodes.values());
+        Map<String, List<String>> nodeKeys = new HashMap<>();
+        List<String> unknownKeys = new ArrayList<>();
+        for (String key : keys) {
+            String node = Objects.isNull(slotNodes) ? null : slotNodes[JedisClusterCRC16.getSlot(key)];
+            if (Objects.isNull(node) || !clusterNodes.containsKey(node)) {
+                unknownKeys.add(key);
+                continue;
+            }
+            nodeKeys.computeIfAbsent(node, k -> new ArrayList<>()).add(key);
+        }
+        for (Map.Entry<String, List<String>> entry : nodeKeys.entrySet()) {
+            try (Jedis jedis = clusterNodes.get(entry.getKey()).getResource()) {
+                pipelineFetch(jedis, entry.getValue(), pipelineCommand, fallback, result);
+            } catch (JedisDataException e) {
+                throw e;
+            } catch (JedisException e) {
+                log.warn("redis cluster node {} pipeline failed, fallback to single command: {}", entry.getKey(), e.getMessage());
+                unknownKeys.addAll(entry.getValue());
+            }
+        }
+        for (String key : unknownKeys) {
+            if (!result.containsKey(key)) {
+                result.put(key, fallback.apply(key));
+            }
+        }
+    }
+
+    /**
+     * 通过 CLUSTER SLOTS 获取每个 slot 所在的 master 节点
+     *
+     * @param pools 集群节点连接池
+     * @return slot - host:port，获取失败时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    private static String[] getSlotNodes(Collection<JedisPool> pools) {
+        for (JedisPool pool : pools) {
+            try (Jedis jedis = pool.getResource()) {
+                String[] slotNodes = new String[CLUSTER_SLOT_NUM];
+                for (Object slotInfoObj : jedis.clusterSlots()) {
+                    List<Object> slotInfo = (List<Object>) slotInfoObj;
+                    int start = ((Long) slotInfo.get(0)).intValue();
+                    int end = ((Long) slotInfo.get(1)).intValue();
+                    List<Object> master = (List<Object>) slotInfo.get(2);
+                    String node = SafeEncoder.encode((byte[]) master.get(0)) + ":" + master.get(1);
+                    for (int slot = start; slot <= end; slot++) {
+                        slotNodes[slot] = node;
+                    }
+                }
+                return slotNodes;
+            } catch (Exception e) {
+                log.warn("get redis cluster slots failed: {}", e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 扫描 key 时按类型过滤的参数，对应 SCAN ... TYPE type，redis 6.0 及以上版本支持
+     */
+    public static class TypeScanParams extends ScanParams {
+
+        private static final byte[] TYPE = SafeEncoder.encode("TYPE");
+
+        private final byte[] type;
+
+        public TypeScanParams(String type) {
+            this.type = SafeEncoder.encode(type);
+        }
+
+        @Override
+        public Collection<byte[]> getParams() {
+            List<byte[]> params = new ArrayList<>(super.getParams());
+            params.add(TYPE);
+            params.add(type);
+            return params;
+        }
+    }
+}
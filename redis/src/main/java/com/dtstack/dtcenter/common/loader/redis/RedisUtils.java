@@ -22,6 +22,7 @@ import com.dtstack.dtcenter.common.loader.common.exception.IErrorPattern;
 import com.dtstack.dtcenter.common.loader.common.service.ErrorAdapterImpl;
 import com.dtstack.dtcenter.common.loader.common.service.IErrorAdapter;
 import com.dtstack.dtcenter.common.loader.common.utils.AddressUtil;
+import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
 import com.dtstack.dtcenter.loader.dto.RedisQueryDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -45,10 +46,12 @@ import redis.clients.jedis.JedisCommands;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 import redis.clients.jedis.JedisSentinelPool;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.util.Pool;
 
 import java.io.Closeable;
@@ -237,9 +240,10 @@ public class RedisUtils {
      * @param dataType
      */
     private static void checkKeysType(JedisCommands jedis, List<String> keys, RedisDataType dataType) {
-        for (String key : keys) {
-            String type = jedis.type(key);
-            AssertUtils.isTrue(dataType.name().equalsIgnoreCase(type), String.format("redis key :%s,expect type:%s, actual type: %s", key, dataType.name(), type));
+        Map<String, String> types = RedisPipelineUtil.fetch(jedis, keys, Pipeline::type, JedisCommands::type);
+        for (Map.Entry<String, String> entry : types.entrySet()) {
+            String type = entry.getValue();
+            AssertUtils.isTrue(dataType.name().equalsIgnoreCase(type), String.format("redis key :%s,expect type:%s, actual type: %s", entry.getKey(), dataType.name(), type));
         }
     }
 
@@ -250,31 +254,19 @@ public class RedisUtils {
      * @return
      */
     public static List<String> getRedisKeys(JedisCommands jedis, RedisQueryDTO queryDTO, BiFunction<String, ScanParams, ScanResult<String>> function) {
-        List<String> list = new ArrayList<>();
         //如果不是模糊查询，校验传入的key 类型是否一致
         if (!RedisCompareOp.LIKE.equals(queryDTO.getRedisCompareOp())) {
             checkKeysType(jedis, queryDTO.getKeys(), queryDTO.getRedisDataType());
             return queryDTO.getKeys();
         }
-        String dataType = queryDTO.getRedisDataType().name();
+        List<String> list = new ArrayList<>();
+        int keyLimit = queryDTO.getKeyLimit() != null && queryDTO.getKeyLimit() > 0 ? queryDTO.getKeyLimit() : LIMIT_MAX_KEY;
+        int totalKeyLimit = getTotalKeyLimit(queryDTO);
         for (String key : queryDTO.getKeys()) {
-            String cursor = ScanParams.SCAN_POINTER_START;
-            ScanParams scanParam = new ScanParams();
-            scanParam.match(key);
-            int count = 0;
-            int keyLimit = queryDTO.getKeyLimit() != null && queryDTO.getKeyLimit() > 0 ? queryDTO.getKeyLimit() : LIMIT_MAX_KEY;
-            do {
-                ScanResult<String> scan = function.apply(cursor, scanParam);
-                for (String scanKey : scan.getResult()) {
-                    if (dataType.equalsIgnoreCase(jedis.type(scanKey))) {
-                        list.add(scanKey);
-                        if (++count >= keyLimit) {
-                            return list;
-                        }
-                    }
-                }
-                cursor = scan.getStringCursor();
-            } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+            int limit = Math.min(keyLimit, totalKeyLimit - list.size());
+            if (limit <= 0 || scanKeys(jedis, key, queryDTO, limit, list, function)) {
+                break;
+            }
         }
         list.sort(Comparator.naturalOrder());
         return list;
@@ -282,33 +274,94 @@ public class RedisUtils {
 
     public static List<String> previewRedisKeys(JedisCommands jedis, RedisQueryDTO queryDTO, BiFunction<String, ScanParams, ScanResult<String>> function) {
         List<String> list = new ArrayList<>();
-        String dataType = queryDTO.getRedisDataType().name();
         int keyLimit = queryDTO.getKeyLimit() != null && queryDTO.getKeyLimit() > 0 ? queryDTO.getKeyLimit() : LIMIT_MAX_KEY;
-        String cursor = ScanParams.SCAN_POINTER_START;
-        ScanParams scanParam = new ScanParams();
-        if (queryDTO.getKeyPattern() != null) {
-            scanParam.match(queryDTO.getKeyPattern() + "*");
+        String pattern = queryDTO.getKeyPattern() != null ? queryDTO.getKeyPattern() + "*" : null;
+        scanKeys(jedis, pattern, queryDTO, Math.min(keyLimit, getTotalKeyLimit(queryDTO)), list, function);
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    /**
+     * 获取返回 key 的总数上限
+     *
+     * @param queryDTO 查询条件
+     * @return 总数上限，未设置时不限制
+     */
+    private static int getTotalKeyLimit(RedisQueryDTO queryDTO) {
+        if (!ReflectUtil.fieldExists(RedisQueryDTO.class, "totalKeyLimit")
+                || queryDTO.getTotalKeyLimit() == null || queryDTO.getTotalKeyLimit() <= 0) {
+            return Integer.MAX_VALUE;
         }
+        return queryDTO.getTotalKeyLimit();
+    }
+
+    /**
+     * 扫描匹配的指定类型的 key，服务端支持时使用 SCAN ... TYPE 过滤，不支持时对每批扫描结果使用 pipeline 查询类型
+     *
+     * @param jedis    redis 客户端
+     * @param pattern  匹配规则，为 null 时扫描所有 key
+     * @param queryDTO 查询条件
+     * @param limit    本次扫描最多新增的 key 个数
+     * @param result   扫描结果
+     * @param function scan 方法
+     * @return 是否达到 limit
+     */
+    static boolean scanKeys(JedisCommands jedis, String pattern, RedisQueryDTO queryDTO, int limit, List<String> result,
+                                    BiFunction<String, ScanParams, ScanResult<String>> function) {
+        String dataType = queryDTO.getRedisDataType().name();
+        Integer scanCount = ReflectUtil.fieldExists(RedisQueryDTO.class, "scanCount") ? queryDTO.getScanCount() : null;
+        ScanParams typeScanParam = buildScanParams(new RedisPipelineUtil.TypeScanParams(dataType.toLowerCase()), pattern, scanCount);
+        ScanParams scanParam = buildScanParams(new ScanParams(), pattern, scanCount);
+        boolean typeFilter = true;
+        String cursor = ScanParams.SCAN_POINTER_START;
         int count = 0;
-        do {
-            ScanResult<String> scan = function.apply(cursor, scanParam);
-            for (String scanKey : scan.getResult()) {
-                if (dataType.equalsIgnoreCase(jedis.type(scanKey))) {
-                    list.add(scanKey);
-                    if (++count >= keyLimit) {
-                        return list;
+        while (true) {
+            ScanResult<String> scan;
+            List<String> matchKeys;
+            if (typeFilter) {
+                try {
+                    scan = function.apply(cursor, typeScanParam);
+                    matchKeys = scan.getResult();
+                } catch (JedisDataException e) {
+                    if (!ScanParams.SCAN_POINTER_START.equals(cursor)) {
+                        throw e;
                     }
+                    // redis 6.0 以下版本不支持 TYPE 参数
+                    log.info("redis scan not support type filter, use pipeline to get key type: {}", e.getMessage());
+                    // 游标仍为起始值，不带 TYPE 重新扫描
+                    typeFilter = false;
+                    continue;
+                }
+            } else {
+                scan = function.apply(cursor, scanParam);
+                Map<String, String> types = RedisPipelineUtil.fetch(jedis, scan.getResult(), Pipeline::type, JedisCommands::type);
+                matchKeys = types.entrySet().stream()
+                        .filter(entry -> dataType.equalsIgnoreCase(entry.getValue()))
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList());
+            }
+            for (String scanKey : matchKeys) {
+                result.add(scanKey);
+                if (++count >= limit) {
+                    return true;
                 }
             }
             cursor = scan.getStringCursor();
-        } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
-
-        list.sort(Comparator.naturalOrder());
-        return list;
+            if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
+                return false;
+            }
+        }
     }
 
-
-
+    private static ScanParams buildScanParams(ScanParams scanParams, String pattern, Integer scanCount) {
+        if (pattern != null) {
+            scanParams.match(pattern);
+        }
+        if (scanCount != null && scanCount > 0) {
+            scanParams.count(scanCount);
+        }
+        return scanParams;
+    }
 
     private static Map<String, Object> getRedisValues(JedisCommands jedis, RedisQueryDTO queryDTO, BiFunction<String, ScanParams, ScanResult<String>> function) {
 
@@ -351,10 +404,7 @@ public class RedisUtils {
         if (CollectionUtils.isEmpty(keys)) {
             return resultMap;
         }
-        for (String key : keys) {
-            String result = jedis.get(key);
-            resultMap.put(key, result);
-        }
+        resultMap.putAll(RedisPipelineUtil.fetch(jedis, keys, Pipeline::get, JedisCommands::get));
         return resultMap;
     }
 
@@ -369,10 +419,11 @@ public class RedisUtils {
         if (CollectionUtils.isEmpty(keys)) {
             return resultMap;
         }
-        for (String key : keys) {
-            List<String> result = jedis.lrange(key, 0, limit);
-            result = CollectionUtils.isEmpty(result) ? new ArrayList<>() : result;
-            resultMap.put(key, result);
+        Map<String, List<String>> values = RedisPipelineUtil.fetch(jedis, keys,
+                (pipeline, key) -> pipeline.lrange(key, 0, limit), (commands, key) -> commands.lrange(key, 0, limit));
+        for (Map.Entry<String, List<String>> entry : values.entrySet()) {
+            List<String> result = entry.getValue();
+            resultMap.put(entry.getKey(), CollectionUtils.isEmpty(result) ? new ArrayList<>() : result);
         }
         return resultMap;
     }
@@ -414,10 +465,11 @@ public class RedisUtils {
         if (CollectionUtils.isEmpty(keys)) {
             return resultMap;
         }
-        for (String key : keys) {
-            Set<String> result = jedis.zrange(key, 0, limit);
-            result = CollectionUtils.isEmpty(result) ? new HashSet<>() : result;
-            resultMap.put(key, result);
+        Map<String, Set<String>> values = RedisPipelineUtil.fetch(jedis, keys,
+                (pipeline, key) -> pipeline.zrange(key, 0, limit), (commands, key) -> commands.zrange(key, 0, limit));
+        for (Map.Entry<String, Set<String>> entry : values.entrySet()) {
+            Set<String> result = entry.getValue();
+            resultMap.put(entry.getKey(), CollectionUtils.isEmpty(result) ? new HashSet<>() : result);
         }
         return resultMap;
     }
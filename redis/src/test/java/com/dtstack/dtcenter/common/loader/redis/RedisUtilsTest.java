@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dtstack.dtcenter.common.loader.redis;
+
+import com.dtstack.dtcenter.loader.dto.RedisQueryDTO;
+import com.dtstack.dtcenter.loader.enums.RedisDataType;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.JedisCommands;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * redis key 扫描测试，模拟 redis 6.0 以下版本不支持 SCAN ... TYPE 的情况
+ *
+ * @author ：wangchuan
+ * date：Created in 下午4:10 2026/10/18
+ * company: www.dtstack.com
+ */
+public class RedisUtilsTest {
+
+    private static final Map<String, String> KEY_TYPES = new HashMap<>();
+
+    static {
+        KEY_TYPES.put("user:1", "string");
+        KEY_TYPES.put("user:2", "hash");
+        KEY_TYPES.put("user:3", "string");
+        KEY_TYPES.put("user:4", "list");
+        KEY_TYPES.put("user:5", "string");
+    }
+
+    /**
+     * 每次返回两个 key，最后一页游标回到 0
+     */
+    private static final List<List<String>> PAGES = Arrays.asList(
+            Arrays.asList("user:1", "user:2"),
+            Arrays.asList("user:3", "user:4"),
+            Arrays.asList("user:5"));
+
+    @Test
+    public void scanFallbackWithoutTypeFilter() {
+        List<ScanParams> calls = new ArrayList<>();
+        List<String> result = new ArrayList<>();
+        boolean reachLimit = RedisUtils.scanKeys(mockJedis(), "user:*", stringQuery(), Integer.MAX_VALUE, result, oldServerScan(calls));
+        Assert.assertFalse(reachLimit);
+        Assert.assertEquals(Arrays.asList("user:1", "user:3", "user:5"), result);
+        // 第一次带 TYPE 被拒绝，之后三页都不带 TYPE
+        Assert.assertEquals(4, calls.size());
+        Assert.assertTrue(calls.get(0) instanceof RedisPipelineUtil.TypeScanParams);
+        for (ScanParams params : calls.subList(1, calls.size())) {
+            Assert.assertFalse(params instanceof RedisPipelineUtil.TypeScanParams);
+        }
+    }
+
+    @Test
+    public void scanFallbackStopsAtLimit() {
+        List<String> result = new ArrayList<>();
+        boolean reachLimit = RedisUtils.scanKeys(mockJedis(), "user:*", stringQuery(), 2, result, oldServerScan(new ArrayList<>()));
+        Assert.assertTrue(reachLimit);
+        Assert.assertEquals(Arrays.asList("user:1", "user:3"), result);
+    }
+
+    private static RedisQueryDTO stringQuery() {
+        return RedisQueryDTO.builder().redisDataType(RedisDataType.STRING).build();
+    }
+
+    /**
+     * 模拟 redis 6.0 以下版本的 scan，带 TYPE 参数时报语法错误
+     */
+    private static BiFunction<String, ScanParams, ScanResult<String>> oldServerScan(List<ScanParams> calls) {
+        return (cursor, params) -> {
+            calls.add(params);
+            if (params instanceof RedisPipelineUtil.TypeScanParams) {
+                throw new JedisDataException("ERR syntax error");
+            }
+            int page = Integer.parseInt(cursor);
+            String next = page + 1 >= PAGES.size() ? ScanParams.SCAN_POINTER_START : String.valueOf(page + 1);
+            return new ScanResult<>(next, PAGES.get(page));
+        };
+    }
+
+    /**
+     * 只实现 type 命令的客户端
+     */
+    private static JedisCommands mockJedis() {
+        return (JedisCommands) Proxy.newProxyInstance(RedisUtilsTest.class.getClassLoader(), new Class[]{JedisCommands.class},
+                (proxy, method, args) -> {
+                    if ("type".equals(method.getName())) {
+                        return KEY_TYPES.getOrDefault((String) args[0], "none");
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -18,19 +18,17 @@
 
 package com.dtstack.dtcenter.common.loader.restful;
 
-import com.dtstack.dtcenter.common.loader.restful.http.HttpClient;
-import com.dtstack.dtcenter.common.loader.restful.http.HttpClientFactory;
+import com.dtstack.dtcenter.common.loader.restful.http.HttpClientManager;
 import com.dtstack.dtcenter.loader.client.IRestful;
 import com.dtstack.dtcenter.loader.dto.restful.Response;
 import com.dtstack.dtcenter.loader.dto.source.RestfulSourceDTO;
-import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * restful 特有客户端
+ * restful 特有客户端，相同配置的数据源复用缓存的 http client
  *
  * @author ：wangchuan
  * date：Created in 上午10:38 2021/8/11
@@ -40,46 +38,51 @@ public class RestfulSpecialClient implements IRestful {
 
     @Override
     public Response get(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers) {
-        try (HttpClient httpClient = HttpClientFactory.createHttpClientAndStart(sourceDTO)) {
-            return httpClient.get(params, cookies, headers);
-        } catch (IOException e) {
-            throw new DtLoaderException(e.getMessage(), e);
-        }
+        return HttpClientManager.execute(sourceDTO, httpClient -> httpClient.get(params, cookies, headers));
     }
 
     @Override
     public Response post(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
-        try (HttpClient httpClient = HttpClientFactory.createHttpClientAndStart(sourceDTO)) {
-            return httpClient.post(bodyData, cookies, headers);
-        } catch (IOException e) {
-            throw new DtLoaderException(e.getMessage(), e);
-        }
+        return HttpClientManager.execute(sourceDTO, httpClient -> httpClient.post(bodyData, cookies, headers));
     }
 
     @Override
     public Response delete(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
-        try (HttpClient httpClient = HttpClientFactory.createHttpClientAndStart(sourceDTO)) {
-            return httpClient.delete(bodyData, cookies, headers);
-        } catch (IOException e) {
-            throw new DtLoaderException(e.getMessage(), e);
-        }
+        return HttpClientManager.execute(sourceDTO, httpClient -> httpClient.delete(bodyData, cookies, headers));
     }
 
     @Override
     public Response put(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
-        try (HttpClient httpClient = HttpClientFactory.createHttpClientAndStart(sourceDTO)) {
-            return httpClient.put(bodyData, cookies, headers);
-        } catch (IOException e) {
-            throw new DtLoaderException(e.getMessage(), e);
-        }
+        return HttpClientManager.execute(sourceDTO, httpClient -> httpClient.put(bodyData, cookies, headers));
     }
 
     @Override
     public Response postMultipart(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers, Map<String, File> files) {
-        try (HttpClient httpClient = HttpClientFactory.createHttpClientAndStart(sourceDTO)) {
-            return httpClient.postMultipart(params, cookies, headers, files);
-        } catch (IOException e) {
-            throw new DtLoaderException(e.getMessage(), e);
-        }
+        return HttpClientManager.execute(sourceDTO, httpClient -> httpClient.postMultipart(params, cookies, headers, files));
+    }
+
+    @Override
+    public CompletableFuture<Response> getAsync(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers) {
+        return HttpClientManager.executeAsync(sourceDTO, httpClient -> httpClient.getAsync(params, cookies, headers));
+    }
+
+    @Override
+    public CompletableFuture<Response> postAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return HttpClientManager.executeAsync(sourceDTO, httpClient -> httpClient.postAsync(bodyData, cookies, headers));
+    }
+
+    @Override
+    public CompletableFuture<Response> deleteAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return HttpClientManager.executeAsync(sourceDTO, httpClient -> httpClient.deleteAsync(bodyData, cookies, headers));
+    }
+
+    @Override
+    public CompletableFuture<Response> putAsync(RestfulSourceDTO sourceDTO, String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return HttpClientManager.executeAsync(sourceDTO, httpClient -> httpClient.putAsync(bodyData, cookies, headers));
+    }
+
+    @Override
+    public CompletableFuture<Response> postMultipartAsync(RestfulSourceDTO sourceDTO, Map<String, String> params, Map<String, String> cookies, Map<String, String> headers, Map<String, File> files) {
+        return HttpClientManager.executeAsync(sourceDTO, httpClient -> httpClient.postMultipartAsync(params, cookies, headers, files));
     }
 }
@@ -33,6 +33,7 @@ import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.StatusLine;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.client.entity.GzipDecompressingEntity;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpPost;
@@ -55,10 +56,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @Slf4j
 public class HttpClient implements Closeable {
@@ -174,9 +176,21 @@ public class HttpClient implements Closeable {
      * @return response
      */
     public Response get(Map<String, String> params, Map<String, String> cookies, Map<String, String> headers) {
+        return getAsync(params, cookies, headers).join();
+    }
+
+    /**
+     * 异步 get 请求
+     *
+     * @param params  params 信息
+     * @param cookies cookie 信息
+     * @param headers header 信息
+     * @return response
+     */
+    public CompletableFuture<Response> getAsync(Map<String, String> params, Map<String, String> cookies, Map<String, String> headers) {
         HttpGetWithEntity request = new HttpGetWithEntity(createURI(params));
         setHeaderAndCookie(request, cookies, headers);
-        return execute(request, null);
+        return executeAsync(request, null);
     }
 
     /**
@@ -188,9 +202,21 @@ public class HttpClient implements Closeable {
      * @return response
      */
     public Response post(String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return postAsync(bodyData, cookies, headers).join();
+    }
+
+    /**
+     * 异步 post 请求
+     *
+     * @param bodyData body 信息
+     * @param cookies  cookie 信息
+     * @param headers  header 信息
+     * @return response
+     */
+    public CompletableFuture<Response> postAsync(String bodyData, Map<String, String> cookies, Map<String, String> headers) {
         HttpPost request = new HttpPost(httpAddressManager.getAddress());
         setHeaderAndCookie(request, cookies, headers);
-        return execute(request, bodyData);
+        return executeAsync(request, bodyData);
     }
 
     /**
@@ -202,9 +228,21 @@ public class HttpClient implements Closeable {
      * @return response
      */
     public Response delete(String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return deleteAsync(bodyData, cookies, headers).join();
+    }
+
+    /**
+     * 异步 delete 请求
+     *
+     * @param bodyData body 信息
+     * @param cookies  cookie 信息
+     * @param headers  header 信息
+     * @return response
+     */
+    public CompletableFuture<Response> deleteAsync(String bodyData, Map<String, String> cookies, Map<String, String> headers) {
         HttpDeleteWithEntity request = new HttpDeleteWithEntity(httpAddressManager.getAddress());
         setHeaderAndCookie(request, cookies, headers);
-        return execute(request, bodyData);
+        return executeAsync(request, bodyData);
     }
 
     /**
@@ -216,9 +254,21 @@ public class HttpClient implements Closeable {
      * @return response
      */
     public Response put(String bodyData, Map<String, String> cookies, Map<String, String> headers) {
+        return putAsync(bodyData, cookies, headers).join();
+    }
+
+    /**
+     * 异步 put 请求
+     *
+     * @param bodyData body 信息
+     * @param cookies  cookie 信息
+     * @param headers  header 信息
+     * @return response
+     */
+    public CompletableFuture<Response> putAsync(String bodyData, Map<String, String> cookies, Map<String, String> headers) {
         HttpPutWithEntity request = new HttpPutWithEntity(httpAddressManager.getAddress());
         setHeaderAndCookie(request, cookies, headers);
-        return execute(request, bodyData);
+        return executeAsync(request, bodyData);
     }
 
     /**
@@ -231,6 +281,19 @@ public class HttpClient implements Closeable {
      * @return response
      */
     public Response postMultipart(Map<String, String> params, Map<String, String> cookies, Map<String, String> headers, Map<String, File> files) {
+        return postMultipartAsync(params, cookies, headers, files).join();
+    }
+
+    /**
+     * 异步 post 请求 Multipart
+     *
+     * @param params  params 信息
+     * @param cookies cookie 信息
+     * @param headers header 信息
+     * @param files   文件信息
+     * @return response
+     */
+    public CompletableFuture<Response> postMultipartAsync(Map<String, String> params, Map<String, String> cookies, Map<String, String> headers, Map<String, File> files) {
         HttpPost request = new HttpPost(httpAddressManager.getAddress());
         setHeaderAndCookie(request, cookies, headers);
         MultipartEntityBuilder builder = MultipartEntityBuilder.create();
@@ -247,7 +310,7 @@ public class HttpClient implements Closeable {
             }
         }
         request.setEntity(builder.build());
-        return execute(request, null);
+        return executeAsync(request, null);
     }
 
     /**
@@ -274,13 +337,13 @@ public class HttpClient implements Closeable {
     }
 
     /**
-     * 执行请求
+     * 异步执行请求，请求失败时返回 statusCode 为 -1 的 Response，返回的 future 不会异常结束
      *
      * @param request  请求
      * @param bodyData body 参数
      * @return Response
      */
-    private Response execute(HttpEntityEnclosingRequestBase request, String bodyData) {
+    private CompletableFuture<Response> executeAsync(HttpEntityEnclosingRequestBase request, String bodyData) {
 
         request.addHeader("Content-Type", "application/json");
         if (Objects.nonNull(authorization)) {
@@ -290,21 +353,54 @@ public class HttpClient implements Closeable {
         if (StringUtils.isNotEmpty(bodyData)) {
             request.setEntity(generateStringEntity(bodyData));
         }
+        CompletableFuture<Response> future = new CompletableFuture<>();
         unCompletedTaskNum.incrementAndGet();
-        Future<HttpResponse> future = httpclient.execute(request, null);
         try {
-            HttpResponse httpResponse = future.get();
-            return handleResponse(httpResponse);
+            httpclient.execute(request, new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse httpResponse) {
+                    complete(future, () -> handleResponse(httpResponse));
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    complete(future, () -> errorResponse(e));
+                }
+
+                @Override
+                public void cancelled() {
+                    complete(future, () -> errorResponse(new DtLoaderException("http request cancelled")));
+                }
+            });
         } catch (Throwable e) {
-            Response errResponse = Response.builder()
-                    .build();
-            handleException(errResponse, "execute http request error", e);
-            return errResponse;
+            complete(future, () -> errorResponse(e));
+        }
+        return future;
+    }
+
+    /**
+     * 完成请求，减少未完成任务数
+     *
+     * @param future   请求 future
+     * @param response 生成 Response
+     */
+    private void complete(CompletableFuture<Response> future, Supplier<Response> response) {
+        try {
+            future.complete(response.get());
+        } catch (Throwable e) {
+            future.complete(errorResponse(e));
         } finally {
             unCompletedTaskNum.decrementAndGet();
         }
     }
 
+    private Response errorResponse(Throwable e) {
+        Response errResponse = Response.builder()
+                .build();
+        handleException(errResponse, "execute http request error", e);
+        return errResponse;
+    }
+
     /**
      * 生成 StringEntity
      *
@@ -78,6 +78,16 @@ public class HttpClientFactory {
      */
     private static final Integer HTTP_CONNECTION_REQUEST_TIMEOUT = 90;
 
+    /**
+     * 连接池最大连接数，http client 按数据源缓存复用，需要支持并发请求
+     */
+    private static final Integer MAX_TOTAL_CONNECTIONS = 200;
+
+    /**
+     * 每个地址的最大连接数
+     */
+    private static final Integer MAX_CONNECTIONS_PER_ROUTE = 100;
+
     public static HttpClient createHttpClientAndStart(ISourceDTO sourceDTO) {
         HttpClient httpClient = createHttpClient(sourceDTO);
         httpClient.start();
@@ -107,6 +117,8 @@ public class HttpClientFactory {
                         .build();
         // 创建链接管理器
         PoolingNHttpClientConnectionManager cm = new PoolingNHttpClientConnectionManager(ioReactor, sessionStrategyRegistry);
+        cm.setMaxTotal(MAX_TOTAL_CONNECTIONS);
+        cm.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
 
         // 创建HttpAsyncClient
         CloseableHttpAsyncClient httpAsyncClient = createPoolingHttpClient(cm, restfulSourceDTO.getConnectTimeout(), restfulSourceDTO.getSocketTimeout(), restfulSourceDTO.getKerberosConfig());
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.restful.http;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.common.loader.common.utils.ReflectUtil;
+import com.dtstack.dtcenter.loader.dto.restful.Response;
+import com.dtstack.dtcenter.loader.dto.source.DorisRestfulSourceDTO;
+import com.dtstack.dtcenter.loader.dto.source.RestfulSourceDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * http client 缓存，相同配置的数据源复用同一个已启动的 http client（IO reactor、连接池），
+ * 使用中的 client 不会被回收，空闲超过 {@link #IDLE_TIMEOUT_MILLIS} 后关闭
+ *
+ * @author ：wangchuan
+ * date：Created in 下午9:30 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class HttpClientManager {
+
+    /**
+     * 空闲 client 的关闭时间，单位：毫秒
+     */
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * 空闲检查周期，单位：秒
+     */
+    private static final long EVICT_PERIOD_SECONDS = 60;
+
+    private static final String CLIENT_KEY = "url:%s,protocol:%s,headers:%s,connectTimeout:%s,socketTimeout:%s,kerberosConfig:%s,sslClientConf:%s,username:%s,password:%s";
+
+    private static final Map<String, CachedClient> CLIENTS = new ConcurrentHashMap<>();
+
+    /**
+     * 空闲回收线程，使用守护线程避免影响进程退出
+     */
+    private static final ScheduledExecutorService EVICT_SERVICE = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new DtClassThreadFactory("restfulClientEvict").newThread(r);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EVICT_SERVICE.scheduleWithFixedDelay(HttpClientManager::evictIdleClients, EVICT_PERIOD_SECONDS, EVICT_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 缓存的 client 和引用计数
+     */
+    private static class CachedClient {
+
+        private final HttpClient httpClient;
+
+        /**
+         * 正在使用该 client 的请求数
+         */
+        private final AtomicInteger references = new AtomicInteger(0);
+
+        private volatile long lastAccessTime = System.currentTimeMillis();
+
+        private CachedClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+    }
+
+    private HttpClientManager() {
+    }
+
+    /**
+     * 使用缓存的 client 执行同步请求
+     *
+     * @param sourceDTO 数据源信息
+     * @param request   请求逻辑
+     * @return 响应
+     */
+    public static Response execute(RestfulSourceDTO sourceDTO, Function<HttpClient, Response> request) {
+        CachedClient cachedClient = acquire(sourceDTO);
+        try {
+            return request.apply(cachedClient.httpClient);
+        } finally {
+            release(cachedClient);
+        }
+    }
+
+    /**
+     * 使用缓存的 client 执行异步请求，请求完成后释放 client
+     *
+     * @param sourceDTO 数据源信息
+     * @param request   请求逻辑
+     * @return 响应
+     */
+    public static CompletableFuture<Response> executeAsync(RestfulSourceDTO sourceDTO, Function<HttpClient, CompletableFuture<Response>> request) {
+        CachedClient cachedClient = acquire(sourceDTO);
+        CompletableFuture<Response> future;
+        try {
+            future = request.apply(cachedClient.httpClient);
+        } catch (Throwable e) {
+            release(cachedClient);
+            throw e;
+        }
+        return future.whenComplete((response, throwable) -> release(cachedClient));
+    }
+
+    /**
+     * 获取 client 并增加引用计数，不存在时创建并启动
+     *
+     * @param sourceDTO 数据源信息
+     * @return 缓存的 client
+     */
+    private static CachedClient acquire(RestfulSourceDTO sourceDTO) {
+        return CLIENTS.compute(getPrimaryKey(sourceDTO), (key, cachedClient) -> {
+            if (cachedClient == null) {
+                log.info("create http client, url : {}", sourceDTO.getUrl());
+                cachedClient = new CachedClient(HttpClientFactory.createHttpClientAndStart(sourceDTO));
+            }
+            cachedClient.references.incrementAndGet();
+            cachedClient.lastAccessTime = System.currentTimeMillis();
+            return cachedClient;
+        });
+    }
+
+    private static void release(CachedClient cachedClient) {
+        cachedClient.lastAccessTime = System.currentTimeMillis();
+        cachedClient.references.decrementAndGet();
+    }
+
+    /**
+     * 关闭空闲超时并且没有在使用的 client
+     */
+    private static void evictIdleClients() {
+        long now = System.currentTimeMillis();
+        List<CachedClient> evicted = new ArrayList<>();
+        for (String key : CLIENTS.keySet()) {
+            // 和 acquire 使用同一个 compute，保证回收时没有新的请求获取该 client
+            CLIENTS.computeIfPresent(key, (k, cachedClient) -> {
+                if (cachedClient.references.get() == 0 && now - cachedClient.lastAccessTime > IDLE_TIMEOUT_MILLIS) {
+                    evicted.add(cachedClient);
+                    return null;
+                }
+                return cachedClient;
+            });
+        }
+        for (CachedClient cachedClient : evicted) {
+            try {
+                cachedClient.httpClient.close(true);
+            } catch (Exception e) {
+                log.warn("close idle http client error : {}", e.getMessage(), e);
+            }
+        }
+        if (!evicted.isEmpty()) {
+            log.info("close {} idle http clients, cached http clients : {}", evicted.size(), CLIENTS.size());
+        }
+    }
+
+    /**
+     * 生成缓存 key，包含影响 client 创建和请求的所有配置
+     *
+     * @param sourceDTO 数据源信息
+     * @return 缓存 key
+     */
+    private static String getPrimaryKey(RestfulSourceDTO sourceDTO) {
+        String username = null;
+        String password = null;
+        // RestfulSourceDTO 不支持获取用户名密码
+        if (sourceDTO instanceof DorisRestfulSourceDTO) {
+            username = sourceDTO.getUsername();
+            password = sourceDTO.getPassword();
+        }
+        String sslClientConf = ReflectUtil.fieldExists(RestfulSourceDTO.class, "sslClientConf") ? sourceDTO.getSslClientConf() : null;
+        return String.format(CLIENT_KEY, sourceDTO.getUrl(), sourceDTO.getProtocol(), sortedMap(sourceDTO.getHeaders()),
+                sourceDTO.getConnectTimeout(), sourceDTO.getSocketTimeout(), sortedMap(sourceDTO.getKerberosConfig()),
+                sslClientConf, username, password);
+    }
+
+    private static <V> Map<String, V> sortedMap(Map<String, V> map) {
+        return map == null ? null : new TreeMap<>(map);
+    }
+}
@@ -61,7 +61,6 @@ public class SparkConnFactory extends ConnFactory {
         Connection connection = KerberosLoginUtil.loginWithUGI(sparkSourceDTO.getKerberosConfig()).doAs(
                 (PrivilegedAction<Connection>) () -> {
                     try {
-                        DriverManager.setLoginTimeout(30);
                         String urlWithoutSchema = SparkThriftDriverUtil.removeSchema(sparkSourceDTO.getUrl());
                         Properties properties = PropertiesUtil.convertToProp(sparkSourceDTO);
                         return DriverManager.getConnection(urlWithoutSchema, properties);
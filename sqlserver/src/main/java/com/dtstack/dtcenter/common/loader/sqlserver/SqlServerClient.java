@@ -84,6 +84,9 @@ public class SqlServerClient extends AbsRdbmsClient {
     // 获取当前版本号
     private static final String SHOW_VERSION = "SELECT @@VERSION";
 
+    // 切换 schema
+    private static final String SWITCH_SCHEMA_SQL = "USE %s";
+
     // 创建 schema
     private static final String CREATE_SCHEMA_SQL_TMPL = "create schema %s ";
 
@@ -158,6 +161,9 @@ public class SqlServerClient extends AbsRdbmsClient {
 
     @Override
     public IDownloader getDownloader(ISourceDTO source, SqlQueryDTO queryDTO) throws Exception {
+        if (isStreamDownload(queryDTO)) {
+            return getStreamDownloader(source, queryDTO);
+        }
         SqlserverSourceDTO sqlserverSourceDTO = (SqlserverSourceDTO) source;
         String schema = StringUtils.isNotBlank(queryDTO.getSchema()) ? queryDTO.getSchema() : sqlserverSourceDTO.getSchema();
         SqlServerDownloader sqlServerDownloader = new SqlServerDownloader(getCon(sqlserverSourceDTO), queryDTO.getSql(), schema);
@@ -165,6 +171,11 @@ public class SqlServerClient extends AbsRdbmsClient {
         return sqlServerDownloader;
     }
 
+    @Override
+    protected String getSwitchSchemaSql(String schema) {
+        return StringUtils.isBlank(schema) ? null : String.format(SWITCH_SCHEMA_SQL, schema);
+    }
+
     @Override
     protected String transferSchemaAndTableName(String schema, String tableName) {
         //如果传过来是[tableName]格式直接当成表名
@@ -0,0 +1,163 @@
+package com.dtstack.dtcenter.common.loader.tbds.hbase;
+
+import com.dtstack.dtcenter.loader.IDownloader;
+import com.dtstack.dtcenter.loader.dto.source.TbdsHbaseSourceDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.MapUtils;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * hbase 流式扫描下载器，持有 scanner 按 caching 分批从 region server 拉取数据，
+ * 每次 readNext 只转化一行，不会将结果全部加载到内存
+ *
+ * @author ：wangchuan
+ * date：Created in 下午6:10 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class HbaseScanDownloader implements IDownloader {
+
+    private final TbdsHbaseSourceDTO hbaseSourceDTO;
+
+    private final String tableName;
+
+    private final Scan scan;
+
+    /**
+     * 最多返回的行数
+     */
+    private final long limit;
+
+    /**
+     * 查询的列，作为元数据返回
+     */
+    private final List<String> columns;
+
+    /**
+     * 行数据转化方法
+     */
+    private final Function<Result, Map<String, Object>> converter;
+
+    private Connection connection;
+
+    private Table table;
+
+    private ResultScanner scanner;
+
+    /**
+     * 预读的下一行数据，为 null 表示已经读取完
+     */
+    private Result nextResult;
+
+    private long readCount = 0;
+
+    public HbaseScanDownloader(TbdsHbaseSourceDTO hbaseSourceDTO, String tableName, Scan scan, Long limit, List<String> columns,
+                               Function<Result, Map<String, Object>> converter) {
+        this.hbaseSourceDTO = hbaseSourceDTO;
+        this.tableName = tableName;
+        this.scan = scan;
+        this.limit = Objects.isNull(limit) || limit < 0 ? Long.MAX_VALUE : limit;
+        this.columns = Objects.isNull(columns) ? Collections.emptyList() : new ArrayList<>(columns);
+        this.converter = converter;
+    }
+
+    @Override
+    public boolean configure() throws Exception {
+        try {
+            connection = HbaseConnFactory.getHbaseConn(hbaseSourceDTO);
+            table = connection.getTable(TableName.valueOf(tableName));
+            scanner = table.getScanner(scan);
+            advance();
+        } catch (Exception e) {
+            close();
+            throw new DtLoaderException(String.format("hbase open scanner exception, table: %s, %s", tableName, e.getMessage()), e);
+        } finally {
+            HbaseClient.destroyProperty();
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> getMetaInfo() {
+        return columns;
+    }
+
+    @Override
+    public Map<String, Object> readNext() {
+        if (Objects.isNull(nextResult)) {
+            return null;
+        }
+        Map<String, Object> row = converter.apply(nextResult);
+        readCount++;
+        try {
+            advance();
+        } catch (IOException e) {
+            throw new DtLoaderException(String.format("hbase scan data exception, table: %s, %s", tableName, e.getMessage()), e);
+        }
+        return row;
+    }
+
+    @Override
+    public boolean reachedEnd() {
+        return Objects.isNull(nextResult);
+    }
+
+    /**
+     * 预读下一行非空数据，达到 limit 后不再读取
+     */
+    private void advance() throws IOException {
+        if (readCount >= limit) {
+            nextResult = null;
+            return;
+        }
+        do {
+            nextResult = scanner.next();
+        } while (Objects.nonNull(nextResult) && nextResult.isEmpty());
+    }
+
+    @Override
+    public boolean close() throws Exception {
+        nextResult = null;
+        if (Objects.nonNull(scanner)) {
+            scanner.close();
+            scanner = null;
+        }
+        try {
+            if (Objects.nonNull(table)) {
+                table.close();
+                table = null;
+            }
+        } finally {
+            // 未开启连接池或者开启 kerberos 时连接不会复用，需要关闭
+            if (Objects.nonNull(connection) && (Objects.isNull(hbaseSourceDTO.getPoolConfig()) || MapUtils.isNotEmpty(hbaseSourceDTO.getKerberosConfig()))) {
+                connection.close();
+            }
+            connection = null;
+        }
+        return true;
+    }
+
+    @Override
+    public String getFileName() {
+        return null;
+    }
+
+    @Override
+    public List<String> getContainers() {
+        return Collections.emptyList();
+    }
+}
@@ -12,6 +12,7 @@ import com.dtstack.dtcenter.common.loader.tdbs.hdfs.fileMerge.core.CombineServer
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.hdfswriter.HdfsOrcWriter;
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.hdfswriter.HdfsParquetWriter;
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.hdfswriter.HdfsTextWriter;
+import com.dtstack.dtcenter.common.loader.tdbs.hdfs.util.HdfsBatchExecutor;
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.util.SecurityUtils;
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.util.StringUtil;
 import com.dtstack.dtcenter.loader.IDownloader;
@@ -19,6 +20,7 @@ import com.dtstack.dtcenter.loader.client.IHdfsFile;
 import com.dtstack.dtcenter.loader.dto.ColumnMetaDTO;
 import com.dtstack.dtcenter.loader.dto.FileStatus;
 import com.dtstack.dtcenter.loader.dto.HDFSContentSummary;
+import com.dtstack.dtcenter.loader.dto.HdfsBatchResultDTO;
 import com.dtstack.dtcenter.loader.dto.HdfsWriterDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
 import com.dtstack.dtcenter.loader.dto.source.ISourceDTO;
@@ -28,6 +30,7 @@ import com.dtstack.dtcenter.loader.exception.DtLoaderException;
 import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.ContentSummary;
@@ -38,11 +41,13 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.hive.ql.io.orc.OrcFile;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * @company: www.dtstack.com
@@ -418,44 +423,97 @@ public class HdfsFileClient implements IHdfsFile {
 
     @Override
     public List<HDFSContentSummary> getContentSummary(ISourceDTO source, List<String> hdfsDirPaths){
+        HdfsBatchResultDTO<HDFSContentSummary> batchResult = getContentSummaryBatch(source, hdfsDirPaths);
+        if (MapUtils.isNotEmpty(batchResult.getErrors())) {
+            Map.Entry<String, String> error = batchResult.getErrors().entrySet().iterator().next();
+            throw new DtLoaderException(String.format("Failed to obtain HDFS file information：%s, %s", error.getKey(), error.getValue()));
+        }
+        return hdfsDirPaths.stream().map(batchResult.getResults()::get).collect(Collectors.toList());
+    }
+
+    @Override
+    public HdfsBatchResultDTO<HDFSContentSummary> getContentSummaryBatch(ISourceDTO source, List<String> hdfsDirPaths) {
         if (CollectionUtils.isEmpty(hdfsDirPaths)) {
             throw new DtLoaderException("hdfs path cannot be empty！");
         }
         TbdsHdfsSourceDTO hdfsSourceDTO = (TbdsHdfsSourceDTO) source;
-        List<HDFSContentSummary> hdfsContentSummaries = Lists.newArrayList();
-
         return SecurityUtils.login(() -> {
             try {
                 Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getTbdsUsername(), hdfsSourceDTO.getTbdsSecureId(), hdfsSourceDTO.getTbdsSecureKey(), hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
                 FileSystem fs = FileSystem.get(conf);
-                for (String hdfsDirPath : hdfsDirPaths) {
-                    Path hdfsPath = new Path(hdfsDirPath);
-                    if (!fs.exists(hdfsPath)) {
-                        log.warn("hdfs path : {} does not exist", hdfsDirPath);
-                        HDFSContentSummary contentSummaryEmpty = HDFSContentSummary.builder()
-                                .directoryCount(0L)
-                                .fileCount(0L)
-                                .ModifyTime(0L)
-                                .spaceConsumed(0L).build();
-                        hdfsContentSummaries.add(contentSummaryEmpty);
-                        continue;
-                    }
-                    org.apache.hadoop.fs.FileStatus fileStatus = fs.getFileStatus(hdfsPath);
-                    ContentSummary contentSummary = fs.getContentSummary(hdfsPath);
-                    HDFSContentSummary hdfsContentSummary = HDFSContentSummary.builder()
-                            .directoryCount(contentSummary.getDirectoryCount())
-                            .fileCount(contentSummary.getFileCount())
-                            .ModifyTime(fileStatus.getModificationTime())
-                            .spaceConsumed(contentSummary.getLength()).build();
-                    hdfsContentSummaries.add(hdfsContentSummary);
-                }
-                return hdfsContentSummaries;
+                return HdfsBatchExecutor.execute(hdfsDirPaths, hdfsDirPath -> buildContentSummary(fs, hdfsDirPath));
             } catch (Exception e) {
                 throw new DtLoaderException(String.format("Failed to obtain HDFS file information：%s", e.getMessage()), e);
             }
         }, hdfsSourceDTO.getConfig());
     }
 
+    @Override
+    public HdfsBatchResultDTO<List<FileStatus>> listFilesBatch(ISourceDTO source, List<String> remotePaths, boolean isIterate) {
+        if (CollectionUtils.isEmpty(remotePaths)) {
+            throw new DtLoaderException("hdfs path cannot be empty！");
+        }
+        TbdsHdfsSourceDTO hdfsSourceDTO = (TbdsHdfsSourceDTO) source;
+        return SecurityUtils.login(() -> {
+            try {
+                Configuration conf = HadoopConfUtil.getHdfsConf(hdfsSourceDTO.getTbdsUsername(), hdfsSourceDTO.getTbdsSecureId(), hdfsSourceDTO.getTbdsSecureKey(), hdfsSourceDTO.getDefaultFS(), hdfsSourceDTO.getConfig(), hdfsSourceDTO.getKerberosConfig());
+                FileSystem fs = FileSystem.get(conf);
+                return HdfsBatchExecutor.execute(remotePaths, remotePath -> listLocatedFiles(fs, remotePath, isIterate));
+            } catch (Exception e) {
+                throw new DtLoaderException(String.format("Failed to get the file in the target path : %s", e.getMessage()), e);
+            }
+        }, hdfsSourceDTO.getConfig());
+    }
+
+    /**
+     * 获取单个路径的内容摘要，通过 getFileStatus 判断路径是否存在，不再单独调用 exists
+     *
+     * @param fs          HDFS 文件系统
+     * @param hdfsDirPath hdfs 路径
+     * @return 内容摘要
+     */
+    private HDFSContentSummary buildContentSummary(FileSystem fs, String hdfsDirPath) throws IOException {
+        Path hdfsPath = new Path(hdfsDirPath);
+        org.apache.hadoop.fs.FileStatus fileStatus;
+        try {
+            fileStatus = fs.getFileStatus(hdfsPath);
+        } catch (FileNotFoundException e) {
+            log.warn("hdfs path : {} does not exist", hdfsDirPath);
+            return HDFSContentSummary.builder()
+                    .directoryCount(0L)
+                    .fileCount(0L)
+                    .ModifyTime(0L)
+                    .spaceConsumed(0L).build();
+        }
+        ContentSummary contentSummary = fs.getContentSummary(hdfsPath);
+        return HDFSContentSummary.builder()
+                .directoryCount(contentSummary.getDirectoryCount())
+                .fileCount(contentSummary.getFileCount())
+                .ModifyTime(fileStatus.getModificationTime())
+                .spaceConsumed(contentSummary.getLength()).build();
+    }
+
+    /**
+     * 使用 listFiles 迭代器分批获取路径下的文件，路径不存在时返回空集合，路径为文件时返回该文件本身
+     *
+     * @param fs         HDFS 文件系统
+     * @param remotePath hdfs 路径
+     * @param isIterate  是否递归
+     * @return 文件信息
+     */
+    private List<FileStatus> listLocatedFiles(FileSystem fs, String remotePath, boolean isIterate) throws IOException {
+        List<org.apache.hadoop.fs.FileStatus> fileStatuses = new ArrayList<>();
+        try {
+            RemoteIterator<LocatedFileStatus> iterator = fs.listFiles(new Path(remotePath), isIterate);
+            while (iterator.hasNext()) {
+                fileStatuses.add(iterator.next());
+            }
+        } catch (FileNotFoundException e) {
+            log.warn("hdfs path : {} does not exist", remotePath);
+        }
+        return transferFileStatus(fileStatuses);
+    }
+
     private int writeByPosWithFileFormat(ISourceDTO source, HdfsWriterDTO hdfsWriterDTO) throws IOException {
         if (FileFormat.ORC.getVal().equals(hdfsWriterDTO.getFileFormat())) {
             return HdfsOrcWriter.writeByPos(source, hdfsWriterDTO);
@@ -1,5 +1,6 @@
 package com.dtstack.dtcenter.common.loader.tdbs.hdfs.downloader;
 
+import com.dtstack.dtcenter.common.loader.common.utils.TextRowDecoder;
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.HdfsOperator;
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.YarnConfUtil;
 import com.dtstack.dtcenter.common.loader.tdbs.hdfs.util.SecurityUtils;
@@ -48,6 +49,11 @@ public class HdfsTextDownload implements IDownloader {
     private LongWritable key;
     private Text value;
 
+    /**
+     * 文本行解析器，第一次读取时创建
+     */
+    private TextRowDecoder rowDecoder;
+
     private int readNum = 0;
 
     private RecordReader recordReader;
@@ -220,23 +226,12 @@ public class HdfsTextDownload implements IDownloader {
 
     private List<String> readNextWithKerberos(){
         readNum++;
-        String line = value.toString();
-        value.clear();
-        String[] fields = line.split(fieldDelimiter);
-
-        List<String> row = new ArrayList<>();
-
-        for (int i = 0; i < columnNames.size(); i++) {
-            if(i > fields.length - 1){
-                row.add("");
-            } else {
-                row.add(fields[i]);
-            }
-        }
-
-        if(CollectionUtils.isNotEmpty(partitionColumns)){
-            row.addAll(currentPartData);
+        if (rowDecoder == null) {
+            rowDecoder = new TextRowDecoder(fieldDelimiter);
         }
+        List<String> row = rowDecoder.decodeColumns(value.getBytes(), value.getLength(), columnNames.size(),
+                CollectionUtils.isNotEmpty(partitionColumns) ? currentPartData : null);
+        value.clear();
         return row;
     }
 
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dtstack.dtcenter.common.loader.tdbs.hdfs.util;
+
+import com.dtstack.dtcenter.common.loader.common.DtClassThreadFactory;
+import com.dtstack.dtcenter.loader.dto.HdfsBatchResultDTO;
+import com.dtstack.dtcenter.loader.exception.DtLoaderException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.security.UserGroupInformation;
+
+import java.io.IOException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hdfs 多路径批量操作执行器，在调用线程的 kerberos 身份下使用有界线程池并发处理每个路径，
+ * 单个路径失败只记录异常信息，不影响其他路径
+ *
+ * @author ：wangchuan
+ * date：Created in 下午5:30 2026/10/18
+ * company: www.dtstack.com
+ */
+@Slf4j
+public class HdfsBatchExecutor {
+
+    /**
+     * 最大并发数，避免对 NameNode 造成过大压力
+     */
+    private static final int MAX_PARALLELISM = 16;
+
+    /**
+     * 单个路径的处理逻辑
+     *
+     * @param <T> 返回结果类型
+     */
+    public interface PathTask<T> {
+        T apply(String path) throws Exception;
+    }
+
+    /**
+     * 并发处理多个路径，需要在 SecurityUtils.login 中调用
+     *
+     * @param paths    路径集合，重复路径只处理一次
+     * @param pathTask 单个路径的处理逻辑
+     * @param <T>      返回结果类型
+     * @return 执行结果，成功结果顺序和入参一致
+     */
+    public static <T> HdfsBatchResultDTO<T> execute(List<String> paths, PathTask<T> pathTask) {
+        List<String> distinctPaths = new ArrayList<>(new LinkedHashSet<>(paths));
+        Map<String, T> results = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (distinctPaths.isEmpty()) {
+            return HdfsBatchResultDTO.<T>builder().results(results).errors(errors).build();
+        }
+
+        // 工作线程需要使用调用线程的 kerberos 身份
+        UserGroupInformation ugi;
+        try {
+            ugi = UserGroupInformation.getCurrentUser();
+        } catch (IOException e) {
+            throw new DtLoaderException(String.format("get current user failed : %s", e.getMessage()), e);
+        }
+        int parallelism = Math.min(distinctPaths.size(), MAX_PARALLELISM);
+        ExecutorService executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new DtClassThreadFactory("tbdsHdfsBatch"));
+        try {
+            List<Future<T>> futures = new ArrayList<>(distinctPaths.size());
+            for (String path : distinctPaths) {
+                futures.add(executor.submit(() -> ugi.doAs((PrivilegedExceptionAction<T>) () -> pathTask.apply(path))));
+            }
+            for (int i = 0; i < distinctPaths.size(); i++) {
+                String path = distinctPaths.get(i);
+                try {
+                    results.put(path, futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    log.error("execute hdfs batch task on path {} failed", path, cause);
+                    errors.put(path, cause.getMessage() == null ? cause.getClass().getName() : cause.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DtLoaderException("execute hdfs batch task interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return HdfsBatchResultDTO.<T>builder().results(results).errors(errors).build();
+    }
+}
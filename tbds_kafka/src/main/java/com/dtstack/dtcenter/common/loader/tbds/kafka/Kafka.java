@@ -4,6 +4,7 @@ import com.dtstack.dtcenter.common.loader.common.exception.ErrorCode;
 import com.dtstack.dtcenter.common.loader.tbds.kafka.util.KafkaUtil;
 import com.dtstack.dtcenter.loader.client.IKafka;
 import com.dtstack.dtcenter.loader.dto.KafkaConsumerDTO;
+import com.dtstack.dtcenter.loader.dto.KafkaLagQueryDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaPartitionDTO;
 import com.dtstack.dtcenter.loader.dto.KafkaTopicDTO;
 import com.dtstack.dtcenter.loader.dto.SqlQueryDTO;
@@ -127,6 +128,12 @@ public class Kafka<T> implements IKafka<T> {
         return KafkaUtil.getGroupInfoByGroupId(kafkaSourceDTO, groupId, topic);
     }
 
+    @Override
+    public List<KafkaConsumerDTO> getConsumerLag(ISourceDTO source, KafkaLagQueryDTO lagQueryDTO) {
+        TbdsKafkaSourceDTO kafkaSourceDTO = (TbdsKafkaSourceDTO) source;
+        return KafkaUtil.getConsumerLag(kafkaSourceDTO, lagQueryDTO);
+    }
+
     @Override
     public List<T> getAllPartitions(ISourceDTO source, String topic) {
         throw new DtLoaderException(ErrorCode.NOT_SUPPORT.getDesc());
@@ -66,7 +66,6 @@ public class TrinoConnFactory extends ConnFactory {
             Properties properties = new Properties();
             // 处理 ssl
             buildSSLConfig(properties, trinoSourceDTO.getSslConfigDTO());
-            DriverManager.setLoginTimeout(30);
             // kerberos
             Map<String, Object> kerberosConfig = trinoSourceDTO.getKerberosConfig();
             PropertyUtil.putIfNotNull(properties, DtClassConsistent.PublicConsistent.USER, trinoSourceDTO.getUsername());